@@ -0,0 +1,58 @@
+package com.challenge.shared.infrastructure.persistence.jpa.configuration.strategy;
+
+import org.hibernate.boot.model.naming.Identifier;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of {@link SnakeCaseWithPluralizedTablePhysicalNamingStrategy}
+ * @summary
+ * Converts the table and column identifiers of the task model. The strategy only runs while the session factory is
+ * built, so this mostly guards startup time: a regression here is paid once per entity, attribute and native query.
+ * @author Gonzalo Qu3dena
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class NamingStrategyBenchmark {
+
+  private static final Identifier[] TABLES = {
+      Identifier.toIdentifier("Task"),
+      Identifier.toIdentifier("ArchivedTask"),
+      Identifier.toIdentifier("ArchivedTaskCounter"),
+      Identifier.toIdentifier("TaskTombstone"),
+      Identifier.toIdentifier("TaskOutboxMessage")
+  };
+
+  private static final Identifier[] COLUMNS = {
+      Identifier.toIdentifier("id"),
+      Identifier.toIdentifier("dueDate"),
+      Identifier.toIdentifier("createdAt"),
+      Identifier.toIdentifier("updatedAt"),
+      Identifier.toIdentifier("nextAttemptAt")
+  };
+
+  private final SnakeCaseWithPluralizedTablePhysicalNamingStrategy strategy =
+      new SnakeCaseWithPluralizedTablePhysicalNamingStrategy();
+
+  @Benchmark
+  public void tableNames(Blackhole blackhole) {
+    for (var table : TABLES) {
+      blackhole.consume(strategy.toPhysicalTableName(table, null));
+    }
+  }
+
+  @Benchmark
+  public void columnNames(Blackhole blackhole) {
+    for (var column : COLUMNS) {
+      blackhole.consume(strategy.toPhysicalColumnName(column, null));
+    }
+  }
+}
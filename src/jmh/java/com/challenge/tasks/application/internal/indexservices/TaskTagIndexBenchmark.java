@@ -0,0 +1,64 @@
+package com.challenge.tasks.application.internal.indexservices;
+
+import com.challenge.tasks.domain.model.aggregates.Task;
+import com.challenge.tasks.domain.model.valueobjects.TaskStatus;
+import com.challenge.tasks.domain.model.valueobjects.TagExpression;
+import com.challenge.tasks.infrastructure.persistence.seed.SyntheticTaskGenerator;
+import com.challenge.tasks.infrastructure.persistence.inmemory.repositories.InMemoryTaskRepository;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tag filtering through the bitmap index against a scan
+ * @summary
+ * Loads synthetic tasks, whose tags follow a skewed distribution, into the in-memory storage engine with no Spring
+ * context, and resolves the same tag expression and status filter twice: with {@link TaskTagIndex}, which only
+ * combines bitmaps, and by scanning the tenant's tasks and matching each one's tags. The index should win by a wide
+ * margin on selective expressions and stay ahead on broad ones.
+ * @author Gonzalo Qu3dena
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskTagIndexBenchmark {
+
+  @Param({"10000", "100000"})
+  public int tasks;
+
+  @Param({"security AND NOT blocked", "backend OR frontend", "urgent AND (customer OR finance) AND NOT docs"})
+  public String expression;
+
+  private InMemoryTaskRepository repository;
+  private TaskTagIndex index;
+  private TagExpression tags;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    repository = new InMemoryTaskRepository(event -> { });
+    repository.load(new SyntheticTaskGenerator(42, LocalDateTime.now()).tasks(1, tasks));
+    index = new TaskTagIndex(repository);
+    index.start();
+    tags = TagExpression.parse(expression);
+  }
+
+  @Benchmark
+  public long[] bitmap() {
+    return index.find(Task.DEFAULT_TENANT, TaskStatus.TODO, null, tags);
+  }
+
+  @Benchmark
+  public List<Task> scan() {
+    return repository.findByTenantIdAndStatus(Task.DEFAULT_TENANT, TaskStatus.TODO).stream()
+        .filter(task -> tags.matches(task.getTags()))
+        .toList();
+  }
+}
@@ -0,0 +1,62 @@
+package com.challenge.tasks.application.internal.indexservices;
+
+import com.challenge.tasks.domain.model.aggregates.Task;
+import com.challenge.tasks.domain.model.valueobjects.TaskSuggestion;
+import com.challenge.tasks.domain.model.queries.GetTaskSuggestionsQuery;
+import com.challenge.tasks.infrastructure.persistence.seed.SyntheticTaskGenerator;
+import com.challenge.tasks.infrastructure.persistence.inmemory.repositories.InMemoryTaskRepository;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Title type-ahead through the prefix index against a search
+ * @summary
+ * Loads synthetic tasks into the in-memory storage engine with no Spring context and answers the same keystroke
+ * twice: with {@link TaskTitleSuggester}, which walks the prefix and reads the best candidates kept on the node, and
+ * with the substring search the search box used before, which scans the tenant's tasks. Lookups should stay in the
+ * microseconds whatever the number of tasks or matches.
+ * @author Gonzalo Qu3dena
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskTitleSuggesterBenchmark {
+
+  @Param({"10000", "100000"})
+  public int tasks;
+
+  @Param({"r", "review re", "fix incident for the"})
+  public String prefix;
+
+  private InMemoryTaskRepository repository;
+  private TaskTitleSuggester suggester;
+  private GetTaskSuggestionsQuery query;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    repository = new InMemoryTaskRepository(event -> { });
+    repository.load(new SyntheticTaskGenerator(42, LocalDateTime.now()).tasks(1, tasks));
+    suggester = new TaskTitleSuggester(repository);
+    suggester.start();
+    query = new GetTaskSuggestionsQuery(prefix);
+  }
+
+  @Benchmark
+  public List<TaskSuggestion> trie() {
+    return suggester.suggest(query);
+  }
+
+  @Benchmark
+  public List<Task> search() {
+    return repository.findByTenantIdAndSearchTerm(Task.DEFAULT_TENANT, prefix);
+  }
+}
@@ -0,0 +1,74 @@
+package com.challenge.tasks.application.internal.queryservices;
+
+import com.challenge.TasksCrudApplication;
+import com.challenge.tasks.domain.model.valueobjects.TaskStatus;
+import com.challenge.tasks.domain.model.valueobjects.TaskPriority;
+import com.challenge.tasks.domain.model.valueobjects.TaskStatistics;
+import com.challenge.tasks.domain.model.commands.CreateTaskCommand;
+import com.challenge.tasks.domain.model.queries.GetTaskStatsQuery;
+import com.challenge.tasks.application.internal.commandservices.TaskCommandServiceImpl;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of the task statistics computation
+ * @summary
+ * Boots the application on the in-memory storage engine, so that the repository adds as little as possible, seeds it
+ * with synthetic tasks and measures {@link TaskQueryServiceImpl#handle(GetTaskStatsQuery)} for growing task counts.
+ * The statistics are computed by streaming every task, so the score is expected to scale linearly with the count.
+ * @author Gonzalo Qu3dena
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskStatsBenchmark {
+
+  @Param({"1000", "10000", "100000"})
+  public int tasks;
+
+  private ConfigurableApplicationContext context;
+  private TaskQueryServiceImpl queryService;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    context = new SpringApplicationBuilder(TasksCrudApplication.class)
+        .web(WebApplicationType.NONE)
+        .profiles("inmemory")
+        .properties("sql-statistics.enabled=false", "tasks.archive.enabled=false", "logging.level.root=WARN")
+        .run();
+    queryService = context.getBean(TaskQueryServiceImpl.class);
+
+    var commandService = context.getBean(TaskCommandServiceImpl.class);
+    var statuses = TaskStatus.values();
+    var priorities = TaskPriority.values();
+    for (int i = 0; i < tasks; i++) {
+      commandService.handle(new CreateTaskCommand(
+          "Benchmark task " + i,
+          "Synthetic description " + (i % 97),
+          priorities[i % priorities.length],
+          LocalDate.now().plusDays(i % 30),
+          statuses[i % statuses.length]));
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    context.close();
+  }
+
+  @Benchmark
+  public TaskStatistics stats() {
+    return queryService.handle(new GetTaskStatsQuery()).orElseThrow();
+  }
+}
@@ -0,0 +1,64 @@
+package com.challenge.tasks.domain.model.aggregates;
+
+import com.challenge.tasks.domain.model.valueobjects.TaskStatus;
+import com.challenge.tasks.domain.model.valueobjects.TaskPriority;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.ArrayList;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of {@link Task#isOverdue()}
+ * @summary
+ * Counts the overdue tasks of a list mixing tasks without a due date, past and future due dates and done tasks, the
+ * way the statistics and the status transitions call it. Every call reads the clock through {@link LocalDate#now()},
+ * which is what this benchmark keeps an eye on.
+ * @author Gonzalo Qu3dena
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskOverdueBenchmark {
+
+  @Param({"1000"})
+  public int tasks;
+
+  private List<Task> entities;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    var now = LocalDateTime.now();
+    var today = LocalDate.now();
+    var statuses = TaskStatus.values();
+    entities = new ArrayList<>(tasks);
+    for (int i = 0; i < tasks; i++) {
+      var dueDate = switch (i % 4) {
+        case 0 -> null;
+        case 1 -> today.minusDays(1 + i % 30);
+        default -> today.plusDays(i % 30);
+      };
+      entities.add(Task.rehydrate((long) i + 1, "Benchmark task " + i, null, statuses[i % statuses.length],
+          TaskPriority.MEDIUM, dueDate, now, now));
+    }
+  }
+
+  @Benchmark
+  public int countOverdue() {
+    var overdue = 0;
+    for (var task : entities) {
+      if (task.isOverdue()) {
+        overdue++;
+      }
+    }
+    return overdue;
+  }
+}
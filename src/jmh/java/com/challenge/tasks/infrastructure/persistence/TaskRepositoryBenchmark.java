@@ -0,0 +1,102 @@
+package com.challenge.tasks.infrastructure.persistence;
+
+import com.challenge.TasksCrudApplication;
+import com.challenge.tasks.domain.model.aggregates.Task;
+import com.challenge.tasks.domain.model.valueobjects.TaskStatus;
+import com.challenge.tasks.domain.model.valueobjects.TaskPriority;
+import com.challenge.tasks.domain.model.commands.CreateTaskCommand;
+import com.challenge.tasks.domain.model.queries.GetAllTasksQuery;
+import com.challenge.tasks.domain.model.queries.GetTaskByIdQuery;
+import com.challenge.tasks.application.internal.queryservices.TaskQueryServiceImpl;
+import com.challenge.tasks.application.internal.commandservices.TaskCommandServiceImpl;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+
+import java.util.List;
+import java.util.Optional;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Benchmark comparing the JPA/H2 repository with the in-memory storage engine
+ * @summary
+ * Boots the application without the web layer for each storage engine, seeds it through the command service and
+ * measures the query and command paths the REST controller uses.
+ * @author Gonzalo Qu3dena
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskRepositoryBenchmark {
+
+  @Param({"jpa", "inmemory"})
+  public String engine;
+
+  @Param({"10000"})
+  public int tasks;
+
+  private ConfigurableApplicationContext context;
+  private TaskCommandServiceImpl commandService;
+  private TaskQueryServiceImpl queryService;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    var builder = new SpringApplicationBuilder(TasksCrudApplication.class)
+        .web(WebApplicationType.NONE)
+        .properties("sql-statistics.enabled=false", "logging.level.root=WARN");
+    if ("inmemory".equals(engine)) {
+      builder.profiles("inmemory");
+    }
+
+    context = builder.run();
+    commandService = context.getBean(TaskCommandServiceImpl.class);
+    queryService = context.getBean(TaskQueryServiceImpl.class);
+
+    var statuses = TaskStatus.values();
+    var priorities = TaskPriority.values();
+    for (int i = 0; i < tasks; i++) {
+      commandService.handle(new CreateTaskCommand(
+          "Benchmark task " + i,
+          "Synthetic description " + (i % 97),
+          priorities[i % priorities.length],
+          LocalDate.now().plusDays(i % 30),
+          statuses[i % statuses.length]));
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    context.close();
+  }
+
+  @Benchmark
+  public Optional<Task> findById() {
+    long id = ThreadLocalRandom.current().nextLong(1, tasks + 1);
+    return queryService.handle(new GetTaskByIdQuery(id));
+  }
+
+  @Benchmark
+  public List<Task> findByStatusAndPriority() {
+    return queryService.handle(new GetAllTasksQuery(TaskStatus.IN_PROGRESS, TaskPriority.HIGH, null));
+  }
+
+  @Benchmark
+  public List<Task> search() {
+    return queryService.handle(new GetAllTasksQuery(null, null, "description 42"));
+  }
+
+  @Benchmark
+  public Task create() {
+    return commandService.handle(new CreateTaskCommand(
+        "Benchmark create", null, TaskPriority.LOW, null, null));
+  }
+}
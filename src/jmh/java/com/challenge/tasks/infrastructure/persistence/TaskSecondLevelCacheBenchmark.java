@@ -0,0 +1,99 @@
+package com.challenge.tasks.infrastructure.persistence;
+
+import com.challenge.TasksCrudApplication;
+import com.challenge.tasks.domain.model.aggregates.Task;
+import com.challenge.tasks.domain.model.valueobjects.TaskStatus;
+import com.challenge.tasks.domain.model.valueobjects.TaskPriority;
+import com.challenge.tasks.domain.model.commands.CreateTaskCommand;
+import com.challenge.tasks.domain.model.queries.GetAllTasksQuery;
+import com.challenge.tasks.domain.model.queries.GetTaskByIdQuery;
+import com.challenge.tasks.application.internal.queryservices.TaskQueryServiceImpl;
+import com.challenge.tasks.application.internal.commandservices.TaskCommandServiceImpl;
+import com.challenge.shared.infrastructure.persistence.jpa.cache.HibernateCacheStatisticsEndpoint;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+
+import java.util.List;
+import java.util.Optional;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Benchmark of the Hibernate second-level and query cache on repeat-heavy traffic
+ * @summary
+ * Point reads hit a small hot set of IDs and filtered lists repeat the same few parameter combinations, which is the
+ * traffic shape the cache targets. Each trial runs with the cache enabled and disabled, and prints the region hit
+ * ratios at the end.
+ * @author Gonzalo Qu3dena
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskSecondLevelCacheBenchmark {
+
+  private static final int HOT_SET = 100;
+
+  @Param({"true", "false"})
+  public boolean cache;
+
+  @Param({"10000"})
+  public int tasks;
+
+  private ConfigurableApplicationContext context;
+  private TaskQueryServiceImpl queryService;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    context = new SpringApplicationBuilder(TasksCrudApplication.class)
+        .web(WebApplicationType.NONE)
+        .properties(
+            "sql-statistics.enabled=false",
+            "logging.level.root=WARN",
+            "spring.jpa.properties.hibernate.cache.use_second_level_cache=" + cache,
+            "spring.jpa.properties.hibernate.cache.use_query_cache=" + cache)
+        .run();
+    queryService = context.getBean(TaskQueryServiceImpl.class);
+
+    var commandService = context.getBean(TaskCommandServiceImpl.class);
+    var statuses = TaskStatus.values();
+    var priorities = TaskPriority.values();
+    for (int i = 0; i < tasks; i++) {
+      commandService.handle(new CreateTaskCommand(
+          "Benchmark task " + i,
+          "Synthetic description " + (i % 97),
+          priorities[i % priorities.length],
+          LocalDate.now().plusDays(i % 30),
+          statuses[i % statuses.length]));
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    if (cache) {
+      System.out.println(context.getBean(HibernateCacheStatisticsEndpoint.class).statistics());
+    }
+    context.close();
+  }
+
+  @Benchmark
+  public Optional<Task> hotPointRead() {
+    long id = ThreadLocalRandom.current().nextLong(1, HOT_SET + 1);
+    return queryService.handle(new GetTaskByIdQuery(id));
+  }
+
+  @Benchmark
+  public List<Task> repeatedFilter() {
+    var priorities = TaskPriority.values();
+    var priority = priorities[ThreadLocalRandom.current().nextInt(priorities.length)];
+    return queryService.handle(new GetAllTasksQuery(TaskStatus.IN_PROGRESS, priority, "description 4"));
+  }
+}
@@ -0,0 +1,69 @@
+package com.challenge.tasks.infrastructure.persistence.sharded;
+
+import com.challenge.tasks.domain.model.aggregates.Task;
+import com.challenge.tasks.domain.model.valueobjects.TaskStatus;
+import com.challenge.tasks.domain.model.valueobjects.TaskPriority;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Write throughput of the sharded storage engine by shard count
+ * @summary
+ * Concurrent writers create tasks and update random existing ones through the repository, with the shards opened
+ * directly and no Spring context. With enough cores, throughput should grow roughly linearly with the shard count
+ * until the writers, not the databases, are the limit.
+ * @author Gonzalo Qu3dena
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(8)
+@Fork(1)
+public class ShardedTaskWriteBenchmark {
+
+  @Param({"1", "2", "4"})
+  public int shards;
+
+  @Param({"10000"})
+  public int tasks;
+
+  private TaskShards taskShards;
+  private ShardedTaskRepository repository;
+  private long[] ids;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    taskShards = new TaskShards(shards, "jdbc:h2:mem:shard-benchmark-" + UUID.randomUUID() + "-%d;DB_CLOSE_DELAY=-1",
+        8);
+    repository = new ShardedTaskRepository(event -> { }, taskShards);
+    ids = new long[tasks];
+    for (int i = 0; i < tasks; i++) {
+      ids[i] = repository.save(new Task("Benchmark task " + i, null, TaskPriority.LOW, null)).getId();
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    taskShards.close();
+  }
+
+  @Benchmark
+  public Task create() {
+    return repository.save(new Task("Benchmark create", null, TaskPriority.LOW, null));
+  }
+
+  @Benchmark
+  public Task updateStatus() {
+    var task = repository.findById(ids[ThreadLocalRandom.current().nextInt(ids.length)]).orElseThrow();
+    task.updateStatus(TaskStatus.IN_PROGRESS);
+    return repository.save(task);
+  }
+}
@@ -0,0 +1,101 @@
+package com.challenge.tasks.interfaces.rest;
+
+import com.challenge.tasks.domain.model.aggregates.Task;
+import com.challenge.tasks.domain.model.valueobjects.TaskStatus;
+import com.challenge.tasks.domain.model.valueobjects.TaskPriority;
+import com.challenge.tasks.interfaces.rest.resources.TaskResource;
+import com.challenge.tasks.interfaces.rest.converters.TaskJsonWriter;
+import com.challenge.tasks.interfaces.rest.transform.TaskResourceFromEntityAssembler;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.ArrayList;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.io.ByteArrayOutputStream;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Benchmark of the task list JSON rendering
+ * @summary
+ * Renders a {@code GET /api/tasks} payload from task entities, either by assembling resources and handing them to the
+ * {@link ObjectMapper} as the controller used to, or by streaming the entities with the {@link TaskJsonWriter}. The
+ * {@code objectMapper} case serializes already assembled resources, isolating Jackson's share of the first path. Both
+ * write into a reused output stream so only the rendering cost is measured. Run with {@code -prof gc} to compare the
+ * allocation rate.
+ * @author Gonzalo Qu3dena
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskListJsonBenchmark {
+
+  @Param({"100", "1000", "10000"})
+  public int tasks;
+
+  private List<Task> entities;
+  private List<TaskResource> resources;
+  private ObjectMapper mapper;
+  private TaskJsonWriter writer;
+  private final ByteArrayOutputStream output = new ByteArrayOutputStream(1 << 20);
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    var now = LocalDateTime.now();
+    var statuses = TaskStatus.values();
+    var priorities = TaskPriority.values();
+    entities = new ArrayList<>(tasks);
+    for (int i = 0; i < tasks; i++) {
+      entities.add(Task.rehydrate((long) i + 1, "Benchmark task " + i, "Synthetic description of task " + i,
+          statuses[i % statuses.length], priorities[i % priorities.length],
+          i % 4 == 0 ? null : LocalDate.now().plusDays(i % 30), now.minusHours(i), now));
+    }
+
+    mapper = Jackson2ObjectMapperBuilder.json()
+        .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+        .build();
+    writer = new TaskJsonWriter(mapper);
+    resources = List.copyOf(TaskResourceFromEntityAssembler.toResourcesFromEntities(entities));
+  }
+
+  @Benchmark
+  public int objectMapper() throws Exception {
+    output.reset();
+    mapper.writeValue(output, resources);
+    return output.size();
+  }
+
+  @Benchmark
+  public int assemblerAndObjectMapper() throws Exception {
+    output.reset();
+    var resources = entities.stream()
+        .map(TaskResourceFromEntityAssembler::toResourceFromEntity)
+        .collect(Collectors.toList());
+    mapper.writeValue(output, resources);
+    return output.size();
+  }
+
+  @Benchmark
+  public int streamingWriter() throws Exception {
+    output.reset();
+    try (var generator = writer.jsonFactory().createGenerator(output)) {
+      generator.writeStartArray();
+      for (var task : entities) {
+        writer.write(generator, task);
+      }
+      generator.writeEndArray();
+    }
+    return output.size();
+  }
+}
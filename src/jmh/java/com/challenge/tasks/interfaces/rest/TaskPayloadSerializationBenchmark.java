@@ -0,0 +1,97 @@
+package com.challenge.tasks.interfaces.rest;
+
+import com.challenge.tasks.domain.model.valueobjects.TaskStatus;
+import com.challenge.tasks.domain.model.valueobjects.TaskPriority;
+import com.challenge.tasks.interfaces.rest.resources.TaskResource;
+import com.challenge.tasks.interfaces.rest.resources.protobuf.TaskProtos;
+import com.challenge.tasks.interfaces.rest.transform.TaskProtoFromResourceAssembler;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.ArrayList;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of the task list payload encodings
+ * @summary
+ * Encodes and decodes a {@code GET /api/tasks} payload with JSON, CBOR, Smile and Protocol Buffers, using mappers
+ * configured like the application's converters. The encoded size of each format is printed at setup.
+ * @author Gonzalo Qu3dena
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskPayloadSerializationBenchmark {
+
+  private static final TypeReference<List<TaskResource>> TASK_LIST = new TypeReference<>() { };
+
+  @Param({"json", "cbor", "smile", "protobuf"})
+  public String format;
+
+  @Param({"1000"})
+  public int tasks;
+
+  private List<TaskResource> resources;
+  private ObjectMapper mapper;
+  private byte[] payload;
+
+  @Setup(Level.Trial)
+  public void setUp() throws Exception {
+    var now = LocalDateTime.now();
+    var statuses = TaskStatus.values();
+    var priorities = TaskPriority.values();
+    resources = new ArrayList<>(tasks);
+    for (int i = 0; i < tasks; i++) {
+      resources.add(new TaskResource((long) i + 1, "Benchmark task " + i, "Synthetic description of task " + i,
+          statuses[i % statuses.length], priorities[i % priorities.length],
+          i % 4 == 0 ? null : LocalDate.now().plusDays(i % 30), now.minusHours(i), now));
+    }
+
+    mapper = switch (format) {
+      case "cbor" -> mapper(new CBORFactory());
+      case "smile" -> mapper(new SmileFactory());
+      default -> mapper(new JsonFactory());
+    };
+    payload = encode();
+    System.out.printf("%n%s payload for %d tasks: %d bytes%n", format, tasks, payload.length);
+  }
+
+  @Benchmark
+  public byte[] encode() throws Exception {
+    if (format.equals("protobuf")) {
+      return TaskProtoFromResourceAssembler.toProtoFromResources(resources).toByteArray();
+    }
+    return mapper.writeValueAsBytes(resources);
+  }
+
+  @Benchmark
+  public Object decode() throws Exception {
+    if (format.equals("protobuf")) {
+      return TaskProtos.TaskResourceList.parseFrom(payload);
+    }
+    return mapper.readValue(payload, TASK_LIST);
+  }
+
+  private static ObjectMapper mapper(JsonFactory factory) {
+    return Jackson2ObjectMapperBuilder.json()
+        .factory(factory)
+        .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+        .build();
+  }
+}
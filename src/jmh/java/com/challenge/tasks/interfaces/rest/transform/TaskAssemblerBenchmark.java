@@ -0,0 +1,80 @@
+package com.challenge.tasks.interfaces.rest.transform;
+
+import com.challenge.tasks.domain.model.aggregates.Task;
+import com.challenge.tasks.domain.model.valueobjects.TaskStatus;
+import com.challenge.tasks.domain.model.valueobjects.TaskPriority;
+import com.challenge.tasks.domain.model.valueobjects.TaskStatistics;
+import com.challenge.tasks.interfaces.rest.resources.TaskStatsResource;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Map;
+import java.util.List;
+import java.util.EnumMap;
+import java.util.ArrayList;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of the REST assemblers
+ * @summary
+ * Measures the throughput of {@link TaskResourceFromEntityAssembler} over a task list, reading every element of the
+ * assembled view, and of {@link TaskStatsResourceFromStatsAssembler} over statistics with a full list of upcoming
+ * tasks.
+ * @author Gonzalo Qu3dena
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskAssemblerBenchmark {
+
+  @Param({"1000"})
+  public int tasks;
+
+  private List<Task> entities;
+  private TaskStatistics statistics;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    var now = LocalDateTime.now();
+    var statuses = TaskStatus.values();
+    var priorities = TaskPriority.values();
+    entities = new ArrayList<>(tasks);
+    for (int i = 0; i < tasks; i++) {
+      entities.add(Task.rehydrate((long) i + 1, "Benchmark task " + i, "Synthetic description of task " + i,
+          statuses[i % statuses.length], priorities[i % priorities.length],
+          i % 4 == 0 ? null : LocalDate.now().plusDays(i % 30), now.minusHours(i), now));
+    }
+
+    var byStatus = new EnumMap<TaskStatus, Long>(TaskStatus.class);
+    var byPriority = new EnumMap<TaskPriority, Long>(TaskPriority.class);
+    for (var status : statuses) {
+      byStatus.put(status, (long) tasks / statuses.length);
+    }
+    for (var priority : priorities) {
+      byPriority.put(priority, (long) tasks / priorities.length);
+    }
+    statistics = new TaskStatistics((long) tasks, Map.copyOf(byStatus), Map.copyOf(byPriority), (long) tasks / 10,
+        entities.subList(0, 5));
+  }
+
+  @Benchmark
+  public void taskResources(Blackhole blackhole) {
+    // The assembled list is a view converting on access, so every element has to be read
+    for (var resource : TaskResourceFromEntityAssembler.toResourcesFromEntities(entities)) {
+      blackhole.consume(resource);
+    }
+  }
+
+  @Benchmark
+  public TaskStatsResource taskStatsResource() {
+    return TaskStatsResourceFromStatsAssembler.toResourceFromStats(statistics);
+  }
+}
@@ -0,0 +1,59 @@
+package com.challenge.tasks.load;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.Locale;
+import java.time.Duration;
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cumulative connection pool usage, read from the Hikari meters
+ * @summary
+ * Hikari times how long each connection stays borrowed ({@code hikaricp.connections.usage}) and how long callers wait
+ * to borrow one ({@code hikaricp.connections.acquire}). Two snapshots taken around a run give the mean hold time and,
+ * by Little's law, the average number of connections in use, which is the figure the pool must be sized for.
+ * @param borrowed The number of connections borrowed so far
+ * @param holdNanos The total time connections were held
+ * @param acquireNanos The total time spent waiting for a connection
+ * @author Gonzalo Qu3dena
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public record ConnectionPoolUsage(long borrowed, double holdNanos, double acquireNanos) {
+
+  /**
+   * Read the current totals
+   * @param registry The application's meter registry
+   * @return The snapshot, all zero when the pool does not publish metrics
+   */
+  public static ConnectionPoolUsage snapshot(MeterRegistry registry) {
+    var usage = registry.find("hikaricp.connections.usage").timer();
+    var acquire = registry.find("hikaricp.connections.acquire").timer();
+    return new ConnectionPoolUsage(usage != null ? usage.count() : 0, total(usage), total(acquire));
+  }
+
+  /**
+   * Print the usage between an earlier snapshot and this one
+   * @param earlier The snapshot taken at the start of the window
+   * @param window The length of the window
+   * @param out The target stream
+   */
+  public void print(ConnectionPoolUsage earlier, Duration window, PrintStream out) {
+    var count = borrowed - earlier.borrowed;
+    if (count == 0) {
+      out.println("connections    no pool metrics");
+      return;
+    }
+
+    var hold = holdNanos - earlier.holdNanos;
+    out.printf(Locale.ROOT, "connections    %d borrowed, %.1f/s, hold %.3f ms mean, acquire %.3f ms mean, %.2f in use "
+        + "on average%n", count, count / (window.toNanos() / 1e9), hold / count / 1e6,
+        (acquireNanos - earlier.acquireNanos) / count / 1e6, hold / window.toNanos());
+  }
+
+  private static double total(Timer timer) {
+    return timer != null ? timer.totalTime(TimeUnit.NANOSECONDS) : 0;
+  }
+}
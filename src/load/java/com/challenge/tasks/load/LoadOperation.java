@@ -0,0 +1,126 @@
+package com.challenge.tasks.load;
+
+import com.challenge.tasks.infrastructure.persistence.seed.SyntheticTaskGenerator;
+
+import java.net.URI;
+import java.util.List;
+import java.net.http.HttpRequest;
+import java.util.random.RandomGenerator;
+
+/**
+ * Operations of the mixed load test workload
+ * @summary
+ * Each operation builds one request against the task API. Reads target the seeded ID range; status patches only move
+ * tasks between {@code TODO} and {@code IN_PROGRESS}, which the business rules always allow, so that every request of
+ * a healthy run succeeds.
+ * @author Gonzalo Qu3dena
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public enum LoadOperation {
+
+  POINT_READ("point-read", 50) {
+    @Override
+    HttpRequest request(URI api, RandomGenerator random, int tasks) {
+      return get(api.resolve("tasks/" + taskId(random, tasks)));
+    }
+  },
+
+  FILTERED_LIST("filtered-list", 15) {
+    @Override
+    HttpRequest request(URI api, RandomGenerator random, int tasks) {
+      return get(api.resolve("tasks?status=" + pick(random, STATUSES) + "&priority=" + pick(random, PRIORITIES)));
+    }
+  },
+
+  SEARCH("search", 10) {
+    @Override
+    HttpRequest request(URI api, RandomGenerator random, int tasks) {
+      return get(api.resolve("tasks?q=" + pick(random, SyntheticTaskGenerator.SUBJECTS)));
+    }
+  },
+
+  STATS("stats", 5) {
+    @Override
+    HttpRequest request(URI api, RandomGenerator random, int tasks) {
+      return get(api.resolve("tasks/stats"));
+    }
+  },
+
+  CREATE("create", 10) {
+    @Override
+    HttpRequest request(URI api, RandomGenerator random, int tasks) {
+      var body = "{\"title\":\"Load test task\",\"description\":\"Created by the load test\",\"priority\":\""
+          + pick(random, new String[] {"LOW", "MEDIUM"}) + "\"}";
+      return json(api.resolve("tasks"), "POST", body);
+    }
+  },
+
+  STATUS_PATCH("status-patch", 10) {
+    @Override
+    HttpRequest request(URI api, RandomGenerator random, int tasks) {
+      var body = "{\"status\":\"" + pick(random, new String[] {"TODO", "IN_PROGRESS"}) + "\"}";
+      return json(api.resolve("tasks/" + taskId(random, tasks) + "/status"), "PATCH", body);
+    }
+  };
+
+  private static final String[] STATUSES = {"TODO", "IN_PROGRESS", "DONE"};
+  private static final String[] PRIORITIES = {"LOW", "MEDIUM", "HIGH"};
+
+  private final String key;
+  private final int defaultWeight;
+
+  LoadOperation(String key, int defaultWeight) {
+    this.key = key;
+    this.defaultWeight = defaultWeight;
+  }
+
+  /**
+   * Name of the operation in settings and reports
+   * @return The key
+   */
+  public String key() {
+    return key;
+  }
+
+  /**
+   * Relative frequency of the operation unless {@code load.mix} overrides it
+   * @return The default weight
+   */
+  public int defaultWeight() {
+    return defaultWeight;
+  }
+
+  /**
+   * Build a request of this operation
+   * @param api The base URI of the API, ending with {@code /api/}
+   * @param random The random source of the calling thread
+   * @param tasks The number of seeded tasks
+   * @return The request
+   */
+  abstract HttpRequest request(URI api, RandomGenerator random, int tasks);
+
+  private static long taskId(RandomGenerator random, int tasks) {
+    return 1 + random.nextInt(tasks);
+  }
+
+  private static String pick(RandomGenerator random, String[] values) {
+    return values[random.nextInt(values.length)];
+  }
+
+  private static String pick(RandomGenerator random, List<String> values) {
+    return values.get(random.nextInt(values.size()));
+  }
+
+  private static HttpRequest get(URI uri) {
+    return HttpRequest.newBuilder(uri).header("Accept", "application/json").GET().build();
+  }
+
+  private static HttpRequest json(URI uri, String method, String body) {
+    return HttpRequest.newBuilder(uri)
+        .header("Accept", "application/json")
+        .header("Content-Type", "application/json")
+        .method(method, HttpRequest.BodyPublishers.ofString(body))
+        .build();
+  }
+}
@@ -0,0 +1,99 @@
+package com.challenge.tasks.load;
+
+import org.HdrHistogram.Histogram;
+
+import java.util.Map;
+import java.util.List;
+import java.util.Locale;
+import java.util.ArrayList;
+import java.time.Duration;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Outcome of a load test run
+ * @summary
+ * Latencies are recorded in microseconds from the moment each request was scheduled to be sent, so that a stalled
+ * server also delays the requests queued behind it instead of hiding them (coordinated omission).
+ * @param latencies The latency histogram of the successful requests of every operation
+ * @param errors The number of failed requests of every operation
+ * @param duration The measured duration
+ * @author Gonzalo Qu3dena
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public record LoadResult(
+  Map<LoadOperation, Histogram> latencies,
+  Map<LoadOperation, Long> errors,
+  Duration duration
+) {
+
+  private static final double MICROS_PER_MILLI = 1_000.0;
+
+  /**
+   * Print the per-operation summary
+   * @param out The target stream
+   */
+  public void print(PrintStream out) {
+    out.printf(Locale.ROOT, "%-14s %9s %7s %9s %9s %9s %9s %9s%n", "operation", "ok", "errors", "req/s",
+        "p50 ms", "p99 ms", "p99.9 ms", "max ms");
+    latencies.forEach((operation, histogram) -> out.printf(Locale.ROOT,
+        "%-14s %9d %7d %9.1f %9.3f %9.3f %9.3f %9.3f%n", operation.key(), histogram.getTotalCount(),
+        errors.get(operation), (histogram.getTotalCount() + errors.get(operation)) / (duration.toMillis() / 1_000.0),
+        millis(histogram, 50.0), millis(histogram, 99.0), millis(histogram, 99.9),
+        histogram.getMaxValue() / MICROS_PER_MILLI));
+  }
+
+  /**
+   * Write the full percentile distribution of every operation, in milliseconds, for the HdrHistogram plotter
+   * @param directory The target directory
+   * @throws IOException if a file cannot be written
+   */
+  public void writeDistributions(Path directory) throws IOException {
+    Files.createDirectories(directory);
+    for (var entry : latencies.entrySet()) {
+      try (var out = new PrintStream(Files.newOutputStream(directory.resolve(entry.getKey().key() + ".hgrm")))) {
+        entry.getValue().outputPercentileDistribution(out, MICROS_PER_MILLI);
+      }
+    }
+  }
+
+  /**
+   * Budgets exceeded by this run
+   * @param settings The settings holding the budgets and the tolerated error rate
+   * @return A description of every violation, empty when the run passes
+   */
+  public List<String> violations(LoadSettings settings) {
+    var violations = new ArrayList<String>();
+    settings.budgets().forEach((operation, budgets) -> {
+      var histogram = latencies.get(operation);
+      if (histogram.getTotalCount() == 0) {
+        return;
+      }
+      budgets.forEach((percentile, budget) -> {
+        var actual = millis(histogram, percentile);
+        if (actual > budget) {
+          violations.add(String.format(Locale.ROOT, "%s %s is %.3f ms, budget %.3f ms", operation.key(),
+              LoadSettings.label(percentile), actual, budget));
+        }
+      });
+    });
+
+    var requests = latencies.values().stream().mapToLong(Histogram::getTotalCount).sum();
+    var failed = errors.values().stream().mapToLong(Long::longValue).sum();
+    var total = requests + failed;
+    if (total == 0) {
+      violations.add("no request completed");
+    } else if ((double) failed / total > settings.maxErrorRate()) {
+      violations.add(String.format(Locale.ROOT, "error rate is %.4f, budget %.4f", (double) failed / total,
+          settings.maxErrorRate()));
+    }
+    return violations;
+  }
+
+  private static double millis(Histogram histogram, double percentile) {
+    return histogram.getValueAtPercentile(percentile) / MICROS_PER_MILLI;
+  }
+}
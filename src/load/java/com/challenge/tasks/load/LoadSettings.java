@@ -0,0 +1,150 @@
+package com.challenge.tasks.load;
+
+import java.util.Map;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.TreeMap;
+import java.time.Duration;
+import java.util.Properties;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Settings of a load test run
+ * @summary
+ * Read from {@code load.*} system properties, which the {@code load-test} Maven profile forwards to the harness. The
+ * latency budgets default to the bundled {@code load-budgets.properties} and can be replaced with
+ * {@code -Dload.budgets=<file>}.
+ * @param tasks The number of tasks seeded before the run
+ * @param rate The arrival rate, in requests per second, independent of how fast responses come back
+ * @param warmup The initial part of the run whose latencies are discarded
+ * @param duration The measured part of the run
+ * @param maxInFlight The number of outstanding requests above which new arrivals are counted as errors
+ * @param maxErrorRate The share of failed requests above which the run fails
+ * @param weights The relative frequency of each operation, from {@code load.mix}
+ * @param budgets The latency budgets in milliseconds, per operation and percentile
+ * @author Gonzalo Qu3dena
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public record LoadSettings(
+  int tasks,
+  int rate,
+  Duration warmup,
+  Duration duration,
+  int maxInFlight,
+  double maxErrorRate,
+  Map<LoadOperation, Integer> weights,
+  Map<LoadOperation, Map<Double, Double>> budgets
+) {
+
+  private static final double[] PERCENTILES = {50.0, 99.0, 99.9};
+
+  /**
+   * Percentiles reported and checked against the budgets
+   * @return The percentiles
+   */
+  public static double[] percentiles() {
+    return PERCENTILES.clone();
+  }
+
+  /**
+   * Read the settings from the system properties
+   * @return The settings
+   */
+  public static LoadSettings fromSystemProperties() {
+    var budgetsFile = System.getProperty("load.budgets");
+    var budgetProperties = budgetsFile != null && !budgetsFile.isBlank()
+        ? read(Path.of(budgetsFile))
+        : readBundled("load-budgets.properties");
+
+    var weights = weights(System.getProperty("load.mix", ""));
+    var budgets = new EnumMap<LoadOperation, Map<Double, Double>>(LoadOperation.class);
+    for (var operation : LoadOperation.values()) {
+
+      var operationBudgets = new TreeMap<Double, Double>();
+      for (var percentile : PERCENTILES) {
+        var key = operation.key() + "." + label(percentile);
+        var value = budgetProperties.getProperty(key);
+        if (value != null) {
+          operationBudgets.put(percentile, Double.parseDouble(value));
+        }
+      }
+      budgets.put(operation, operationBudgets);
+    }
+
+    return new LoadSettings(
+        Integer.getInteger("load.tasks", 10_000),
+        Integer.getInteger("load.rate", 10),
+        Duration.parse("PT" + System.getProperty("load.warmup", "30s")),
+        Duration.parse("PT" + System.getProperty("load.duration", "30s")),
+        Integer.getInteger("load.max-in-flight", 512),
+        Double.parseDouble(System.getProperty("load.max-error-rate", "0.001")),
+        weights,
+        budgets);
+  }
+
+  /**
+   * Parse the workload mix
+   * @param mix Comma-separated {@code <operation>=<weight>} pairs; omitted operations keep their default weight
+   * @return The weight of every operation
+   */
+  private static Map<LoadOperation, Integer> weights(String mix) {
+    var weights = new EnumMap<LoadOperation, Integer>(LoadOperation.class);
+    for (var operation : LoadOperation.values()) {
+      weights.put(operation, operation.defaultWeight());
+    }
+
+    for (var pair : mix.split(",")) {
+      if (pair.isBlank()) {
+        continue;
+      }
+      var parts = pair.trim().split("=", 2);
+      var operation = Arrays.stream(LoadOperation.values())
+          .filter(candidate -> candidate.key().equals(parts[0]))
+          .findFirst()
+          .orElseThrow(() -> new IllegalArgumentException("Unknown load operation: " + parts[0]));
+      weights.put(operation, Integer.parseInt(parts[1]));
+    }
+    return weights;
+  }
+
+  /**
+   * Property suffix of a percentile, {@code p50}, {@code p99} or {@code p999}
+   * @param percentile The percentile
+   * @return The label
+   */
+  public static String label(double percentile) {
+    return "p" + (percentile == Math.rint(percentile)
+        ? String.valueOf((int) percentile)
+        : String.valueOf(percentile).replace(".", ""));
+  }
+
+  private static Properties read(Path file) {
+    try (var input = Files.newInputStream(file)) {
+      return read(input);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Cannot read load budgets " + file, e);
+    }
+  }
+
+  private static Properties readBundled(String resource) {
+    try (var input = LoadSettings.class.getClassLoader().getResourceAsStream(resource)) {
+      if (input == null) {
+        throw new IllegalStateException("Missing load budgets resource " + resource);
+      }
+      return read(input);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Cannot read load budgets " + resource, e);
+    }
+  }
+
+  private static Properties read(InputStream input) throws IOException {
+    var properties = new Properties();
+    properties.load(input);
+    return properties;
+  }
+}
@@ -0,0 +1,137 @@
+package com.challenge.tasks.load;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.ConcurrentHistogram;
+
+import java.net.URI;
+import java.util.EnumMap;
+import java.util.Collections;
+import java.time.Duration;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.util.SplittableRandom;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Open-model load generator
+ * @summary
+ * Requests are sent on a fixed schedule derived from the arrival rate, whether or not earlier responses came back, the
+ * way independent clients hit a service. A closed model (N threads looping on request/response) would instead slow
+ * down together with the server and under-report its latency. Each request's latency runs from its scheduled send
+ * time; when more than {@code maxInFlight} requests are outstanding, new arrivals are counted as errors rather than
+ * queued without bound.
+ * @author Gonzalo Qu3dena
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class OpenModelLoadGenerator {
+
+  private static final long HIGHEST_LATENCY_MICROS = TimeUnit.MINUTES.toMicros(1);
+  private static final int SIGNIFICANT_DIGITS = 3;
+
+  private final URI api;
+  private final LoadSettings settings;
+
+  /**
+   * Constructor of the generator
+   * @param api The base URI of the API, ending with {@code /api/}
+   * @param settings The settings of the run
+   */
+  public OpenModelLoadGenerator(URI api, LoadSettings settings) {
+    this.api = api;
+    this.settings = settings;
+  }
+
+  /**
+   * Run the warmup and the measured phase
+   * @return The latencies and errors of the measured phase
+   * @throws InterruptedException if interrupted while waiting for the last responses
+   */
+  public LoadResult run() throws InterruptedException {
+    var latencies = new EnumMap<LoadOperation, Histogram>(LoadOperation.class);
+    var errors = new EnumMap<LoadOperation, LongAdder>(LoadOperation.class);
+    for (var operation : LoadOperation.values()) {
+      latencies.put(operation, new ConcurrentHistogram(HIGHEST_LATENCY_MICROS, SIGNIFICANT_DIGITS));
+      errors.put(operation, new LongAdder());
+    }
+
+    var executor = Executors.newFixedThreadPool(Math.max(4, Runtime.getRuntime().availableProcessors()), runnable -> {
+      var thread = new Thread(runnable, "load-client");
+      thread.setDaemon(true);
+      return thread;
+    });
+    var client = HttpClient.newBuilder()
+        .version(HttpClient.Version.HTTP_1_1)
+        .connectTimeout(Duration.ofSeconds(5))
+        .executor(executor)
+        .build();
+
+    var operations = schedule();
+    var random = new SplittableRandom(7);
+    var inFlight = new AtomicInteger();
+    var interval = TimeUnit.SECONDS.toNanos(1) / settings.rate();
+    var start = System.nanoTime();
+    var measuredFrom = start + settings.warmup().toNanos();
+    var end = measuredFrom + settings.duration().toNanos();
+
+    for (long i = 0; ; i++) {
+      var scheduled = start + i * interval;
+      if (scheduled >= end) {
+        break;
+      }
+      long wait;
+      while ((wait = scheduled - System.nanoTime()) > 0) {
+        LockSupport.parkNanos(wait);
+      }
+
+      var operation = operations[random.nextInt(operations.length)];
+      var measured = scheduled >= measuredFrom;
+      if (inFlight.get() >= settings.maxInFlight()) {
+        if (measured) {
+          errors.get(operation).increment();
+        }
+        continue;
+      }
+
+      inFlight.incrementAndGet();
+      client.sendAsync(operation.request(api, random, settings.tasks()), HttpResponse.BodyHandlers.discarding())
+          .whenComplete((response, failure) -> {
+            inFlight.decrementAndGet();
+            if (!measured) {
+              return;
+            }
+            if (failure != null || response.statusCode() >= 400) {
+              errors.get(operation).increment();
+              return;
+            }
+            var latency = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - scheduled);
+            latencies.get(operation).recordValue(Math.min(latency, HIGHEST_LATENCY_MICROS));
+          });
+    }
+
+    var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+    while (inFlight.get() > 0 && System.nanoTime() < deadline) {
+      Thread.sleep(10);
+    }
+    executor.shutdownNow();
+
+    var errorCounts = new EnumMap<LoadOperation, Long>(LoadOperation.class);
+    errors.forEach((operation, count) -> errorCounts.put(operation, count.sum()));
+    return new LoadResult(Collections.unmodifiableMap(latencies), Collections.unmodifiableMap(errorCounts),
+        settings.duration());
+  }
+
+  /**
+   * Expand the operation weights into a table sampled uniformly
+   * @return One entry per unit of weight
+   */
+  private LoadOperation[] schedule() {
+    return settings.weights().entrySet().stream()
+        .flatMap(entry -> Collections.nCopies(entry.getValue(), entry.getKey()).stream())
+        .toArray(LoadOperation[]::new);
+  }
+}
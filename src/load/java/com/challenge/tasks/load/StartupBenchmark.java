@@ -0,0 +1,218 @@
+package com.challenge.tasks.load;
+
+import java.net.URI;
+import java.util.List;
+import java.util.Locale;
+import java.util.ArrayList;
+import java.time.Duration;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Startup benchmark of the packaged application
+ * @summary
+ * Starts the jar as a separate JVM, the way a new replica starts, and measures the wall-clock time from process
+ * launch to the first successful {@code GET /api/tasks} together with the resident set size right after it. Two
+ * setups are compared:
+ * <ul>
+ *   <li>{@code baseline}: {@code java -jar}, as the application ran before the production profile existed.</li>
+ *   <li>{@code prod}: the extracted jar with the AOT-processed context, the {@code prod} profile and an AppCDS
+ *   archive recorded by a training run, as the Dockerfile runs it.</li>
+ * </ul>
+ * The jar must be built with the {@code aot} Maven profile. Each setup is started {@code startup.runs} times,
+ * alternating between them, and the median is reported. Run it with:
+ * <pre>
+ * ./mvnw -Paot,load-test package exec:exec@startup-benchmark -DskipTests
+ * </pre>
+ * RSS is read from {@code /proc} and is only reported on Linux.
+ * @author Gonzalo Qu3dena
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class StartupBenchmark {
+
+  private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(3);
+  private static final long POLL_INTERVAL_MILLIS = 10;
+
+  private static final HttpClient CLIENT = HttpClient.newBuilder()
+      .connectTimeout(Duration.ofSeconds(1))
+      .build();
+
+  private StartupBenchmark() {
+  }
+
+  public static void main(String[] args) throws Exception {
+    var jar = Path.of(System.getProperty("startup.jar", "target/tasks-crud-0.0.1-SNAPSHOT.jar"));
+    var runs = Integer.getInteger("startup.runs", 5);
+    var workDirectory = Path.of("target", "startup-benchmark");
+
+    var application = prepareCds(jar, workDirectory);
+    var setups = List.of(
+        new Setup("baseline", jar.getParent(), List.of("-jar", jar.toAbsolutePath().toString())),
+        new Setup("prod", application, List.of("-XX:SharedArchiveFile=application.jsa", "-Dspring.aot.enabled=true",
+            "-Dspring.profiles.active=prod", "-jar", jar.getFileName().toString())));
+
+    var samples = new ArrayList<List<Sample>>();
+    setups.forEach(setup -> samples.add(new ArrayList<>()));
+    for (int run = 0; run < runs; run++) {
+      for (int i = 0; i < setups.size(); i++) {
+        samples.get(i).add(start(setups.get(i)));
+      }
+    }
+
+    System.out.printf(Locale.ROOT, "%-10s %6s %22s %12s%n", "setup", "runs", "first request ms (p50)", "RSS MB (p50)");
+    for (int i = 0; i < setups.size(); i++) {
+      var setupSamples = samples.get(i);
+      System.out.printf(Locale.ROOT, "%-10s %6d %22d %12s%n", setups.get(i).name(), setupSamples.size(),
+          median(setupSamples.stream().map(Sample::firstRequestMillis).toList()),
+          setupSamples.get(0).rssKilobytes() < 0 ? "n/a"
+              : String.valueOf(median(setupSamples.stream().map(Sample::rssKilobytes).toList()) / 1_024));
+    }
+  }
+
+  /**
+   * Extract the jar and record the AppCDS archive with a training run that stops once the context is refreshed
+   * @param jar The packaged application
+   * @param workDirectory The directory to extract into
+   * @return The directory holding the extracted jar and {@code application.jsa}
+   * @throws IOException if the jar cannot be extracted
+   * @throws InterruptedException if interrupted while waiting for the training run
+   */
+  private static Path prepareCds(Path jar, Path workDirectory) throws IOException, InterruptedException {
+    var application = workDirectory.resolve("application");
+    delete(workDirectory);
+    Files.createDirectories(workDirectory);
+
+    exec(workDirectory, "-Djarmode=tools", "-jar", jar.toAbsolutePath().toString(), "extract", "--destination",
+        "application");
+    exec(application, "-XX:ArchiveClassesAtExit=application.jsa", "-Dspring.context.exit=onRefresh",
+        "-Dspring.aot.enabled=true", "-Dspring.profiles.active=prod", "-jar", jar.getFileName().toString());
+    return application;
+  }
+
+  /**
+   * Start the application once and stop it after the first successful request
+   * @param setup The setup to start
+   * @return The time to first request and the resident set size
+   * @throws IOException if the process cannot be started
+   * @throws InterruptedException if interrupted while waiting for the application
+   */
+  private static Sample start(Setup setup) throws IOException, InterruptedException {
+    var port = freePort();
+    var command = new ArrayList<String>();
+    command.add(javaExecutable());
+    command.addAll(setup.arguments());
+    command.add("--server.port=" + port);
+
+    var request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/tasks")).GET().build();
+    var started = System.nanoTime();
+    var process = new ProcessBuilder(command)
+        .directory(setup.directory().toFile())
+        .redirectErrorStream(true)
+        .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+        .start();
+    try {
+      var deadline = started + STARTUP_TIMEOUT.toNanos();
+      while (System.nanoTime() < deadline) {
+        if (!process.isAlive()) {
+          throw new IllegalStateException(setup.name() + " exited with status " + process.exitValue());
+        }
+        try {
+          if (CLIENT.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+            var millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+            return new Sample(millis, rssKilobytes(process.pid()));
+          }
+        } catch (IOException e) {
+          // Not listening yet
+        }
+        Thread.sleep(POLL_INTERVAL_MILLIS);
+      }
+      throw new IllegalStateException(setup.name() + " did not answer within " + STARTUP_TIMEOUT);
+    } finally {
+      process.destroy();
+      if (!process.waitFor(30, TimeUnit.SECONDS)) {
+        process.destroyForcibly().waitFor();
+      }
+    }
+  }
+
+  /**
+   * Resident set size of a process
+   * @param pid The process ID
+   * @return The RSS in kilobytes, -1 when {@code /proc} is not available
+   */
+  private static long rssKilobytes(long pid) {
+    var status = Path.of("/proc", String.valueOf(pid), "status");
+    try (var lines = Files.lines(status)) {
+      return lines.filter(line -> line.startsWith("VmRSS:"))
+          .map(line -> Long.parseLong(line.replaceAll("\\D", "")))
+          .findFirst()
+          .orElse(-1L);
+    } catch (IOException e) {
+      return -1;
+    }
+  }
+
+  private static void exec(Path directory, String... arguments) throws IOException, InterruptedException {
+    var command = new ArrayList<String>();
+    command.add(javaExecutable());
+    command.addAll(List.of(arguments));
+    var process = new ProcessBuilder(command)
+        .directory(directory.toFile())
+        .redirectErrorStream(true)
+        .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+        .start();
+    if (process.waitFor() != 0) {
+      throw new IllegalStateException("Command failed with status " + process.exitValue() + ": " + command);
+    }
+  }
+
+  private static String javaExecutable() {
+    return Path.of(System.getProperty("java.home"), "bin", "java").toString();
+  }
+
+  private static int freePort() throws IOException {
+    try (var socket = new ServerSocket(0)) {
+      return socket.getLocalPort();
+    }
+  }
+
+  private static long median(List<Long> values) {
+    return values.stream().sorted().toList().get(values.size() / 2);
+  }
+
+  private static void delete(Path directory) throws IOException {
+    if (!Files.exists(directory)) {
+      return;
+    }
+    try (Stream<Path> paths = Files.walk(directory)) {
+      for (var path : paths.sorted((a, b) -> b.compareTo(a)).toList()) {
+        Files.delete(path);
+      }
+    }
+  }
+
+  /**
+   * A way of starting the application
+   * @param name The name in the report
+   * @param directory The working directory of the process
+   * @param arguments The JVM arguments, ending with the jar
+   */
+  private record Setup(String name, Path directory, List<String> arguments) {
+  }
+
+  /**
+   * One measured start
+   * @param firstRequestMillis The time from process launch to the first successful request
+   * @param rssKilobytes The resident set size after the first request, -1 when unknown
+   */
+  private record Sample(long firstRequestMillis, long rssKilobytes) {
+  }
+}
@@ -0,0 +1,76 @@
+package com.challenge.tasks.load;
+
+import com.challenge.TasksCrudApplication;
+import com.challenge.tasks.infrastructure.persistence.seed.TaskSeeder;
+import com.challenge.tasks.infrastructure.persistence.jpa.repositories.TaskRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * End-to-end load test of the task API
+ * @summary
+ * Boots the whole application (Tomcat, Spring MVC, services and H2) on a random port, seeds it with synthetic tasks
+ * through the {@link TaskSeeder} and drives it with the mixed workload of {@link LoadOperation} from an
+ * {@link OpenModelLoadGenerator}. It prints p50, p99 and p99.9 latencies per operation and the
+ * {@link ConnectionPoolUsage}, writes the full latency distributions to {@code target/load-test}, and exits with
+ * status 1 when a latency budget or the error budget is exceeded, which fails the Maven build. Run it with:
+ * <pre>
+ * ./mvnw -Pload-test test-compile exec:exec -Dload.rate=500 -Dload.duration=60s
+ * </pre>
+ * The generator shares the machine with the server, so absolute numbers are only comparable between runs on the same
+ * hardware.
+ * @author Gonzalo Qu3dena
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class TaskLoadTest {
+
+  private TaskLoadTest() {
+  }
+
+  public static void main(String[] args) throws Exception {
+    var settings = LoadSettings.fromSystemProperties();
+    var builder = new SpringApplicationBuilder(TasksCrudApplication.class);
+    var profile = System.getProperty("load.profile", "");
+    if (!profile.isBlank()) {
+      builder.profiles(profile);
+    }
+
+    LoadResult result;
+    // Passed as arguments, since default properties would lose against application.yaml
+    try (var context = builder.run("--server.port=0", "--logging.level.root=WARN", "--spring.main.banner-mode=off",
+        "--sql-statistics.enabled=false", "--tasks.archive.enabled=false", "--tasks.seed.enabled=true",
+        "--tasks.seed.count=" + settings.tasks())) {
+      var port = ((WebServerApplicationContext) context).getWebServer().getPort();
+      var seeded = context.getBean(TaskRepository.class).count();
+      System.out.printf("Seeded %d tasks, running %s of warmup and %s at %d req/s%n", seeded, settings.warmup(),
+          settings.duration(), settings.rate());
+
+      var registry = context.getBean(MeterRegistry.class);
+      var poolBefore = ConnectionPoolUsage.snapshot(registry);
+      var started = System.nanoTime();
+      result = new OpenModelLoadGenerator(URI.create("http://localhost:" + port + "/api/"), settings).run();
+      var window = Duration.ofNanos(System.nanoTime() - started);
+
+      result.print(System.out);
+      ConnectionPoolUsage.snapshot(registry).print(poolBefore, window, System.out);
+    }
+
+    result.writeDistributions(Path.of("target", "load-test"));
+
+    var violations = result.violations(settings);
+    if (!violations.isEmpty()) {
+      System.out.println("Budgets exceeded:");
+      violations.forEach(violation -> System.out.println("  " + violation));
+      System.exit(1);
+    }
+    System.out.println("All budgets met");
+  }
+}
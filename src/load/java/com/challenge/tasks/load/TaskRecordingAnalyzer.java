@@ -0,0 +1,149 @@
+package com.challenge.tasks.load;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import java.util.Map;
+import java.util.Arrays;
+import java.util.TreeMap;
+import java.util.Locale;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Path;
+
+/**
+ * Offline summary of a flight recording of the task events
+ * @summary
+ * Reads a {@code .jfr} file recorded with the bundled {@code jfr/tasks.jfc} settings and prints, per handler (kind,
+ * type and filter shape), the invocation count, latency percentiles, average rows and failures; then the hit ratio of
+ * every cache and the completion time of every transaction. It is a command-line tool kept with the load-test sources,
+ * out of the application jar, and only depends on the JDK, so it can be run straight from the source file against a
+ * recording copied off a production host:
+ * <pre>
+ * java src/load/java/com/challenge/tasks/load/TaskRecordingAnalyzer.java tasks.jfr
+ * </pre>
+ * @author Gonzalo Qu3dena
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class TaskRecordingAnalyzer {
+
+  private static final String HANDLER_EVENT = "com.challenge.tasks.Handler";
+  private static final String FRAGMENT_CACHE_EVENT = "com.challenge.tasks.JsonFragmentCacheAccess";
+  private static final String HIBERNATE_CACHE_EVENT = "com.challenge.HibernateCacheAccess";
+  private static final String TRANSACTION_EVENT = "com.challenge.TransactionCompletion";
+
+  private final Map<String, Durations> handlers = new TreeMap<>();
+  private final Map<String, long[]> caches = new TreeMap<>();
+  private final Map<String, Durations> transactions = new TreeMap<>();
+
+  private TaskRecordingAnalyzer() {
+  }
+
+  /**
+   * Summarize a recording
+   * @param args The path of the {@code .jfr} file
+   * @throws IOException if the recording cannot be read
+   */
+  public static void main(String[] args) throws IOException {
+    if (args.length != 1) {
+      System.err.println("Usage: TaskRecordingAnalyzer <recording.jfr>");
+      System.exit(2);
+    }
+
+    var analyzer = new TaskRecordingAnalyzer();
+    try (var recording = new RecordingFile(Path.of(args[0]))) {
+      while (recording.hasMoreEvents()) {
+        analyzer.accept(recording.readEvent());
+      }
+    }
+    analyzer.print(System.out);
+  }
+
+  private void accept(RecordedEvent event) {
+    switch (event.getEventType().getName()) {
+      case HANDLER_EVENT -> {
+        var key = event.getString("kind") + " " + event.getString("type") + " [" + event.getString("shape") + "]";
+        handlers.computeIfAbsent(key, k -> new Durations()).add(event.getDuration().toNanos(), event.getInt("rows"),
+            !"ok".equals(event.getString("outcome")));
+      }
+      case FRAGMENT_CACHE_EVENT -> count("json-fragment", event.getBoolean("hit"));
+      case HIBERNATE_CACHE_EVENT -> count(event.getString("cache") + " " + event.getString("region"),
+          event.getBoolean("hit"));
+      case TRANSACTION_EVENT -> transactions.computeIfAbsent(event.getString("transaction"), k -> new Durations())
+          .add(event.getDuration().toNanos(), -1, !"committed".equals(event.getString("outcome")));
+      default -> {
+      }
+    }
+  }
+
+  private void count(String cache, boolean hit) {
+    var counts = caches.computeIfAbsent(cache, k -> new long[2]);
+    counts[hit ? 0 : 1]++;
+  }
+
+  private void print(PrintStream out) {
+    out.printf(Locale.ROOT, "%-60s %8s %9s %9s %9s %9s %9s %8s%n", "Handler", "count", "p50 ms", "p95 ms", "p99 ms",
+        "max ms", "avg rows", "failed");
+    handlers.forEach((handler, durations) -> durations.print(out, handler, true));
+
+    out.println();
+    out.printf(Locale.ROOT, "%-60s %8s %9s %9s%n", "Cache", "lookups", "hits", "hit %");
+    caches.forEach((cache, counts) -> {
+      var lookups = counts[0] + counts[1];
+      out.printf(Locale.ROOT, "%-60s %8d %9d %9.1f%n", truncate(cache), lookups, counts[0], 100.0 * counts[0] / lookups);
+    });
+
+    out.println();
+    out.printf(Locale.ROOT, "%-60s %8s %9s %9s %9s %9s %9s %8s%n", "Transaction completion", "count", "p50 ms",
+        "p95 ms", "p99 ms", "max ms", "", "rolled");
+    transactions.forEach((transaction, durations) -> durations.print(out, transaction, false));
+  }
+
+  /**
+   * Shorten a name to the column width, keeping its end where class and method names are
+   * @param value The name
+   * @return The name, with a leading ellipsis when shortened
+   */
+  private static String truncate(String value) {
+    return value.length() > 60 ? "..." + value.substring(value.length() - 57) : value;
+  }
+
+  /**
+   * Durations, row counts and failures of one group of events
+   */
+  private static class Durations {
+
+    private long[] nanos = new long[64];
+    private int count;
+    private long rows;
+    private int rowCounts;
+    private int failed;
+
+    void add(long duration, int rowCount, boolean failure) {
+      if (count == nanos.length) {
+        nanos = Arrays.copyOf(nanos, count * 2);
+      }
+      nanos[count++] = duration;
+      if (rowCount >= 0) {
+        rows += rowCount;
+        rowCounts++;
+      }
+      if (failure) {
+        failed++;
+      }
+    }
+
+    void print(PrintStream out, String name, boolean withRows) {
+      Arrays.sort(nanos, 0, count);
+      out.printf(Locale.ROOT, "%-60s %8d %9.3f %9.3f %9.3f %9.3f %9s %8d%n", truncate(name), count, millis(0.50),
+          millis(0.95), millis(0.99), nanos[count - 1] / 1e6,
+          withRows && rowCounts > 0 ? String.format(Locale.ROOT, "%.1f", (double) rows / rowCounts) : "", failed);
+    }
+
+    private double millis(double percentile) {
+      var rank = (int) Math.ceil(percentile * count);
+      return nanos[Math.max(rank, 1) - 1] / 1e6;
+    }
+  }
+}
@@ -2,8 +2,10 @@ package com.challenge;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 
+@EnableScheduling
 @EnableJpaAuditing
 @SpringBootApplication
 public class TasksCrudApplication {
@@ -7,6 +7,8 @@ import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.domain.AbstractAggregateRoot;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
+import com.challenge.shared.infrastructure.persistence.jpa.auditing.DirtyTrackingAuditingListener;
+
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 
 import java.time.LocalDateTime;
@@ -15,11 +17,13 @@ import java.time.LocalDateTime;
  * Abstract base class for auditable aggregate roots.
  * Provides common auditing fields like ID, createdAt, and updatedAt.
  * Extends AbstractAggregateRoot to support domain events.
+ * The listener order matters: the dirty tracking listener reports the timestamp
+ * the auditing listener has just set.
  *
  * @param <T> the type of the aggregate root
  */
 @Getter
-@EntityListeners(AuditingEntityListener.class)
+@EntityListeners({AuditingEntityListener.class, DirtyTrackingAuditingListener.class})
 @MappedSuperclass
 @JsonIgnoreProperties({"domainEvents", "new"})
 public abstract class AuditableAbstractAggregateRoot<T extends AbstractAggregateRoot<T>> extends AbstractAggregateRoot<T> {
@@ -33,4 +37,18 @@ public abstract class AuditableAbstractAggregateRoot<T extends AbstractAggregate
     @LastModifiedDate
     @Column(nullable = false)
     private LocalDateTime updatedAt;
+
+    /**
+     * Restores the identity and audit fields of an aggregate that is materialized
+     * outside of JPA (for example by an alternative storage engine).
+     *
+     * @param id the identifier of the aggregate
+     * @param createdAt the creation timestamp
+     * @param updatedAt the last modification timestamp
+     */
+    protected void restoreAuditFields(Long id, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this.id = id;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
 }
\ No newline at end of file
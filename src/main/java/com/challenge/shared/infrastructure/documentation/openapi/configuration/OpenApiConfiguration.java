@@ -7,6 +7,7 @@ import org.springframework.context.annotation.Bean;
 import io.swagger.v3.oas.models.ExternalDocumentation;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 
 /**
  * Spring configuration that exposes an OpenAPI description for the application.
@@ -17,8 +18,12 @@ import org.springframework.context.annotation.Configuration;
  *
  * <p>Values for the title, description and version are injected from
  * application properties and used to populate the {@link Info} metadata.</p>
+ *
+ * <p>Like Springdoc itself, it is skipped when {@code springdoc.api-docs.enabled}
+ * is {@code false}, as in the {@code prod} profile.</p>
  */
 @Configuration
+@ConditionalOnProperty(prefix = "springdoc.api-docs", name = "enabled", matchIfMissing = true)
 public class OpenApiConfiguration {
     @Value("${spring.application.name}")
     String applicationName;
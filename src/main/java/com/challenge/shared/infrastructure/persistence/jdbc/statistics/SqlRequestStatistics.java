@@ -0,0 +1,98 @@
+package com.challenge.shared.infrastructure.persistence.jdbc.statistics;
+
+import java.util.Map;
+import java.util.List;
+import java.util.HashMap;
+import java.util.Comparator;
+
+/**
+ * SQL statistics of a single HTTP request
+ * @summary
+ * Accumulates the number of statements, the rows fetched and the time spent in the driver, both executing statements
+ * and fetching their rows. It also counts how many times each distinct SQL string was executed, which is what gives an
+ * N+1 pattern away; that count is bounded so a request issuing ad hoc SQL cannot grow it without limit.
+ * <p>
+ * Instances are confined to the request thread.
+ * </p>
+ * @author Gonzalo Qu3dena
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class SqlRequestStatistics {
+
+  private static final int MAX_DISTINCT_STATEMENTS = 64;
+
+  private final Map<String, Integer> executions = new HashMap<>();
+
+  private int statements;
+  private long rows;
+  private long nanos;
+
+  /**
+   * Record an executed statement
+   * @param sql The SQL string, with placeholders for the bind parameters
+   * @param count The number of statements it stands for, the batch size for batched statements
+   * @param elapsedNanos The execution time
+   */
+  void statementExecuted(String sql, int count, long elapsedNanos) {
+    statements += count;
+    nanos += elapsedNanos;
+    if (executions.size() < MAX_DISTINCT_STATEMENTS || executions.containsKey(sql)) {
+      executions.merge(sql, count, Integer::sum);
+    }
+  }
+
+  /**
+   * Record a fetched row
+   * @param elapsedNanos The time the driver took to position on the row
+   */
+  void rowFetched(long elapsedNanos) {
+    rows++;
+    nanos += elapsedNanos;
+  }
+
+  /**
+   * Record the time of a fetch that returned no row
+   * @param elapsedNanos The time the driver took to reach the end of the result set
+   */
+  void fetchCompleted(long elapsedNanos) {
+    nanos += elapsedNanos;
+  }
+
+  /**
+   * Number of statements executed
+   * @return The statement count
+   */
+  public int statements() {
+    return statements;
+  }
+
+  /**
+   * Number of rows fetched from result sets
+   * @return The row count
+   */
+  public long rows() {
+    return rows;
+  }
+
+  /**
+   * Time spent executing statements and fetching rows
+   * @return The time in nanoseconds
+   */
+  public long nanos() {
+    return nanos;
+  }
+
+  /**
+   * The SQL strings executed more than once, most repeated first
+   * @param limit The maximum number of entries
+   * @return The repeated statements with their execution count
+   */
+  public List<Map.Entry<String, Integer>> repeatedStatements(int limit) {
+    return executions.entrySet().stream()
+        .filter(entry -> entry.getValue() > 1)
+        .sorted(Map.Entry.<String, Integer>comparingByValue(Comparator.reverseOrder()))
+        .limit(limit)
+        .toList();
+  }
+}
@@ -0,0 +1,47 @@
+package com.challenge.shared.infrastructure.persistence.jdbc.statistics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+import org.springframework.core.Ordered;
+import org.springframework.context.annotation.Bean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+
+/**
+ * Spring configuration of the SQL statement statistics
+ * @summary
+ * Proxies the data source and registers the request filter that reports per-request statement counts, rows and
+ * database time. Enabled unless {@code sql-statistics.enabled} is {@code false}, in which case the data source is
+ * used as is.
+ * @author Gonzalo Qu3dena
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Configuration
+@EnableConfigurationProperties(SqlStatisticsProperties.class)
+@ConditionalOnProperty(prefix = "sql-statistics", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class SqlStatisticsConfiguration {
+
+  @Bean
+  public static SqlStatisticsDataSourcePostProcessor sqlStatisticsDataSourcePostProcessor(
+      ObjectProvider<SqlStatisticsListener> listener) {
+    return new SqlStatisticsDataSourcePostProcessor(listener);
+  }
+
+  @Bean
+  public SqlStatisticsListener sqlStatisticsListener(SqlStatisticsProperties properties) {
+    return new SqlStatisticsListener(properties.slowStatementThreshold());
+  }
+
+  @Bean
+  public FilterRegistrationBean<SqlStatisticsFilter> sqlStatisticsFilter(SqlStatisticsListener listener,
+      MeterRegistry meterRegistry, SqlStatisticsProperties properties) {
+    var registration = new FilterRegistrationBean<>(
+        new SqlStatisticsFilter(listener, meterRegistry, properties.maxStatementsPerRequest()));
+    registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+    return registration;
+  }
+}
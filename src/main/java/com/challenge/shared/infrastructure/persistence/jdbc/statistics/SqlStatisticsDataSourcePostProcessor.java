@@ -0,0 +1,47 @@
+package com.challenge.shared.infrastructure.persistence.jdbc.statistics;
+
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+import javax.sql.DataSource;
+
+/**
+ * Bean post processor wrapping the data source in a statement-observing proxy
+ * @summary
+ * Every {@link DataSource} bean is wrapped in a datasource-proxy {@link ProxyDataSource} notifying the
+ * {@link SqlStatisticsListener} of statement executions and result set fetches. The proxy delegates
+ * {@code unwrap(...)}, so pool metrics and health checks still reach the underlying connection pool.
+ * @author Gonzalo Qu3dena
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class SqlStatisticsDataSourcePostProcessor implements BeanPostProcessor {
+
+  private final ObjectProvider<SqlStatisticsListener> listener;
+
+  /**
+   * Constructor of the post processor
+   * @param listener The listener, resolved lazily so that it is not created before the other post processors
+   */
+  public SqlStatisticsDataSourcePostProcessor(ObjectProvider<SqlStatisticsListener> listener) {
+    this.listener = listener;
+  }
+
+  // {@inheritDoc}
+  @Override
+  public Object postProcessAfterInitialization(Object bean, String beanName) {
+    if (!(bean instanceof DataSource dataSource) || bean instanceof ProxyDataSource) {
+      return bean;
+    }
+
+    var statisticsListener = listener.getObject();
+    return ProxyDataSourceBuilder.create(beanName, dataSource)
+        .listener(statisticsListener)
+        .methodListener(statisticsListener)
+        .proxyResultSet()
+        .build();
+  }
+}
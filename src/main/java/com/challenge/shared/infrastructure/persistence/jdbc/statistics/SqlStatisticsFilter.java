@@ -0,0 +1,176 @@
+package com.challenge.shared.infrastructure.persistence.jdbc.statistics;
+
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.DistributionSummary;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+import java.util.Locale;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Servlet filter reporting the SQL statistics of every HTTP request
+ * @summary
+ * Binds a {@link SqlRequestStatistics} to the request thread and, once the handler has run, reports it in three ways:
+ * <ul>
+ *   <li>a {@code Server-Timing} response header, {@code db;dur=<ms>;desc="<n> statements, <m> rows"}, added right
+ *   before the body is written so that it also reaches streamed responses;</li>
+ *   <li>the {@code sql.request.statements} and {@code sql.request.rows} distribution summaries and the
+ *   {@code sql.request.time} timer, tagged by HTTP method and URI template;</li>
+ *   <li>a warning when the request issued more statements than allowed, listing the most repeated SQL strings, since
+ *   the same statement executed once per row is the signature of an N+1 query.</li>
+ * </ul>
+ * @author Gonzalo Qu3dena
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class SqlStatisticsFilter extends OncePerRequestFilter {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(SqlStatisticsFilter.class);
+
+  private static final String SERVER_TIMING = "Server-Timing";
+  private static final String UNKNOWN_URI = "UNKNOWN";
+  private static final int REPORTED_STATEMENTS = 3;
+
+  private final SqlStatisticsListener listener;
+  private final MeterRegistry meterRegistry;
+  private final int maxStatementsPerRequest;
+
+  /**
+   * Constructor of the filter
+   * @param listener The listener collecting the statistics
+   * @param meterRegistry The registry of the request metrics
+   * @param maxStatementsPerRequest The number of statements above which a request is logged
+   */
+  public SqlStatisticsFilter(SqlStatisticsListener listener, MeterRegistry meterRegistry, int maxStatementsPerRequest) {
+    this.listener = listener;
+    this.meterRegistry = meterRegistry;
+    this.maxStatementsPerRequest = maxStatementsPerRequest;
+  }
+
+  // {@inheritDoc}
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+      throws ServletException, IOException {
+    var statistics = listener.start();
+    var timedResponse = new ServerTimingResponse(response, statistics);
+    try {
+      filterChain.doFilter(request, timedResponse);
+    } finally {
+      listener.stop();
+      timedResponse.addServerTiming();
+      report(request, statistics);
+    }
+  }
+
+  private void report(HttpServletRequest request, SqlRequestStatistics statistics) {
+    var pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+    var uri = pattern != null ? pattern.toString() : UNKNOWN_URI;
+    var tags = Tags.of("method", request.getMethod(), "uri", uri);
+
+    DistributionSummary.builder("sql.request.statements")
+        .description("SQL statements issued per HTTP request")
+        .tags(tags)
+        .register(meterRegistry)
+        .record(statistics.statements());
+    DistributionSummary.builder("sql.request.rows")
+        .description("Rows fetched per HTTP request")
+        .tags(tags)
+        .register(meterRegistry)
+        .record(statistics.rows());
+    Timer.builder("sql.request.time")
+        .description("Time spent in the database per HTTP request")
+        .tags(tags)
+        .register(meterRegistry)
+        .record(statistics.nanos(), TimeUnit.NANOSECONDS);
+
+    if (statistics.statements() > maxStatementsPerRequest) {
+      LOGGER.warn("{} {} issued {} SQL statements ({} rows, {} ms in the database), most repeated: {}",
+          request.getMethod(), uri, statistics.statements(), statistics.rows(), statistics.nanos() / 1_000_000,
+          statistics.repeatedStatements(REPORTED_STATEMENTS).stream()
+              .map(entry -> entry.getValue() + "x " + entry.getKey())
+              .toList());
+    }
+  }
+
+  /**
+   * Format the statistics as a {@code Server-Timing} metric
+   * @param statistics The statistics of the request
+   * @return The header value
+   */
+  static String serverTiming(SqlRequestStatistics statistics) {
+    return String.format(Locale.ROOT, "db;dur=%.3f;desc=\"%d statements, %d rows\"",
+        statistics.nanos() / 1_000_000.0, statistics.statements(), statistics.rows());
+  }
+
+  /**
+   * Response adding the {@code Server-Timing} header as soon as the body starts, while headers can still be set
+   */
+  private static class ServerTimingResponse extends HttpServletResponseWrapper {
+
+    private final SqlRequestStatistics statistics;
+    private boolean timed;
+
+    ServerTimingResponse(HttpServletResponse response, SqlRequestStatistics statistics) {
+      super(response);
+      this.statistics = statistics;
+    }
+
+    void addServerTiming() {
+      if (!timed && !isCommitted()) {
+        addHeader(SERVER_TIMING, serverTiming(statistics));
+      }
+      timed = true;
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() throws IOException {
+      addServerTiming();
+      return super.getOutputStream();
+    }
+
+    @Override
+    public PrintWriter getWriter() throws IOException {
+      addServerTiming();
+      return super.getWriter();
+    }
+
+    @Override
+    public void flushBuffer() throws IOException {
+      addServerTiming();
+      super.flushBuffer();
+    }
+
+    @Override
+    public void sendError(int sc, String msg) throws IOException {
+      addServerTiming();
+      super.sendError(sc, msg);
+    }
+
+    @Override
+    public void sendError(int sc) throws IOException {
+      addServerTiming();
+      super.sendError(sc);
+    }
+
+    @Override
+    public void sendRedirect(String location) throws IOException {
+      addServerTiming();
+      super.sendRedirect(location);
+    }
+  }
+}
@@ -0,0 +1,141 @@
+package com.challenge.shared.infrastructure.persistence.jdbc.statistics;
+
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.listener.MethodExecutionContext;
+import net.ttddyy.dsproxy.listener.MethodExecutionListener;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.sql.ResultSet;
+import java.time.Duration;
+import java.util.StringJoiner;
+
+/**
+ * JDBC listener feeding the SQL statement statistics
+ * @summary
+ * Registered on the proxied data source, it times every statement execution and every {@link ResultSet#next()} call
+ * and adds them to the {@link SqlRequestStatistics} bound to the current thread by {@link SqlStatisticsFilter}; calls
+ * made outside an HTTP request are not counted. Statements slower than the configured threshold are logged wherever
+ * they run, with their bind parameters redacted so that task content never reaches the logs.
+ * @author Gonzalo Qu3dena
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class SqlStatisticsListener implements QueryExecutionListener, MethodExecutionListener {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(SqlStatisticsListener.class);
+
+  private static final String STARTED_AT = SqlStatisticsListener.class.getName() + ".startedAt";
+  private static final String REDACTED = "***";
+
+  private final ThreadLocal<SqlRequestStatistics> current = new ThreadLocal<>();
+  private final long slowStatementNanos;
+
+  /**
+   * Constructor of the listener
+   * @param slowStatementThreshold The execution time above which a statement is logged
+   */
+  public SqlStatisticsListener(Duration slowStatementThreshold) {
+    this.slowStatementNanos = slowStatementThreshold.toNanos();
+  }
+
+  /**
+   * Start collecting the statistics of the statements the current thread executes
+   * @return The statistics, filled until {@link #stop()} is called
+   */
+  public SqlRequestStatistics start() {
+    var statistics = new SqlRequestStatistics();
+    current.set(statistics);
+    return statistics;
+  }
+
+  /**
+   * Stop collecting statistics on the current thread
+   */
+  public void stop() {
+    current.remove();
+  }
+
+  // {@inheritDoc}
+  @Override
+  public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    execInfo.addCustomValue(STARTED_AT, System.nanoTime());
+  }
+
+  // {@inheritDoc}
+  @Override
+  public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    var elapsed = System.nanoTime() - execInfo.getCustomValue(STARTED_AT, Long.class);
+    var statistics = current.get();
+    if (statistics != null) {
+      var count = execInfo.isBatch() ? Math.max(execInfo.getBatchSize(), 1) : 1;
+      statistics.statementExecuted(sql(queryInfoList), count, elapsed);
+    }
+
+    if (elapsed > slowStatementNanos) {
+      LOGGER.warn("Slow SQL statement took {} ms: {} params={}", elapsed / 1_000_000, sql(queryInfoList),
+          redactedParameters(queryInfoList));
+    }
+  }
+
+  // {@inheritDoc}
+  @Override
+  public void beforeMethod(MethodExecutionContext executionContext) {
+    if (isFetch(executionContext) && current.get() != null) {
+      executionContext.addCustomValue(STARTED_AT, System.nanoTime());
+    }
+  }
+
+  // {@inheritDoc}
+  @Override
+  public void afterMethod(MethodExecutionContext executionContext) {
+    var statistics = current.get();
+    if (statistics == null || !isFetch(executionContext)) {
+      return;
+    }
+
+    var startedAt = executionContext.getCustomValue(STARTED_AT, Long.class);
+    var elapsed = startedAt != null ? System.nanoTime() - startedAt : 0;
+    if (Boolean.TRUE.equals(executionContext.getResult())) {
+      statistics.rowFetched(elapsed);
+    } else {
+      statistics.fetchCompleted(elapsed);
+    }
+  }
+
+  private static boolean isFetch(MethodExecutionContext executionContext) {
+    return executionContext.getTarget() instanceof ResultSet && "next".equals(executionContext.getMethod().getName());
+  }
+
+  private static String sql(List<QueryInfo> queryInfoList) {
+    if (queryInfoList.size() == 1) {
+      return queryInfoList.get(0).getQuery();
+    }
+
+    var joiner = new StringJoiner("; ");
+    queryInfoList.forEach(queryInfo -> joiner.add(queryInfo.getQuery()));
+    return joiner.toString();
+  }
+
+  /**
+   * Describe the bind parameters of the statement without their values
+   * @param queryInfoList The executed queries
+   * @return One placeholder per parameter, followed by the batch size for batched statements
+   */
+  private static String redactedParameters(List<QueryInfo> queryInfoList) {
+    var joiner = new StringJoiner(", ", "[", "]");
+    var batchSize = 0;
+    for (var queryInfo : queryInfoList) {
+      var parametersList = queryInfo.getParametersList();
+      batchSize += parametersList.size();
+      if (!parametersList.isEmpty()) {
+        parametersList.get(0).forEach(parameter -> joiner.add(REDACTED));
+      }
+    }
+    return batchSize > 1 ? joiner + " x " + batchSize : joiner.toString();
+  }
+}
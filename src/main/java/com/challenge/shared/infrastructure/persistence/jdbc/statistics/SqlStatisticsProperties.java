@@ -0,0 +1,23 @@
+package com.challenge.shared.infrastructure.persistence.jdbc.statistics;
+
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties of the SQL statement statistics
+ * @param enabled Whether JDBC statements are counted, timed and checked against the thresholds
+ * @param slowStatementThreshold The execution time above which a statement is logged
+ * @param maxStatementsPerRequest The number of statements above which an HTTP request is logged as a likely N+1
+ * @author Gonzalo Qu3dena
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@ConfigurationProperties(prefix = "sql-statistics")
+public record SqlStatisticsProperties(
+  @DefaultValue("true") boolean enabled,
+  @DefaultValue("100ms") Duration slowStatementThreshold,
+  @DefaultValue("20") int maxStatementsPerRequest
+) {
+}
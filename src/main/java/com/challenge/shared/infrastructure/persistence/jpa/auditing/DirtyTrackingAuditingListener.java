@@ -0,0 +1,32 @@
+package com.challenge.shared.infrastructure.persistence.jpa.auditing;
+
+import org.hibernate.engine.spi.SelfDirtinessTracker;
+
+import jakarta.persistence.PreUpdate;
+
+/**
+ * Entity listener that reports audit field changes to Hibernate's inline dirty tracking
+ * @summary
+ * Spring Data's {@link org.springframework.data.jpa.domain.support.AuditingEntityListener} writes
+ * {@code updatedAt} reflectively, which bypasses the write interceptors added by bytecode enhancement. On an
+ * enhanced entity with dynamic updates, the new timestamp would then be left out of the {@code UPDATE}. This
+ * listener must be declared after the auditing listener so that it runs once the field has been set.
+ * @author Gonzalo Qu3dena
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class DirtyTrackingAuditingListener {
+
+  static final String LAST_MODIFIED_ATTRIBUTE = "updatedAt";
+
+  /**
+   * Mark the last modification date as dirty
+   * @param entity The entity being updated
+   */
+  @PreUpdate
+  public void markLastModifiedDateDirty(Object entity) {
+    if (entity instanceof SelfDirtinessTracker tracker) {
+      tracker.$$_hibernate_trackChange(LAST_MODIFIED_ATTRIBUTE);
+    }
+  }
+}
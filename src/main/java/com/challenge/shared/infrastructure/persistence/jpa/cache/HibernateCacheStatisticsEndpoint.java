@@ -0,0 +1,108 @@
+package com.challenge.shared.infrastructure.persistence.jpa.cache;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.springframework.stereotype.Component;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+import jakarta.persistence.EntityManagerFactory;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Actuator endpoint exposing the Hibernate second-level and query cache statistics
+ * @summary
+ * Available at {@code /actuator/hibernatecache}. For every cache region it reports the hit, miss and put counts, the
+ * hit ratio and the number of entries held in memory, followed by the totals of the query cache. Statistics are only
+ * collected when {@code hibernate.generate_statistics} is enabled.
+ * @author Gonzalo Qu3dena
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Component
+@Endpoint(id = "hibernatecache")
+public class HibernateCacheStatisticsEndpoint {
+
+  private final EntityManagerFactory entityManagerFactory;
+
+  /**
+   * Constructor of the endpoint
+   * @param entityManagerFactory The entity manager factory whose statistics are exposed
+   */
+  public HibernateCacheStatisticsEndpoint(EntityManagerFactory entityManagerFactory) {
+    this.entityManagerFactory = entityManagerFactory;
+  }
+
+  /**
+   * Collect the current cache statistics
+   * @return The statistics of every region and of the query cache
+   */
+  @ReadOperation
+  public CacheStatisticsResource statistics() {
+    var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+    var regions = new TreeMap<String, RegionStatisticsResource>();
+    for (var regionName : statistics.getSecondLevelCacheRegionNames()) {
+      var region = statistics.getCacheRegionStatistics(regionName);
+      if (region == null) {
+        continue;
+      }
+      regions.put(regionName, new RegionStatisticsResource(
+          region.getHitCount(),
+          region.getMissCount(),
+          region.getPutCount(),
+          ratio(region.getHitCount(), region.getMissCount()),
+          elements(region.getElementCountInMemory())));
+    }
+
+    var queryCache = new RegionStatisticsResource(
+        statistics.getQueryCacheHitCount(),
+        statistics.getQueryCacheMissCount(),
+        statistics.getQueryCachePutCount(),
+        ratio(statistics.getQueryCacheHitCount(), statistics.getQueryCacheMissCount()),
+        -1);
+
+    return new CacheStatisticsResource(statistics.isStatisticsEnabled(), regions, queryCache);
+  }
+
+  private static long elements(long count) {
+    return count == CacheRegionStatistics.NO_EXTENDED_STAT_SUPPORT_RETURN ? -1 : count;
+  }
+
+  private static double ratio(long hits, long misses) {
+    var total = hits + misses;
+    return total == 0 ? 0.0 : (double) hits / total;
+  }
+
+  /**
+   * Cache statistics response
+   * @param statisticsEnabled Whether Hibernate is collecting statistics
+   * @param regions The statistics of each second-level cache region
+   * @param queryCache The statistics of the query cache
+   */
+  public record CacheStatisticsResource(
+    boolean statisticsEnabled,
+    Map<String, RegionStatisticsResource> regions,
+    RegionStatisticsResource queryCache
+  ) {
+  }
+
+  /**
+   * Statistics of one cache region
+   * @param hits The number of lookups served by the cache
+   * @param misses The number of lookups that went to the database
+   * @param puts The number of entries stored
+   * @param hitRatio The hits divided by the lookups
+   * @param elementsInMemory The number of entries currently held, -1 when not tracked
+   */
+  public record RegionStatisticsResource(
+    long hits,
+    long misses,
+    long puts,
+    double hitRatio,
+    long elementsInMemory
+  ) {
+  }
+}
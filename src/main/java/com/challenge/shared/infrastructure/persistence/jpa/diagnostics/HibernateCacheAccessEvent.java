@@ -0,0 +1,40 @@
+package com.challenge.shared.infrastructure.persistence.jpa.diagnostics;
+
+import jdk.jfr.Name;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Enabled;
+import jdk.jfr.Category;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Description;
+
+/**
+ * Flight recorder event of a Hibernate second-level or query cache lookup
+ * @summary
+ * Disabled unless the recording settings enable it, as the bundled {@code jfr/tasks.jfc} profile does.
+ * @author Gonzalo Qu3dena
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Name("com.challenge.HibernateCacheAccess")
+@Label("Hibernate Cache Access")
+@Category({"Tasks Crud", "Persistence"})
+@Description("Lookup in a Hibernate second-level or query cache region")
+@Enabled(false)
+@StackTrace(false)
+public class HibernateCacheAccessEvent extends Event {
+
+  @Label("Cache")
+  @Description("entity, collection or query")
+  String cache;
+
+  @Label("Region")
+  String region;
+
+  @Label("Entry")
+  @Description("Entity or collection role, or the query string")
+  String entry;
+
+  @Label("Hit")
+  boolean hit;
+}
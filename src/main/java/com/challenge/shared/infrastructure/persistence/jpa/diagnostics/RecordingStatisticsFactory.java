@@ -0,0 +1,85 @@
+package com.challenge.shared.infrastructure.persistence.jpa.diagnostics;
+
+import org.hibernate.stat.spi.StatisticsFactory;
+import org.hibernate.stat.internal.StatisticsImpl;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.metamodel.model.domain.NavigableRole;
+
+/**
+ * Hibernate statistics factory emitting flight recorder cache events
+ * @summary
+ * Registered through {@code hibernate.stats.factory}, it builds the regular statistics with cache hits and misses also
+ * reported as {@link HibernateCacheAccessEvent}s. Hibernate only reports cache accesses while
+ * {@code hibernate.generate_statistics} is on, and the events cost a disabled-check each until a recording enables
+ * them.
+ * @author Gonzalo Qu3dena
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class RecordingStatisticsFactory implements StatisticsFactory {
+
+  // {@inheritDoc}
+  @Override
+  public StatisticsImpl buildStatistics(SessionFactoryImplementor sessionFactory) {
+    return new RecordingStatistics(sessionFactory);
+  }
+
+  /**
+   * Statistics recording every cache access as an event
+   */
+  private static class RecordingStatistics extends StatisticsImpl {
+
+    RecordingStatistics(SessionFactoryImplementor sessionFactory) {
+      super(sessionFactory);
+    }
+
+    @Override
+    public void entityCacheHit(NavigableRole entityName, String regionName) {
+      super.entityCacheHit(entityName, regionName);
+      record("entity", regionName, entityName.getFullPath(), true);
+    }
+
+    @Override
+    public void entityCacheMiss(NavigableRole entityName, String regionName) {
+      super.entityCacheMiss(entityName, regionName);
+      record("entity", regionName, entityName.getFullPath(), false);
+    }
+
+    @Override
+    public void collectionCacheHit(NavigableRole collectionRole, String regionName) {
+      super.collectionCacheHit(collectionRole, regionName);
+      record("collection", regionName, collectionRole.getFullPath(), true);
+    }
+
+    @Override
+    public void collectionCacheMiss(NavigableRole collectionRole, String regionName) {
+      super.collectionCacheMiss(collectionRole, regionName);
+      record("collection", regionName, collectionRole.getFullPath(), false);
+    }
+
+    @Override
+    public void queryCacheHit(String hql, String regionName) {
+      super.queryCacheHit(hql, regionName);
+      record("query", regionName, hql, true);
+    }
+
+    @Override
+    public void queryCacheMiss(String hql, String regionName) {
+      super.queryCacheMiss(hql, regionName);
+      record("query", regionName, hql, false);
+    }
+
+    private static void record(String cache, String region, String entry, boolean hit) {
+      var event = new HibernateCacheAccessEvent();
+      if (!event.shouldCommit()) {
+        return;
+      }
+
+      event.cache = cache;
+      event.region = region;
+      event.entry = entry;
+      event.hit = hit;
+      event.commit();
+    }
+  }
+}
@@ -0,0 +1,38 @@
+package com.challenge.shared.infrastructure.persistence.jpa.diagnostics;
+
+import jdk.jfr.Name;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Enabled;
+import jdk.jfr.Category;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Description;
+
+/**
+ * Flight recorder event of a transaction completion
+ * @summary
+ * Its duration spans the completion itself: the flush of the persistence context and the database commit, or the
+ * rollback. Disabled unless the recording settings enable it, as the bundled {@code jfr/tasks.jfc} profile does.
+ * @author Gonzalo Qu3dena
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Name("com.challenge.TransactionCompletion")
+@Label("Transaction Completion")
+@Category({"Tasks Crud", "Persistence"})
+@Description("Flush and commit, or rollback, of a Spring-managed transaction")
+@Enabled(false)
+@StackTrace(false)
+public class TransactionCompletionEvent extends Event {
+
+  @Label("Transaction")
+  @Description("Name of the transaction, the transactional method by default")
+  String transaction;
+
+  @Label("Read Only")
+  boolean readOnly;
+
+  @Label("Outcome")
+  @Description("committed, rolled-back or unknown")
+  String outcome;
+}
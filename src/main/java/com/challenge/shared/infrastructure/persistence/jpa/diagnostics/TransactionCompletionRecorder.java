@@ -0,0 +1,85 @@
+package com.challenge.shared.infrastructure.persistence.jpa.diagnostics;
+
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Transaction listener recording the completion time of every transaction
+ * @summary
+ * Spring Boot registers {@link TransactionExecutionListener} beans on the auto-configured transaction manager. When a
+ * transaction begins and {@link TransactionCompletionEvent} is enabled, a synchronization is bound to it that starts
+ * the event right before completion and ends it as the first after-commit callback, so neither the work of the
+ * transaction nor the after-commit listeners are part of the measured time. Nothing is registered while the event is
+ * disabled.
+ * @author Gonzalo Qu3dena
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Component
+public class TransactionCompletionRecorder implements TransactionExecutionListener {
+
+  // {@inheritDoc}
+  @Override
+  public void afterBegin(TransactionExecution transaction, Throwable beginFailure) {
+    if (beginFailure != null || !TransactionSynchronizationManager.isSynchronizationActive()) {
+      return;
+    }
+
+    var event = new TransactionCompletionEvent();
+    if (event.isEnabled()) {
+      TransactionSynchronizationManager.registerSynchronization(new CompletionSynchronization(transaction, event));
+    }
+  }
+
+  /**
+   * Synchronization timing the completion of one transaction
+   */
+  private static class CompletionSynchronization implements TransactionSynchronization {
+
+    private final TransactionExecution transaction;
+    private final TransactionCompletionEvent event;
+
+    CompletionSynchronization(TransactionExecution transaction, TransactionCompletionEvent event) {
+      this.transaction = transaction;
+      this.event = event;
+    }
+
+    @Override
+    public int getOrder() {
+      return Ordered.HIGHEST_PRECEDENCE;
+    }
+
+    @Override
+    public void beforeCompletion() {
+      event.begin();
+    }
+
+    @Override
+    public void afterCommit() {
+      event.end();
+    }
+
+    @Override
+    public void afterCompletion(int status) {
+      if (status != STATUS_COMMITTED) {
+        event.end();
+      }
+      if (!event.shouldCommit()) {
+        return;
+      }
+
+      event.transaction = transaction.getTransactionName();
+      event.readOnly = transaction.isReadOnly();
+      event.outcome = switch (status) {
+        case STATUS_COMMITTED -> "committed";
+        case STATUS_ROLLED_BACK -> "rolled-back";
+        default -> "unknown";
+      };
+      event.commit();
+    }
+  }
+}
@@ -0,0 +1,36 @@
+package com.challenge.shared.interfaces.rest;
+
+import org.springframework.http.MediaType;
+
+/**
+ * Binary media types
+ * @summary
+ * Media types of the binary encodings clients can request through the {@code Accept} header, as an alternative to
+ * JSON for large payloads.
+ * @author Gonzalo Qu3dena
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class BinaryMediaTypes {
+
+  /**
+   * Concise Binary Object Representation (RFC 8949), schemaless
+   */
+  public static final String APPLICATION_CBOR_VALUE = MediaType.APPLICATION_CBOR_VALUE;
+
+  /**
+   * Jackson Smile, schemaless binary JSON
+   */
+  public static final String APPLICATION_SMILE_VALUE = "application/x-jackson-smile";
+
+  /**
+   * Protocol Buffers, schema-based
+   */
+  public static final String APPLICATION_PROTOBUF_VALUE = "application/x-protobuf";
+
+  public static final MediaType APPLICATION_SMILE = MediaType.parseMediaType(APPLICATION_SMILE_VALUE);
+  public static final MediaType APPLICATION_PROTOBUF = MediaType.parseMediaType(APPLICATION_PROTOBUF_VALUE);
+
+  private BinaryMediaTypes() {
+  }
+}
@@ -3,6 +3,7 @@ package com.challenge.shared.interfaces.rest;
 import java.time.LocalDateTime;
 import java.util.stream.Collectors;
 
+import org.springframework.http.MediaType;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
@@ -19,7 +20,9 @@ import jakarta.servlet.http.HttpServletRequest;
 /**
  * Global Exception Handler
  * @summary
- * This class is responsible for handling exceptions across the entire application.
+ * This class is responsible for handling exceptions across the entire application. Error bodies are always JSON,
+ * whatever the {@code Accept} header: the Protocol Buffers schema has no error message, and negotiating one would turn
+ * every error of a binary client into a 500.
  * @author Gonzalo Qu3dena
  * @version 1.0.0
  * @since 1.0.0
@@ -42,7 +45,7 @@ public class GlobalExceptionHandler {
         request.getRequestURI()
     );
     
-    return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
+    return ResponseEntity.status(HttpStatus.NOT_FOUND).contentType(MediaType.APPLICATION_JSON).body(error);
   }
 
   /**
@@ -60,7 +63,7 @@ public class GlobalExceptionHandler {
         request.getRequestURI()
     );
     
-    return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
+    return ResponseEntity.status(HttpStatus.CONFLICT).contentType(MediaType.APPLICATION_JSON).body(error);
   }
 
   /**
@@ -78,7 +81,7 @@ public class GlobalExceptionHandler {
         request.getRequestURI()
     );
     
-    return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+    return ResponseEntity.status(HttpStatus.BAD_REQUEST).contentType(MediaType.APPLICATION_JSON).body(error);
   }
 
   /**
@@ -103,7 +106,7 @@ public class GlobalExceptionHandler {
         request.getRequestURI()
     );
     
-    return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+    return ResponseEntity.status(HttpStatus.BAD_REQUEST).contentType(MediaType.APPLICATION_JSON).body(error);
   }
 
   /**
@@ -121,7 +124,7 @@ public class GlobalExceptionHandler {
         request.getRequestURI()
     );
     
-    return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+    return ResponseEntity.status(HttpStatus.BAD_REQUEST).contentType(MediaType.APPLICATION_JSON).body(error);
   }
 
   /**
@@ -139,6 +142,6 @@ public class GlobalExceptionHandler {
         request.getRequestURI()
     );
     
-    return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(error);
+    return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).contentType(MediaType.APPLICATION_JSON).body(error);
   }
 }
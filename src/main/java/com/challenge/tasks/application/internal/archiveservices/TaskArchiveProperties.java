@@ -0,0 +1,25 @@
+package com.challenge.tasks.application.internal.archiveservices;
+
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties of the task archiver
+ * @param enabled Whether DONE tasks are moved to the archive in the background, off by default
+ * @param minAge How long a DONE task must stay unmodified before it is archived
+ * @param batchSize How many tasks are moved per transaction
+ * @param interval The delay between two archiving runs
+ * @author Gonzalo Qu3dena
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@ConfigurationProperties(prefix = "tasks.archive")
+public record TaskArchiveProperties(
+  @DefaultValue("false") boolean enabled,
+  @DefaultValue("30d") Duration minAge,
+  @DefaultValue("500") int batchSize,
+  @DefaultValue("1m") Duration interval
+) {
+}
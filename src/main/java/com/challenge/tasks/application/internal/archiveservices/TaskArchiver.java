@@ -0,0 +1,137 @@
+package com.challenge.tasks.application.internal.archiveservices;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+
+import com.challenge.tasks.application.internal.indexservices.TaskTitleSuggester;
+import com.challenge.tasks.domain.model.aggregates.Task;
+import com.challenge.tasks.domain.model.entities.ArchivedTask;
+import com.challenge.tasks.domain.model.entities.TaskTombstone;
+import com.challenge.tasks.domain.model.valueobjects.TaskStatus;
+import com.challenge.tasks.domain.model.entities.ArchivedTaskCounter;
+import com.challenge.tasks.infrastructure.persistence.jpa.repositories.TaskRepository;
+import com.challenge.tasks.infrastructure.persistence.jpa.repositories.ArchivedTaskRepository;
+import com.challenge.tasks.infrastructure.persistence.jpa.repositories.ArchivedTaskCounterRepository;
+import com.challenge.tasks.infrastructure.persistence.jpa.repositories.TaskTombstoneRepository;
+
+import java.util.List;
+import java.time.LocalDateTime;
+import java.util.stream.Collectors;
+
+/**
+ * Background archiver of DONE tasks
+ * @summary
+ * Moves DONE tasks that have not been modified for {@code tasks.archive.min-age} from the tasks table to the archive,
+ * one batch per transaction, and updates the archived counters in that same transaction. Keeping finished work out
+ * of the tasks table keeps the filters, the search scan and the statistics working on the active set only.
+ * <p>
+ * Archiving is a storage concern, not a domain change: no domain events are raised for the moved tasks. They do leave
+ * the default task list, so a tombstone is written for each of them for delta sync clients, and they are pruned from
+ * the title suggestions once their batch has committed.
+ * </p>
+ * <p>
+ * Archiving is off unless {@code tasks.archive.enabled} is {@code true}: reads, updates and deletes by ID only look at
+ * the tasks table, so an archived task answers 404 there.
+ * </p>
+ * @author Gonzalo Qu3dena
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Component
+@EnableConfigurationProperties(TaskArchiveProperties.class)
+@ConditionalOnProperty(prefix = "tasks.archive", name = "enabled", havingValue = "true")
+public class TaskArchiver {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(TaskArchiver.class);
+
+  private final TaskRepository taskRepository;
+  private final ArchivedTaskRepository archivedTaskRepository;
+  private final ArchivedTaskCounterRepository counterRepository;
+  private final TaskTombstoneRepository tombstoneRepository;
+  private final TransactionTemplate transactionTemplate;
+  private final TaskArchiveProperties properties;
+  private final TaskTitleSuggester titleSuggester;
+
+  /**
+   * Constructor of the archiver
+   * @param taskRepository The repository of active tasks
+   * @param archivedTaskRepository The repository of archived tasks
+   * @param counterRepository The repository of archived counters
+   * @param tombstoneRepository The repository of removed task markers
+   * @param transactionTemplate The template used to run each batch in its own transaction
+   * @param properties The archiver configuration
+   * @param titleSuggester The title index archived tasks are pruned from
+   */
+  public TaskArchiver(TaskRepository taskRepository, ArchivedTaskRepository archivedTaskRepository,
+      ArchivedTaskCounterRepository counterRepository, TaskTombstoneRepository tombstoneRepository,
+      TransactionTemplate transactionTemplate, TaskArchiveProperties properties, TaskTitleSuggester titleSuggester) {
+    this.taskRepository = taskRepository;
+    this.archivedTaskRepository = archivedTaskRepository;
+    this.counterRepository = counterRepository;
+    this.tombstoneRepository = tombstoneRepository;
+    this.transactionTemplate = transactionTemplate;
+    this.properties = properties;
+    this.titleSuggester = titleSuggester;
+  }
+
+  /**
+   * Archive every eligible task, batch by batch
+   * @return The number of archived tasks
+   */
+  @Scheduled(fixedDelayString = "${tasks.archive.interval:1m}", initialDelayString = "${tasks.archive.interval:1m}")
+  public long archive() {
+    var cutoff = LocalDateTime.now().minus(properties.minAge());
+    long archived = 0;
+    int moved;
+    do {
+      var ids = transactionTemplate.execute(status -> archiveBatch(cutoff));
+      titleSuggester.prune(ids);
+      moved = ids.size();
+      archived += moved;
+    } while (moved == properties.batchSize());
+
+    if (archived > 0) {
+      LOGGER.info("Archived {} DONE tasks last updated before {}", archived, cutoff);
+    }
+    return archived;
+  }
+
+  /**
+   * Move one batch of eligible tasks to the archive
+   * @param cutoff The instant tasks must have been last updated before
+   * @return The IDs of the moved tasks
+   */
+  private List<Long> archiveBatch(LocalDateTime cutoff) {
+    var tasks = taskRepository.findByStatusAndUpdatedAtBefore(TaskStatus.DONE, cutoff,
+        Limit.of(properties.batchSize()));
+    if (tasks.isEmpty()) {
+      return List.of();
+    }
+
+    var now = LocalDateTime.now();
+    archivedTaskRepository.saveAll(tasks.stream().map(task -> new ArchivedTask(task, now)).toList());
+
+    tasks.stream()
+        .collect(Collectors.groupingBy(task -> new ArchivedTaskCounter.Key(task.getTenantId(), task.getPriority()),
+            Collectors.counting()))
+        .forEach((key, count) -> {
+          var counter = counterRepository.findById(key)
+              .orElseGet(() -> new ArchivedTaskCounter(key.getTenantId(), key.getPriority()));
+          counter.add(count);
+          counterRepository.save(counter);
+        });
+
+    tombstoneRepository.saveAll(tasks.stream()
+        .map(task -> new TaskTombstone(task.getId(), task.getTenantId(), now))
+        .toList());
+    var ids = tasks.stream().map(Task::getId).toList();
+    taskRepository.deleteAllByIdInBatch(ids);
+    return ids;
+  }
+}
@@ -4,6 +4,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.challenge.tasks.domain.model.aggregates.Task;
+import com.challenge.tasks.domain.model.entities.TaskTombstone;
 import com.challenge.tasks.domain.services.TaskCommandService;
 import com.challenge.tasks.domain.model.valueobjects.TaskStatus;
 import com.challenge.tasks.domain.model.valueobjects.TaskPriority;
@@ -11,12 +12,16 @@ import com.challenge.tasks.domain.model.commands.CreateTaskCommand;
 import com.challenge.tasks.domain.model.commands.UpdateTaskCommand;
 import com.challenge.tasks.domain.model.commands.DeleteTaskCommand;
 import com.challenge.tasks.domain.exceptions.TaskNotFoundException;
+import com.challenge.tasks.domain.exceptions.InvalidTenantException;
 import com.challenge.tasks.domain.model.commands.UpdateTaskStatusCommand;
 import com.challenge.tasks.domain.exceptions.OverdueTaskCompletionException;
 import com.challenge.tasks.domain.exceptions.HighPriorityWithoutDueDateException;
 import com.challenge.tasks.infrastructure.persistence.jpa.repositories.TaskRepository;
+import com.challenge.tasks.infrastructure.persistence.jpa.repositories.TaskTombstoneRepository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.regex.Pattern;
 
 /**
  * Implementation of the Task Command Service
@@ -25,26 +30,34 @@ import java.time.LocalDate;
 @Transactional
 public class TaskCommandServiceImpl implements TaskCommandService {
 
+  private static final Pattern TENANT_ID = Pattern.compile("[A-Za-z0-9._-]{1,64}");
+
   private final TaskRepository taskRepository;
+  private final TaskTombstoneRepository tombstoneRepository;
 
   /**
    * Constructor of the service
    * @param taskRepository The repository to use
+   * @param tombstoneRepository The repository of removed task markers
    */
-  public TaskCommandServiceImpl(TaskRepository taskRepository) {
+  public TaskCommandServiceImpl(TaskRepository taskRepository, TaskTombstoneRepository tombstoneRepository) {
     this.taskRepository = taskRepository;
+    this.tombstoneRepository = tombstoneRepository;
   }
 
   // {@inheritDoc}
   @Override
   public Task handle(CreateTaskCommand command) {
+    validateTenant(command.tenantId());
     validateHighPriorityDueDate(command.priority(), command.dueDate());
     
     var task = new Task(
+        command.tenantId(),
         command.title(),
         command.description(),
         command.priority(),
-        command.dueDate()
+        command.dueDate(),
+        command.tags()
     );
     
     if (command.status() != null && !TaskStatus.TODO.equals(command.status())) {
@@ -57,8 +70,7 @@ public class TaskCommandServiceImpl implements TaskCommandService {
   // {@inheritDoc}
   @Override
   public void handle(UpdateTaskCommand command) {
-    var task = taskRepository.findById(command.taskId())
-        .orElseThrow(() -> new TaskNotFoundException(command.taskId()));
+    var task = findTask(command.tenantId(), command.taskId());
     
     validateHighPriorityDueDate(command.priority(), command.dueDate());
     
@@ -71,7 +83,8 @@ public class TaskCommandServiceImpl implements TaskCommandService {
         command.description(),
         command.priority(),
         command.dueDate(),
-        command.status()
+        command.status(),
+        command.tags() != null ? command.tags() : task.getTags()
     );
     
     taskRepository.save(task);
@@ -80,8 +93,7 @@ public class TaskCommandServiceImpl implements TaskCommandService {
   // {@inheritDoc}
   @Override
   public void handle(UpdateTaskStatusCommand command) {
-    var task = taskRepository.findById(command.taskId())
-        .orElseThrow(() -> new TaskNotFoundException(command.taskId()));
+    var task = findTask(command.tenantId(), command.taskId());
     
     if (TaskStatus.DONE.equals(command.newStatus()) && task.isOverdue()) {
       throw new OverdueTaskCompletionException(command.taskId());
@@ -95,11 +107,37 @@ public class TaskCommandServiceImpl implements TaskCommandService {
   // {@inheritDoc}
   @Override
   public void handle(DeleteTaskCommand command) {
-    if (!taskRepository.existsById(command.taskId())) {
-      throw new TaskNotFoundException(command.taskId());
-    }
+    var task = findTask(command.tenantId(), command.taskId());
+    
+    task.delete();
     
-    taskRepository.deleteById(command.taskId());
+    taskRepository.delete(task);
+    tombstoneRepository.save(new TaskTombstone(task.getId(), task.getTenantId(), LocalDateTime.now()));
+  }
+
+  /**
+   * Find a task of the given tenant
+   * <p>
+   * Tasks of other tenants are reported as not found, so that a tenant cannot tell them from missing ones.
+   * </p>
+   * @param tenantId The tenant issuing the command
+   * @param taskId The ID of the task
+   * @return The task
+   */
+  private Task findTask(String tenantId, Long taskId) {
+    return taskRepository.findById(taskId)
+        .filter(task -> task.belongsTo(tenantId))
+        .orElseThrow(() -> new TaskNotFoundException(taskId));
+  }
+
+  /**
+   * Validates the tenant of a new task
+   * @param tenantId The tenant ID
+   */
+  private void validateTenant(String tenantId) {
+    if (tenantId == null || !TENANT_ID.matcher(tenantId).matches()) {
+      throw new InvalidTenantException(tenantId);
+    }
   }
 
   /**
@@ -0,0 +1,383 @@
+package com.challenge.tasks.application.internal.indexservices;
+
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.challenge.tasks.domain.model.aggregates.Task;
+import com.challenge.tasks.domain.model.events.TaskCreatedEvent;
+import com.challenge.tasks.domain.model.events.TaskDeletedEvent;
+import com.challenge.tasks.domain.model.events.TaskUpdatedEvent;
+import com.challenge.tasks.domain.model.events.TaskStatusChangedEvent;
+import com.challenge.tasks.domain.model.valueobjects.TaskStatus;
+import com.challenge.tasks.domain.model.valueobjects.TaskPriority;
+import com.challenge.tasks.domain.model.valueobjects.TagExpression;
+import com.challenge.tasks.infrastructure.persistence.support.TaskIndexEntry;
+import com.challenge.tasks.infrastructure.persistence.jpa.repositories.TaskRepository;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.List;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.time.LocalDateTime;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory bitmap index of the active tasks
+ * @summary
+ * Keeps, for every tenant, a compressed bitmap of task IDs per tag, per status and per priority, plus one of all its
+ * tasks. A {@link TagExpression} is answered with bitmap operations only: {@code AND} narrows the candidates of its
+ * right operand to the result of its left one, {@code OR} is a union and {@code NOT} an and-not against the
+ * candidates, so {@code a AND NOT b} costs a single and-not. Only the resulting IDs are loaded from the repository.
+ * <p>
+ * The index is built at startup from a stream of {@link TaskIndexEntry} projections, so that no task entity is
+ * loaded. It is started as a lifecycle bean rather than a {@code SmartInitializingSingleton}: those run in bean
+ * registration order, which puts this scanned component before the snapshot restore, the event log recovery and the
+ * seeder, whereas lifecycle beans start once all of them are done; its phase starts it before the web server.
+ * </p>
+ * <p>
+ * Once built, it follows the task domain events after their transaction commits, so it never reflects a rolled back
+ * command. Every event carries the full state of its task and is applied as an upsert, skipping states older than the
+ * indexed one; events published while the index is being built are applied once it has read the repository.
+ * Archiving raises no event: callers report the IDs that no longer resolve with {@link #prune(Collection)}.
+ * </p>
+ * @author Gonzalo Qu3dena
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Component
+public class TaskTagIndex implements SmartLifecycle {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(TaskTagIndex.class);
+
+  // Before the web server, which Spring Boot starts in a phase close to Integer.MAX_VALUE
+  private static final int PHASE = 0;
+
+  private final TaskRepository taskRepository;
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+  // Guarded by lock
+  private final Map<String, TenantBitmaps> tenants = new HashMap<>();
+  private final Map<Long, Entry> entries = new HashMap<>();
+  private volatile boolean built;
+
+  // Guarded by itself: changes published while the index is being built, applied once it is
+  private final List<Runnable> deferredChanges = new ArrayList<>();
+  private boolean building;
+
+  /**
+   * Constructor of the index
+   * @param taskRepository The repository the index is built from when started
+   */
+  public TaskTagIndex(TaskRepository taskRepository) {
+    this.taskRepository = taskRepository;
+  }
+
+  /**
+   * Find the IDs of a tenant's active tasks matching the filters
+   * @param tenantId The tenant
+   * @param status The status to filter by, {@code null} for any
+   * @param priority The priority to filter by, {@code null} for any
+   * @param expression The tag filter
+   * @return The matching IDs in ascending order
+   */
+  public long[] find(String tenantId, TaskStatus status, TaskPriority priority, TagExpression expression) {
+    lock.readLock().lock();
+    try {
+      var bitmaps = tenants.get(tenantId);
+      if (bitmaps == null) {
+        return new long[0];
+      }
+
+      var candidates = bitmaps.all;
+      if (status != null) {
+        candidates = bitmaps.byStatus.get(status);
+      }
+      if (priority != null) {
+        candidates = Roaring64Bitmap.and(candidates, bitmaps.byPriority.get(priority));
+      }
+      return evaluate(expression, candidates, bitmaps).toArray();
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * Number of indexed tasks
+   * @return The task count
+   */
+  public int size() {
+    lock.readLock().lock();
+    try {
+      return entries.size();
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * Build the index from the repository, then apply the changes published meanwhile
+   * <p>
+   * The write lock is held until the index is complete, so a lookup racing the build waits for it instead of seeing
+   * part of the tasks. Starting an index that is already built does nothing.
+   * </p>
+   */
+  @Override
+  @Transactional(readOnly = true)
+  public void start() {
+    lock.writeLock().lock();
+    try {
+      if (built) {
+        return;
+      }
+
+      var started = System.nanoTime();
+      synchronized (deferredChanges) {
+        building = true;
+      }
+      try (var stored = taskRepository.streamIndexEntries()) {
+        stored.forEach(this::index);
+        synchronized (deferredChanges) {
+          deferredChanges.forEach(Runnable::run);
+          tenants.values().forEach(TenantBitmaps::runOptimize);
+          built = true;
+        }
+        LOGGER.info("Indexed the tags of {} tasks in {} ms", entries.size(), (System.nanoTime() - started) / 1_000_000);
+      } finally {
+        synchronized (deferredChanges) {
+          deferredChanges.clear();
+          building = false;
+        }
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  // {@inheritDoc}
+  @Override
+  public void stop() {
+    // Nothing to release: the index keeps following the task events until the context is closed
+  }
+
+  // {@inheritDoc}
+  @Override
+  public boolean isRunning() {
+    return built;
+  }
+
+  // {@inheritDoc}
+  @Override
+  public int getPhase() {
+    return PHASE;
+  }
+
+  /**
+   * Remove tasks that left the task store without a domain event, such as archived ones
+   * @param ids The IDs of the removed tasks
+   */
+  public void prune(Collection<Long> ids) {
+    if (ids.isEmpty() || deferred(() -> ids.forEach(this::unindex))) {
+      return;
+    }
+
+    lock.writeLock().lock();
+    try {
+      ids.forEach(this::unindex);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void on(TaskCreatedEvent event) {
+    apply(event.task());
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void on(TaskUpdatedEvent event) {
+    apply(event.task());
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void on(TaskStatusChangedEvent event) {
+    apply(event.task());
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void on(TaskDeletedEvent event) {
+    var id = event.task().getId();
+    if (id == null || deferred(() -> unindex(id))) {
+      return;
+    }
+
+    lock.writeLock().lock();
+    try {
+      unindex(id);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Index the current state of a task, unless a newer state is already indexed
+   * @param task The task
+   */
+  private void apply(Task task) {
+    if (task.getId() == null) {
+      return;
+    }
+
+    var entry = TaskIndexEntry.of(task);
+    if (deferred(() -> reindex(entry))) {
+      return;
+    }
+
+    lock.writeLock().lock();
+    try {
+      reindex(entry);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Hold back a change until the index is built
+   * <p>
+   * Changes published before the build starts are dropped, the build reads them from the repository. Those published
+   * while it runs may have committed after it read their task, so they are applied once the read is done.
+   * </p>
+   * @param change The change, applied under the write lock
+   * @return Whether the change must not be applied now
+   */
+  private boolean deferred(Runnable change) {
+    if (built) {
+      return false;
+    }
+
+    synchronized (deferredChanges) {
+      if (built) {
+        return false;
+      }
+      if (building) {
+        deferredChanges.add(change);
+      }
+      return true;
+    }
+  }
+
+  private void reindex(TaskIndexEntry task) {
+    var previous = entries.get(task.id());
+    if (previous != null && previous.updatedAt() != null && task.updatedAt() != null
+        && task.updatedAt().isBefore(previous.updatedAt())) {
+      return;
+    }
+    index(task);
+  }
+
+  /**
+   * Evaluate an expression within a set of candidates
+   * @param expression The expression
+   * @param candidates The tasks the result is restricted to; never modified
+   * @param bitmaps The bitmaps of the tenant
+   * @return The candidates satisfying the expression
+   */
+  private static Roaring64Bitmap evaluate(TagExpression expression, Roaring64Bitmap candidates,
+      TenantBitmaps bitmaps) {
+    if (expression instanceof TagExpression.Tag tag) {
+      var tagged = bitmaps.byTag.get(tag.name());
+      return tagged != null ? Roaring64Bitmap.and(candidates, tagged) : new Roaring64Bitmap();
+    }
+    if (expression instanceof TagExpression.And and) {
+      var left = evaluate(and.left(), candidates, bitmaps);
+      return left.isEmpty() ? left : evaluate(and.right(), left, bitmaps);
+    }
+    if (expression instanceof TagExpression.Or or) {
+      var union = evaluate(or.left(), candidates, bitmaps);
+      union.or(evaluate(or.right(), candidates, bitmaps));
+      return union;
+    }
+    var not = (TagExpression.Not) expression;
+    return Roaring64Bitmap.andNot(candidates, evaluate(not.operand(), candidates, bitmaps));
+  }
+
+  private void index(TaskIndexEntry task) {
+    unindex(task.id());
+
+    var entry = new Entry(task.tenantId(), task.status(), task.priority(), task.tags(), task.updatedAt());
+    var bitmaps = tenants.computeIfAbsent(entry.tenantId(), tenantId -> new TenantBitmaps());
+    long id = task.id();
+    bitmaps.all.addLong(id);
+    bitmaps.byStatus.get(entry.status()).addLong(id);
+    bitmaps.byPriority.get(entry.priority()).addLong(id);
+    entry.tags().forEach(tag -> bitmaps.byTag.computeIfAbsent(tag, key -> new Roaring64Bitmap()).addLong(id));
+    entries.put(id, entry);
+  }
+
+  private void unindex(Long id) {
+    var entry = entries.remove(id);
+    if (entry == null) {
+      return;
+    }
+
+    var bitmaps = tenants.get(entry.tenantId());
+    bitmaps.all.removeLong(id);
+    bitmaps.byStatus.get(entry.status()).removeLong(id);
+    bitmaps.byPriority.get(entry.priority()).removeLong(id);
+    for (var tag : entry.tags()) {
+      var tagged = bitmaps.byTag.get(tag);
+      tagged.removeLong(id);
+      if (tagged.isEmpty()) {
+        bitmaps.byTag.remove(tag);
+      }
+    }
+  }
+
+  /**
+   * What a task is indexed under, so that its bits can be cleared when it changes
+   * @param tenantId The tenant of the task
+   * @param status The status of the task
+   * @param priority The priority of the task
+   * @param tags The tags of the task
+   * @param updatedAt The version of the task
+   */
+  private record Entry(String tenantId, TaskStatus status, TaskPriority priority, Set<String> tags,
+      LocalDateTime updatedAt) {
+  }
+
+  /**
+   * Bitmaps of one tenant
+   */
+  private static final class TenantBitmaps {
+
+    private final Roaring64Bitmap all = new Roaring64Bitmap();
+    private final Map<TaskStatus, Roaring64Bitmap> byStatus = new EnumMap<>(TaskStatus.class);
+    private final Map<TaskPriority, Roaring64Bitmap> byPriority = new EnumMap<>(TaskPriority.class);
+    private final Map<String, Roaring64Bitmap> byTag = new HashMap<>();
+
+    private TenantBitmaps() {
+      for (var status : TaskStatus.values()) {
+        byStatus.put(status, new Roaring64Bitmap());
+      }
+      for (var priority : TaskPriority.values()) {
+        byPriority.put(priority, new Roaring64Bitmap());
+      }
+    }
+
+    private void runOptimize() {
+      all.runOptimize();
+      byStatus.values().forEach(Roaring64Bitmap::runOptimize);
+      byPriority.values().forEach(Roaring64Bitmap::runOptimize);
+      byTag.values().forEach(Roaring64Bitmap::runOptimize);
+    }
+  }
+}
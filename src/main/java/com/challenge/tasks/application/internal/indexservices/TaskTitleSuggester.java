@@ -0,0 +1,550 @@
+package com.challenge.tasks.application.internal.indexservices;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.challenge.tasks.domain.model.aggregates.Task;
+import com.challenge.tasks.domain.model.events.TaskCreatedEvent;
+import com.challenge.tasks.domain.model.events.TaskDeletedEvent;
+import com.challenge.tasks.domain.model.events.TaskUpdatedEvent;
+import com.challenge.tasks.domain.model.events.TaskStatusChangedEvent;
+import com.challenge.tasks.domain.model.valueobjects.TaskStatus;
+import com.challenge.tasks.domain.model.valueobjects.TaskSuggestion;
+import com.challenge.tasks.domain.model.queries.GetTaskSuggestionsQuery;
+import com.challenge.tasks.infrastructure.persistence.support.TaskIndexEntry;
+import com.challenge.tasks.infrastructure.persistence.jpa.repositories.TaskRepository;
+
+import java.util.Map;
+import java.util.List;
+import java.util.Locale;
+import java.util.HashMap;
+import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.regex.Pattern;
+import java.time.LocalDateTime;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory prefix index of the active task titles
+ * @summary
+ * Keeps, for every tenant, a compressed trie (radix tree) of the lower-cased titles in which every node holds the IDs
+ * of the {@value GetTaskSuggestionsQuery#MAX_LIMIT} best ranked tasks below it. A lookup walks the prefix and reads
+ * that array, so its cost depends on the length of the prefix only, never on the number of matching tasks. Ranking
+ * puts open tasks first, then the most recently updated, then the newest.
+ * <p>
+ * Memory is bounded per title: a radix tree has fewer than two nodes per distinct title, each with at most
+ * {@value GetTaskSuggestionsQuery#MAX_LIMIT} IDs. Adding a task offers it to the nodes on its path; removing one only
+ * recomputes, bottom-up, the nodes whose array held it, from their own tasks and their children's arrays.
+ * </p>
+ * <p>
+ * Like {@link TaskTagIndex}, the index is built at startup, after the startup loaders and before the web server,
+ * from a stream of {@link TaskIndexEntry} projections, and then follows the task domain events the command service
+ * publishes, after their transaction commits. Archiving raises no event: the archiver reports the archived IDs with
+ * {@link #prune(Collection)}.
+ * </p>
+ * @author Gonzalo Qu3dena
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Component
+public class TaskTitleSuggester implements SmartLifecycle {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(TaskTitleSuggester.class);
+
+  // Before the web server, which Spring Boot starts in a phase close to Integer.MAX_VALUE
+  private static final int PHASE = 0;
+  private static final int CAPACITY = GetTaskSuggestionsQuery.MAX_LIMIT;
+  private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+  private static final long[] NO_IDS = new long[0];
+  private static final char[] NO_KEYS = new char[0];
+  private static final Node[] NO_CHILDREN = new Node[0];
+
+  private final TaskRepository taskRepository;
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+  // Guarded by lock
+  private final Map<String, Node> roots = new HashMap<>();
+  private final Map<Long, Entry> entries = new HashMap<>();
+  private volatile boolean built;
+
+  // Guarded by itself: changes published while the index is being built, applied once it is
+  private final List<Runnable> deferredChanges = new ArrayList<>();
+  private boolean building;
+
+  /**
+   * Constructor of the index
+   * @param taskRepository The repository the index is built from when started
+   */
+  public TaskTitleSuggester(TaskRepository taskRepository) {
+    this.taskRepository = taskRepository;
+  }
+
+  /**
+   * Suggest the best ranked active tasks whose title starts with a prefix
+   * @param query The query with the tenant, the prefix and the limit
+   * @return The suggestions, best first
+   */
+  public List<TaskSuggestion> suggest(GetTaskSuggestionsQuery query) {
+    var key = WHITESPACE.matcher(query.prefix().stripLeading().toLowerCase(Locale.ROOT)).replaceAll(" ");
+    lock.readLock().lock();
+    try {
+      var root = roots.get(query.tenantId());
+      var node = root != null ? find(root, key) : null;
+      if (node == null) {
+        return List.of();
+      }
+
+      var count = Math.min(query.limit(), node.top.length);
+      var suggestions = new ArrayList<TaskSuggestion>(count);
+      for (int i = 0; i < count; i++) {
+        suggestions.add(new TaskSuggestion(node.top[i], entries.get(node.top[i]).title()));
+      }
+      return suggestions;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * Number of indexed tasks
+   * @return The task count
+   */
+  public int size() {
+    lock.readLock().lock();
+    try {
+      return entries.size();
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * Build the index from the repository, then apply the changes published meanwhile
+   * <p>
+   * The write lock is held until the index is complete, so a lookup racing the build waits for it instead of seeing
+   * part of the tasks. Starting an index that is already built does nothing.
+   * </p>
+   */
+  @Override
+  @Transactional(readOnly = true)
+  public void start() {
+    lock.writeLock().lock();
+    try {
+      if (built) {
+        return;
+      }
+
+      var started = System.nanoTime();
+      synchronized (deferredChanges) {
+        building = true;
+      }
+      try (var stored = taskRepository.streamIndexEntries()) {
+        stored.forEach(this::index);
+        synchronized (deferredChanges) {
+          deferredChanges.forEach(Runnable::run);
+          built = true;
+        }
+        LOGGER.info("Indexed the titles of {} tasks in {} ms", entries.size(),
+            (System.nanoTime() - started) / 1_000_000);
+      } finally {
+        synchronized (deferredChanges) {
+          deferredChanges.clear();
+          building = false;
+        }
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  // {@inheritDoc}
+  @Override
+  public void stop() {
+    // Nothing to release: the index keeps following the task events until the context is closed
+  }
+
+  // {@inheritDoc}
+  @Override
+  public boolean isRunning() {
+    return built;
+  }
+
+  // {@inheritDoc}
+  @Override
+  public int getPhase() {
+    return PHASE;
+  }
+
+  /**
+   * Remove tasks that left the task store without a domain event, such as archived ones
+   * @param ids The IDs of the removed tasks
+   */
+  public void prune(Collection<Long> ids) {
+    if (ids.isEmpty() || deferred(() -> ids.forEach(this::unindex))) {
+      return;
+    }
+
+    lock.writeLock().lock();
+    try {
+      ids.forEach(this::unindex);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void on(TaskCreatedEvent event) {
+    apply(event.task());
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void on(TaskUpdatedEvent event) {
+    apply(event.task());
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void on(TaskStatusChangedEvent event) {
+    apply(event.task());
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void on(TaskDeletedEvent event) {
+    var id = event.task().getId();
+    if (id == null || deferred(() -> unindex(id))) {
+      return;
+    }
+
+    lock.writeLock().lock();
+    try {
+      unindex(id);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Index the current state of a task, unless a newer state is already indexed
+   * @param task The task
+   */
+  private void apply(Task task) {
+    if (task.getId() == null) {
+      return;
+    }
+
+    var entry = TaskIndexEntry.of(task);
+    if (deferred(() -> reindex(entry))) {
+      return;
+    }
+
+    lock.writeLock().lock();
+    try {
+      reindex(entry);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Hold back a change until the index is built
+   * <p>
+   * Changes published before the build starts are dropped, the build reads them from the repository. Those published
+   * while it runs are kept and applied once it has read the repository, which may have happened before they
+   * committed; the {@code updatedAt} guard of {@link #reindex(TaskIndexEntry)} makes applying one it already read
+   * harmless.
+   * </p>
+   * @param change The change, applied under the write lock
+   * @return Whether the change must not be applied now
+   */
+  private boolean deferred(Runnable change) {
+    if (built) {
+      return false;
+    }
+
+    synchronized (deferredChanges) {
+      if (built) {
+        return false;
+      }
+      if (building) {
+        deferredChanges.add(change);
+      }
+      return true;
+    }
+  }
+
+  private void reindex(TaskIndexEntry task) {
+    var previous = entries.get(task.id());
+    if (previous != null && previous.updatedAt() != null && task.updatedAt() != null
+        && task.updatedAt().isBefore(previous.updatedAt())) {
+      return;
+    }
+    index(task);
+  }
+
+  private void index(TaskIndexEntry task) {
+    unindex(task.id());
+
+    long id = task.id();
+    var entry = new Entry(task.tenantId(), task.title(), task.status() != TaskStatus.DONE, task.updatedAt());
+    entries.put(id, entry);
+    insert(roots.computeIfAbsent(entry.tenantId(), tenantId -> new Node("")), key(entry.title()), id);
+  }
+
+  private void unindex(Long id) {
+    var entry = entries.get(id);
+    if (entry == null) {
+      return;
+    }
+
+    var root = roots.get(entry.tenantId());
+    remove(root, key(entry.title()), id);
+    if (root.ids.length == 0 && root.children.length == 0) {
+      roots.remove(entry.tenantId());
+    }
+    entries.remove(id);
+  }
+
+  /**
+   * Find the node holding the tasks whose key starts with a prefix
+   * @param root The root of the tenant
+   * @param prefix The normalized prefix
+   * @return The node, whose label may extend past the prefix, or {@code null} when no key starts with it
+   */
+  private static Node find(Node root, String prefix) {
+    var node = root;
+    int i = 0;
+    while (i < prefix.length()) {
+      int c = Arrays.binarySearch(node.keys, prefix.charAt(i));
+      if (c < 0) {
+        return null;
+      }
+      var child = node.children[c];
+      int common = commonPrefix(child.label, prefix, i);
+      if (common < child.label.length() && i + common < prefix.length()) {
+        return null;
+      }
+      node = child;
+      i += common;
+    }
+    return node;
+  }
+
+  /**
+   * Add a task under its key, splitting edges as needed, and offer it to every node on the path
+   */
+  private void insert(Node root, String key, long id) {
+    var path = new ArrayList<Node>();
+    path.add(root);
+    var node = root;
+    int i = 0;
+    while (i < key.length()) {
+      int c = Arrays.binarySearch(node.keys, key.charAt(i));
+      if (c < 0) {
+        var leaf = new Node(key.substring(i));
+        node.addChild(-c - 1, leaf);
+        node = leaf;
+        path.add(node);
+        break;
+      }
+
+      var child = node.children[c];
+      int common = commonPrefix(child.label, key, i);
+      if (common < child.label.length()) {
+        var middle = new Node(child.label.substring(0, common));
+        child.label = child.label.substring(common);
+        middle.addChild(0, child);
+        middle.top = child.top;
+        node.children[c] = middle;
+        child = middle;
+      }
+      node = child;
+      path.add(node);
+      i += common;
+    }
+
+    node.ids = Arrays.copyOf(node.ids, node.ids.length + 1);
+    node.ids[node.ids.length - 1] = id;
+    for (var visited : path) {
+      visited.top = offer(visited.top, id);
+    }
+  }
+
+  /**
+   * Remove a task from under its key, dropping and merging the nodes it leaves useless, and recompute bottom-up the
+   * arrays that held it
+   */
+  private void remove(Node root, String key, long id) {
+    var path = new ArrayList<Node>();
+    path.add(root);
+    var node = root;
+    int i = 0;
+    while (i < key.length()) {
+      node = node.children[Arrays.binarySearch(node.keys, key.charAt(i))];
+      path.add(node);
+      i += node.label.length();
+    }
+    node.ids = without(node.ids, id);
+
+    for (int k = path.size() - 1; k >= 0; k--) {
+      node = path.get(k);
+      if (k > 0 && node.ids.length == 0 && node.children.length <= 1) {
+        var parent = path.get(k - 1);
+        int c = Arrays.binarySearch(parent.keys, node.label.charAt(0));
+        if (node.children.length == 0) {
+          parent.removeChild(c);
+        } else {
+          var child = node.children[0];
+          child.label = node.label + child.label;
+          parent.children[c] = child;
+        }
+      } else if (contains(node.top, id)) {
+        node.top = best(node);
+      }
+    }
+  }
+
+  /**
+   * Rank the tasks of a node and the arrays of its children
+   * @param node The node
+   * @return The best ranked IDs
+   */
+  private long[] best(Node node) {
+    var top = NO_IDS;
+    for (var id : node.ids) {
+      top = offer(top, id);
+    }
+    for (var child : node.children) {
+      for (var id : child.top) {
+        top = offer(top, id);
+      }
+    }
+    return top;
+  }
+
+  /**
+   * Insert an ID into a ranked array if it makes the cut
+   * @param top The ranked IDs; never modified
+   * @param id The ID
+   * @return The ranked IDs with the ID, or {@code top} itself when it does not make the cut
+   */
+  private long[] offer(long[] top, long id) {
+    int position = top.length;
+    while (position > 0 && ranksBefore(id, top[position - 1])) {
+      position--;
+    }
+    if (position >= CAPACITY) {
+      return top;
+    }
+
+    var ranked = new long[Math.min(top.length + 1, CAPACITY)];
+    System.arraycopy(top, 0, ranked, 0, position);
+    ranked[position] = id;
+    System.arraycopy(top, position, ranked, position + 1, ranked.length - position - 1);
+    return ranked;
+  }
+
+  /**
+   * Ranking of suggestions: open tasks first, then the most recently updated, then the newest
+   */
+  private boolean ranksBefore(long id, long other) {
+    var entry = entries.get(id);
+    var otherEntry = entries.get(other);
+    if (entry.open() != otherEntry.open()) {
+      return entry.open();
+    }
+    if (entry.updatedAt() != null && otherEntry.updatedAt() != null
+        && !entry.updatedAt().equals(otherEntry.updatedAt())) {
+      return entry.updatedAt().isAfter(otherEntry.updatedAt());
+    }
+    return id > other;
+  }
+
+  private static String key(String title) {
+    return WHITESPACE.matcher(title.strip().toLowerCase(Locale.ROOT)).replaceAll(" ");
+  }
+
+  private static int commonPrefix(String label, String key, int from) {
+    int length = Math.min(label.length(), key.length() - from);
+    int i = 0;
+    while (i < length && label.charAt(i) == key.charAt(from + i)) {
+      i++;
+    }
+    return i;
+  }
+
+  private static boolean contains(long[] ids, long id) {
+    for (var candidate : ids) {
+      if (candidate == id) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static long[] without(long[] ids, long id) {
+    for (int i = 0; i < ids.length; i++) {
+      if (ids[i] == id) {
+        var remaining = new long[ids.length - 1];
+        System.arraycopy(ids, 0, remaining, 0, i);
+        System.arraycopy(ids, i + 1, remaining, i, remaining.length - i);
+        return remaining.length == 0 ? NO_IDS : remaining;
+      }
+    }
+    return ids;
+  }
+
+  /**
+   * What a task is indexed under and ranked by
+   * @param tenantId The tenant of the task
+   * @param title The title of the task
+   * @param open Whether the task is not done
+   * @param updatedAt The version of the task
+   */
+  private record Entry(String tenantId, String title, boolean open, LocalDateTime updatedAt) {
+  }
+
+  /**
+   * Node of the radix tree; children are kept sorted by the first character of their label
+   */
+  private static final class Node {
+
+    private String label;
+    private char[] keys = NO_KEYS;
+    private Node[] children = NO_CHILDREN;
+    private long[] ids = NO_IDS;
+    private long[] top = NO_IDS;
+
+    private Node(String label) {
+      this.label = label;
+    }
+
+    private void addChild(int index, Node child) {
+      var grownKeys = new char[keys.length + 1];
+      var grownChildren = new Node[children.length + 1];
+      System.arraycopy(keys, 0, grownKeys, 0, index);
+      System.arraycopy(children, 0, grownChildren, 0, index);
+      grownKeys[index] = child.label.charAt(0);
+      grownChildren[index] = child;
+      System.arraycopy(keys, index, grownKeys, index + 1, keys.length - index);
+      System.arraycopy(children, index, grownChildren, index + 1, children.length - index);
+      keys = grownKeys;
+      children = grownChildren;
+    }
+
+    private void removeChild(int index) {
+      var shrunkKeys = new char[keys.length - 1];
+      var shrunkChildren = new Node[children.length - 1];
+      System.arraycopy(keys, 0, shrunkKeys, 0, index);
+      System.arraycopy(children, 0, shrunkChildren, 0, index);
+      System.arraycopy(keys, index + 1, shrunkKeys, index, keys.length - index - 1);
+      System.arraycopy(children, index + 1, shrunkChildren, index, children.length - index - 1);
+      keys = shrunkKeys.length == 0 ? NO_KEYS : shrunkKeys;
+      children = shrunkChildren.length == 0 ? NO_CHILDREN : shrunkChildren;
+    }
+  }
+}
@@ -0,0 +1,59 @@
+package com.challenge.tasks.application.internal.instrumentation;
+
+import jdk.jfr.Name;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Enabled;
+import jdk.jfr.Category;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Description;
+
+/**
+ * Flight recorder event of a task command or query handler invocation
+ * @summary
+ * Disabled unless the recording settings enable it, as the bundled {@code jfr/tasks.jfc} profile does.
+ * @author Gonzalo Qu3dena
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Name("com.challenge.tasks.Handler")
+@Label("Task Handler")
+@Category({"Tasks Crud", "Handlers"})
+@Description("Invocation of a task command or query handler")
+@Enabled(false)
+@StackTrace(false)
+public class TaskHandlerEvent extends Event {
+
+  @Label("Kind")
+  @Description("command or query")
+  String kind;
+
+  @Label("Type")
+  @Description("Simple name of the command or query class")
+  String type;
+
+  @Label("Task ID")
+  @Description("ID of the targeted or created task, 0 when the invocation does not target a single task")
+  long taskId;
+
+  @Label("Status Filter")
+  String status;
+
+  @Label("Priority Filter")
+  String priority;
+
+  @Label("Search Filter")
+  String search;
+
+  @Label("Shape")
+  @Description("Filters set on a task list query joined by +, none or n/a")
+  String shape;
+
+  @Label("Rows")
+  @Description("Number of tasks returned, -1 when the result is not a set of tasks")
+  int rows;
+
+  @Label("Outcome")
+  @Description("ok, not-found, business-rule-violation, validation-error or error")
+  String outcome;
+}
@@ -0,0 +1,145 @@
+package com.challenge.tasks.application.internal.instrumentation;
+
+import com.challenge.shared.domain.exceptions.ValidationException;
+import com.challenge.shared.domain.exceptions.BusinessRuleException;
+import com.challenge.shared.domain.exceptions.ResourceNotFoundException;
+import com.challenge.tasks.domain.model.aggregates.Task;
+import com.challenge.tasks.domain.model.valueobjects.TaskDelta;
+import com.challenge.tasks.domain.model.queries.GetAllTasksQuery;
+import com.challenge.tasks.domain.model.queries.GetTaskByIdQuery;
+import com.challenge.tasks.domain.model.queries.GetTaskFacetsQuery;
+import com.challenge.tasks.domain.model.commands.DeleteTaskCommand;
+import com.challenge.tasks.domain.model.commands.UpdateTaskCommand;
+import com.challenge.tasks.domain.model.commands.UpdateTaskStatusCommand;
+
+import java.util.Optional;
+import java.util.Collection;
+import java.util.StringJoiner;
+
+/**
+ * Description of a task handler invocation shared by the instrumentation aspects
+ * @summary
+ * Classifies commands, queries, their results and failures the same way for the Micrometer metrics and the flight
+ * recorder events, so that both tell the same story.
+ * @author Gonzalo Qu3dena
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+final class TaskHandlerInvocations {
+
+  static final String NOT_APPLICABLE = "n/a";
+
+  private TaskHandlerInvocations() {
+  }
+
+  /**
+   * Filter shape of a query, so that latencies of index lookups and scans are not mixed up
+   * @param message The command or query
+   * @return The set filters joined by {@code +}, {@code none} or {@code n/a}
+   */
+  static String shape(Object message) {
+    var shape = new StringJoiner("+");
+    if (message instanceof GetAllTasksQuery query) {
+      addFilters(shape, query.status() != null, query.priority() != null, query.search(), false,
+          query.tags() != null);
+    } else if (message instanceof GetTaskFacetsQuery query) {
+      addFilters(shape, query.status() != null, query.priority() != null, query.search(),
+          query.dueFrom() != null || query.dueTo() != null, query.tags() != null);
+    } else {
+      return NOT_APPLICABLE;
+    }
+    return shape.length() > 0 ? shape.toString() : "none";
+  }
+
+  private static void addFilters(StringJoiner shape, boolean status, boolean priority, String search, boolean due,
+      boolean tags) {
+    if (status) {
+      shape.add("status");
+    }
+    if (priority) {
+      shape.add("priority");
+    }
+    if (search != null && !search.isBlank()) {
+      shape.add("q");
+    }
+    if (due) {
+      shape.add("due");
+    }
+    if (tags) {
+      shape.add("tags");
+    }
+  }
+
+  /**
+   * Number of tasks in a handler result
+   * @param result The result
+   * @return The number of tasks, -1 when the result is not a set of tasks
+   */
+  static int resultSize(Object result) {
+    if (result instanceof Collection<?> collection) {
+      return collection.size();
+    }
+    if (result instanceof Optional<?> optional) {
+      return optional.map(value -> value instanceof Task ? 1 : -1).orElse(0);
+    }
+    if (result instanceof TaskDelta delta) {
+      return delta.updated().size() + delta.deleted().size();
+    }
+    return -1;
+  }
+
+  /**
+   * ID of the task a command or query targets
+   * @param message The command or query
+   * @param result The result of the handler, which carries the ID of a created task
+   * @return The task ID, null when the invocation does not target a single task
+   */
+  static Long taskId(Object message, Object result) {
+    if (message instanceof GetTaskByIdQuery query) {
+      return query.taskId();
+    }
+    if (message instanceof UpdateTaskCommand command) {
+      return command.taskId();
+    }
+    if (message instanceof UpdateTaskStatusCommand command) {
+      return command.taskId();
+    }
+    if (message instanceof DeleteTaskCommand command) {
+      return command.taskId();
+    }
+    if (result instanceof Task task) {
+      return task.getId();
+    }
+    if (result instanceof Optional<?> optional && optional.orElse(null) instanceof Task task) {
+      return task.getId();
+    }
+    return null;
+  }
+
+  /**
+   * Outcome of a handler that returned normally
+   * @param result The result
+   * @return {@code not-found} for an empty lookup, {@code ok} otherwise
+   */
+  static String outcome(Object result) {
+    return result instanceof Optional<?> optional && optional.isEmpty() ? "not-found" : "ok";
+  }
+
+  /**
+   * Outcome of a handler that failed
+   * @param failure The exception thrown by the handler
+   * @return The outcome matching the HTTP status the failure maps to
+   */
+  static String outcome(Throwable failure) {
+    if (failure instanceof ResourceNotFoundException) {
+      return "not-found";
+    }
+    if (failure instanceof BusinessRuleException) {
+      return "business-rule-violation";
+    }
+    if (failure instanceof ValidationException) {
+      return "validation-error";
+    }
+    return "error";
+  }
+}
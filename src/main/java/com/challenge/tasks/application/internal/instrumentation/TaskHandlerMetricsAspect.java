@@ -0,0 +1,96 @@
+package com.challenge.tasks.application.internal.instrumentation;
+
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.DistributionSummary;
+
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import com.challenge.tasks.domain.model.queries.GetAllTasksQuery;
+
+/**
+ * Latency and result size metrics of the task command and query handlers
+ * @summary
+ * Every {@code handle(...)} call of the {@link com.challenge.tasks.domain.services.TaskCommandService} and
+ * {@link com.challenge.tasks.domain.services.TaskQueryService} is timed into {@code tasks.handler}, a timer with
+ * percentiles and a percentile histogram, tagged with:
+ * <ul>
+ *   <li>{@code kind}: {@code command} or {@code query};</li>
+ *   <li>{@code type}: the command or query class;</li>
+ *   <li>{@code shape}: for {@link GetAllTasksQuery} and {@code GetTaskFacetsQuery}, which of {@code status},
+ *   {@code priority}, {@code q}, {@code due} and {@code tags} were set ({@code none} when no filter was), {@code n/a}
+ *   for every other type;</li>
+ *   <li>{@code outcome}: {@code ok}, {@code not-found}, {@code business-rule-violation}, {@code validation-error} or
+ *   {@code error}. A lookup returning an empty result counts as {@code not-found}.</li>
+ * </ul>
+ * Queries also record the number of tasks they returned into the {@code tasks.handler.results} distribution.
+ * <p>
+ * The aspect wraps the transactional proxy, so the commit is part of the measured time.
+ * </p>
+ * @author Gonzalo Qu3dena
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class TaskHandlerMetricsAspect {
+
+  private final MeterRegistry meterRegistry;
+
+  /**
+   * Constructor of the aspect
+   * @param meterRegistry The registry of the handler metrics
+   */
+  public TaskHandlerMetricsAspect(MeterRegistry meterRegistry) {
+    this.meterRegistry = meterRegistry;
+  }
+
+  @Around("execution(* com.challenge.tasks.domain.services.TaskCommandService.handle(..))")
+  public Object timeCommand(ProceedingJoinPoint joinPoint) throws Throwable {
+    return time("command", joinPoint);
+  }
+
+  @Around("execution(* com.challenge.tasks.domain.services.TaskQueryService.handle(..))")
+  public Object timeQuery(ProceedingJoinPoint joinPoint) throws Throwable {
+    return time("query", joinPoint);
+  }
+
+  private Object time(String kind, ProceedingJoinPoint joinPoint) throws Throwable {
+    var message = joinPoint.getArgs()[0];
+    var tags = Tags.of("kind", kind, "type", message.getClass().getSimpleName(),
+        "shape", TaskHandlerInvocations.shape(message));
+    var sample = Timer.start(meterRegistry);
+    var outcome = "error";
+    try {
+      var result = joinPoint.proceed();
+      outcome = TaskHandlerInvocations.outcome(result);
+      var size = TaskHandlerInvocations.resultSize(result);
+      if (size >= 0) {
+        DistributionSummary.builder("tasks.handler.results")
+            .description("Number of tasks returned by a query handler")
+            .tags(tags)
+            .publishPercentiles(0.5, 0.95, 0.99)
+            .register(meterRegistry)
+            .record(size);
+      }
+      return result;
+    } catch (Throwable e) {
+      outcome = TaskHandlerInvocations.outcome(e);
+      throw e;
+    } finally {
+      sample.stop(Timer.builder("tasks.handler")
+          .description("Latency of the task command and query handlers")
+          .tags(tags.and("outcome", outcome))
+          .publishPercentiles(0.5, 0.95, 0.99)
+          .publishPercentileHistogram()
+          .register(meterRegistry));
+    }
+  }
+}
@@ -0,0 +1,78 @@
+package com.challenge.tasks.application.internal.instrumentation;
+
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import com.challenge.tasks.domain.model.queries.GetAllTasksQuery;
+
+/**
+ * Flight recorder events of the task command and query handlers
+ * @summary
+ * Every {@code handle(...)} call of the {@link com.challenge.tasks.domain.services.TaskCommandService} and
+ * {@link com.challenge.tasks.domain.services.TaskQueryService} is recorded as a {@link TaskHandlerEvent} carrying the
+ * message type, the targeted task, the list filters, the number of returned tasks and the outcome. While the event is
+ * disabled the aspect only performs the enabled check, which the JIT compiles down to a field read.
+ * <p>
+ * The aspect runs inside {@link TaskHandlerMetricsAspect} and outside the transactional proxy, so the event duration
+ * includes the commit, which {@code com.challenge.TransactionCompletion} events break down.
+ * </p>
+ * @author Gonzalo Qu3dena
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 11)
+public class TaskHandlerRecordingAspect {
+
+  @Around("execution(* com.challenge.tasks.domain.services.TaskCommandService.handle(..))")
+  public Object recordCommand(ProceedingJoinPoint joinPoint) throws Throwable {
+    return record("command", joinPoint);
+  }
+
+  @Around("execution(* com.challenge.tasks.domain.services.TaskQueryService.handle(..))")
+  public Object recordQuery(ProceedingJoinPoint joinPoint) throws Throwable {
+    return record("query", joinPoint);
+  }
+
+  private Object record(String kind, ProceedingJoinPoint joinPoint) throws Throwable {
+    var event = new TaskHandlerEvent();
+    if (!event.isEnabled()) {
+      return joinPoint.proceed();
+    }
+
+    event.begin();
+    Object result = null;
+    var outcome = "error";
+    try {
+      result = joinPoint.proceed();
+      outcome = TaskHandlerInvocations.outcome(result);
+      return result;
+    } catch (Throwable e) {
+      outcome = TaskHandlerInvocations.outcome(e);
+      throw e;
+    } finally {
+      event.end();
+      if (event.shouldCommit()) {
+        var message = joinPoint.getArgs()[0];
+        var taskId = TaskHandlerInvocations.taskId(message, result);
+        event.kind = kind;
+        event.type = message.getClass().getSimpleName();
+        event.taskId = taskId != null ? taskId : 0;
+        event.shape = TaskHandlerInvocations.shape(message);
+        if (message instanceof GetAllTasksQuery query) {
+          event.status = query.status() != null ? query.status().name() : null;
+          event.priority = query.priority() != null ? query.priority().name() : null;
+          event.search = query.search();
+        }
+        event.rows = TaskHandlerInvocations.resultSize(result);
+        event.outcome = outcome;
+        event.commit();
+      }
+    }
+  }
+}
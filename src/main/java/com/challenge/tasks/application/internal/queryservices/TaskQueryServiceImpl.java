@@ -1,20 +1,45 @@
 package com.challenge.tasks.application.internal.queryservices;
 
 import org.springframework.stereotype.Service;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.challenge.tasks.domain.model.aggregates.Task;
 import com.challenge.tasks.domain.services.TaskQueryService;
 import com.challenge.tasks.domain.model.valueobjects.TaskStatus;
+import com.challenge.tasks.domain.model.valueobjects.TaskPriority;
+import com.challenge.tasks.domain.model.entities.ArchivedTask;
 import com.challenge.tasks.domain.model.queries.GetAllTasksQuery;
+import com.challenge.tasks.domain.model.queries.GetTaskDeltaQuery;
 import com.challenge.tasks.domain.model.queries.GetTaskByIdQuery;
 import com.challenge.tasks.domain.model.queries.GetTaskStatsQuery;
+import com.challenge.tasks.domain.model.queries.GetTaskFacetsQuery;
+import com.challenge.tasks.domain.model.queries.GetTaskSuggestionsQuery;
+import com.challenge.tasks.domain.model.valueobjects.TaskDelta;
+import com.challenge.tasks.domain.model.valueobjects.TaskFacets;
 import com.challenge.tasks.domain.model.valueobjects.TaskStatistics;
+import com.challenge.tasks.domain.model.valueobjects.TaskSuggestion;
+import com.challenge.tasks.application.internal.syncservices.TaskSyncProperties;
+import com.challenge.tasks.application.internal.indexservices.TaskTagIndex;
+import com.challenge.tasks.application.internal.indexservices.TaskTitleSuggester;
+import com.challenge.tasks.infrastructure.persistence.support.TaskCounts;
+import com.challenge.tasks.infrastructure.persistence.support.TaskCounter;
+import com.challenge.tasks.infrastructure.persistence.support.TaskFacetCounter;
 import com.challenge.tasks.infrastructure.persistence.jpa.repositories.TaskRepository;
+import com.challenge.tasks.infrastructure.persistence.jpa.repositories.ArchivedTaskRepository;
+import com.challenge.tasks.infrastructure.persistence.jpa.repositories.TaskTombstoneRepository;
+import com.challenge.tasks.infrastructure.persistence.jpa.repositories.ArchivedTaskCounterRepository;
 
 import java.util.List;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.EnumMap;
 import java.util.Optional;
+import java.util.ArrayList;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.Comparator;
 import java.util.stream.Collectors;
 
@@ -25,91 +50,249 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class TaskQueryServiceImpl implements TaskQueryService {
 
+  private static final int HYDRATION_BATCH_SIZE = 1_000;
+
   private final TaskRepository taskRepository;
+  private final ArchivedTaskRepository archivedTaskRepository;
+  private final ArchivedTaskCounterRepository archivedTaskCounterRepository;
+  private final TaskTombstoneRepository tombstoneRepository;
+  private final TaskSyncProperties syncProperties;
+  private final ObjectProvider<TaskCounter> taskCounter;
+  private final TaskTagIndex tagIndex;
+  private final TaskFacetCounter facetCounter;
+  private final TaskTitleSuggester titleSuggester;
 
   /**
    * Constructor of the service
    * @param taskRepository The repository to use
+   * @param archivedTaskRepository The repository of archived tasks
+   * @param archivedTaskCounterRepository The repository of archived task counters
+   * @param tombstoneRepository The repository of removed task markers
+   * @param syncProperties The delta sync configuration
+   * @param taskCounter The aggregate counting of the storage engine, when it provides one
+   * @param tagIndex The bitmap index serving tag filters
+   * @param facetCounter The facet counting of the storage engine
+   * @param titleSuggester The prefix index serving title suggestions
    */
-  public TaskQueryServiceImpl(TaskRepository taskRepository) {
+  public TaskQueryServiceImpl(TaskRepository taskRepository, ArchivedTaskRepository archivedTaskRepository,
+      ArchivedTaskCounterRepository archivedTaskCounterRepository, TaskTombstoneRepository tombstoneRepository,
+      TaskSyncProperties syncProperties, ObjectProvider<TaskCounter> taskCounter, TaskTagIndex tagIndex,
+      TaskFacetCounter facetCounter, TaskTitleSuggester titleSuggester) {
     this.taskRepository = taskRepository;
+    this.archivedTaskRepository = archivedTaskRepository;
+    this.archivedTaskCounterRepository = archivedTaskCounterRepository;
+    this.tombstoneRepository = tombstoneRepository;
+    this.syncProperties = syncProperties;
+    this.taskCounter = taskCounter;
+    this.tagIndex = tagIndex;
+    this.facetCounter = facetCounter;
+    this.titleSuggester = titleSuggester;
   }
 
   // {@inheritDoc}
   @Override
   public List<Task> handle(GetAllTasksQuery query) {
+    var tasks = query.tags() != null ? findTaggedTasks(query) : findActiveTasks(query);
+
+    // Only DONE tasks are archived, so any other status filter never matches the archive
+    if (!query.includeArchived() || (query.status() != null && !TaskStatus.DONE.equals(query.status()))) {
+      return tasks;
+    }
+
+    var search = query.search() != null && !query.search().trim().isEmpty() ? query.search().trim() : null;
+    var archived = archivedTaskRepository.findByFilters(query.tenantId(), query.priority(), search);
+    var combined = new ArrayList<Task>(tasks.size() + archived.size());
+    combined.addAll(tasks);
+    archived.stream()
+        .map(ArchivedTask::toTask)
+        .filter(task -> query.tags() == null || query.tags().matches(task.getTags()))
+        .forEach(combined::add);
+    return combined;
+  }
+
+  /**
+   * Find the active tasks matching the query filters
+   * @param query The query
+   * @return The matching active tasks
+   */
+  private List<Task> findActiveTasks(GetAllTasksQuery query) {
+    var tenantId = query.tenantId();
     var search = query.search();
     var status = query.status();
     var priority = query.priority();
 
     if (status != null && priority != null && search != null && !search.trim().isEmpty()) {
-      return taskRepository.findByStatusAndPriorityAndSearchTerm(status, priority, search.trim());
+      return taskRepository.findByTenantIdAndStatusAndPriorityAndSearchTerm(tenantId, status, priority, search.trim());
     } 
     else if (status != null && search != null && !search.trim().isEmpty()) {
-      return taskRepository.findByStatusAndSearchTerm(status, search.trim());
+      return taskRepository.findByTenantIdAndStatusAndSearchTerm(tenantId, status, search.trim());
     } 
     else if (priority != null && search != null && !search.trim().isEmpty()) {
-      return taskRepository.findByPriorityAndSearchTerm(priority, search.trim());
+      return taskRepository.findByTenantIdAndPriorityAndSearchTerm(tenantId, priority, search.trim());
     } 
     else if (status != null && priority != null) {
-      return taskRepository.findByStatusAndPriority(status, priority);
+      return taskRepository.findByTenantIdAndStatusAndPriority(tenantId, status, priority);
     } 
     else if (status != null) {
-      return taskRepository.findByStatus(status);
+      return taskRepository.findByTenantIdAndStatus(tenantId, status);
     } 
     else if (priority != null) {
-      return taskRepository.findByPriority(priority);
+      return taskRepository.findByTenantIdAndPriority(tenantId, priority);
     }     
     else if (search != null && !search.trim().isEmpty()) {
-      return taskRepository.findBySearchTerm(search.trim());
+      return taskRepository.findByTenantIdAndSearchTerm(tenantId, search.trim());
     } 
     else {
-      return taskRepository.findAll();
+      return taskRepository.findByTenantId(tenantId);
     }
   }
 
+  /**
+   * Find the active tasks matching the query filters and its tag expression
+   * <p>
+   * The tag index resolves the expression together with the status and priority filters, so only the matching tasks
+   * are loaded, by ID and in batches; the search term is then applied to them. Loaded tasks are checked against the
+   * filters again, so a change racing the query can drop a task from the result but never add a wrong one. IDs that
+   * no longer resolve belong to archived tasks and are pruned from the index.
+   * </p>
+   * @param query The query, with a tag expression
+   * @return The matching active tasks, ordered by ID
+   */
+  private List<Task> findTaggedTasks(GetAllTasksQuery query) {
+    var ids = tagIndex.find(query.tenantId(), query.status(), query.priority(), query.tags());
+    var search = query.search() != null && !query.search().trim().isEmpty()
+        ? query.search().trim().toLowerCase(Locale.ROOT) : null;
+
+    var tasks = new ArrayList<Task>(ids.length);
+    var missing = new ArrayList<Long>();
+    for (int from = 0; from < ids.length; from += HYDRATION_BATCH_SIZE) {
+      var batch = Arrays.stream(ids, from, Math.min(ids.length, from + HYDRATION_BATCH_SIZE)).boxed().toList();
+      var found = new HashSet<Long>(batch.size());
+      for (var task : taskRepository.findAllById(batch)) {
+        found.add(task.getId());
+        if (task.belongsTo(query.tenantId())
+            && (query.status() == null || query.status().equals(task.getStatus()))
+            && (query.priority() == null || query.priority().equals(task.getPriority()))
+            && query.tags().matches(task.getTags())
+            && (search == null || contains(task, search))) {
+          tasks.add(task);
+        }
+      }
+      batch.stream().filter(id -> !found.contains(id)).forEach(missing::add);
+    }
+
+    tagIndex.prune(missing);
+    tasks.sort(Comparator.comparing(Task::getId));
+    return tasks;
+  }
+
+  /**
+   * Case-insensitive substring match on title and description, mirroring the search queries of the repository
+   * @param task The task
+   * @param term The lower-case search term
+   * @return true if the title or the description contains the term, false otherwise
+   */
+  private static boolean contains(Task task, String term) {
+    return task.getTitle().toLowerCase(Locale.ROOT).contains(term)
+        || (task.getDescription() != null && task.getDescription().toLowerCase(Locale.ROOT).contains(term));
+  }
+
   // {@inheritDoc}
   @Override
   public Optional<Task> handle(GetTaskByIdQuery query) {
-    return taskRepository.findById(query.taskId());
+    return taskRepository.findById(query.taskId()).filter(task -> task.belongsTo(query.tenantId()));
   }
 
   // {@inheritDoc}
   @Override
-  public Optional<TaskStatistics> handle(GetTaskStatsQuery query) {
-    var allTasks = taskRepository.findAll();
+  public TaskDelta handle(GetTaskDeltaQuery query) {
+    // Taken before reading: a transaction that stamped updatedAt earlier but commits after the reads is picked up by
+    // the next sync as long as it commits within the grace period. Rows seen twice are harmless upserts.
+    var now = LocalDateTime.now();
+    var since = query.updatedSince();
+    var highWaterMark = now.minus(syncProperties.commitGrace());
+    if (highWaterMark.isBefore(since)) {
+      highWaterMark = since;
+    }
 
-    var total = allTasks.stream().count();
-    
-    var byStatus = allTasks.stream()
-        .collect(Collectors.groupingBy(
-            Task::getStatus, 
-            Collectors.counting()
-        ));
-    
-    var byPriority = allTasks.stream()
-        .collect(Collectors.groupingBy(
-            Task::getPriority, 
-            Collectors.counting()
-        ));
-    
-    var overdue = allTasks.stream()
-        .filter(Task::isOverdue)
-        .count();
-    
+    // Tombstones older than the retention may have been purged, so removals since then are unknown
+    if (since.isBefore(now.minus(syncProperties.tombstoneRetention()))) {
+      return new TaskDelta(taskRepository.findByTenantId(query.tenantId()), List.of(), highWaterMark, true);
+    }
+
+    var updated = taskRepository.findByTenantIdAndUpdatedAtGreaterThanEqual(query.tenantId(), since);
+    var deleted = tombstoneRepository.findTaskIdsRemovedSince(query.tenantId(), since);
+    return new TaskDelta(updated, deleted, highWaterMark, false);
+  }
+
+  // {@inheritDoc}
+  @Override
+  public Optional<TaskStatistics> handle(GetTaskStatsQuery query) {
     var today = LocalDate.now();
     var sevenDaysFromNow = today.plusDays(7);
-    
-    var next7Days = allTasks.stream()
-        .filter(task -> task.getDueDate() != null)
-        .filter(task -> !task.getDueDate().isBefore(today))
-        .filter(task -> !task.getDueDate().isAfter(sevenDaysFromNow))
+
+    var counts = countTasks(query.tenantId(), today);
+    var total = counts.total();
+    var byStatus = counts.byStatus();
+    var byPriority = counts.byPriority();
+    var overdue = counts.overdue();
+
+    var next7Days = taskRepository.findByTenantIdAndDueDateBetween(query.tenantId(), today, sevenDaysFromNow).stream()
         .filter(task -> !TaskStatus.DONE.equals(task.getStatus()))
         .sorted(Comparator.comparing(Task::getDueDate))
         .limit(5)
         .collect(Collectors.toList());
 
+    // Archived tasks are all DONE, neither overdue nor upcoming: only the counters change
+    var archivedByPriority = new EnumMap<TaskPriority, Long>(TaskPriority.class);
+    archivedTaskCounterRepository.findByTenantId(query.tenantId())
+        .forEach(counter -> archivedByPriority.put(counter.getPriority(), counter.getCount()));
+    var archivedTotal = archivedByPriority.values().stream().mapToLong(Long::longValue).sum();
+
+    if (archivedTotal > 0) {
+      total += archivedTotal;
+      byStatus.merge(TaskStatus.DONE, archivedTotal, Long::sum);
+      archivedByPriority.forEach((priority, count) -> byPriority.merge(priority, count, Long::sum));
+    }
+
     var statistics = new TaskStatistics(total, byStatus, byPriority, overdue, next7Days);
     return Optional.of(statistics);
   }
+
+  // {@inheritDoc}
+  @Override
+  public TaskFacets handle(GetTaskFacetsQuery query) {
+    return facetCounter.countFacets(query, LocalDate.now()).toFacets();
+  }
+
+  // {@inheritDoc}
+  // Answered from memory only, so no transaction or connection is taken on every keystroke
+  @Override
+  @Transactional(propagation = Propagation.SUPPORTS)
+  public List<TaskSuggestion> handle(GetTaskSuggestionsQuery query) {
+    return titleSuggester.suggest(query);
+  }
+
+  /**
+   * Count the active tasks of a tenant, pushing the counting down to the storage engine when it supports it
+   * @param tenantId The tenant owning the tasks
+   * @param today The date tasks due before are overdue
+   * @return The counters, with mutable maps
+   */
+  private TaskCounts countTasks(String tenantId, LocalDate today) {
+    var counter = taskCounter.getIfAvailable();
+    if (counter != null) {
+      return TaskCounts.empty().plus(counter.count(tenantId, today));
+    }
+
+    var allTasks = taskRepository.findByTenantId(tenantId);
+    var byStatus = allTasks.stream()
+        .collect(Collectors.groupingBy(Task::getStatus, () -> new EnumMap<>(TaskStatus.class), Collectors.counting()));
+    var byPriority = allTasks.stream()
+        .collect(Collectors.groupingBy(Task::getPriority, () -> new EnumMap<>(TaskPriority.class), Collectors.counting()));
+    var overdue = allTasks.stream()
+        .filter(Task::isOverdue)
+        .count();
+    return new TaskCounts(byStatus, byPriority, overdue);
+  }
 }
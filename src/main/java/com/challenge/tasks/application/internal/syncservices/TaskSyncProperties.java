@@ -0,0 +1,24 @@
+package com.challenge.tasks.application.internal.syncservices;
+
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties of task delta sync
+ * @param tombstoneRetention How long removals are remembered; older syncs get the full task list
+ * @param commitGrace How far the high-water mark trails the clock, covering transactions that commit after they
+ *     stamped {@code updatedAt}
+ * @param purgeInterval The delay between two purges of expired tombstones
+ * @author Gonzalo Qu3dena
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@ConfigurationProperties(prefix = "tasks.sync")
+public record TaskSyncProperties(
+  @DefaultValue("30d") Duration tombstoneRetention,
+  @DefaultValue("5s") Duration commitGrace,
+  @DefaultValue("1h") Duration purgeInterval
+) {
+}
@@ -0,0 +1,56 @@
+package com.challenge.tasks.application.internal.syncservices;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+
+import com.challenge.tasks.infrastructure.persistence.jpa.repositories.TaskTombstoneRepository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Background purger of expired task tombstones
+ * @summary
+ * Deletes the tombstones older than {@code tasks.sync.tombstone-retention}, so that the tombstone table grows with the
+ * recent removal rate rather than with every task ever deleted. Clients syncing from before the retention window are
+ * sent the full task list instead.
+ * @author Gonzalo Qu3dena
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Component
+@EnableConfigurationProperties(TaskSyncProperties.class)
+public class TaskTombstonePurger {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(TaskTombstonePurger.class);
+
+  private final TaskTombstoneRepository tombstoneRepository;
+  private final TaskSyncProperties properties;
+
+  /**
+   * Constructor of the purger
+   * @param tombstoneRepository The repository of tombstones
+   * @param properties The sync configuration
+   */
+  public TaskTombstonePurger(TaskTombstoneRepository tombstoneRepository, TaskSyncProperties properties) {
+    this.tombstoneRepository = tombstoneRepository;
+    this.properties = properties;
+  }
+
+  /**
+   * Delete the tombstones that left the retention window
+   * @return The number of deleted tombstones
+   */
+  @Transactional
+  @Scheduled(fixedDelayString = "${tasks.sync.purge-interval:1h}", initialDelayString = "${tasks.sync.purge-interval:1h}")
+  public int purge() {
+    var purged = tombstoneRepository.deleteByRemovedAtBefore(LocalDateTime.now().minus(properties.tombstoneRetention()));
+    if (purged > 0) {
+      LOGGER.info("Purged {} expired task tombstones", purged);
+    }
+    return purged;
+  }
+}
@@ -0,0 +1,20 @@
+package com.challenge.tasks.domain.exceptions;
+
+import com.challenge.shared.domain.exceptions.ValidationException;
+
+import java.time.LocalDate;
+
+/**
+ * Invalid Due Date Range Exception
+ * @summary
+ * This exception is thrown when a due date filter starts after it ends.
+ * @author Gonzalo Qu3dena
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class InvalidDueDateRangeException extends ValidationException {
+
+  public InvalidDueDateRangeException(LocalDate dueFrom, LocalDate dueTo) {
+    super("Invalid due date range: dueFrom (" + dueFrom + ") must not be after dueTo (" + dueTo + ").");
+  }
+}
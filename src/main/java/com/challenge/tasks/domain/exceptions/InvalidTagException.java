@@ -0,0 +1,26 @@
+package com.challenge.tasks.domain.exceptions;
+
+import com.challenge.tasks.domain.model.valueobjects.TaskTags;
+
+import com.challenge.shared.domain.exceptions.ValidationException;
+
+/**
+ * Invalid Tag Exception
+ * @summary
+ * This exception is thrown when a tag is not 1 to 32 letters, digits, '-' or '_' starting with a letter or digit,
+ * when it is one of the words reserved by tag expressions, or when a task is given too many tags.
+ * @author Gonzalo Qu3dena
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class InvalidTagException extends ValidationException {
+
+  public InvalidTagException(String tag) {
+    super("Invalid tag: '" + tag + "'. Use 1 to " + TaskTags.MAX_LENGTH
+        + " letters, digits, '-' or '_' starting with a letter or digit; AND, OR and NOT are reserved.");
+  }
+
+  public InvalidTagException(int count) {
+    super("A task can have at most " + TaskTags.MAX_TAGS + " tags, got " + count + ".");
+  }
+}
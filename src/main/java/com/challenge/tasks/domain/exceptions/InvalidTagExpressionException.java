@@ -0,0 +1,19 @@
+package com.challenge.tasks.domain.exceptions;
+
+import com.challenge.shared.domain.exceptions.ValidationException;
+
+/**
+ * Invalid Tag Expression Exception
+ * @summary
+ * This exception is thrown when a tag filter is not a well-formed boolean expression of tags combined with AND, OR,
+ * NOT and parentheses, or when it exceeds the maximum length or number of tags.
+ * @author Gonzalo Qu3dena
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class InvalidTagExpressionException extends ValidationException {
+
+  public InvalidTagExpressionException(String expression, String reason) {
+    super("Invalid tag expression '" + expression + "': " + reason + ".");
+  }
+}
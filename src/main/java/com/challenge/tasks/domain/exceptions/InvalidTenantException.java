@@ -0,0 +1,19 @@
+package com.challenge.tasks.domain.exceptions;
+
+import com.challenge.shared.domain.exceptions.ValidationException;
+
+/**
+ * Invalid Tenant Exception
+ * @summary
+ * This exception is thrown when a task is created for a tenant ID that is blank, longer than 64 characters or contains
+ * characters other than letters, digits, '-', '_' and '.'.
+ * @author Gonzalo Qu3dena
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class InvalidTenantException extends ValidationException {
+
+  public InvalidTenantException(String tenantId) {
+    super("Invalid tenant ID: '" + tenantId + "'. Use 1 to 64 letters, digits, '-', '_' or '.'.");
+  }
+}
@@ -1,13 +1,28 @@
 package com.challenge.tasks.domain.model.aggregates;
 
+import com.challenge.tasks.domain.model.valueobjects.TaskTags;
 import com.challenge.tasks.domain.model.valueobjects.TaskStatus;
 import com.challenge.tasks.domain.model.valueobjects.TaskPriority;
+import com.challenge.tasks.domain.model.events.TaskCreatedEvent;
+import com.challenge.tasks.domain.model.events.TaskDeletedEvent;
+import com.challenge.tasks.domain.model.events.TaskUpdatedEvent;
+import com.challenge.tasks.domain.model.events.TaskStatusChangedEvent;
 import com.challenge.shared.domain.model.aggregates.AuditableAbstractAggregateRoot;
+import com.challenge.tasks.infrastructure.persistence.jpa.converters.TaskTagsConverter;
 
 import lombok.Getter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import java.util.Collection;
+import java.util.SortedSet;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 
@@ -15,6 +30,7 @@ import jakarta.validation.constraints.Size;
 import jakarta.validation.constraints.NotNull;
 
 import jakarta.persistence.Entity;
+import jakarta.persistence.Cacheable;
 import jakarta.validation.constraints.NotBlank;
 
 /**
@@ -23,14 +39,43 @@ import jakarta.validation.constraints.NotBlank;
  * @summary
  * This aggregate root represents a task. A task is a unit of work that is assigned to a user 
  * to be completed with title, description, priority, due date and status.
+ * Every state change registers a domain event that is published when the task is saved or deleted.
+ * Tasks are kept in the Hibernate second-level cache, which Hibernate invalidates on every write it performs.
+ * The class is bytecode-enhanced at build time for inline dirty tracking, so updates only write the changed columns.
+ * Every task belongs to a tenant, which never changes; the indexes serving the request queries lead with the tenant
+ * so that each tenant's queries only touch that tenant's rows.
+ * Tags label the task for filtering; they are normalized by {@link TaskTags} and stored in a single column.
  * 
  * @author Gonzalo Qu3dena
  * @since 1.0.0
  */
 @Getter
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@DynamicUpdate
+@Table(indexes = {
+    @Index(columnList = "status, updatedAt"),
+    @Index(columnList = "tenantId, updatedAt"),
+    @Index(columnList = "tenantId, status, priority"),
+    @Index(columnList = "tenantId, priority"),
+    @Index(columnList = "tenantId, dueDate")
+})
 public class Task extends AuditableAbstractAggregateRoot<Task> {
 
+  /**
+   * The tenant of tasks created without one
+   */
+  public static final String DEFAULT_TENANT = "default";
+
+  /**
+   * The tenant owning the task
+   */
+  @NotBlank
+  @Size(max = 64)
+  @Column(nullable = false, length = 64, updatable = false)
+  private String tenantId;
+
   /**
    * The title of the task
    */
@@ -67,6 +112,13 @@ public class Task extends AuditableAbstractAggregateRoot<Task> {
    */
   private LocalDate dueDate;
 
+  /**
+   * The tags of the task, normalized and sorted
+   */
+  @Convert(converter = TaskTagsConverter.class)
+  @Column(length = TaskTags.MAX_TAGS * (TaskTags.MAX_LENGTH + 1))
+  private SortedSet<String> tags = TaskTags.of(null);
+
   /**
    * Default constructor for JPA
    */
@@ -75,18 +127,48 @@ public class Task extends AuditableAbstractAggregateRoot<Task> {
   }
 
   /**
-   * Constructor of the task
+   * Constructor of a task of the default tenant
    * @param title The title of the task
    * @param description The description of the task
    * @param priority The priority of the task
    * @param dueDate The due date of the task
    */
   public Task(String title, String description, TaskPriority priority, LocalDate dueDate) {
+    this(DEFAULT_TENANT, title, description, priority, dueDate);
+  }
+
+  /**
+   * Constructor of the task
+   * @param tenantId The tenant owning the task
+   * @param title The title of the task
+   * @param description The description of the task
+   * @param priority The priority of the task
+   * @param dueDate The due date of the task
+   */
+  public Task(String tenantId, String title, String description, TaskPriority priority, LocalDate dueDate) {
+    this(tenantId, title, description, priority, dueDate, null);
+  }
+
+  /**
+   * Constructor of a tagged task
+   * @param tenantId The tenant owning the task
+   * @param title The title of the task
+   * @param description The description of the task
+   * @param priority The priority of the task
+   * @param dueDate The due date of the task
+   * @param tags The tags of the task, may be {@code null}
+   * @throws com.challenge.tasks.domain.exceptions.InvalidTagException if a tag is invalid or there are too many
+   */
+  public Task(String tenantId, String title, String description, TaskPriority priority, LocalDate dueDate,
+      Collection<String> tags) {
+    this.tenantId = tenantId;
+    this.tags = TaskTags.of(tags);
     this.title = title;
     this.description = description;
     this.status = TaskStatus.TODO;
     this.priority = priority;
     this.dueDate = dueDate;
+    this.registerEvent(new TaskCreatedEvent(this));
   }
 
   /**
@@ -106,6 +188,59 @@ public class Task extends AuditableAbstractAggregateRoot<Task> {
     return new Task(title, description, priority, dueDate);
   }
 
+  /**
+   * Rehydrate a task of the default tenant from its persisted state
+   * <p>
+   * Used by storage engines that do not go through JPA to rebuild the aggregate with its identity and audit fields.
+   * </p>
+   * @param id The ID of the task
+   * @param title The title of the task
+   * @param description The description of the task
+   * @param status The status of the task
+   * @param priority The priority of the task
+   * @param dueDate The due date of the task
+   * @param createdAt The creation date of the task
+   * @param updatedAt The last update date of the task
+   * @return The rehydrated task
+   */
+  public static Task rehydrate(Long id, String title, String description, TaskStatus status, TaskPriority priority,
+      LocalDate dueDate, LocalDateTime createdAt, LocalDateTime updatedAt) {
+    return rehydrate(id, DEFAULT_TENANT, title, description, status, priority, dueDate, createdAt, updatedAt, null);
+  }
+
+  /**
+   * Rehydrate a task of the given tenant from its persisted state
+   * @param id The ID of the task
+   * @param tenantId The tenant owning the task
+   * @param title The title of the task
+   * @param description The description of the task
+   * @param status The status of the task
+   * @param priority The priority of the task
+   * @param dueDate The due date of the task
+   * @param createdAt The creation date of the task
+   * @param updatedAt The last update date of the task
+   * @param tags The tags of the task, may be {@code null}
+   * @return The rehydrated task
+   */
+  public static Task rehydrate(Long id, String tenantId, String title, String description, TaskStatus status,
+      TaskPriority priority, LocalDate dueDate, LocalDateTime createdAt, LocalDateTime updatedAt,
+      Collection<String> tags) {
+    var task = new Task(tenantId, title, description, priority, dueDate, tags);
+    task.status = status;
+    task.restoreAuditFields(id, createdAt, updatedAt);
+    task.clearDomainEvents();
+    return task;
+  }
+
+  /**
+   * Check if the task belongs to a tenant
+   * @param tenantId The tenant
+   * @return true if the tenant owns the task, false otherwise
+   */
+  public boolean belongsTo(String tenantId) {
+    return this.tenantId.equals(tenantId);
+  }
+
   /**
    * Mark the task as done
    * @return true if the task is marked as done, false otherwise
@@ -115,7 +250,7 @@ public class Task extends AuditableAbstractAggregateRoot<Task> {
       return false;
     }
 
-    this.status = TaskStatus.DONE;
+    this.updateStatus(TaskStatus.DONE);
     return true;
   }
 
@@ -123,7 +258,7 @@ public class Task extends AuditableAbstractAggregateRoot<Task> {
    * Mark the task as in progress
    */
   public void markAsInProgress() {
-    this.status = TaskStatus.IN_PROGRESS;
+    this.updateStatus(TaskStatus.IN_PROGRESS);
   }
 
   /**
@@ -150,11 +285,28 @@ public class Task extends AuditableAbstractAggregateRoot<Task> {
    * @param status The status of the task
    */
   public void update(String title, String description, TaskPriority priority, LocalDate dueDate, TaskStatus status) {
+    update(title, description, priority, dueDate, status, tags);
+  }
+
+  /**
+   * Update task fields and tags
+   * @param title The title of the task
+   * @param description The description of the task
+   * @param priority The priority of the task
+   * @param dueDate The due date of the task
+   * @param status The status of the task
+   * @param tags The tags of the task, may be {@code null} for none
+   * @throws com.challenge.tasks.domain.exceptions.InvalidTagException if a tag is invalid or there are too many
+   */
+  public void update(String title, String description, TaskPriority priority, LocalDate dueDate, TaskStatus status,
+      Collection<String> tags) {
+    this.tags = TaskTags.of(tags);
     this.title = title;
     this.description = description;
     this.priority = priority;
     this.dueDate = dueDate;
     this.status = status;
+    this.registerEvent(new TaskUpdatedEvent(this));
   }
 
   /**
@@ -162,6 +314,22 @@ public class Task extends AuditableAbstractAggregateRoot<Task> {
    * @param status The new status
    */
   public void updateStatus(TaskStatus status) {
+    if (status == this.status) {
+      return;
+    }
+
+    var previousStatus = this.status;
     this.status = status;
+    this.registerEvent(new TaskStatusChangedEvent(this, previousStatus));
+  }
+
+  /**
+   * Mark the task for deletion
+   * <p>
+   * Registers the deletion event; the task is removed when it is deleted through the repository.
+   * </p>
+   */
+  public void delete() {
+    this.registerEvent(new TaskDeletedEvent(this));
   }
 }
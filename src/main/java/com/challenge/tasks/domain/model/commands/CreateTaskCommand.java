@@ -1,26 +1,59 @@
 package com.challenge.tasks.domain.model.commands;
 
+import com.challenge.tasks.domain.model.aggregates.Task;
 import com.challenge.tasks.domain.model.valueobjects.TaskPriority;
 import com.challenge.tasks.domain.model.valueobjects.TaskStatus;
 
+import java.util.Set;
 import java.time.LocalDate;
 
 /**
  * Command to create a new task
+ * @param tenantId The tenant owning the task
  * @param title The title of the task
  * @param description The description of the task
  * @param priority The priority of the task
  * @param dueDate The due date of the task
  * @param status The initial status of the task (optional, defaults to TODO)
+ * @param tags The tags of the task (optional)
  * @author Gonzalo Qu3dena
  * @version 1.0.0
  * @since 1.0.0
  */
 public record CreateTaskCommand(
+  String tenantId,
   String title, 
   String description, 
   TaskPriority priority, 
   LocalDate dueDate,
-  TaskStatus status
+  TaskStatus status,
+  Set<String> tags
 ) {
+
+  /**
+   * Command to create an untagged task
+   * @param tenantId The tenant owning the task
+   * @param title The title of the task
+   * @param description The description of the task
+   * @param priority The priority of the task
+   * @param dueDate The due date of the task
+   * @param status The initial status of the task (optional, defaults to TODO)
+   */
+  public CreateTaskCommand(String tenantId, String title, String description, TaskPriority priority,
+      LocalDate dueDate, TaskStatus status) {
+    this(tenantId, title, description, priority, dueDate, status, null);
+  }
+
+  /**
+   * Command to create a task of the default tenant
+   * @param title The title of the task
+   * @param description The description of the task
+   * @param priority The priority of the task
+   * @param dueDate The due date of the task
+   * @param status The initial status of the task (optional, defaults to TODO)
+   */
+  public CreateTaskCommand(String title, String description, TaskPriority priority, LocalDate dueDate,
+      TaskStatus status) {
+    this(Task.DEFAULT_TENANT, title, description, priority, dueDate, status);
+  }
 }
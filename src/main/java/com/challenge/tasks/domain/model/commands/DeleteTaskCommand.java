@@ -1,11 +1,22 @@
 package com.challenge.tasks.domain.model.commands;
 
+import com.challenge.tasks.domain.model.aggregates.Task;
+
 /**
  * Command to delete a task by its ID
+ * @param tenantId The tenant issuing the command
  * @param taskId The ID of the task to delete
  * @author Gonzalo Qu3dena
  * @version 1.0.0
  * @since 1.0.0
  */
-public record DeleteTaskCommand(Long taskId) {
+public record DeleteTaskCommand(String tenantId, Long taskId) {
+
+  /**
+   * Command to delete a task of the default tenant
+   * @param taskId The ID of the task to delete
+   */
+  public DeleteTaskCommand(Long taskId) {
+    this(Task.DEFAULT_TENANT, taskId);
+  }
 }
@@ -1,28 +1,63 @@
 package com.challenge.tasks.domain.model.commands;
 
+import com.challenge.tasks.domain.model.aggregates.Task;
 import com.challenge.tasks.domain.model.valueobjects.TaskPriority;
 import com.challenge.tasks.domain.model.valueobjects.TaskStatus;
 
+import java.util.Set;
 import java.time.LocalDate;
 
 /**
  * Command to update a task by its ID
+ * @param tenantId The tenant issuing the command
  * @param taskId The ID of the task to update
  * @param title The title of the task
  * @param description The description of the task
  * @param priority The priority of the task
  * @param dueDate The due date of the task
  * @param status The status of the task
+ * @param tags The tags of the task, {@code null} to keep the current ones
  * @author Gonzalo Qu3dena
  * @version 1.0.0
  * @since 1.0.0
  */
 public record UpdateTaskCommand(
+  String tenantId,
   Long taskId,
   String title,
   String description,
   TaskPriority priority,
   LocalDate dueDate,
-  TaskStatus status
+  TaskStatus status,
+  Set<String> tags
 ) {
+
+  /**
+   * Command to update a task keeping its tags
+   * @param tenantId The tenant issuing the command
+   * @param taskId The ID of the task to update
+   * @param title The title of the task
+   * @param description The description of the task
+   * @param priority The priority of the task
+   * @param dueDate The due date of the task
+   * @param status The status of the task
+   */
+  public UpdateTaskCommand(String tenantId, Long taskId, String title, String description, TaskPriority priority,
+      LocalDate dueDate, TaskStatus status) {
+    this(tenantId, taskId, title, description, priority, dueDate, status, null);
+  }
+
+  /**
+   * Command to update a task of the default tenant
+   * @param taskId The ID of the task to update
+   * @param title The title of the task
+   * @param description The description of the task
+   * @param priority The priority of the task
+   * @param dueDate The due date of the task
+   * @param status The status of the task
+   */
+  public UpdateTaskCommand(Long taskId, String title, String description, TaskPriority priority, LocalDate dueDate,
+      TaskStatus status) {
+    this(Task.DEFAULT_TENANT, taskId, title, description, priority, dueDate, status);
+  }
 }
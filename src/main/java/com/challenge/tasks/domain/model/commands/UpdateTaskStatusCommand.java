@@ -1,9 +1,11 @@
 package com.challenge.tasks.domain.model.commands;
 
+import com.challenge.tasks.domain.model.aggregates.Task;
 import com.challenge.tasks.domain.model.valueobjects.TaskStatus;
 
 /**
  * Command to update the status of a task by its ID
+ * @param tenantId The tenant issuing the command
  * @param taskId The ID of the task to update
  * @param newStatus The new status of the task
  * @author Gonzalo Qu3dena
@@ -11,7 +13,17 @@ import com.challenge.tasks.domain.model.valueobjects.TaskStatus;
  * @since 1.0.0
  */
 public record UpdateTaskStatusCommand(
+  String tenantId,
   Long taskId,
   TaskStatus newStatus
 ) {
+
+  /**
+   * Command to update the status of a task of the default tenant
+   * @param taskId The ID of the task to update
+   * @param newStatus The new status of the task
+   */
+  public UpdateTaskStatusCommand(Long taskId, TaskStatus newStatus) {
+    this(Task.DEFAULT_TENANT, taskId, newStatus);
+  }
 }
@@ -0,0 +1,133 @@
+package com.challenge.tasks.domain.model.entities;
+
+import com.challenge.tasks.domain.model.aggregates.Task;
+import com.challenge.tasks.domain.model.valueobjects.TaskTags;
+import com.challenge.tasks.domain.model.valueobjects.TaskStatus;
+import com.challenge.tasks.domain.model.valueobjects.TaskPriority;
+import com.challenge.tasks.infrastructure.persistence.jpa.converters.TaskTagsConverter;
+
+import lombok.Getter;
+import org.springframework.data.domain.Persistable;
+import java.util.SortedSet;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.Index;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.Transient;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+
+/**
+ * Archived Task Entity
+ *
+ * @summary
+ * Cold copy of a DONE task that has been moved out of the tasks table by the archiver. It keeps the original ID and
+ * audit fields, and is only read when a query explicitly asks for archived tasks. Since the ID is assigned rather than
+ * generated, the entity tracks whether it is new itself so that archiving inserts without a preliminary select.
+ *
+ * @author Gonzalo Qu3dena
+ * @since 1.0.0
+ */
+@Getter
+@Entity
+@Table(name = "task_archive", indexes = @Index(columnList = "tenantId, priority"))
+public class ArchivedTask implements Persistable<Long> {
+
+  /**
+   * The ID the task had while it was active
+   */
+  @Id
+  private Long id;
+
+  @Column(nullable = false, length = 64)
+  private String tenantId;
+
+  @Column(nullable = false, length = 80)
+  private String title;
+
+  @Column(length = 250)
+  private String description;
+
+  @Enumerated(EnumType.STRING)
+  @Column(nullable = false)
+  private TaskStatus status;
+
+  @Enumerated(EnumType.STRING)
+  @Column(nullable = false)
+  private TaskPriority priority;
+
+  private LocalDate dueDate;
+
+  @Convert(converter = TaskTagsConverter.class)
+  @Column(length = TaskTags.MAX_TAGS * (TaskTags.MAX_LENGTH + 1))
+  private SortedSet<String> tags;
+
+  @Column(nullable = false)
+  private LocalDateTime createdAt;
+
+  @Column(nullable = false)
+  private LocalDateTime updatedAt;
+
+  /**
+   * When the task was archived
+   */
+  @Column(nullable = false)
+  private LocalDateTime archivedAt;
+
+  @Transient
+  private boolean isNew = true;
+
+  /**
+   * Default constructor for JPA
+   */
+  protected ArchivedTask() {
+    // JPA requires a no-args constructor
+  }
+
+  /**
+   * Archive a task
+   * @param task The task to archive
+   * @param archivedAt When the task is archived
+   */
+  public ArchivedTask(Task task, LocalDateTime archivedAt) {
+    this.id = task.getId();
+    this.tenantId = task.getTenantId();
+    this.title = task.getTitle();
+    this.description = task.getDescription();
+    this.status = task.getStatus();
+    this.priority = task.getPriority();
+    this.dueDate = task.getDueDate();
+    this.tags = task.getTags();
+    this.createdAt = task.getCreatedAt();
+    this.updatedAt = task.getUpdatedAt();
+    this.archivedAt = archivedAt;
+  }
+
+  // {@inheritDoc}
+  @Override
+  public boolean isNew() {
+    return isNew;
+  }
+
+  @PostLoad
+  @PostPersist
+  void markNotNew() {
+    this.isNew = false;
+  }
+
+  /**
+   * Rebuild the task this entry was archived from
+   * @return The task
+   */
+  public Task toTask() {
+    return Task.rehydrate(id, tenantId, title, description, status, priority, dueDate, createdAt, updatedAt,
+        tags);
+  }
+}
@@ -0,0 +1,81 @@
+package com.challenge.tasks.domain.model.entities;
+
+import com.challenge.tasks.domain.model.valueobjects.TaskPriority;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import java.io.Serializable;
+
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+
+/**
+ * Archived Task Counter Entity
+ *
+ * @summary
+ * Number of archived tasks per tenant and priority, maintained in the same transaction that archives them so that statistics
+ * never have to scan the archive. Only DONE tasks are archived, so the status dimension is implicit.
+ *
+ * @author Gonzalo Qu3dena
+ * @since 1.0.0
+ */
+@Getter
+@Entity
+@IdClass(ArchivedTaskCounter.Key.class)
+public class ArchivedTaskCounter {
+
+  @Id
+  @Column(length = 64)
+  private String tenantId;
+
+  @Id
+  @Enumerated(EnumType.STRING)
+  private TaskPriority priority;
+
+  @Column(nullable = false)
+  private long count;
+
+  /**
+   * Default constructor for JPA
+   */
+  protected ArchivedTaskCounter() {
+    // JPA requires a no-args constructor
+  }
+
+  /**
+   * Constructor of an empty counter
+   * @param tenantId The tenant counted
+   * @param priority The priority counted
+   */
+  public ArchivedTaskCounter(String tenantId, TaskPriority priority) {
+    this.tenantId = tenantId;
+    this.priority = priority;
+  }
+
+  /**
+   * Add archived tasks to the counter
+   * @param delta The number of tasks archived
+   */
+  public void add(long delta) {
+    this.count += delta;
+  }
+
+  /**
+   * Identifier of a counter
+   */
+  @Getter
+  @NoArgsConstructor
+  @AllArgsConstructor
+  @EqualsAndHashCode
+  public static class Key implements Serializable {
+
+    private String tenantId;
+    private TaskPriority priority;
+  }
+}
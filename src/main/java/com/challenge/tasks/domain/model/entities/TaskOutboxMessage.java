@@ -0,0 +1,109 @@
+package com.challenge.tasks.domain.model.entities;
+
+import lombok.Getter;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.Index;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+
+/**
+ * Task Outbox Message Entity
+ *
+ * @summary
+ * A task change waiting to be delivered to downstream systems. Messages are inserted in the transaction of the command
+ * that caused the change, so a change is notified if and only if it is committed, and removed once delivered. A
+ * message whose deliveries keep failing is retried with a growing delay and finally marked as failed.
+ *
+ * @author Gonzalo Qu3dena
+ * @since 1.0.0
+ */
+@Getter
+@Entity
+@Table(indexes = @Index(columnList = "nextAttemptAt"))
+public class TaskOutboxMessage {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  /**
+   * The ID of the changed task
+   */
+  @Column(nullable = false)
+  private Long taskId;
+
+  /**
+   * The type of the change
+   */
+  @Column(nullable = false, length = 20)
+  private String type;
+
+  /**
+   * The JSON representation of the change
+   */
+  @Column(nullable = false, length = 4000)
+  private String payload;
+
+  @Column(nullable = false)
+  private LocalDateTime createdAt;
+
+  /**
+   * When the message is due for its next delivery attempt
+   */
+  @Column(nullable = false)
+  private LocalDateTime nextAttemptAt;
+
+  @Column(nullable = false)
+  private int attempts;
+
+  /**
+   * When the message was given up on, null while it is pending
+   */
+  private LocalDateTime failedAt;
+
+  /**
+   * Default constructor for JPA
+   */
+  protected TaskOutboxMessage() {
+    // JPA requires a no-args constructor
+  }
+
+  /**
+   * Constructor of a pending message
+   * @param taskId The ID of the changed task
+   * @param type The type of the change
+   * @param payload The JSON representation of the change
+   * @param createdAt When the change happened
+   */
+  public TaskOutboxMessage(Long taskId, String type, String payload, LocalDateTime createdAt) {
+    this.taskId = taskId;
+    this.type = type;
+    this.payload = payload;
+    this.createdAt = createdAt;
+    this.nextAttemptAt = createdAt;
+  }
+
+  /**
+   * Record a failed delivery attempt
+   * @param now When the attempt failed
+   * @param initialBackoff The delay before the first retry, doubled on every further attempt
+   * @param maxBackoff The longest delay between two attempts
+   * @param maxAttempts The number of attempts after which the message is given up on
+   */
+  public void attemptFailed(LocalDateTime now, Duration initialBackoff, Duration maxBackoff, int maxAttempts) {
+    attempts++;
+    if (attempts >= maxAttempts) {
+      failedAt = now;
+      return;
+    }
+
+    var backoff = initialBackoff.multipliedBy(1L << Math.min(attempts - 1, 30));
+    nextAttemptAt = now.plus(backoff.compareTo(maxBackoff) > 0 ? maxBackoff : backoff);
+  }
+}
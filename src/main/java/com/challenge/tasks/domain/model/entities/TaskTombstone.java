@@ -0,0 +1,89 @@
+package com.challenge.tasks.domain.model.entities;
+
+import lombok.Getter;
+import org.springframework.data.domain.Persistable;
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.Index;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.Transient;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+
+/**
+ * Task Tombstone Entity
+ *
+ * @summary
+ * Marker left behind when a task leaves the active task list, either because it was deleted or because it was
+ * archived, so that delta sync clients learn about the removal. Tombstones are indexed by removal time and purged once
+ * they are older than the sync retention.
+ *
+ * @author Gonzalo Qu3dena
+ * @since 1.0.0
+ */
+@Getter
+@Entity
+@Table(indexes = {@Index(columnList = "removedAt"), @Index(columnList = "tenantId, removedAt")})
+public class TaskTombstone implements Persistable<Long> {
+
+  /**
+   * The ID of the removed task
+   */
+  @Id
+  private Long taskId;
+
+  /**
+   * The tenant of the removed task
+   */
+  @Column(nullable = false, length = 64)
+  private String tenantId;
+
+  /**
+   * When the task was removed
+   */
+  @Column(nullable = false)
+  private LocalDateTime removedAt;
+
+  @Transient
+  private boolean isNew = true;
+
+  /**
+   * Default constructor for JPA
+   */
+  protected TaskTombstone() {
+    // JPA requires a no-args constructor
+  }
+
+  /**
+   * Constructor of the tombstone
+   * @param taskId The ID of the removed task
+   * @param tenantId The tenant of the removed task
+   * @param removedAt When the task was removed
+   */
+  public TaskTombstone(Long taskId, String tenantId, LocalDateTime removedAt) {
+    this.taskId = taskId;
+    this.tenantId = tenantId;
+    this.removedAt = removedAt;
+  }
+
+  // {@inheritDoc}
+  @Override
+  public Long getId() {
+    return taskId;
+  }
+
+  // {@inheritDoc}
+  @Override
+  public boolean isNew() {
+    return isNew;
+  }
+
+  @PostLoad
+  @PostPersist
+  void markNotNew() {
+    this.isNew = false;
+  }
+}
@@ -0,0 +1,15 @@
+package com.challenge.tasks.domain.model.events;
+
+import com.challenge.tasks.domain.model.aggregates.Task;
+
+/**
+ * Event raised when a task is created
+ * @summary
+ * The event references the aggregate, so listeners observe the identity and audit fields assigned when it is persisted.
+ * @param task The created task
+ * @author Gonzalo Qu3dena
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public record TaskCreatedEvent(Task task) {
+}
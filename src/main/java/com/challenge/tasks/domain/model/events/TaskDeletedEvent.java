@@ -0,0 +1,13 @@
+package com.challenge.tasks.domain.model.events;
+
+import com.challenge.tasks.domain.model.aggregates.Task;
+
+/**
+ * Event raised when a task is deleted
+ * @param task The deleted task
+ * @author Gonzalo Qu3dena
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public record TaskDeletedEvent(Task task) {
+}
@@ -0,0 +1,15 @@
+package com.challenge.tasks.domain.model.events;
+
+import com.challenge.tasks.domain.model.aggregates.Task;
+import com.challenge.tasks.domain.model.valueobjects.TaskStatus;
+
+/**
+ * Event raised when the status of a task changes
+ * @param task The task whose status changed
+ * @param previousStatus The status before the change
+ * @author Gonzalo Qu3dena
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public record TaskStatusChangedEvent(Task task, TaskStatus previousStatus) {
+}
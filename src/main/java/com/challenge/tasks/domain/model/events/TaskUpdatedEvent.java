@@ -0,0 +1,13 @@
+package com.challenge.tasks.domain.model.events;
+
+import com.challenge.tasks.domain.model.aggregates.Task;
+
+/**
+ * Event raised when the fields of a task are updated
+ * @param task The updated task
+ * @author Gonzalo Qu3dena
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public record TaskUpdatedEvent(Task task) {
+}
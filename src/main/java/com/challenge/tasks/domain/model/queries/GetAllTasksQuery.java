@@ -1,20 +1,62 @@
 package com.challenge.tasks.domain.model.queries;
 
+import com.challenge.tasks.domain.model.aggregates.Task;
 import com.challenge.tasks.domain.model.valueobjects.TaskStatus;
+import com.challenge.tasks.domain.model.valueobjects.TagExpression;
 import com.challenge.tasks.domain.model.valueobjects.TaskPriority;
 
 /**
  * Query to get all tasks
+ * @param tenantId The tenant whose tasks are listed
  * @param status The status of the tasks
  * @param priority The priority of the tasks
  * @param search The search term
+ * @param includeArchived Whether archived tasks are included in the result
+ * @param tags The tag filter, {@code null} for none
  * @author Gonzalo Qu3dena
  * @version 1.0.0
  * @since 1.0.0
  */
 public record GetAllTasksQuery(
+  String tenantId,
   TaskStatus status,
   TaskPriority priority,
-  String search
+  String search,
+  boolean includeArchived,
+  TagExpression tags
 ) {
+
+  /**
+   * Query over the tasks of a tenant without a tag filter
+   * @param tenantId The tenant whose tasks are listed
+   * @param status The status of the tasks
+   * @param priority The priority of the tasks
+   * @param search The search term
+   * @param includeArchived Whether archived tasks are included in the result
+   */
+  public GetAllTasksQuery(String tenantId, TaskStatus status, TaskPriority priority, String search,
+      boolean includeArchived) {
+    this(tenantId, status, priority, search, includeArchived, null);
+  }
+
+  /**
+   * Query over the tasks of the default tenant
+   * @param status The status of the tasks
+   * @param priority The priority of the tasks
+   * @param search The search term
+   * @param includeArchived Whether archived tasks are included in the result
+   */
+  public GetAllTasksQuery(TaskStatus status, TaskPriority priority, String search, boolean includeArchived) {
+    this(Task.DEFAULT_TENANT, status, priority, search, includeArchived);
+  }
+
+  /**
+   * Query over the active tasks of the default tenant
+   * @param status The status of the tasks
+   * @param priority The priority of the tasks
+   * @param search The search term
+   */
+  public GetAllTasksQuery(TaskStatus status, TaskPriority priority, String search) {
+    this(status, priority, search, false);
+  }
 }
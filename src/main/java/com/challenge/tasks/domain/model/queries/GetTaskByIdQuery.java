@@ -1,8 +1,19 @@
 package com.challenge.tasks.domain.model.queries;
 
+import com.challenge.tasks.domain.model.aggregates.Task;
+
 /**
  * Query to get a task by its ID
+ * @param tenantId The tenant issuing the query
  * @param taskId The ID of the task
  */
-public record GetTaskByIdQuery(Long taskId) {
+public record GetTaskByIdQuery(String tenantId, Long taskId) {
+
+  /**
+   * Query for a task of the default tenant
+   * @param taskId The ID of the task
+   */
+  public GetTaskByIdQuery(Long taskId) {
+    this(Task.DEFAULT_TENANT, taskId);
+  }
 }
@@ -0,0 +1,23 @@
+package com.challenge.tasks.domain.model.queries;
+
+import com.challenge.tasks.domain.model.aggregates.Task;
+import java.time.LocalDateTime;
+
+/**
+ * Query to get the changes to the active task list since a previous sync
+ * @param tenantId The tenant issuing the query
+ * @param updatedSince The high-water mark returned by the previous sync
+ * @author Gonzalo Qu3dena
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public record GetTaskDeltaQuery(String tenantId, LocalDateTime updatedSince) {
+
+  /**
+   * Query for the changes to the tasks of the default tenant
+   * @param updatedSince The high-water mark returned by the previous sync
+   */
+  public GetTaskDeltaQuery(LocalDateTime updatedSince) {
+    this(Task.DEFAULT_TENANT, updatedSince);
+  }
+}
@@ -0,0 +1,51 @@
+package com.challenge.tasks.domain.model.queries;
+
+import com.challenge.tasks.domain.model.aggregates.Task;
+import com.challenge.tasks.domain.model.valueobjects.TaskStatus;
+import com.challenge.tasks.domain.model.valueobjects.TagExpression;
+import com.challenge.tasks.domain.model.valueobjects.TaskPriority;
+import com.challenge.tasks.domain.exceptions.InvalidDueDateRangeException;
+
+import java.time.LocalDate;
+
+/**
+ * Query to count the active tasks matching the filters of a task list
+ * @param tenantId The tenant whose tasks are counted
+ * @param status The status of the tasks, {@code null} for any
+ * @param priority The priority of the tasks, {@code null} for any
+ * @param search The search term, {@code null} for none
+ * @param dueFrom The first due date of the range (inclusive), {@code null} for no lower bound
+ * @param dueTo The last due date of the range (inclusive), {@code null} for no upper bound
+ * @param tags The tag filter, {@code null} for none
+ * @author Gonzalo Qu3dena
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public record GetTaskFacetsQuery(
+  String tenantId,
+  TaskStatus status,
+  TaskPriority priority,
+  String search,
+  LocalDate dueFrom,
+  LocalDate dueTo,
+  TagExpression tags
+) {
+
+  /**
+   * Constructor of the query
+   * @throws InvalidDueDateRangeException if the due date range starts after it ends
+   */
+  public GetTaskFacetsQuery {
+    if (dueFrom != null && dueTo != null && dueFrom.isAfter(dueTo)) {
+      throw new InvalidDueDateRangeException(dueFrom, dueTo);
+    }
+    search = search != null && !search.trim().isEmpty() ? search.trim() : null;
+  }
+
+  /**
+   * Query over every active task of the default tenant
+   */
+  public GetTaskFacetsQuery() {
+    this(Task.DEFAULT_TENANT, null, null, null, null, null, null);
+  }
+}
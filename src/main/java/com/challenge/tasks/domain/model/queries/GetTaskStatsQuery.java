@@ -1,8 +1,18 @@
 package com.challenge.tasks.domain.model.queries;
 
+import com.challenge.tasks.domain.model.aggregates.Task;
+
 /**
  * Query to get task statistics
+ * @param tenantId The tenant whose tasks are counted
  * @author Gonzalo Qu3dena
  */
-public record GetTaskStatsQuery() {
+public record GetTaskStatsQuery(String tenantId) {
+
+  /**
+   * Query for the statistics of the default tenant
+   */
+  public GetTaskStatsQuery() {
+    this(Task.DEFAULT_TENANT);
+  }
 }
@@ -0,0 +1,36 @@
+package com.challenge.tasks.domain.model.queries;
+
+import com.challenge.tasks.domain.model.aggregates.Task;
+
+/**
+ * Query to suggest active tasks whose title starts with a prefix
+ * @param tenantId The tenant whose tasks are suggested
+ * @param prefix The beginning of the title, case-insensitive; blank for the best ranked tasks
+ * @param limit The maximum number of suggestions, clamped to 1..{@value #MAX_LIMIT}
+ * @author Gonzalo Qu3dena
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public record GetTaskSuggestionsQuery(String tenantId, String prefix, int limit) {
+
+  /**
+   * Maximum number of suggestions a query returns
+   */
+  public static final int MAX_LIMIT = 10;
+
+  /**
+   * Constructor of the query
+   */
+  public GetTaskSuggestionsQuery {
+    prefix = prefix != null ? prefix : "";
+    limit = Math.max(1, Math.min(limit, MAX_LIMIT));
+  }
+
+  /**
+   * Query for the suggestions of the default tenant
+   * @param prefix The beginning of the title
+   */
+  public GetTaskSuggestionsQuery(String prefix) {
+    this(Task.DEFAULT_TENANT, prefix, MAX_LIMIT);
+  }
+}
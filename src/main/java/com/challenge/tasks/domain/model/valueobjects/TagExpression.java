@@ -0,0 +1,106 @@
+package com.challenge.tasks.domain.model.valueobjects;
+
+import java.util.Set;
+
+/**
+ * Tag expression
+ * @summary
+ * A boolean filter over the tags of a task, such as {@code backend AND urgent AND NOT blocked}. Tags are combined
+ * with {@code AND}, {@code OR} and {@code NOT} (in any case) and grouped with parentheses; {@code NOT} binds tighter
+ * than {@code AND}, which binds tighter than {@code OR}. Tags follow the rules of {@link TaskTags}.
+ * <p>
+ * Expressions are evaluated against a task's tags with {@link #matches(Set)}, or translated to set operations by
+ * whoever holds an index of the tags.
+ * </p>
+ * @author Gonzalo Qu3dena
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public sealed interface TagExpression permits TagExpression.Tag, TagExpression.And, TagExpression.Or,
+    TagExpression.Not {
+
+  /**
+   * Maximum length of the text of an expression
+   */
+  int MAX_LENGTH = 512;
+
+  /**
+   * Maximum number of tags in an expression
+   */
+  int MAX_TAGS = 32;
+
+  /**
+   * Check if a set of tags satisfies the expression
+   * @param tags The tags of a task
+   * @return true if the tags satisfy the expression, false otherwise
+   */
+  boolean matches(Set<String> tags);
+
+  /**
+   * Parse an expression
+   * @param expression The text of the expression
+   * @return The parsed expression, {@code null} if the text is {@code null} or blank
+   * @throws com.challenge.tasks.domain.exceptions.InvalidTagExpressionException if the expression is malformed
+   * @throws com.challenge.tasks.domain.exceptions.InvalidTagException if a tag is invalid
+   */
+  static TagExpression parse(String expression) {
+    if (expression == null || expression.isBlank()) {
+      return null;
+    }
+    return TagExpressionParser.parse(expression);
+  }
+
+  /**
+   * Tasks having a tag
+   * @param name The normalized tag
+   */
+  record Tag(String name) implements TagExpression {
+
+    // {@inheritDoc}
+    @Override
+    public boolean matches(Set<String> tags) {
+      return tags.contains(name);
+    }
+  }
+
+  /**
+   * Tasks satisfying both operands
+   * @param left The left operand
+   * @param right The right operand
+   */
+  record And(TagExpression left, TagExpression right) implements TagExpression {
+
+    // {@inheritDoc}
+    @Override
+    public boolean matches(Set<String> tags) {
+      return left.matches(tags) && right.matches(tags);
+    }
+  }
+
+  /**
+   * Tasks satisfying either operand
+   * @param left The left operand
+   * @param right The right operand
+   */
+  record Or(TagExpression left, TagExpression right) implements TagExpression {
+
+    // {@inheritDoc}
+    @Override
+    public boolean matches(Set<String> tags) {
+      return left.matches(tags) || right.matches(tags);
+    }
+  }
+
+  /**
+   * Tasks not satisfying the operand
+   * @param operand The negated operand
+   */
+  record Not(TagExpression operand) implements TagExpression {
+
+    // {@inheritDoc}
+    @Override
+    public boolean matches(Set<String> tags) {
+      return !operand.matches(tags);
+    }
+  }
+}
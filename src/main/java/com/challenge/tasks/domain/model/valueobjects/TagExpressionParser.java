@@ -0,0 +1,133 @@
+package com.challenge.tasks.domain.model.valueobjects;
+
+import com.challenge.tasks.domain.exceptions.InvalidTagExpressionException;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.ArrayList;
+
+/**
+ * Recursive descent parser of {@link TagExpression}
+ * <pre>
+ * or      = and ("OR" and)*
+ * and     = not ("AND" not)*
+ * not     = "NOT" not | primary
+ * primary = "(" or ")" | tag
+ * </pre>
+ * @author Gonzalo Qu3dena
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+final class TagExpressionParser {
+
+  private final String expression;
+  private final List<String> tokens;
+  private int position;
+  private int tags;
+
+  private TagExpressionParser(String expression) {
+    this.expression = expression;
+    this.tokens = tokenize(expression);
+  }
+
+  /**
+   * Parse an expression
+   * @param expression The non-blank text of the expression
+   * @return The parsed expression
+   */
+  static TagExpression parse(String expression) {
+    if (expression.length() > TagExpression.MAX_LENGTH) {
+      throw new InvalidTagExpressionException(expression.substring(0, 32) + "...",
+          "longer than " + TagExpression.MAX_LENGTH + " characters");
+    }
+
+    var parser = new TagExpressionParser(expression);
+    var parsed = parser.or();
+    if (parser.position < parser.tokens.size()) {
+      throw parser.error("unexpected '" + parser.tokens.get(parser.position) + "'");
+    }
+    return parsed;
+  }
+
+  private TagExpression or() {
+    var left = and();
+    while (accept("or")) {
+      left = new TagExpression.Or(left, and());
+    }
+    return left;
+  }
+
+  private TagExpression and() {
+    var left = not();
+    while (accept("and")) {
+      left = new TagExpression.And(left, not());
+    }
+    return left;
+  }
+
+  private TagExpression not() {
+    if (accept("not")) {
+      return new TagExpression.Not(not());
+    }
+    return primary();
+  }
+
+  private TagExpression primary() {
+    if (accept("(")) {
+      var nested = or();
+      if (!accept(")")) {
+        throw error("missing ')'");
+      }
+      return nested;
+    }
+
+    if (position == tokens.size()) {
+      throw error("a tag is missing at the end");
+    }
+    var token = tokens.get(position);
+    if (token.equals("(") || token.equals(")") || TaskTags.isReserved(token)) {
+      throw error("a tag is expected before '" + token + "'");
+    }
+    if (++tags > TagExpression.MAX_TAGS) {
+      throw error("more than " + TagExpression.MAX_TAGS + " tags");
+    }
+    position++;
+    return new TagExpression.Tag(TaskTags.normalize(token));
+  }
+
+  private boolean accept(String expected) {
+    if (position < tokens.size() && tokens.get(position).toLowerCase(Locale.ROOT).equals(expected)) {
+      position++;
+      return true;
+    }
+    return false;
+  }
+
+  private InvalidTagExpressionException error(String reason) {
+    return new InvalidTagExpressionException(expression, reason);
+  }
+
+  /**
+   * Split an expression into words and parentheses
+   * @param expression The text of the expression
+   * @return The tokens
+   */
+  private static List<String> tokenize(String expression) {
+    var tokens = new ArrayList<String>();
+    var start = -1;
+    for (int i = 0; i <= expression.length(); i++) {
+      var c = i < expression.length() ? expression.charAt(i) : ' ';
+      var separator = Character.isWhitespace(c) || c == '(' || c == ')';
+      if (separator && start >= 0) {
+        tokens.add(expression.substring(start, i));
+        start = -1;
+      }
+      if (c == '(' || c == ')') {
+        tokens.add(String.valueOf(c));
+      } else if (!separator && start < 0) {
+        start = i;
+      }
+    }
+    return tokens;
+  }
+}
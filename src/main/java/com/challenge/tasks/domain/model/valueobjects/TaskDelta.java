@@ -0,0 +1,28 @@
+package com.challenge.tasks.domain.model.valueobjects;
+
+import java.util.List;
+import java.time.LocalDateTime;
+import com.challenge.tasks.domain.model.aggregates.Task;
+
+/**
+ * Task delta
+ * @summary
+ * This record represents the changes to the active task list since a previous sync.
+ * <ul>
+ *   <li>updated: The tasks created or modified since the previous sync.</li>
+ *   <li>deleted: The IDs of the tasks deleted or archived since the previous sync.</li>
+ *   <li>highWaterMark: The value to send as {@code updatedSince} on the next sync.</li>
+ *   <li>reset: Whether the previous sync is too old for removals to be known; updated then holds every active task
+ *   and the client must replace its copy.</li>
+ * </ul>
+ * @author Gonzalo Qu3dena
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public record TaskDelta(
+  List<Task> updated,
+  List<Long> deleted,
+  LocalDateTime highWaterMark,
+  boolean reset
+) {
+}
@@ -0,0 +1,49 @@
+package com.challenge.tasks.domain.model.valueobjects;
+
+import java.time.LocalDate;
+
+/**
+ * Due date bucket of a task
+ * This enum groups tasks by how close their due date is, relative to the current date.
+ * <ul>
+ *   <li>PAST: The due date is before today, whatever the status of the task.</li>
+ *   <li>TODAY: The task is due today.</li>
+ *   <li>NEXT_7_DAYS: The task is due within the next 7 days, today excluded.</li>
+ *   <li>LATER: The task is due more than 7 days from today.</li>
+ *   <li>NONE: The task has no due date.</li>
+ * </ul>
+ * @author Gonzalo Qu3dena
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public enum TaskDueDateBucket {
+  PAST,
+  TODAY,
+  NEXT_7_DAYS,
+  LATER,
+  NONE;
+
+  /**
+   * Number of days after today covered by {@link #NEXT_7_DAYS}
+   */
+  public static final int UPCOMING_DAYS = 7;
+
+  /**
+   * Bucket of a due date
+   * @param dueDate The due date, may be {@code null}
+   * @param today The current date
+   * @return The bucket
+   */
+  public static TaskDueDateBucket of(LocalDate dueDate, LocalDate today) {
+    if (dueDate == null) {
+      return NONE;
+    }
+    if (dueDate.isBefore(today)) {
+      return PAST;
+    }
+    if (dueDate.isEqual(today)) {
+      return TODAY;
+    }
+    return dueDate.isAfter(today.plusDays(UPCOMING_DAYS)) ? LATER : NEXT_7_DAYS;
+  }
+}
@@ -0,0 +1,26 @@
+package com.challenge.tasks.domain.model.valueobjects;
+
+import java.util.Map;
+
+/**
+ * Task facets
+ * @summary
+ * This record represents the counts shown next to a filtered task list. Every status, priority and bucket is present,
+ * with a zero count when no task matches.
+ * <ul>
+ *   <li>total: The number of tasks matching the filters.</li>
+ *   <li>byStatusAndPriority: The number of matching tasks per status and, within it, per priority.</li>
+ *   <li>overdue: The number of matching tasks past their due date that are not done.</li>
+ *   <li>byDueDate: The number of matching tasks per due date bucket.</li>
+ * </ul>
+ * @author Gonzalo Qu3dena
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public record TaskFacets(
+  long total,
+  Map<TaskStatus, Map<TaskPriority, Long>> byStatusAndPriority,
+  long overdue,
+  Map<TaskDueDateBucket, Long> byDueDate
+) {
+}
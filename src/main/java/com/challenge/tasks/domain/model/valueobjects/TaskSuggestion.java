@@ -0,0 +1,19 @@
+package com.challenge.tasks.domain.model.valueobjects;
+
+/**
+ * Task suggestion
+ * @summary
+ * This record represents a task offered while the user types its title.
+ * <ul>
+ *   <li>id: The ID of the task.</li>
+ *   <li>title: The title of the task, as entered.</li>
+ * </ul>
+ * @author Gonzalo Qu3dena
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public record TaskSuggestion(
+  Long id,
+  String title
+) {
+}
@@ -0,0 +1,85 @@
+package com.challenge.tasks.domain.model.valueobjects;
+
+import com.challenge.tasks.domain.exceptions.InvalidTagException;
+
+import java.util.Set;
+import java.util.Locale;
+import java.util.TreeSet;
+import java.util.SortedSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.regex.Pattern;
+
+/**
+ * Task tags
+ * @summary
+ * Rules shared by the tags of a task and the tag expressions that filter tasks. Tags are trimmed and lower-cased,
+ * then must be 1 to {@value #MAX_LENGTH} letters, digits, '-' or '_' starting with a letter or digit. The words
+ * {@code and}, {@code or} and {@code not} are operators of tag expressions and cannot be tags. A task has at most
+ * {@value #MAX_TAGS} distinct tags, kept sorted.
+ * @author Gonzalo Qu3dena
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class TaskTags {
+
+  /**
+   * Maximum number of tags of a task
+   */
+  public static final int MAX_TAGS = 10;
+
+  /**
+   * Maximum length of a tag
+   */
+  public static final int MAX_LENGTH = 32;
+
+  private static final Pattern TAG = Pattern.compile("[a-z0-9][a-z0-9_-]{0," + (MAX_LENGTH - 1) + "}");
+  private static final Set<String> RESERVED = Set.of("and", "or", "not");
+
+  private TaskTags() {
+  }
+
+  /**
+   * Normalize the tags of a task
+   * @param tags The tags, may be {@code null}
+   * @return The normalized tags, sorted, without duplicates and unmodifiable
+   * @throws InvalidTagException if a tag is invalid or there are too many tags
+   */
+  public static SortedSet<String> of(Collection<String> tags) {
+    if (tags == null || tags.isEmpty()) {
+      return Collections.emptySortedSet();
+    }
+
+    var normalized = new TreeSet<String>();
+    for (var tag : tags) {
+      normalized.add(normalize(tag));
+    }
+    if (normalized.size() > MAX_TAGS) {
+      throw new InvalidTagException(normalized.size());
+    }
+    return Collections.unmodifiableSortedSet(normalized);
+  }
+
+  /**
+   * Normalize a single tag
+   * @param tag The tag
+   * @return The trimmed, lower-case tag
+   * @throws InvalidTagException if the tag is invalid
+   */
+  public static String normalize(String tag) {
+    var normalized = tag != null ? tag.trim().toLowerCase(Locale.ROOT) : "";
+    if (!TAG.matcher(normalized).matches() || RESERVED.contains(normalized)) {
+      throw new InvalidTagException(tag);
+    }
+    return normalized;
+  }
+
+  /**
+   * Check if a word is an operator of tag expressions
+   * @param word The word
+   * @return true if the word is {@code and}, {@code or} or {@code not} in any case, false otherwise
+   */
+  public static boolean isReserved(String word) {
+    return RESERVED.contains(word.toLowerCase(Locale.ROOT));
+  }
+}
@@ -5,14 +5,20 @@ import java.util.Optional;
 
 import com.challenge.tasks.domain.model.aggregates.Task;
 import com.challenge.tasks.domain.model.queries.GetAllTasksQuery;
+import com.challenge.tasks.domain.model.queries.GetTaskDeltaQuery;
 import com.challenge.tasks.domain.model.queries.GetTaskByIdQuery;
 import com.challenge.tasks.domain.model.queries.GetTaskStatsQuery;
+import com.challenge.tasks.domain.model.queries.GetTaskFacetsQuery;
+import com.challenge.tasks.domain.model.queries.GetTaskSuggestionsQuery;
+import com.challenge.tasks.domain.model.valueobjects.TaskDelta;
+import com.challenge.tasks.domain.model.valueobjects.TaskFacets;
 import com.challenge.tasks.domain.model.valueobjects.TaskStatistics;
+import com.challenge.tasks.domain.model.valueobjects.TaskSuggestion;
 
 /**
  * Service to query tasks
  * @summary
- * This service is responsible for querying tasks. It provides methods to get all tasks, get a task by its ID and get task statistics.
+ * This service is responsible for querying tasks. It provides methods to get all tasks, get a task by its ID, get the changes since a previous sync, get task statistics, count the facets of a filtered task list and suggest tasks by title prefix.
  * @author Gonzalo Qu3dena
  * @version 1.0.0
  * @since 1.0.0
@@ -33,10 +39,31 @@ public interface TaskQueryService {
    */
   Optional<Task> handle(GetTaskByIdQuery query);
 
+  /**
+   * Get the changes to the active task list since a previous sync
+   * @param query The query with the high-water mark of the previous sync
+   * @return The changed and removed tasks with the next high-water mark
+   */
+  TaskDelta handle(GetTaskDeltaQuery query);
+
   /**
    * Get task statistics
    * @param query The query to get task statistics
    * @return Optional containing TaskStatistics value object with statistics
    */
   Optional<TaskStatistics> handle(GetTaskStatsQuery query);
+
+  /**
+   * Count the active tasks matching the filters of a task list by status, priority and due date
+   * @param query The query with the filters
+   * @return The facets
+   */
+  TaskFacets handle(GetTaskFacetsQuery query);
+
+  /**
+   * Suggest the best ranked active tasks whose title starts with a prefix
+   * @param query The query with the prefix and the number of suggestions
+   * @return The suggestions, best first
+   */
+  List<TaskSuggestion> handle(GetTaskSuggestionsQuery query);
 }
@@ -0,0 +1,408 @@
+package com.challenge.tasks.infrastructure.persistence.eventlog;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.ArrayList;
+import java.util.zip.CRC32;
+import java.util.function.Consumer;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.nio.file.Files;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * Append-only task event log on memory-mapped segment files
+ * @summary
+ * Events are appended to fixed-size, preallocated segment files named after the sequence of their first record. Each
+ * record is framed as {@code [length:int][crc32:int][payload]}; a zero length marks the end of the written part of a
+ * segment. All writes happen on a single writer thread that implements group commit: it drains every pending append,
+ * writes the batch sequentially into the mapped segment and forces it to disk once before completing the callers'
+ * futures, so the cost of an fsync is shared by every concurrent writer.
+ * <p>
+ * When opened, the log scans the existing segments to restore the last sequence and truncates a torn tail left by a
+ * crash in the middle of a write. The last sequence never goes below the latest snapshot nor below the name of the
+ * active segment, so an empty or torn active segment after a compaction cannot hand out sequences a replay ignores.
+ * </p>
+ * <p>
+ * A batch that fails is erased from the segments before its callers are failed, so its records are neither replayed
+ * nor given sequences that the next batch reuses. If they cannot be erased, the log stops accepting appends.
+ * </p>
+ * @author Gonzalo Qu3dena
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class MappedTaskEventLog implements AutoCloseable {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(MappedTaskEventLog.class);
+
+  private static final int FRAME_HEADER_SIZE = 2 * Integer.BYTES;
+  private static final int MAX_BATCH_SIZE = 1_024;
+  private static final String SEGMENT_PREFIX = "segment-";
+  private static final String SEGMENT_SUFFIX = ".log";
+
+  private final Path directory;
+  private final int segmentSize;
+  private final long snapshotSequence;
+  private final Thread writer;
+  private final BlockingQueue<PendingAppend> pending = new LinkedBlockingQueue<>();
+
+  private volatile boolean running = true;
+  private volatile long lastSequence;
+
+  // Only touched by the writer thread once the log is open
+  private Segment active;
+
+  /**
+   * Open a log without snapshots, creating the directory if needed
+   * @param directory The directory holding the segment files
+   * @param segmentSize The size in bytes of each segment file
+   */
+  public MappedTaskEventLog(Path directory, int segmentSize) {
+    this(directory, segmentSize, 0);
+  }
+
+  /**
+   * Open the log, creating the directory if needed
+   * @param directory The directory holding the segment files
+   * @param segmentSize The size in bytes of each segment file
+   * @param snapshotSequence The sequence of the latest snapshot, 0 if there is none
+   */
+  public MappedTaskEventLog(Path directory, int segmentSize, long snapshotSequence) {
+    this.directory = directory;
+    this.segmentSize = segmentSize;
+    this.snapshotSequence = snapshotSequence;
+
+    try {
+      Files.createDirectories(directory);
+      recover();
+    } catch (IOException e) {
+      throw new UncheckedIOException("Cannot open task event log in " + directory, e);
+    }
+
+    this.writer = new Thread(this::writeLoop, "task-event-log-writer");
+    this.writer.setDaemon(true);
+    this.writer.start();
+  }
+
+  /**
+   * Append a record to the log
+   * @param record The record to append; its sequence is assigned by the log
+   * @return A future completed with the assigned sequence once the record is durable
+   */
+  public CompletableFuture<Long> append(TaskEventRecord record) {
+    var future = new CompletableFuture<Long>();
+    if (!running) {
+      future.completeExceptionally(new IllegalStateException("Task event log is closed"));
+      return future;
+    }
+
+    pending.add(new PendingAppend(record, future));
+    return future;
+  }
+
+  /**
+   * Sequence of the last durable record, 0 when the log is empty
+   * @return The last sequence
+   */
+  public long lastSequence() {
+    return lastSequence;
+  }
+
+  /**
+   * Replay every record with a sequence greater than the given one, in log order
+   * @param afterSequence The sequence to start after
+   * @param consumer The consumer of the records
+   */
+  public void replay(long afterSequence, Consumer<TaskEventRecord> consumer) {
+    for (var segment : segmentFiles()) {
+      read(segment, record -> {
+        if (record.sequence() > afterSequence) {
+          consumer.accept(record);
+        }
+      });
+    }
+  }
+
+  /**
+   * Segment files that are no longer written to, oldest first
+   * @return The sealed segments
+   */
+  public List<Path> sealedSegments() {
+    var files = segmentFiles();
+    return files.isEmpty() ? files : files.subList(0, files.size() - 1);
+  }
+
+  /**
+   * Read all records of a segment file
+   * @param segment The segment file
+   * @param consumer The consumer of the records
+   * @return The sequence of the last record read, 0 if the segment is empty
+   */
+  public long read(Path segment, Consumer<TaskEventRecord> consumer) {
+    try (var channel = FileChannel.open(segment, StandardOpenOption.READ)) {
+      var buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+      return scan(buffer, consumer);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Cannot read task event log segment " + segment, e);
+    }
+  }
+
+  /**
+   * Delete sealed segments once their content has been captured by a snapshot
+   * @param segments The segments to delete
+   */
+  public void delete(List<Path> segments) {
+    for (var segment : segments) {
+      try {
+        Files.deleteIfExists(segment);
+      } catch (IOException e) {
+        LOGGER.warn("Cannot delete compacted task event log segment {}", segment, e);
+      }
+    }
+  }
+
+  // {@inheritDoc}
+  @Override
+  public void close() {
+    running = false;
+    writer.interrupt();
+    try {
+      writer.join();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+
+    PendingAppend append;
+    while ((append = pending.poll()) != null) {
+      append.future().completeExceptionally(new IllegalStateException("Task event log is closed"));
+    }
+  }
+
+  /**
+   * Writer loop: drain pending appends, write them and force the segment once per batch
+   */
+  private void writeLoop() {
+    var batch = new ArrayList<PendingAppend>(MAX_BATCH_SIZE);
+    while (running) {
+      try {
+        batch.add(pending.take());
+      } catch (InterruptedException e) {
+        break;
+      }
+      pending.drainTo(batch, MAX_BATCH_SIZE - 1);
+
+      var first = active;
+      var firstStart = first.buffer.position();
+      try {
+        var start = firstStart;
+        var sequence = lastSequence;
+        for (var append : batch) {
+          var record = append.record().withSequence(++sequence);
+          if (frameSize(record) > active.buffer.remaining()) {
+            active.force(start);
+            active = openSegment(sequence);
+            start = 0;
+          }
+          writeFrame(active.buffer, record);
+        }
+        active.force(start);
+
+        lastSequence = sequence;
+        var completed = lastSequence - batch.size();
+        for (var append : batch) {
+          append.future().complete(++completed);
+        }
+      } catch (IOException | RuntimeException e) {
+        LOGGER.error("Cannot append to task event log", e);
+        discard(first, firstStart);
+        batch.forEach(append -> append.future().completeExceptionally(e));
+      }
+      batch.clear();
+    }
+  }
+
+  /**
+   * Erase the frames a failed batch has written, possibly across a roll-over, and go back to where it started
+   * @param first The segment the batch started in
+   * @param start The position the batch started at
+   */
+  private void discard(Segment first, int start) {
+    try {
+      if (active != first) {
+        active.erase(0);
+        active = first;
+      }
+      first.erase(start);
+    } catch (RuntimeException e) {
+      LOGGER.error("Cannot erase a failed batch from the task event log, refusing further appends", e);
+      running = false;
+      PendingAppend append;
+      while ((append = pending.poll()) != null) {
+        append.future().completeExceptionally(new IllegalStateException("Task event log has failed", e));
+      }
+    }
+  }
+
+  /**
+   * Scan existing segments to restore the last sequence and position the active segment after its last valid record
+   * @throws IOException if a segment cannot be read
+   */
+  private void recover() throws IOException {
+    var files = segmentFiles();
+    lastSequence = snapshotSequence;
+    if (!files.isEmpty()) {
+      lastSequence = Math.max(lastSequence, firstSequence(files.get(files.size() - 1)) - 1);
+    }
+    for (var file : files) {
+      lastSequence = Math.max(lastSequence, read(file, record -> { }));
+    }
+
+    if (files.isEmpty()) {
+      active = openSegment(1);
+      return;
+    }
+
+    active = mapSegment(files.get(files.size() - 1));
+    scan(active.buffer, record -> { });
+    var tail = active.buffer.duplicate();
+    while (tail.hasRemaining()) {
+      tail.put((byte) 0);
+    }
+  }
+
+  /**
+   * Read frames from the buffer until the end marker or the first corrupt frame
+   * <p>
+   * On return the buffer is positioned right after the last valid frame.
+   * </p>
+   * @param buffer The segment buffer
+   * @param consumer The consumer of the records
+   * @return The sequence of the last valid record, 0 if none
+   */
+  private static long scan(ByteBuffer buffer, Consumer<TaskEventRecord> consumer) {
+    long last = 0;
+    var crc = new CRC32();
+    while (buffer.remaining() >= FRAME_HEADER_SIZE) {
+      var start = buffer.position();
+      var length = buffer.getInt();
+      var checksum = buffer.getInt();
+      if (length <= 0 || length > buffer.remaining()) {
+        buffer.position(start);
+        break;
+      }
+
+      var payload = buffer.slice(buffer.position(), length);
+      crc.reset();
+      crc.update(payload.duplicate());
+      if ((int) crc.getValue() != checksum) {
+        buffer.position(start);
+        break;
+      }
+
+      var record = TaskEventRecord.decode(payload);
+      consumer.accept(record);
+      last = record.sequence();
+      buffer.position(buffer.position() + length);
+    }
+    return last;
+  }
+
+  private static int frameSize(TaskEventRecord record) {
+    return FRAME_HEADER_SIZE + record.encodedSize();
+  }
+
+  private static void writeFrame(ByteBuffer buffer, TaskEventRecord record) {
+    var start = buffer.position();
+    var length = record.encodedSize();
+    buffer.position(start + FRAME_HEADER_SIZE);
+    record.encode(buffer);
+
+    var crc = new CRC32();
+    crc.update(buffer.slice(start + FRAME_HEADER_SIZE, length));
+    buffer.putInt(start, length);
+    buffer.putInt(start + Integer.BYTES, (int) crc.getValue());
+  }
+
+  private Segment openSegment(long firstSequence) throws IOException {
+    var file = directory.resolve(String.format("%s%020d%s", SEGMENT_PREFIX, firstSequence, SEGMENT_SUFFIX));
+    return mapSegment(file);
+  }
+
+  private static long firstSequence(Path segment) {
+    var name = segment.getFileName().toString();
+    return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+  }
+
+  private Segment mapSegment(Path file) throws IOException {
+    try (var channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+        StandardOpenOption.WRITE)) {
+      var size = Math.max(channel.size(), segmentSize);
+      return new Segment(file, channel.map(FileChannel.MapMode.READ_WRITE, 0, size));
+    }
+  }
+
+  private List<Path> segmentFiles() {
+    try (var files = Files.list(directory)) {
+      return new ArrayList<>(files
+          .filter(file -> {
+            var name = file.getFileName().toString();
+            return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+          })
+          .sorted()
+          .toList());
+    } catch (IOException e) {
+      throw new UncheckedIOException("Cannot list task event log segments in " + directory, e);
+    }
+  }
+
+  /**
+   * A segment mapped for writing
+   * @param file The segment file
+   * @param buffer The mapped buffer, positioned at the next write
+   */
+  private record Segment(Path file, MappedByteBuffer buffer) {
+
+    /**
+     * Force the bytes written since the given position to the storage device
+     * @param from The position of the first unflushed byte
+     */
+    void force(int from) {
+      var length = buffer.position() - from;
+      if (length > 0) {
+        buffer.force(from, length);
+      }
+    }
+
+    /**
+     * Zero and force the bytes written since the given position, then write from there again
+     * @param from The position of the first byte to erase
+     */
+    void erase(int from) {
+      var end = buffer.position();
+      for (int i = from; i < end; i++) {
+        buffer.put(i, (byte) 0);
+      }
+      if (end > from) {
+        buffer.force(from, end - from);
+      }
+      buffer.position(from);
+    }
+  }
+
+  /**
+   * An append waiting for the writer thread
+   * @param record The record to append
+   * @param future The future completed once the record is durable
+   */
+  private record PendingAppend(TaskEventRecord record, CompletableFuture<Long> future) {
+  }
+}
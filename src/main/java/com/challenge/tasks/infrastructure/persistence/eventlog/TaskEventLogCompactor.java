@@ -0,0 +1,53 @@
+package com.challenge.tasks.infrastructure.persistence.eventlog;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * Compacts sealed event log segments into snapshots
+ * @summary
+ * Periodically folds every sealed segment into a new snapshot and deletes those segments, so that startup replays at
+ * most one snapshot plus the active segment regardless of how long the history is. It only reads files and never
+ * touches the database, so writers are not blocked while it runs.
+ * @author Gonzalo Qu3dena
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class TaskEventLogCompactor {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(TaskEventLogCompactor.class);
+
+  private final MappedTaskEventLog eventLog;
+  private final TaskSnapshotStore snapshots;
+
+  /**
+   * Constructor of the compactor
+   * @param eventLog The event log
+   * @param snapshots The snapshot store
+   */
+  public TaskEventLogCompactor(MappedTaskEventLog eventLog, TaskSnapshotStore snapshots) {
+    this.eventLog = eventLog;
+    this.snapshots = snapshots;
+  }
+
+  /**
+   * Fold the sealed segments into a new snapshot
+   */
+  @Scheduled(fixedDelayString = "${tasks.event-log.snapshot-interval:5m}")
+  public void compact() {
+    var sealed = eventLog.sealedSegments();
+    if (sealed.isEmpty()) {
+      return;
+    }
+
+    var replay = TaskStateReplay.fromLatestSnapshot(snapshots);
+    sealed.forEach(segment -> eventLog.read(segment, replay::apply));
+
+    // Throws unless the snapshot is on disk, so the segments are only deleted once they can no longer be needed
+    snapshots.write(replay.sequence(), replay.tasks().values());
+    eventLog.delete(sealed);
+    LOGGER.info("Compacted {} task event log segments into a snapshot of {} tasks at sequence {}",
+        sealed.size(), replay.tasks().size(), replay.sequence());
+  }
+}
@@ -0,0 +1,51 @@
+package com.challenge.tasks.infrastructure.persistence.eventlog;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+
+import com.challenge.tasks.infrastructure.persistence.support.TaskBulkLoader;
+import com.challenge.tasks.infrastructure.persistence.jpa.repositories.TaskRepository;
+
+/**
+ * Spring configuration of the task event log
+ * @summary
+ * Wires the memory-mapped event log, its snapshot store, the recorder of domain events, startup recovery and periodic
+ * compaction. Everything is disabled unless {@code tasks.event-log.enabled} is {@code true}.
+ * @author Gonzalo Qu3dena
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Configuration
+@EnableConfigurationProperties(TaskEventLogProperties.class)
+@ConditionalOnProperty(prefix = "tasks.event-log", name = "enabled", havingValue = "true")
+public class TaskEventLogConfiguration {
+
+  @Bean(destroyMethod = "close")
+  public MappedTaskEventLog taskEventLog(TaskEventLogProperties properties, TaskSnapshotStore snapshots) {
+    return new MappedTaskEventLog(properties.directory(), (int) properties.segmentSize().toBytes(),
+        snapshots.latestSequence());
+  }
+
+  @Bean
+  public TaskSnapshotStore taskSnapshotStore(TaskEventLogProperties properties) {
+    return new TaskSnapshotStore(properties.directory());
+  }
+
+  @Bean
+  public TaskEventLogRecorder taskEventLogRecorder(MappedTaskEventLog eventLog) {
+    return new TaskEventLogRecorder(eventLog);
+  }
+
+  @Bean
+  public TaskEventLogRecovery taskEventLogRecovery(MappedTaskEventLog eventLog, TaskSnapshotStore snapshots,
+      TaskRepository taskRepository, TaskBulkLoader bulkLoader) {
+    return new TaskEventLogRecovery(eventLog, snapshots, taskRepository, bulkLoader);
+  }
+
+  @Bean
+  public TaskEventLogCompactor taskEventLogCompactor(MappedTaskEventLog eventLog, TaskSnapshotStore snapshots) {
+    return new TaskEventLogCompactor(eventLog, snapshots);
+  }
+}
@@ -0,0 +1,27 @@
+package com.challenge.tasks.infrastructure.persistence.eventlog;
+
+import org.springframework.util.unit.DataSize;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Configuration properties of the task event log
+ * @param enabled Whether task events are logged and replayed at startup
+ * @param directory The directory holding segments and snapshots
+ * @param segmentSize The size of each memory-mapped segment; it also bounds the records replayed on top of a snapshot
+ * @param snapshotInterval How often sealed segments are compacted into a new snapshot
+ * @author Gonzalo Qu3dena
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@ConfigurationProperties(prefix = "tasks.event-log")
+public record TaskEventLogProperties(
+  @DefaultValue("false") boolean enabled,
+  @DefaultValue("data/event-log") Path directory,
+  @DefaultValue("16MB") DataSize segmentSize,
+  @DefaultValue("5m") Duration snapshotInterval
+) {
+}
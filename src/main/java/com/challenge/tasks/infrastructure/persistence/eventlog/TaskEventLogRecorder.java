@@ -0,0 +1,55 @@
+package com.challenge.tasks.infrastructure.persistence.eventlog;
+
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.challenge.tasks.domain.model.events.TaskCreatedEvent;
+import com.challenge.tasks.domain.model.events.TaskDeletedEvent;
+import com.challenge.tasks.domain.model.events.TaskUpdatedEvent;
+import com.challenge.tasks.domain.model.events.TaskStatusChangedEvent;
+import com.challenge.tasks.infrastructure.persistence.eventlog.TaskEventRecord.TaskEventType;
+
+/**
+ * Records task domain events in the event log
+ * @summary
+ * Each event is appended once its transaction has committed, capturing the committed state of the task. The listener
+ * waits for the group commit, so a command only returns to its caller once its events are durable.
+ * @author Gonzalo Qu3dena
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class TaskEventLogRecorder {
+
+  private final MappedTaskEventLog eventLog;
+
+  /**
+   * Constructor of the recorder
+   * @param eventLog The log to append to
+   */
+  public TaskEventLogRecorder(MappedTaskEventLog eventLog) {
+    this.eventLog = eventLog;
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void on(TaskCreatedEvent event) {
+    append(TaskEventRecord.of(TaskEventType.CREATED, event.task()));
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void on(TaskUpdatedEvent event) {
+    append(TaskEventRecord.of(TaskEventType.UPDATED, event.task()));
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void on(TaskStatusChangedEvent event) {
+    append(TaskEventRecord.of(TaskEventType.STATUS_CHANGED, event.task()));
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void on(TaskDeletedEvent event) {
+    append(TaskEventRecord.deleted(event.task().getId()));
+  }
+
+  private void append(TaskEventRecord record) {
+    eventLog.append(record).join();
+  }
+}
@@ -0,0 +1,61 @@
+package com.challenge.tasks.infrastructure.persistence.eventlog;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+
+import com.challenge.tasks.infrastructure.persistence.support.TaskBulkLoader;
+import com.challenge.tasks.infrastructure.persistence.jpa.repositories.TaskRepository;
+
+/**
+ * Rebuilds the task store from the latest snapshot and the event log at startup
+ * @summary
+ * Runs once every singleton is initialized, which is after the schema exists and before the web server starts
+ * accepting requests. Recovery is skipped when the store already holds tasks, so a durable database is never
+ * loaded twice.
+ * @author Gonzalo Qu3dena
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class TaskEventLogRecovery implements SmartInitializingSingleton {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(TaskEventLogRecovery.class);
+
+  private final MappedTaskEventLog eventLog;
+  private final TaskSnapshotStore snapshots;
+  private final TaskRepository taskRepository;
+  private final TaskBulkLoader bulkLoader;
+
+  /**
+   * Constructor of the recovery
+   * @param eventLog The event log
+   * @param snapshots The snapshot store
+   * @param taskRepository The repository used to check whether the store is empty
+   * @param bulkLoader The loader of the rebuilt tasks
+   */
+  public TaskEventLogRecovery(MappedTaskEventLog eventLog, TaskSnapshotStore snapshots,
+      TaskRepository taskRepository, TaskBulkLoader bulkLoader) {
+    this.eventLog = eventLog;
+    this.snapshots = snapshots;
+    this.taskRepository = taskRepository;
+    this.bulkLoader = bulkLoader;
+  }
+
+  // {@inheritDoc}
+  @Override
+  public void afterSingletonsInstantiated() {
+    if (taskRepository.count() > 0) {
+      LOGGER.info("Task store is not empty, skipping event log recovery");
+      return;
+    }
+
+    var started = System.nanoTime();
+    var replay = TaskStateReplay.fromLatestSnapshot(snapshots);
+    var snapshotSequence = replay.sequence();
+    eventLog.replay(snapshotSequence, replay::apply);
+
+    var loaded = bulkLoader.load(() -> replay.tasks().values().stream().map(TaskEventRecord::toTask).iterator());
+    LOGGER.info("Recovered {} tasks from snapshot at sequence {} and {} log records in {} ms",
+        loaded, snapshotSequence, replay.sequence() - snapshotSequence, (System.nanoTime() - started) / 1_000_000);
+  }
+}
@@ -0,0 +1,265 @@
+package com.challenge.tasks.infrastructure.persistence.eventlog;
+
+import com.challenge.tasks.domain.model.aggregates.Task;
+import com.challenge.tasks.domain.model.valueobjects.TaskStatus;
+import com.challenge.tasks.domain.model.valueobjects.TaskPriority;
+
+import java.util.Set;
+import java.util.TreeSet;
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.LocalDateTime;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Task event record
+ * @summary
+ * Binary representation of a task event as stored in the event log and in snapshots. Every event except
+ * {@link TaskEventType#DELETED} carries the full state of the task after the change, so replaying the log is a plain
+ * last-write-wins per task ID.
+ * <p>
+ * Payload layout (big endian): sequence (long), type (byte), task ID (long) and, unless deleted, title and description
+ * (length-prefixed UTF-8, -1 for null), status and priority (ordinal byte), due date (epoch day, {@link Long#MIN_VALUE}
+ * for null), created and updated timestamps (UTC epoch second plus nanos), the tenant (length-prefixed UTF-8) and the
+ * tags (count byte, then each length-prefixed UTF-8). Enum ordinals are part of the format, so new enum constants must
+ * be appended. The tenant and the tags come last so that payloads written before tasks had them still decode, as
+ * untagged tasks of the default tenant.
+ * </p>
+ * @param sequence The position of the event in the log, 0 when not yet appended
+ * @param type The type of the event
+ * @param taskId The ID of the task
+ * @param title The title of the task
+ * @param description The description of the task
+ * @param status The status of the task
+ * @param priority The priority of the task
+ * @param dueDate The due date of the task
+ * @param createdAt The creation date of the task
+ * @param updatedAt The last update date of the task
+ * @param tenantId The tenant owning the task
+ * @param tags The tags of the task
+ * @author Gonzalo Qu3dena
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public record TaskEventRecord(
+  long sequence,
+  TaskEventType type,
+  long taskId,
+  String title,
+  String description,
+  TaskStatus status,
+  TaskPriority priority,
+  LocalDate dueDate,
+  LocalDateTime createdAt,
+  LocalDateTime updatedAt,
+  String tenantId,
+  Set<String> tags
+) {
+
+  private static final long NO_DATE = Long.MIN_VALUE;
+  private static final TaskEventType[] TYPES = TaskEventType.values();
+  private static final TaskStatus[] STATUSES = TaskStatus.values();
+  private static final TaskPriority[] PRIORITIES = TaskPriority.values();
+
+  /**
+   * Type of a task event
+   */
+  public enum TaskEventType {
+    CREATED,
+    UPDATED,
+    STATUS_CHANGED,
+    DELETED
+  }
+
+  /**
+   * Constructor of a record of a task of the default tenant
+   * @param sequence The position of the event in the log, 0 when not yet appended
+   * @param type The type of the event
+   * @param taskId The ID of the task
+   * @param title The title of the task
+   * @param description The description of the task
+   * @param status The status of the task
+   * @param priority The priority of the task
+   * @param dueDate The due date of the task
+   * @param createdAt The creation date of the task
+   * @param updatedAt The last update date of the task
+   */
+  public TaskEventRecord(long sequence, TaskEventType type, long taskId, String title, String description,
+      TaskStatus status, TaskPriority priority, LocalDate dueDate, LocalDateTime createdAt, LocalDateTime updatedAt) {
+    this(sequence, type, taskId, title, description, status, priority, dueDate, createdAt, updatedAt,
+        type != TaskEventType.DELETED ? Task.DEFAULT_TENANT : null);
+  }
+
+  /**
+   * Constructor of a record of an untagged task
+   * @param sequence The position of the event in the log, 0 when not yet appended
+   * @param type The type of the event
+   * @param taskId The ID of the task
+   * @param title The title of the task
+   * @param description The description of the task
+   * @param status The status of the task
+   * @param priority The priority of the task
+   * @param dueDate The due date of the task
+   * @param createdAt The creation date of the task
+   * @param updatedAt The last update date of the task
+   * @param tenantId The tenant owning the task
+   */
+  public TaskEventRecord(long sequence, TaskEventType type, long taskId, String title, String description,
+      TaskStatus status, TaskPriority priority, LocalDate dueDate, LocalDateTime createdAt, LocalDateTime updatedAt,
+      String tenantId) {
+    this(sequence, type, taskId, title, description, status, priority, dueDate, createdAt, updatedAt, tenantId,
+        type != TaskEventType.DELETED ? Set.of() : null);
+  }
+
+  /**
+   * Build a record capturing the current state of a task
+   * @param type The type of the event
+   * @param task The task
+   * @return The record
+   */
+  public static TaskEventRecord of(TaskEventType type, Task task) {
+    return new TaskEventRecord(0, type, task.getId(), task.getTitle(), task.getDescription(), task.getStatus(),
+        task.getPriority(), task.getDueDate(), task.getCreatedAt(), task.getUpdatedAt(), task.getTenantId(),
+        task.getTags());
+  }
+
+  /**
+   * Build a deletion record
+   * @param taskId The ID of the deleted task
+   * @return The record
+   */
+  public static TaskEventRecord deleted(long taskId) {
+    return new TaskEventRecord(0, TaskEventType.DELETED, taskId, null, null, null, null, null, null, null, null,
+        null);
+  }
+
+  /**
+   * Copy of this record positioned in the log
+   * @param sequence The sequence assigned by the log
+   * @return The positioned record
+   */
+  public TaskEventRecord withSequence(long sequence) {
+    return new TaskEventRecord(sequence, type, taskId, title, description, status, priority, dueDate, createdAt,
+        updatedAt, tenantId, tags);
+  }
+
+  /**
+   * Rebuild the task described by this record
+   * @return The rehydrated task
+   * @throws IllegalStateException if this is a deletion record
+   */
+  public Task toTask() {
+    if (type == TaskEventType.DELETED) {
+      throw new IllegalStateException("A deletion record does not carry task state");
+    }
+
+    return Task.rehydrate(taskId, tenantId, title, description, status, priority, dueDate, createdAt, updatedAt,
+        tags);
+  }
+
+  /**
+   * Encode this record into the buffer at its current position
+   * @param buffer The target buffer, with at least {@link #encodedSize()} bytes remaining
+   */
+  public void encode(ByteBuffer buffer) {
+    buffer.putLong(sequence);
+    buffer.put((byte) type.ordinal());
+    buffer.putLong(taskId);
+    if (type == TaskEventType.DELETED) {
+      return;
+    }
+
+    putString(buffer, title);
+    putString(buffer, description);
+    buffer.put((byte) status.ordinal());
+    buffer.put((byte) priority.ordinal());
+    buffer.putLong(dueDate != null ? dueDate.toEpochDay() : NO_DATE);
+    putDateTime(buffer, createdAt);
+    putDateTime(buffer, updatedAt);
+    putString(buffer, tenantId);
+    buffer.put((byte) tags.size());
+    tags.forEach(tag -> putString(buffer, tag));
+  }
+
+  /**
+   * Number of bytes {@link #encode(ByteBuffer)} writes
+   * @return The encoded size
+   */
+  public int encodedSize() {
+    var size = Long.BYTES + 1 + Long.BYTES;
+    if (type == TaskEventType.DELETED) {
+      return size;
+    }
+
+    return size + stringSize(title) + stringSize(description) + 2 + Long.BYTES + 2 * (Long.BYTES + Integer.BYTES)
+        + stringSize(tenantId) + 1 + tags.stream().mapToInt(TaskEventRecord::stringSize).sum();
+  }
+
+  /**
+   * Decode a record from the buffer at its current position
+   * @param buffer The source buffer, limited to the record's payload
+   * @return The decoded record
+   */
+  public static TaskEventRecord decode(ByteBuffer buffer) {
+    var sequence = buffer.getLong();
+    var type = TYPES[buffer.get()];
+    var taskId = buffer.getLong();
+    if (type == TaskEventType.DELETED) {
+      return new TaskEventRecord(sequence, type, taskId, null, null, null, null, null, null, null, null, null);
+    }
+
+    var title = getString(buffer);
+    var description = getString(buffer);
+    var status = STATUSES[buffer.get()];
+    var priority = PRIORITIES[buffer.get()];
+    var epochDay = buffer.getLong();
+    var dueDate = epochDay != NO_DATE ? LocalDate.ofEpochDay(epochDay) : null;
+    var createdAt = getDateTime(buffer);
+    var updatedAt = getDateTime(buffer);
+    var tenantId = buffer.hasRemaining() ? getString(buffer) : Task.DEFAULT_TENANT;
+    var tags = new TreeSet<String>();
+    for (int count = buffer.hasRemaining() ? buffer.get() : 0; count > 0; count--) {
+      tags.add(getString(buffer));
+    }
+    return new TaskEventRecord(sequence, type, taskId, title, description, status, priority, dueDate, createdAt,
+        updatedAt, tenantId, tags);
+  }
+
+  private static int stringSize(String value) {
+    return Integer.BYTES + (value != null ? value.getBytes(StandardCharsets.UTF_8).length : 0);
+  }
+
+  private static void putString(ByteBuffer buffer, String value) {
+    if (value == null) {
+      buffer.putInt(-1);
+      return;
+    }
+
+    var bytes = value.getBytes(StandardCharsets.UTF_8);
+    buffer.putInt(bytes.length);
+    buffer.put(bytes);
+  }
+
+  private static String getString(ByteBuffer buffer) {
+    var length = buffer.getInt();
+    if (length < 0) {
+      return null;
+    }
+
+    var bytes = new byte[length];
+    buffer.get(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  private static void putDateTime(ByteBuffer buffer, LocalDateTime value) {
+    buffer.putLong(value.toEpochSecond(ZoneOffset.UTC));
+    buffer.putInt(value.getNano());
+  }
+
+  private static LocalDateTime getDateTime(ByteBuffer buffer) {
+    var epochSecond = buffer.getLong();
+    var nanos = buffer.getInt();
+    return LocalDateTime.ofEpochSecond(epochSecond, nanos, ZoneOffset.UTC);
+  }
+}
@@ -0,0 +1,163 @@
+package com.challenge.tasks.infrastructure.persistence.eventlog;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.challenge.tasks.infrastructure.persistence.support.DurableFiles;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Collection;
+import java.util.function.Consumer;
+import java.io.IOException;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.UncheckedIOException;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.nio.file.Files;
+
+/**
+ * Snapshot store for the task event log
+ * @summary
+ * A snapshot holds the state of every live task as of a given log sequence, so that startup only has to replay the
+ * records written after it. Snapshots are written to a temporary file, forced to disk and atomically renamed, which
+ * means a crash while snapshotting leaves the previous snapshot intact, and a snapshot that exists is complete: the
+ * older snapshots, and the segments it captures, are only deleted after that.
+ * <p>
+ * File layout: magic (int), format version (int), last sequence (long), task count (long), then one
+ * {@code [length:int][payload]} entry per task using the {@link TaskEventRecord} encoding.
+ * </p>
+ * @author Gonzalo Qu3dena
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class TaskSnapshotStore {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(TaskSnapshotStore.class);
+
+  private static final int MAGIC = 0x54534B53;
+  private static final int VERSION = 1;
+  private static final int BUFFER_SIZE = 1 << 16;
+  private static final String SNAPSHOT_PREFIX = "snapshot-";
+  private static final String SNAPSHOT_SUFFIX = ".bin";
+
+  private final Path directory;
+
+  /**
+   * Constructor of the store
+   * @param directory The directory holding the snapshot files
+   */
+  public TaskSnapshotStore(Path directory) {
+    this.directory = directory;
+  }
+
+  /**
+   * Durably write a snapshot and remove the older ones
+   * @param sequence The log sequence the snapshot is consistent with
+   * @param tasks The state of every live task
+   * @return The snapshot file
+   */
+  public Path write(long sequence, Collection<TaskEventRecord> tasks) {
+    var target = directory.resolve(String.format("%s%020d%s", SNAPSHOT_PREFIX, sequence, SNAPSHOT_SUFFIX));
+    var temporary = directory.resolve(target.getFileName() + ".tmp");
+
+    try {
+      try (var output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporary), BUFFER_SIZE))) {
+        output.writeInt(MAGIC);
+        output.writeInt(VERSION);
+        output.writeLong(sequence);
+        output.writeLong(tasks.size());
+
+        var buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        for (var task : tasks) {
+          buffer.clear();
+          task.encode(buffer);
+          output.writeInt(buffer.position());
+          output.write(buffer.array(), 0, buffer.position());
+        }
+      }
+      DurableFiles.replace(temporary, target);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Cannot write task snapshot " + target, e);
+    }
+
+    snapshotFiles().stream()
+        .filter(file -> !file.equals(target))
+        .forEach(this::deleteQuietly);
+    return target;
+  }
+
+  /**
+   * Sequence of the latest snapshot, read from its file name
+   * @return The log sequence, 0 when there is no snapshot
+   */
+  public long latestSequence() {
+    if (!Files.isDirectory(directory)) {
+      return 0;
+    }
+
+    var files = snapshotFiles();
+    if (files.isEmpty()) {
+      return 0;
+    }
+
+    var name = files.get(files.size() - 1).getFileName().toString();
+    return Long.parseLong(name.substring(SNAPSHOT_PREFIX.length(), name.length() - SNAPSHOT_SUFFIX.length()));
+  }
+
+  /**
+   * Read the latest snapshot
+   * @param consumer The consumer of the task states
+   * @return The log sequence of the snapshot, empty when there is no snapshot
+   */
+  public Optional<Long> readLatest(Consumer<TaskEventRecord> consumer) {
+    var files = snapshotFiles();
+    if (files.isEmpty()) {
+      return Optional.empty();
+    }
+
+    var latest = files.get(files.size() - 1);
+    try (var input = new DataInputStream(new BufferedInputStream(Files.newInputStream(latest), BUFFER_SIZE))) {
+      if (input.readInt() != MAGIC || input.readInt() != VERSION) {
+        throw new IllegalStateException("Unsupported task snapshot format: " + latest);
+      }
+
+      var sequence = input.readLong();
+      var count = input.readLong();
+      var bytes = new byte[BUFFER_SIZE];
+      for (long i = 0; i < count; i++) {
+        var length = input.readInt();
+        input.readFully(bytes, 0, length);
+        consumer.accept(TaskEventRecord.decode(ByteBuffer.wrap(bytes, 0, length)));
+      }
+      return Optional.of(sequence);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Cannot read task snapshot " + latest, e);
+    }
+  }
+
+  private List<Path> snapshotFiles() {
+    try (var files = Files.list(directory)) {
+      return files
+          .filter(file -> {
+            var name = file.getFileName().toString();
+            return name.startsWith(SNAPSHOT_PREFIX) && name.endsWith(SNAPSHOT_SUFFIX);
+          })
+          .sorted()
+          .toList();
+    } catch (IOException e) {
+      throw new UncheckedIOException("Cannot list task snapshots in " + directory, e);
+    }
+  }
+
+  private void deleteQuietly(Path file) {
+    try {
+      Files.deleteIfExists(file);
+    } catch (IOException e) {
+      LOGGER.warn("Cannot delete obsolete task snapshot {}", file, e);
+    }
+  }
+}
@@ -0,0 +1,63 @@
+package com.challenge.tasks.infrastructure.persistence.eventlog;
+
+import java.util.Map;
+import java.util.LinkedHashMap;
+
+/**
+ * Materialized task state rebuilt from a snapshot and log records
+ * @summary
+ * Holds the last state record of every live task, keyed by ID in insertion order, together with the sequence of the
+ * last record applied.
+ * @author Gonzalo Qu3dena
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+class TaskStateReplay {
+
+  private final Map<Long, TaskEventRecord> tasks = new LinkedHashMap<>();
+  private long sequence;
+
+  /**
+   * Start from the latest snapshot, or from an empty state if there is none
+   * @param snapshots The snapshot store
+   * @return The replay positioned after the snapshot
+   */
+  static TaskStateReplay fromLatestSnapshot(TaskSnapshotStore snapshots) {
+    var replay = new TaskStateReplay();
+    replay.sequence = snapshots.readLatest(record -> replay.tasks.put(record.taskId(), record)).orElse(0L);
+    return replay;
+  }
+
+  /**
+   * Apply a log record; records at or before the current sequence are ignored
+   * @param record The record to apply
+   */
+  void apply(TaskEventRecord record) {
+    if (record.sequence() <= sequence) {
+      return;
+    }
+
+    if (record.type() == TaskEventRecord.TaskEventType.DELETED) {
+      tasks.remove(record.taskId());
+    } else {
+      tasks.put(record.taskId(), record);
+    }
+    sequence = record.sequence();
+  }
+
+  /**
+   * The state of every live task
+   * @return The task states
+   */
+  Map<Long, TaskEventRecord> tasks() {
+    return tasks;
+  }
+
+  /**
+   * The sequence of the last applied record
+   * @return The sequence
+   */
+  long sequence() {
+    return sequence;
+  }
+}
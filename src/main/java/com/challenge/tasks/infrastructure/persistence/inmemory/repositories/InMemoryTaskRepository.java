@@ -0,0 +1,505 @@
+package com.challenge.tasks.infrastructure.persistence.inmemory.repositories;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Repository;
+
+import com.challenge.tasks.domain.model.aggregates.Task;
+import com.challenge.tasks.domain.model.valueobjects.TaskStatus;
+import com.challenge.tasks.domain.model.valueobjects.TaskPriority;
+import com.challenge.tasks.domain.model.valueobjects.TaskDueDateBucket;
+import com.challenge.tasks.domain.model.queries.GetTaskFacetsQuery;
+import com.challenge.tasks.infrastructure.persistence.support.TaskCounts;
+import com.challenge.tasks.infrastructure.persistence.support.TaskCounter;
+import com.challenge.tasks.infrastructure.persistence.support.TaskIndexEntry;
+import com.challenge.tasks.infrastructure.persistence.support.TaskBulkLoader;
+import com.challenge.tasks.infrastructure.persistence.support.TaskFacetCounts;
+import com.challenge.tasks.infrastructure.persistence.support.TaskFacetCounter;
+import com.challenge.tasks.infrastructure.persistence.support.AbstractTaskRepositoryAdapter;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.List;
+import java.util.EnumMap;
+import java.util.Optional;
+import java.util.Collection;
+import java.util.Comparator;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * In-memory task repository
+ * @summary
+ * Storage engine that keeps every task in process memory, bypassing JPA and H2 on the data path. It is activated
+ * with the {@code inmemory} Spring profile and takes precedence over the JPA repository.
+ * <ul>
+ *   <li>Primary storage is a {@link ConcurrentHashMap} keyed by ID. Reads never lock; writes to a given ID are
+ *   serialized by {@link ConcurrentHashMap#compute}, which is also where the secondary indexes are maintained.
+ *   Index lookups re-check the predicate against the primary map, so a reader racing a write never sees a task
+ *   under the wrong key.</li>
+ *   <li>Secondary indexes are partitioned by tenant, so a tenant's queries never scan another tenant's tasks. Within
+ *   a partition, the status and priority indexes are concurrent ID sets; the due date index is a
+ *   {@link ConcurrentSkipListMap} so that range lookups only touch the matching days. The modification time index
+ *   is a {@link ConcurrentSkipListSet} of (updatedAt, ID) pairs, since nearly every timestamp is distinct. A global
+ *   status index serves the archiver, which works across tenants.</li>
+ *   <li>Facets are counted in one pass over the narrowest index matching the filters, reading the stored tasks
+ *   without copying them, see {@link TaskFacetCounter}. Statistics take the sizes of the tenant's status and priority
+ *   indexes and only read the tasks to count overdue ones, see {@link TaskCounter}.</li>
+ *   <li>IDs are allocated from an {@link AtomicLong}.</li>
+ * </ul>
+ * Tasks are copied on the way in and on the way out, so callers can mutate what they get back exactly as they would
+ * a detached JPA entity without affecting the stored state until they call {@link #save}.
+ * @author Gonzalo Qu3dena
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Primary
+@Repository
+@Profile("inmemory")
+public class InMemoryTaskRepository extends AbstractTaskRepositoryAdapter
+    implements TaskBulkLoader, TaskCounter, TaskFacetCounter {
+
+  private static final Comparator<Task> BY_ID = Comparator.comparing(Task::getId);
+
+  private final AtomicLong sequence = new AtomicLong();
+  private final Map<Long, Task> tasks = new ConcurrentHashMap<>();
+  private final Map<TaskStatus, Set<Long>> byStatus = statusIndex();
+  private final Map<String, Partition> partitions = new ConcurrentHashMap<>();
+
+  /**
+   * Constructor of the repository
+   * @param eventPublisher The publisher used for the aggregate's domain events
+   */
+  public InMemoryTaskRepository(ApplicationEventPublisher eventPublisher) {
+    super(eventPublisher);
+  }
+
+  // {@inheritDoc}
+  @Override
+  @SuppressWarnings("unchecked")
+  public <S extends Task> S save(S entity) {
+    var now = LocalDateTime.now();
+    var id = entity.getId();
+    if (id == null) {
+      id = sequence.incrementAndGet();
+    } else {
+      sequence.accumulateAndGet(id, Math::max);
+    }
+
+    var stored = tasks.compute(id, (key, previous) -> {
+      var createdAt = previous != null ? previous.getCreatedAt() : now;
+      var current = copyOf(entity, key, createdAt, now);
+      unindex(previous);
+      index(current);
+      return current;
+    });
+
+    assignIdentity(entity, stored.getId(), stored.getCreatedAt(), stored.getUpdatedAt());
+    publishDomainEvents(entity);
+    return (S) copyOf(stored);
+  }
+
+  // {@inheritDoc}
+  @Override
+  public long load(Iterable<Task> loaded) {
+    long count = 0;
+    for (var task : loaded) {
+      var copy = copyOf(task);
+      sequence.accumulateAndGet(copy.getId(), Math::max);
+      tasks.compute(copy.getId(), (key, previous) -> {
+        unindex(previous);
+        index(copy);
+        return copy;
+      });
+      count++;
+    }
+    return count;
+  }
+
+  // {@inheritDoc}
+  @Override
+  public Optional<Task> findById(Long id) {
+    return Optional.ofNullable(tasks.get(id)).map(InMemoryTaskRepository::copyOf);
+  }
+
+  // {@inheritDoc}
+  @Override
+  public boolean existsById(Long id) {
+    return tasks.containsKey(id);
+  }
+
+  // {@inheritDoc}
+  @Override
+  public List<Task> findAll() {
+    return collect(tasks.keySet(), task -> true);
+  }
+
+  // {@inheritDoc}
+  @Override
+  public Stream<TaskIndexEntry> streamIndexEntries() {
+    return tasks.values().stream().map(TaskIndexEntry::of);
+  }
+
+  // {@inheritDoc}
+  @Override
+  public long count() {
+    return tasks.size();
+  }
+
+  // {@inheritDoc}
+  @Override
+  public void deleteById(Long id) {
+    tasks.computeIfPresent(id, (key, previous) -> {
+      unindex(previous);
+      return null;
+    });
+  }
+
+  // {@inheritDoc}
+  @Override
+  public List<Task> findByTenantId(String tenantId) {
+    return collect(partition(tenantId).ids, task -> task.belongsTo(tenantId));
+  }
+
+  // {@inheritDoc}
+  @Override
+  public List<Task> findByTenantIdAndStatus(String tenantId, TaskStatus status) {
+    return collect(partition(tenantId).byStatus.get(status),
+        task -> task.belongsTo(tenantId) && status.equals(task.getStatus()));
+  }
+
+  // {@inheritDoc}
+  @Override
+  public List<Task> findByTenantIdAndPriority(String tenantId, TaskPriority priority) {
+    return collect(partition(tenantId).byPriority.get(priority),
+        task -> task.belongsTo(tenantId) && priority.equals(task.getPriority()));
+  }
+
+  // {@inheritDoc}
+  @Override
+  public List<Task> findByTenantIdAndStatusAndPriority(String tenantId, TaskStatus status, TaskPriority priority) {
+    var partition = partition(tenantId);
+    return collect(smallerOf(partition.byStatus.get(status), partition.byPriority.get(priority)),
+        task -> task.belongsTo(tenantId) && status.equals(task.getStatus()) && priority.equals(task.getPriority()));
+  }
+
+  // {@inheritDoc}
+  @Override
+  public List<Task> findByTenantIdAndDueDateBetween(String tenantId, LocalDate from, LocalDate to) {
+    var ids = partition(tenantId).byDueDate.subMap(from, true, to, true).values().stream()
+        .flatMap(Set::stream)
+        .collect(Collectors.toList());
+    return collect(ids, task -> task.belongsTo(tenantId) && task.getDueDate() != null
+        && !task.getDueDate().isBefore(from) && !task.getDueDate().isAfter(to));
+  }
+
+  // {@inheritDoc}
+  @Override
+  public List<Task> findByStatusAndUpdatedAtBefore(TaskStatus status, LocalDateTime updatedAt, Limit limit) {
+    var found = collect(byStatus.get(status),
+        task -> status.equals(task.getStatus()) && task.getUpdatedAt().isBefore(updatedAt));
+    return limit.isLimited() && found.size() > limit.max() ? found.subList(0, limit.max()) : found;
+  }
+
+  // {@inheritDoc}
+  @Override
+  public List<Task> findByTenantIdAndUpdatedAtGreaterThanEqual(String tenantId, LocalDateTime updatedAt) {
+    var ids = partition(tenantId).byUpdatedAt.tailSet(new UpdatedAtKey(updatedAt, Long.MIN_VALUE)).stream()
+        .map(UpdatedAtKey::id)
+        .collect(Collectors.toList());
+    return collect(ids, task -> task.belongsTo(tenantId) && !task.getUpdatedAt().isBefore(updatedAt));
+  }
+
+  // {@inheritDoc}
+  @Override
+  public List<Task> findByTenantIdAndSearchTerm(String tenantId, String searchTerm) {
+    return collect(partition(tenantId).ids, matches(searchTerm).and(task -> task.belongsTo(tenantId)));
+  }
+
+  // {@inheritDoc}
+  @Override
+  public List<Task> findByTenantIdAndStatusAndSearchTerm(String tenantId, TaskStatus status, String searchTerm) {
+    return collect(partition(tenantId).byStatus.get(status),
+        matches(searchTerm).and(task -> task.belongsTo(tenantId) && status.equals(task.getStatus())));
+  }
+
+  // {@inheritDoc}
+  @Override
+  public List<Task> findByTenantIdAndPriorityAndSearchTerm(String tenantId, TaskPriority priority,
+      String searchTerm) {
+    return collect(partition(tenantId).byPriority.get(priority),
+        matches(searchTerm).and(task -> task.belongsTo(tenantId) && priority.equals(task.getPriority())));
+  }
+
+  // {@inheritDoc}
+  @Override
+  public List<Task> findByTenantIdAndStatusAndPriorityAndSearchTerm(String tenantId, TaskStatus status,
+      TaskPriority priority, String searchTerm) {
+    var partition = partition(tenantId);
+    return collect(smallerOf(partition.byStatus.get(status), partition.byPriority.get(priority)),
+        matches(searchTerm).and(task -> task.belongsTo(tenantId) && status.equals(task.getStatus())
+            && priority.equals(task.getPriority())));
+  }
+
+  // {@inheritDoc}
+  @Override
+  public TaskCounts count(String tenantId, LocalDate today) {
+    var partition = partition(tenantId);
+    var byStatus = new EnumMap<TaskStatus, Long>(TaskStatus.class);
+    partition.byStatus.forEach((status, ids) -> {
+      if (!ids.isEmpty()) {
+        byStatus.put(status, (long) ids.size());
+      }
+    });
+    var byPriority = new EnumMap<TaskPriority, Long>(TaskPriority.class);
+    partition.byPriority.forEach((priority, ids) -> {
+      if (!ids.isEmpty()) {
+        byPriority.put(priority, (long) ids.size());
+      }
+    });
+
+    // Overdue tasks are both open and due in the past: read whichever of the two sets is smaller
+    var past = partition.byDueDate.headMap(today, false).values();
+    var open = partition.byStatus.entrySet().stream()
+        .filter(entry -> entry.getKey() != TaskStatus.DONE)
+        .map(Map.Entry::getValue)
+        .toList();
+    var pastSize = past.stream().mapToLong(Set::size).sum();
+    var openSize = open.stream().mapToLong(Set::size).sum();
+    long overdue = 0;
+    for (var ids : pastSize <= openSize ? past : open) {
+      for (var id : ids) {
+        var task = tasks.get(id);
+        if (task != null && task.getStatus() != TaskStatus.DONE && task.getDueDate() != null
+            && task.getDueDate().isBefore(today)) {
+          overdue++;
+        }
+      }
+    }
+    return new TaskCounts(byStatus, byPriority, overdue);
+  }
+
+  // {@inheritDoc}
+  @Override
+  public TaskFacetCounts countFacets(GetTaskFacetsQuery query, LocalDate today) {
+    var partition = partition(query.tenantId());
+    var status = query.status();
+    var priority = query.priority();
+    var dueFrom = query.dueFrom();
+    var dueTo = query.dueTo();
+
+    Collection<Long> candidates;
+    if (status != null && priority != null) {
+      candidates = smallerOf(partition.byStatus.get(status), partition.byPriority.get(priority));
+    } else if (status != null) {
+      candidates = partition.byStatus.get(status);
+    } else if (priority != null) {
+      candidates = partition.byPriority.get(priority);
+    } else if (dueFrom != null || dueTo != null) {
+      var dates = dueFrom != null && dueTo != null ? partition.byDueDate.subMap(dueFrom, true, dueTo, true)
+          : dueFrom != null ? partition.byDueDate.tailMap(dueFrom, true) : partition.byDueDate.headMap(dueTo, true);
+      candidates = dates.values().stream().flatMap(Set::stream).collect(Collectors.toList());
+    } else {
+      candidates = partition.ids;
+    }
+
+    Predicate<Task> filter = task -> task.belongsTo(query.tenantId())
+        && (status == null || status.equals(task.getStatus()))
+        && (priority == null || priority.equals(task.getPriority()))
+        && (dueFrom == null || (task.getDueDate() != null && !task.getDueDate().isBefore(dueFrom)))
+        && (dueTo == null || (task.getDueDate() != null && !task.getDueDate().isAfter(dueTo)))
+        && (query.tags() == null || query.tags().matches(task.getTags()));
+    if (query.search() != null) {
+      filter = filter.and(matches(query.search()));
+    }
+
+    var counts = new TaskFacetCounts();
+    for (var id : candidates) {
+      var task = tasks.get(id);
+      if (task != null && filter.test(task)) {
+        counts.add(task.getStatus(), task.getPriority(), TaskDueDateBucket.of(task.getDueDate(), today), 1);
+      }
+    }
+    return counts;
+  }
+
+  /**
+   * Resolve the given IDs against the primary map and return copies of the tasks matching the filter, ordered by ID
+   * <p>
+   * IDs whose task has been deleted concurrently are skipped, and the filter is always evaluated against the
+   * current value in the primary map.
+   * </p>
+   * @param ids The candidate IDs
+   * @param filter The predicate a task must satisfy
+   * @return The matching tasks
+   */
+  private List<Task> collect(Collection<Long> ids, Predicate<Task> filter) {
+    return ids.stream()
+        .map(tasks::get)
+        .filter(task -> task != null && filter.test(task))
+        .sorted(BY_ID)
+        .map(InMemoryTaskRepository::copyOf)
+        .collect(Collectors.toList());
+  }
+
+  /**
+   * Pick the smaller of two index sets to drive an intersection
+   * @param first The first candidate set
+   * @param second The second candidate set
+   * @return The smaller set
+   */
+  private static Set<Long> smallerOf(Set<Long> first, Set<Long> second) {
+    return first.size() <= second.size() ? first : second;
+  }
+
+  /**
+   * Case-insensitive substring match on title and description, mirroring the JPQL {@code LIKE} queries
+   * @param searchTerm The search term
+   * @return The predicate
+   */
+  private static Predicate<Task> matches(String searchTerm) {
+    var term = searchTerm.toLowerCase();
+    return task -> task.getTitle().toLowerCase().contains(term)
+        || (task.getDescription() != null && task.getDescription().toLowerCase().contains(term));
+  }
+
+  /**
+   * Partition of a tenant's indexes, empty when the tenant has never stored a task
+   * @param tenantId The tenant
+   * @return The partition
+   */
+  private Partition partition(String tenantId) {
+    return partitions.getOrDefault(tenantId, Partition.EMPTY);
+  }
+
+  /**
+   * Add a task to the secondary indexes
+   * @param task The task to index
+   */
+  private void index(Task task) {
+    byStatus.get(task.getStatus()).add(task.getId());
+    partitions.computeIfAbsent(task.getTenantId(), tenantId -> new Partition()).add(task);
+  }
+
+  /**
+   * Remove a task from the secondary indexes
+   * @param task The task to remove, may be {@code null}
+   */
+  private void unindex(Task task) {
+    if (task == null) {
+      return;
+    }
+
+    byStatus.get(task.getStatus()).remove(task.getId());
+    var partition = partitions.get(task.getTenantId());
+    if (partition != null) {
+      partition.remove(task);
+    }
+  }
+
+  /**
+   * Status index with an ID set for every status
+   * <p>
+   * The enum keyed map is fully populated here and never structurally modified afterwards, which makes it safe to
+   * share between threads.
+   * </p>
+   * @return The index
+   */
+  private static Map<TaskStatus, Set<Long>> statusIndex() {
+    var index = new EnumMap<TaskStatus, Set<Long>>(TaskStatus.class);
+    for (var status : TaskStatus.values()) {
+      index.put(status, ConcurrentHashMap.newKeySet());
+    }
+    return index;
+  }
+
+  /**
+   * Copy a stored task so that callers never share state with the store
+   * @param task The task to copy
+   * @return The copy
+   */
+  private static Task copyOf(Task task) {
+    return copyOf(task, task.getId(), task.getCreatedAt(), task.getUpdatedAt());
+  }
+
+  /**
+   * Copy a task assigning its identity and audit fields
+   * @param task The task to copy
+   * @param id The ID to assign
+   * @param createdAt The creation timestamp to assign
+   * @param updatedAt The modification timestamp to assign
+   * @return The copy
+   */
+  private static Task copyOf(Task task, Long id, LocalDateTime createdAt, LocalDateTime updatedAt) {
+    return Task.rehydrate(id, task.getTenantId(), task.getTitle(), task.getDescription(), task.getStatus(), task.getPriority(),
+        task.getDueDate(), createdAt, updatedAt, task.getTags());
+  }
+
+  /**
+   * Secondary indexes of one tenant's tasks
+   */
+  private static final class Partition {
+
+    private static final Partition EMPTY = new Partition();
+
+    private final Set<Long> ids = ConcurrentHashMap.newKeySet();
+    private final Map<TaskStatus, Set<Long>> byStatus = statusIndex();
+    private final Map<TaskPriority, Set<Long>> byPriority = new EnumMap<>(TaskPriority.class);
+    // Days without tasks are dropped; writers synchronize on the map so that a day is not dropped while being added to
+    private final ConcurrentSkipListMap<LocalDate, Set<Long>> byDueDate = new ConcurrentSkipListMap<>();
+    private final ConcurrentSkipListSet<UpdatedAtKey> byUpdatedAt = new ConcurrentSkipListSet<>(UpdatedAtKey.ORDER);
+
+    private Partition() {
+      for (var priority : TaskPriority.values()) {
+        byPriority.put(priority, ConcurrentHashMap.newKeySet());
+      }
+    }
+
+    private void add(Task task) {
+      ids.add(task.getId());
+      byStatus.get(task.getStatus()).add(task.getId());
+      byPriority.get(task.getPriority()).add(task.getId());
+      if (task.getDueDate() != null) {
+        synchronized (byDueDate) {
+          byDueDate.computeIfAbsent(task.getDueDate(), date -> ConcurrentHashMap.newKeySet()).add(task.getId());
+        }
+      }
+      byUpdatedAt.add(new UpdatedAtKey(task.getUpdatedAt(), task.getId()));
+    }
+
+    private void remove(Task task) {
+      ids.remove(task.getId());
+      byStatus.get(task.getStatus()).remove(task.getId());
+      byPriority.get(task.getPriority()).remove(task.getId());
+      if (task.getDueDate() != null) {
+        synchronized (byDueDate) {
+          byDueDate.computeIfPresent(task.getDueDate(), (date, dueIds) -> {
+            dueIds.remove(task.getId());
+            return dueIds.isEmpty() ? null : dueIds;
+          });
+        }
+      }
+      byUpdatedAt.remove(new UpdatedAtKey(task.getUpdatedAt(), task.getId()));
+    }
+  }
+
+  /**
+   * Entry of the modification time index
+   * @param updatedAt The modification timestamp of the task
+   * @param id The ID of the task
+   */
+  private record UpdatedAtKey(LocalDateTime updatedAt, Long id) {
+
+    private static final Comparator<UpdatedAtKey> ORDER =
+        Comparator.comparing(UpdatedAtKey::updatedAt).thenComparing(UpdatedAtKey::id);
+  }
+}
@@ -0,0 +1,103 @@
+package com.challenge.tasks.infrastructure.persistence.jdbc;
+
+import org.hibernate.SessionFactory;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.challenge.tasks.domain.model.aggregates.Task;
+import com.challenge.tasks.infrastructure.persistence.support.TaskBulkLoader;
+import com.challenge.tasks.infrastructure.persistence.jpa.converters.TaskTagsConverter;
+
+import jakarta.persistence.EntityManagerFactory;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.ArrayList;
+
+/**
+ * JDBC bulk loader for the tasks table
+ * @summary
+ * Inserts tasks with their original IDs through batched JDBC statements, bypassing the persistence context, and then
+ * moves the identity column past the highest loaded ID so that JPA keeps allocating fresh IDs. Since these writes
+ * bypass Hibernate, the task entity region and the query cache are evicted afterwards.
+ * @author Gonzalo Qu3dena
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Component
+@Profile("!inmemory & !sharded")
+public class JdbcTaskBulkLoader implements TaskBulkLoader {
+
+  private static final int BATCH_SIZE = 1_000;
+
+  private static final String INSERT_SQL = "INSERT INTO tasks "
+      + "(id, tenant_id, title, description, status, priority, due_date, tags, created_at, updated_at) "
+      + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final EntityManagerFactory entityManagerFactory;
+
+  /**
+   * Constructor of the loader
+   * @param jdbcTemplate The template bound to the application datasource
+   * @param entityManagerFactory The factory whose second-level cache is evicted after a load
+   */
+  public JdbcTaskBulkLoader(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.entityManagerFactory = entityManagerFactory;
+  }
+
+  // {@inheritDoc}
+  @Override
+  public long load(Iterable<Task> tasks) {
+    var batch = new ArrayList<Task>(BATCH_SIZE);
+    long loaded = 0;
+    long maxId = 0;
+
+    for (var task : tasks) {
+      batch.add(task);
+      maxId = Math.max(maxId, task.getId());
+      if (batch.size() == BATCH_SIZE) {
+        loaded += insert(batch);
+        batch.clear();
+      }
+    }
+    loaded += insert(batch);
+
+    if (maxId > 0) {
+      jdbcTemplate.execute("ALTER TABLE tasks ALTER COLUMN id RESTART WITH " + (maxId + 1));
+    }
+
+    var cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+    cache.evictEntityData(Task.class);
+    cache.evictQueryRegions();
+    return loaded;
+  }
+
+  /**
+   * Insert one batch of tasks
+   * @param batch The tasks to insert
+   * @return The number of inserted tasks
+   */
+  private int insert(List<Task> batch) {
+    if (batch.isEmpty()) {
+      return 0;
+    }
+
+    jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (statement, task) -> {
+      statement.setLong(1, task.getId());
+      statement.setString(2, task.getTenantId());
+      statement.setString(3, task.getTitle());
+      statement.setString(4, task.getDescription());
+      statement.setString(5, task.getStatus().name());
+      statement.setString(6, task.getPriority().name());
+      statement.setDate(7, task.getDueDate() != null ? Date.valueOf(task.getDueDate()) : null);
+      statement.setString(8, TaskTagsConverter.toColumn(task.getTags()));
+      statement.setTimestamp(9, Timestamp.valueOf(task.getCreatedAt()));
+      statement.setTimestamp(10, Timestamp.valueOf(task.getUpdatedAt()));
+    });
+    return batch.size();
+  }
+}
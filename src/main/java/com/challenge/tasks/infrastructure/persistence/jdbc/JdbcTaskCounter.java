@@ -0,0 +1,45 @@
+package com.challenge.tasks.infrastructure.persistence.jdbc;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.challenge.tasks.domain.model.queries.GetTaskFacetsQuery;
+import com.challenge.tasks.infrastructure.persistence.support.TaskCounts;
+import com.challenge.tasks.infrastructure.persistence.support.TaskCounter;
+import com.challenge.tasks.infrastructure.persistence.support.TaskFacetSql;
+
+import java.time.LocalDate;
+
+/**
+ * JDBC statistics counter for the tasks table
+ * @summary
+ * Counts the tasks of a tenant for the JPA storage engine with the grouped statement of {@link TaskFacetSql} and no
+ * filter, so the statistics read at most one row per status, priority and due date bucket instead of loading every
+ * task of the tenant as an entity. Like {@link JdbcTaskFacetCounter}, the statement joins the transaction of the
+ * caller.
+ * @author Gonzalo Qu3dena
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Component
+@Profile("!inmemory & !sharded")
+public class JdbcTaskCounter implements TaskCounter {
+
+  private final JdbcTemplate jdbcTemplate;
+
+  /**
+   * Constructor of the counter
+   * @param jdbcTemplate The template bound to the application datasource
+   */
+  public JdbcTaskCounter(JdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  // {@inheritDoc}
+  @Override
+  public TaskCounts count(String tenantId, LocalDate today) {
+    var query = new GetTaskFacetsQuery(tenantId, null, null, null, null, null, null);
+    return TaskFacetSql.count(jdbcTemplate, query, today).toCounts();
+  }
+}
@@ -0,0 +1,44 @@
+package com.challenge.tasks.infrastructure.persistence.jdbc;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.challenge.tasks.domain.model.queries.GetTaskFacetsQuery;
+import com.challenge.tasks.infrastructure.persistence.support.TaskFacetSql;
+import com.challenge.tasks.infrastructure.persistence.support.TaskFacetCounts;
+import com.challenge.tasks.infrastructure.persistence.support.TaskFacetCounter;
+
+import java.time.LocalDate;
+
+/**
+ * JDBC facet counter for the tasks table
+ * @summary
+ * Counts facets of the JPA storage engine with the grouped statement of {@link TaskFacetSql} on the application
+ * datasource. Only counters come back, so no entity is materialized and neither the persistence context nor the
+ * second-level cache is involved. The statement joins the transaction of the caller, so it sees what the caller's
+ * reads see.
+ * @author Gonzalo Qu3dena
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Component
+@Profile("!inmemory & !sharded")
+public class JdbcTaskFacetCounter implements TaskFacetCounter {
+
+  private final JdbcTemplate jdbcTemplate;
+
+  /**
+   * Constructor of the counter
+   * @param jdbcTemplate The template bound to the application datasource
+   */
+  public JdbcTaskFacetCounter(JdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  // {@inheritDoc}
+  @Override
+  public TaskFacetCounts countFacets(GetTaskFacetsQuery query, LocalDate today) {
+    return TaskFacetSql.count(jdbcTemplate, query, today);
+  }
+}
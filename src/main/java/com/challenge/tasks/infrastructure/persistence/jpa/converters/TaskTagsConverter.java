@@ -0,0 +1,62 @@
+package com.challenge.tasks.infrastructure.persistence.jpa.converters;
+
+import jakarta.persistence.Converter;
+import jakarta.persistence.AttributeConverter;
+
+import org.hibernate.annotations.Immutable;
+
+import java.util.Arrays;
+import java.util.TreeSet;
+import java.util.SortedSet;
+import java.util.Collections;
+
+/**
+ * Converter of the tags of a task to a single column
+ * @summary
+ * Tags are stored comma-separated in the tasks row instead of in a collection table, so reading a task never joins or
+ * issues a second query for its tags; filtering by tag is served by the in-memory tag index, not by SQL. Tags cannot
+ * contain commas, and a task without tags stores {@code NULL}. The sets are never mutated in place, which lets
+ * Hibernate skip deep copies for dirty checking.
+ * @author Gonzalo Qu3dena
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Immutable
+@Converter
+public class TaskTagsConverter implements AttributeConverter<SortedSet<String>, String> {
+
+  private static final String SEPARATOR = ",";
+
+  // {@inheritDoc}
+  @Override
+  public String convertToDatabaseColumn(SortedSet<String> tags) {
+    return toColumn(tags);
+  }
+
+  // {@inheritDoc}
+  @Override
+  public SortedSet<String> convertToEntityAttribute(String column) {
+    return fromColumn(column);
+  }
+
+  /**
+   * Encode tags as stored in the tags column
+   * @param tags The tags, may be {@code null}
+   * @return The comma-separated tags, {@code null} when there are none
+   */
+  public static String toColumn(SortedSet<String> tags) {
+    return tags == null || tags.isEmpty() ? null : String.join(SEPARATOR, tags);
+  }
+
+  /**
+   * Decode the tags column
+   * @param column The comma-separated tags, may be {@code null}
+   * @return The tags, sorted and unmodifiable
+   */
+  public static SortedSet<String> fromColumn(String column) {
+    if (column == null || column.isEmpty()) {
+      return Collections.emptySortedSet();
+    }
+    return Collections.unmodifiableSortedSet(new TreeSet<>(Arrays.asList(column.split(SEPARATOR))));
+  }
+}
@@ -0,0 +1,27 @@
+package com.challenge.tasks.infrastructure.persistence.jpa.repositories;
+
+import org.springframework.stereotype.Repository;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.challenge.tasks.domain.model.entities.ArchivedTaskCounter;
+
+import java.util.List;
+
+/**
+ * Repository for archived task counters
+ * @summary
+ * This repository is responsible for the persistence of the per-tenant and per-priority counters of archived tasks.
+ * @author Gonzalo Qu3dena
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Repository
+public interface ArchivedTaskCounterRepository extends JpaRepository<ArchivedTaskCounter, ArchivedTaskCounter.Key> {
+
+  /**
+   * Find the counters of a tenant
+   * @param tenantId The tenant
+   * @return The counters of the tenant, one per priority with archived tasks
+   */
+  List<ArchivedTaskCounter> findByTenantId(String tenantId);
+}
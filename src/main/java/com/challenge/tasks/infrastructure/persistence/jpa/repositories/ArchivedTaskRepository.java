@@ -0,0 +1,34 @@
+package com.challenge.tasks.infrastructure.persistence.jpa.repositories;
+
+import org.springframework.stereotype.Repository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.challenge.tasks.domain.model.entities.ArchivedTask;
+import com.challenge.tasks.domain.model.valueobjects.TaskPriority;
+
+import java.util.List;
+
+/**
+ * Repository for archived tasks
+ * @summary
+ * This repository is responsible for the persistence of archived tasks. It is only queried when archived tasks are
+ * explicitly requested.
+ * @author Gonzalo Qu3dena
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Repository
+public interface ArchivedTaskRepository extends JpaRepository<ArchivedTask, Long> {
+
+  /**
+   * Find the archived tasks of a tenant by optional priority and search term
+   * @param tenantId The tenant owning the tasks
+   * @param priority The priority to filter by, or null for any
+   * @param searchTerm The search term for title and description, or null for any
+   * @return List of archived tasks matching the filters
+   */
+  @Query("SELECT a FROM ArchivedTask a WHERE a.tenantId = :tenantId AND (:priority IS NULL OR a.priority = :priority) AND (:searchTerm IS NULL OR LOWER(a.title) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR LOWER(a.description) LIKE LOWER(CONCAT('%', :searchTerm, '%')))")
+  List<ArchivedTask> findByFilters(@Param("tenantId") String tenantId, @Param("priority") TaskPriority priority, @Param("searchTerm") String searchTerm);
+}
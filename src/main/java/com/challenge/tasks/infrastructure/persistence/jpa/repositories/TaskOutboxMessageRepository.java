@@ -0,0 +1,49 @@
+package com.challenge.tasks.infrastructure.persistence.jpa.repositories;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Repository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.repository.query.Param;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.challenge.tasks.domain.model.entities.TaskOutboxMessage;
+
+import java.util.List;
+import java.time.LocalDateTime;
+
+/**
+ * Repository for task outbox messages
+ * @summary
+ * This repository is responsible for the persistence of the task changes waiting to be delivered to webhooks.
+ * @author Gonzalo Qu3dena
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Repository
+public interface TaskOutboxMessageRepository extends JpaRepository<TaskOutboxMessage, Long> {
+
+  /**
+   * Find the pending messages due for delivery, oldest first
+   * @param now The current instant
+   * @param limit The maximum number of messages to return
+   * @return List of due messages
+   */
+  List<TaskOutboxMessage> findByFailedAtIsNullAndNextAttemptAtLessThanEqualOrderById(LocalDateTime now, Limit limit);
+
+  /**
+   * Count the pending messages
+   * @return The number of messages not yet delivered nor given up on
+   */
+  long countByFailedAtIsNull();
+
+  /**
+   * Delete the pending messages of a task up to a delivered one, which supersedes them
+   * @param taskId The ID of the task
+   * @param id The ID of the delivered message
+   * @return The number of deleted messages
+   */
+  @Modifying
+  @Query("DELETE FROM TaskOutboxMessage m WHERE m.taskId = :taskId AND m.id <= :id AND m.failedAt IS NULL")
+  int deleteDelivered(@Param("taskId") Long taskId, @Param("id") Long id);
+}
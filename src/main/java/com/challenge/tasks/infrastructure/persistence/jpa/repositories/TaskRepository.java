@@ -1,82 +1,175 @@
 package com.challenge.tasks.infrastructure.persistence.jpa.repositories;
 
 import org.springframework.stereotype.Repository;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
-import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.repository.ListCrudRepository;
+import org.springframework.data.repository.ListPagingAndSortingRepository;
 
 import com.challenge.tasks.domain.model.aggregates.Task;
 import com.challenge.tasks.domain.model.valueobjects.TaskStatus;
 import com.challenge.tasks.domain.model.valueobjects.TaskPriority;
+import com.challenge.tasks.infrastructure.persistence.support.TaskIndexEntry;
 
 import java.util.List;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
 
 /**
  * Repository for tasks
  * @summary
  * This repository is responsible for the persistence of tasks. It provides methods to find tasks by status, priority, search term and more.
+ * The finders serving requests are scoped by tenant and backed by indexes leading with the tenant column, so their cost
+ * depends on the size of the tenant rather than of the whole table. Those used by the query service are cacheable in
+ * the Hibernate query cache. Only {@link #findAll()}, {@link #findByStatusAndUpdatedAtBefore} and
+ * {@link #streamIndexEntries()} span every tenant, for maintenance jobs and the startup of the in-memory indexes.
+ * <p>
+ * It extends the storage-neutral Spring Data interfaces rather than {@code JpaRepository}, so that the in-memory and
+ * sharded engines implement the whole contract: query-by-example and the persistence context operations are left out,
+ * and the only JPA batch operation the services use is declared here.
+ * </p>
  * @author Gonzalo Qu3dena
  * @version 1.0.0
  * @since 1.0.0
  */
 @Repository
-public interface TaskRepository extends JpaRepository<Task, Long> {
-  
+public interface TaskRepository extends ListCrudRepository<Task, Long>, ListPagingAndSortingRepository<Task, Long> {
+
+  /**
+   * Find all tasks of every tenant
+   * @return List of all tasks
+   */
+  @Override
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+  List<Task> findAll();
+
+  /**
+   * Stream the indexed columns of every task of every tenant
+   * <p>
+   * Rows are fetched from the database in pages of the fetch size as the stream is consumed, and no entity is
+   * materialized. With JPA the stream must be consumed within a transaction and closed.
+   * </p>
+   * @return The entries of all tasks, in no particular order
+   */
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+  @Query("SELECT new com.challenge.tasks.infrastructure.persistence.support.TaskIndexEntry(t.id, t.tenantId, t.title, t.status, t.priority, t.tags, t.updatedAt) FROM Task t")
+  Stream<TaskIndexEntry> streamIndexEntries();
+
+  /**
+   * Find all tasks of a tenant
+   * @param tenantId The tenant owning the tasks
+   * @return List of the tenant's tasks
+   */
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+  List<Task> findByTenantId(String tenantId);
+
   /**
    * Find tasks by status
+   * @param tenantId The tenant owning the tasks
    * @param status The status to filter by
    * @return List of tasks with the specified status
    */
-  List<Task> findByStatus(TaskStatus status);
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+  List<Task> findByTenantIdAndStatus(String tenantId, TaskStatus status);
 
   /**
    * Find tasks by priority
+   * @param tenantId The tenant owning the tasks
    * @param priority The priority to filter by
    * @return List of tasks with the specified priority
    */
-  List<Task> findByPriority(TaskPriority priority);
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+  List<Task> findByTenantIdAndPriority(String tenantId, TaskPriority priority);
 
   /**
    * Find tasks by status and priority
+   * @param tenantId The tenant owning the tasks
    * @param status The status to filter by
    * @param priority The priority to filter by
    * @return List of tasks matching both criteria
    */
-  List<Task> findByStatusAndPriority(TaskStatus status, TaskPriority priority);
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+  List<Task> findByTenantIdAndStatusAndPriority(String tenantId, TaskStatus status, TaskPriority priority);
+
+  /**
+   * Find tasks whose due date falls within the given range (both ends inclusive)
+   * @param tenantId The tenant owning the tasks
+   * @param from The first due date of the range
+   * @param to The last due date of the range
+   * @return List of tasks due within the range
+   */
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+  List<Task> findByTenantIdAndDueDateBetween(String tenantId, LocalDate from, LocalDate to);
+
+  /**
+   * Find tasks of every tenant with the given status that have not been modified since the given instant
+   * @param status The status to filter by
+   * @param updatedAt The instant the tasks must have been last updated before
+   * @param limit The maximum number of tasks to return
+   * @return List of tasks matching the criteria
+   */
+  List<Task> findByStatusAndUpdatedAtBefore(TaskStatus status, LocalDateTime updatedAt, Limit limit);
+
+  /**
+   * Delete the tasks with the given IDs in a single statement, bypassing the persistence context
+   * @param ids The IDs of the tasks to delete
+   */
+  void deleteAllByIdInBatch(Iterable<Long> ids);
+
+  /**
+   * Find tasks modified at or after the given instant
+   * @param tenantId The tenant owning the tasks
+   * @param updatedAt The instant to start from
+   * @return List of tasks modified since the instant
+   */
+  List<Task> findByTenantIdAndUpdatedAtGreaterThanEqual(String tenantId, LocalDateTime updatedAt);
 
   /**
    * Find tasks by search term (searches in title and description)
+   * @param tenantId The tenant owning the tasks
    * @param searchTerm The search term
    * @return List of tasks matching the search term
    */
-  @Query("SELECT t FROM Task t WHERE LOWER(t.title) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR LOWER(t.description) LIKE LOWER(CONCAT('%', :searchTerm, '%'))")
-  List<Task> findBySearchTerm(@Param("searchTerm") String searchTerm);
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+  @Query("SELECT t FROM Task t WHERE t.tenantId = :tenantId AND (LOWER(t.title) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR LOWER(t.description) LIKE LOWER(CONCAT('%', :searchTerm, '%')))")
+  List<Task> findByTenantIdAndSearchTerm(@Param("tenantId") String tenantId, @Param("searchTerm") String searchTerm);
 
   /**
    * Find tasks by status and search term
+   * @param tenantId The tenant owning the tasks
    * @param status The status to filter by
    * @param searchTerm The search term
    * @return List of tasks matching both criteria
    */
-  @Query("SELECT t FROM Task t WHERE t.status = :status AND (LOWER(t.title) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR LOWER(t.description) LIKE LOWER(CONCAT('%', :searchTerm, '%')))")
-  List<Task> findByStatusAndSearchTerm(@Param("status") TaskStatus status, @Param("searchTerm") String searchTerm);
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+  @Query("SELECT t FROM Task t WHERE t.tenantId = :tenantId AND t.status = :status AND (LOWER(t.title) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR LOWER(t.description) LIKE LOWER(CONCAT('%', :searchTerm, '%')))")
+  List<Task> findByTenantIdAndStatusAndSearchTerm(@Param("tenantId") String tenantId, @Param("status") TaskStatus status, @Param("searchTerm") String searchTerm);
 
   /**
    * Find tasks by priority and search term
+   * @param tenantId The tenant owning the tasks
    * @param priority The priority to filter by
    * @param searchTerm The search term
    * @return List of tasks matching both criteria
    */
-  @Query("SELECT t FROM Task t WHERE t.priority = :priority AND (LOWER(t.title) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR LOWER(t.description) LIKE LOWER(CONCAT('%', :searchTerm, '%')))")
-  List<Task> findByPriorityAndSearchTerm(@Param("priority") TaskPriority priority, @Param("searchTerm") String searchTerm);
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+  @Query("SELECT t FROM Task t WHERE t.tenantId = :tenantId AND t.priority = :priority AND (LOWER(t.title) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR LOWER(t.description) LIKE LOWER(CONCAT('%', :searchTerm, '%')))")
+  List<Task> findByTenantIdAndPriorityAndSearchTerm(@Param("tenantId") String tenantId, @Param("priority") TaskPriority priority, @Param("searchTerm") String searchTerm);
 
   /**
    * Find tasks by status, priority and search term
+   * @param tenantId The tenant owning the tasks
    * @param status The status to filter by
    * @param priority The priority to filter by
    * @param searchTerm The search term
    * @return List of tasks matching all criteria
    */
-  @Query("SELECT t FROM Task t WHERE t.status = :status AND t.priority = :priority AND (LOWER(t.title) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR LOWER(t.description) LIKE LOWER(CONCAT('%', :searchTerm, '%')))")
-  List<Task> findByStatusAndPriorityAndSearchTerm(@Param("status") TaskStatus status, @Param("priority") TaskPriority priority, @Param("searchTerm") String searchTerm);
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+  @Query("SELECT t FROM Task t WHERE t.tenantId = :tenantId AND t.status = :status AND t.priority = :priority AND (LOWER(t.title) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR LOWER(t.description) LIKE LOWER(CONCAT('%', :searchTerm, '%')))")
+  List<Task> findByTenantIdAndStatusAndPriorityAndSearchTerm(@Param("tenantId") String tenantId, @Param("status") TaskStatus status, @Param("priority") TaskPriority priority, @Param("searchTerm") String searchTerm);
 }
@@ -0,0 +1,42 @@
+package com.challenge.tasks.infrastructure.persistence.jpa.repositories;
+
+import org.springframework.stereotype.Repository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.repository.query.Param;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.challenge.tasks.domain.model.entities.TaskTombstone;
+
+import java.util.List;
+import java.time.LocalDateTime;
+
+/**
+ * Repository for task tombstones
+ * @summary
+ * This repository is responsible for the persistence of the markers of removed tasks used by delta sync.
+ * @author Gonzalo Qu3dena
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Repository
+public interface TaskTombstoneRepository extends JpaRepository<TaskTombstone, Long> {
+
+  /**
+   * Find the IDs of the tasks of a tenant removed at or after the given instant
+   * @param tenantId The tenant of the removed tasks
+   * @param removedAt The instant to start from
+   * @return List of removed task IDs
+   */
+  @Query("SELECT t.taskId FROM TaskTombstone t WHERE t.tenantId = :tenantId AND t.removedAt >= :removedAt")
+  List<Long> findTaskIdsRemovedSince(@Param("tenantId") String tenantId, @Param("removedAt") LocalDateTime removedAt);
+
+  /**
+   * Delete the tombstones of tasks removed before the given instant
+   * @param removedAt The instant tombstones must be older than
+   * @return The number of deleted tombstones
+   */
+  @Modifying
+  @Query("DELETE FROM TaskTombstone t WHERE t.removedAt < :removedAt")
+  int deleteByRemovedAtBefore(@Param("removedAt") LocalDateTime removedAt);
+}
@@ -0,0 +1,194 @@
+package com.challenge.tasks.infrastructure.persistence.seed;
+
+import com.challenge.tasks.domain.model.aggregates.Task;
+import com.challenge.tasks.domain.model.valueobjects.TaskStatus;
+import com.challenge.tasks.domain.model.valueobjects.TaskPriority;
+
+import java.util.List;
+import java.util.TreeSet;
+import java.util.Iterator;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.SplittableRandom;
+import java.util.NoSuchElementException;
+
+/**
+ * Generator of realistic synthetic tasks
+ * @summary
+ * Produces tasks lazily, so that millions of them can be streamed to a bulk loader without being held in memory. The
+ * same seed and reference time always produce the same tasks. The distributions aim at what a real backlog looks
+ * like rather than at uniform noise:
+ * <ul>
+ *   <li>Creation dates span the last year, skewed towards recent weeks.</li>
+ *   <li>The older a task, the more likely it is {@code DONE}; roughly 15% of the tasks are in progress.</li>
+ *   <li>Priorities are 30% {@code LOW}, 50% {@code MEDIUM} and 20% {@code HIGH}; high priority tasks always have a
+ *   due date, as the business rules require.</li>
+ *   <li>Due dates fall one to sixty days after creation, so open tasks created a while ago are overdue; a quarter of
+ *   the low and medium priority tasks have none.</li>
+ *   <li>Titles combine a verb, a subject and an optional qualifier; subjects follow a skewed distribution, so some
+ *   search terms match many tasks and others only a few. About 40% of the tasks have no description.</li>
+ *   <li>Tasks have up to three tags drawn from the same kind of skewed distribution, so tag filters range from
+ *   broad to selective; a quarter of the tasks are untagged.</li>
+ * </ul>
+ * @author Gonzalo Qu3dena
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class SyntheticTaskGenerator {
+
+  /**
+   * Subjects of the generated titles, most frequent first; they double as search terms
+   */
+  public static final List<String> SUBJECTS = List.of("report", "invoice", "deployment", "review", "meeting",
+      "backup", "release", "audit", "budget", "contract", "roadmap", "newsletter", "onboarding", "migration",
+      "dashboard", "survey", "backlog", "training", "incident", "forecast", "payroll", "benchmark", "website",
+      "presentation", "inventory", "proposal", "certificate", "workshop", "retrospective", "compliance");
+
+  private static final String[] VERBS = {"Prepare", "Review", "Update", "Send", "Schedule", "Draft", "Fix",
+      "Approve", "Plan", "Check", "Finish", "Organize", "Document", "Archive", "Test"};
+
+  private static final String[] QUALIFIERS = {"for Q1", "for Q2", "for Q3", "for Q4", "with the finance team",
+      "for the new client", "before Friday", "for the board", "v2", "for the EMEA region", "with legal",
+      "for the mobile app"};
+
+  private static final String[] SENTENCES = {"Coordinate with the owners before the deadline.",
+      "Numbers must match last month's figures.", "Blocked until the vendor answers.",
+      "Share the outcome in the weekly sync.", "Keep the previous version for reference.",
+      "Follow the checklist in the team wiki.", "Ask for a second review once ready.",
+      "Customer reported this during the last call.", "Low effort, can be done in one sitting.",
+      "Split into smaller tasks if it takes more than a day."};
+
+  /**
+   * Tags of the generated tasks, most frequent first
+   */
+  public static final List<String> TAGS = List.of("backend", "frontend", "urgent", "customer", "finance", "ops",
+      "blocked", "security", "design", "legal", "mobile", "data", "infra", "docs", "qa", "hr");
+
+  private static final int MAX_TAGS = 3;
+
+  private static final TaskPriority[] PRIORITIES = TaskPriority.values();
+
+  private static final int HISTORY_DAYS = 365;
+  private static final int MAX_DUE_DAYS = 60;
+  private static final int SECONDS_PER_DAY = 86_400;
+  private static final int MAX_DESCRIPTION_LENGTH = 250;
+
+  private final long seed;
+  private final LocalDateTime now;
+
+  /**
+   * Constructor of the generator
+   * @param seed The seed of the random sequence
+   * @param now The reference time; creation dates are in the year before it
+   */
+  public SyntheticTaskGenerator(long seed, LocalDateTime now) {
+    this.seed = seed;
+    this.now = now;
+  }
+
+  /**
+   * Lazily generate tasks with consecutive IDs
+   * @param firstId The ID of the first task
+   * @param count The number of tasks
+   * @return The tasks, with their IDs and audit fields set; every iteration yields the same tasks
+   */
+  public Iterable<Task> tasks(long firstId, long count) {
+    return () -> new Iterator<>() {
+
+      private final SplittableRandom random = new SplittableRandom(seed);
+      private long next = firstId;
+
+      @Override
+      public boolean hasNext() {
+        return next < firstId + count;
+      }
+
+      @Override
+      public Task next() {
+        if (!hasNext()) {
+          throw new NoSuchElementException();
+        }
+        return task(next++, random);
+      }
+    };
+  }
+
+  /**
+   * Generate one task
+   * @param id The ID of the task
+   * @param random The random source
+   * @return The task
+   */
+  private Task task(long id, SplittableRandom random) {
+    var ageDays = skewed(random, HISTORY_DAYS);
+    var createdAt = now.minusDays(ageDays).minusSeconds(random.nextInt(SECONDS_PER_DAY));
+    var status = status(random, ageDays);
+    var priority = priority(random);
+    var dueDate = (priority == TaskPriority.HIGH || random.nextInt(4) != 0)
+        ? createdAt.toLocalDate().plusDays(random.nextInt(1, MAX_DUE_DAYS + 1))
+        : null;
+    var updatedAt = status == TaskStatus.TODO && random.nextInt(10) < 7
+        ? createdAt
+        : createdAt.plusSeconds(random.nextLong(Duration.between(createdAt, now).getSeconds() + 1));
+
+    return Task.rehydrate(id, Task.DEFAULT_TENANT, title(random), description(random), status, priority, dueDate,
+        createdAt, updatedAt, tags(random));
+  }
+
+  private static TaskStatus status(SplittableRandom random, int ageDays) {
+    var doneShare = 0.2 + 0.7 * ageDays / HISTORY_DAYS;
+    var roll = random.nextDouble();
+    if (roll < doneShare) {
+      return TaskStatus.DONE;
+    }
+    return roll < doneShare + 0.15 ? TaskStatus.IN_PROGRESS : TaskStatus.TODO;
+  }
+
+  private static TaskPriority priority(SplittableRandom random) {
+    var roll = random.nextInt(10);
+    if (roll < 3) {
+      return TaskPriority.LOW;
+    }
+    return roll < 8 ? TaskPriority.MEDIUM : TaskPriority.HIGH;
+  }
+
+  private static String title(SplittableRandom random) {
+    var title = VERBS[random.nextInt(VERBS.length)] + " " + SUBJECTS.get(skewed(random, SUBJECTS.size()));
+    return random.nextBoolean() ? title + " " + QUALIFIERS[random.nextInt(QUALIFIERS.length)] : title;
+  }
+
+  private static String description(SplittableRandom random) {
+    if (random.nextInt(10) < 4) {
+      return null;
+    }
+
+    var description = new StringBuilder(SENTENCES[random.nextInt(SENTENCES.length)]);
+    for (int sentences = random.nextInt(3); sentences > 0; sentences--) {
+      var sentence = SENTENCES[random.nextInt(SENTENCES.length)];
+      if (description.length() + 1 + sentence.length() > MAX_DESCRIPTION_LENGTH) {
+        break;
+      }
+      description.append(' ').append(sentence);
+    }
+    return description.toString();
+  }
+
+  private static TreeSet<String> tags(SplittableRandom random) {
+    var tags = new TreeSet<String>();
+    for (int count = random.nextInt(MAX_TAGS + 1); count > 0; count--) {
+      tags.add(TAGS.get(skewed(random, TAGS.size())));
+    }
+    return tags;
+  }
+
+  /**
+   * Draw an index in {@code [0, bound)} with low values much more frequent than high ones
+   * @param random The random source
+   * @param bound The exclusive upper bound
+   * @return The index
+   */
+  private static int skewed(SplittableRandom random, int bound) {
+    var uniform = random.nextDouble();
+    return (int) (bound * uniform * uniform);
+  }
+}
@@ -0,0 +1,37 @@
+package com.challenge.tasks.infrastructure.persistence.seed;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+
+import com.challenge.tasks.infrastructure.persistence.support.TaskBulkLoader;
+import com.challenge.tasks.infrastructure.persistence.jpa.repositories.TaskRepository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Spring configuration of the synthetic task seeding
+ * @summary
+ * Wires the generator and the startup seeder. Seeding goes through the {@link TaskBulkLoader}, so it works with both
+ * storage engines, and is disabled unless {@code tasks.seed.enabled} is {@code true}.
+ * @author Gonzalo Qu3dena
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Configuration
+@EnableConfigurationProperties(TaskSeedProperties.class)
+@ConditionalOnProperty(prefix = "tasks.seed", name = "enabled", havingValue = "true")
+public class TaskSeedConfiguration {
+
+  @Bean
+  public SyntheticTaskGenerator syntheticTaskGenerator(TaskSeedProperties properties) {
+    return new SyntheticTaskGenerator(properties.randomSeed(), LocalDateTime.now());
+  }
+
+  @Bean
+  public TaskSeeder taskSeeder(SyntheticTaskGenerator generator, TaskRepository taskRepository,
+      TaskBulkLoader bulkLoader, TaskSeedProperties properties) {
+    return new TaskSeeder(generator, taskRepository, bulkLoader, properties.count(), properties.batchSize());
+  }
+}
@@ -0,0 +1,23 @@
+package com.challenge.tasks.infrastructure.persistence.seed;
+
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties of the synthetic task seeding
+ * @param enabled Whether the tasks table is filled with synthetic tasks at startup
+ * @param count The number of tasks to generate
+ * @param randomSeed The seed of the generator; the same seed and count produce the same tasks
+ * @param batchSize The number of tasks handed to the bulk loader at a time
+ * @author Gonzalo Qu3dena
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@ConfigurationProperties(prefix = "tasks.seed")
+public record TaskSeedProperties(
+  @DefaultValue("false") boolean enabled,
+  @DefaultValue("1000000") long count,
+  @DefaultValue("42") long randomSeed,
+  @DefaultValue("50000") int batchSize
+) {
+}
@@ -0,0 +1,80 @@
+package com.challenge.tasks.infrastructure.persistence.seed;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+
+import com.challenge.tasks.domain.model.aggregates.Task;
+import com.challenge.tasks.infrastructure.persistence.support.TaskBulkLoader;
+import com.challenge.tasks.infrastructure.persistence.jpa.repositories.TaskRepository;
+
+import java.util.ArrayList;
+
+/**
+ * Fills an empty tasks table with synthetic tasks at startup
+ * @summary
+ * Runs once every singleton is initialized, like the snapshot restore, and streams the generated tasks to the bulk
+ * loader in batches so that only one batch is held in memory regardless of the requested count. Seeding is skipped
+ * when the table already holds tasks.
+ * @author Gonzalo Qu3dena
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class TaskSeeder implements SmartInitializingSingleton {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(TaskSeeder.class);
+
+  private static final long PROGRESS_INTERVAL = 1_000_000;
+
+  private final SyntheticTaskGenerator generator;
+  private final TaskRepository taskRepository;
+  private final TaskBulkLoader bulkLoader;
+  private final long count;
+  private final int batchSize;
+
+  /**
+   * Constructor of the seeder
+   * @param generator The generator of the synthetic tasks
+   * @param taskRepository The repository used to check whether the table is empty
+   * @param bulkLoader The loader of the generated tasks
+   * @param count The number of tasks to generate
+   * @param batchSize The number of tasks handed to the bulk loader at a time
+   */
+  public TaskSeeder(SyntheticTaskGenerator generator, TaskRepository taskRepository, TaskBulkLoader bulkLoader,
+      long count, int batchSize) {
+    this.generator = generator;
+    this.taskRepository = taskRepository;
+    this.bulkLoader = bulkLoader;
+    this.count = count;
+    this.batchSize = batchSize;
+  }
+
+  // {@inheritDoc}
+  @Override
+  public void afterSingletonsInstantiated() {
+    if (taskRepository.count() > 0) {
+      LOGGER.info("Tasks table is not empty, skipping synthetic seeding");
+      return;
+    }
+
+    var started = System.nanoTime();
+    var batch = new ArrayList<Task>(batchSize);
+    long loaded = 0;
+    long nextProgress = PROGRESS_INTERVAL;
+    for (var task : generator.tasks(1, count)) {
+      batch.add(task);
+      if (batch.size() == batchSize) {
+        loaded += bulkLoader.load(batch);
+        batch.clear();
+        if (loaded >= nextProgress) {
+          LOGGER.info("Seeded {} of {} synthetic tasks", loaded, count);
+          nextProgress += PROGRESS_INTERVAL;
+        }
+      }
+    }
+    loaded += bulkLoader.load(batch);
+
+    var millis = Math.max(1, (System.nanoTime() - started) / 1_000_000);
+    LOGGER.info("Seeded {} synthetic tasks in {} ms ({} tasks/s)", loaded, millis, loaded * 1_000 / millis);
+  }
+}
@@ -0,0 +1,324 @@
+package com.challenge.tasks.infrastructure.persistence.sharded;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Repository;
+
+import com.challenge.tasks.domain.model.aggregates.Task;
+import com.challenge.tasks.domain.model.valueobjects.TaskStatus;
+import com.challenge.tasks.domain.model.valueobjects.TaskPriority;
+import com.challenge.tasks.domain.model.queries.GetTaskFacetsQuery;
+import com.challenge.tasks.infrastructure.persistence.support.TaskCounts;
+import com.challenge.tasks.infrastructure.persistence.support.TaskCounter;
+import com.challenge.tasks.infrastructure.persistence.support.TaskIndexEntry;
+import com.challenge.tasks.infrastructure.persistence.support.TaskBulkLoader;
+import com.challenge.tasks.infrastructure.persistence.support.TaskFacetCounts;
+import com.challenge.tasks.infrastructure.persistence.support.TaskFacetCounter;
+import com.challenge.tasks.infrastructure.persistence.support.AbstractTaskRepositoryAdapter;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Optional;
+import java.util.ArrayList;
+import java.util.PriorityQueue;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+import java.time.temporal.ChronoUnit;
+import java.util.function.Function;
+
+/**
+ * Sharded task repository
+ * @summary
+ * Storage engine that spreads tasks over several H2 databases so that writes are not serialized by a single one. It
+ * is activated with the {@code sharded} Spring profile and takes precedence over the JPA repository.
+ * <ul>
+ *   <li>Every ID encodes its shard (see {@link TaskShard}), so point reads, updates and deletes go to exactly one
+ *   shard. New tasks are spread over the shards round-robin.</li>
+ *   <li>Tasks of every tenant share the shards; each shard indexes them by tenant first, so tenant-scoped finders
+ *   only read the tenant's rows.</li>
+ *   <li>Finders fan out to every shard in parallel. Each shard returns its tasks ordered by ID and the partial results
+ *   are combined with a k-way merge, so the overall result is ordered by ID as well.</li>
+ *   <li>Counting is pushed down to the shards as a grouped query and the per-shard counters are summed, see
+ *   {@link TaskCounter} and {@link TaskFacetCounter}.</li>
+ * </ul>
+ * Each statement commits on its own shard: like the in-memory engine, task writes do not take part in the
+ * transactions of the application datasource.
+ * @author Gonzalo Qu3dena
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Primary
+@Repository
+@Profile("sharded")
+public class ShardedTaskRepository extends AbstractTaskRepositoryAdapter
+    implements TaskBulkLoader, TaskCounter, TaskFacetCounter {
+
+  private static final int LOAD_BATCH_SIZE = 1_000;
+
+  private static final String SEARCH_CONDITION = "(LOWER(title) LIKE LOWER(CONCAT('%', ?, '%')) "
+      + "OR LOWER(description) LIKE LOWER(CONCAT('%', ?, '%')))";
+
+  private final TaskShards shards;
+
+  /**
+   * Constructor of the repository
+   * @param eventPublisher The publisher used for the aggregate's domain events
+   * @param shards The shard databases
+   */
+  public ShardedTaskRepository(ApplicationEventPublisher eventPublisher, TaskShards shards) {
+    super(eventPublisher);
+    this.shards = shards;
+  }
+
+  // {@inheritDoc}
+  @Override
+  @SuppressWarnings("unchecked")
+  public <S extends Task> S save(S entity) {
+    // Truncated to the precision of the timestamp columns, so the caller's instance matches what is stored
+    var now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+    if (entity.getId() == null) {
+      var id = shards.nextForInsert().insert(entity, now);
+      assignIdentity(entity, id, now, now);
+    } else {
+      var shard = shards.shardOf(entity.getId());
+      var createdAt = shard.update(entity, now).orElseGet(() -> {
+        var created = entity.getCreatedAt() != null ? entity.getCreatedAt() : now;
+        shard.insertAll(List.of(Task.rehydrate(entity.getId(), entity.getTenantId(), entity.getTitle(),
+            entity.getDescription(), entity.getStatus(), entity.getPriority(), entity.getDueDate(), created, now,
+            entity.getTags())));
+        return created;
+      });
+      assignIdentity(entity, entity.getId(), createdAt, now);
+    }
+
+    publishDomainEvents(entity);
+    return (S) copyOf(entity);
+  }
+
+  // {@inheritDoc}
+  @Override
+  public long load(Iterable<Task> loaded) {
+    var batches = new ArrayList<List<Task>>(shards.size());
+    shards.all().forEach(shard -> batches.add(new ArrayList<>(LOAD_BATCH_SIZE)));
+    long count = 0;
+    long maxId = 0;
+
+    for (var task : loaded) {
+      var shard = shards.shardOf(task.getId());
+      var batch = batches.get(shard.index());
+      batch.add(task);
+      if (batch.size() == LOAD_BATCH_SIZE) {
+        shard.insertAll(batch);
+        batch.clear();
+      }
+      maxId = Math.max(maxId, task.getId());
+      count++;
+    }
+
+    var highestId = maxId;
+    shards.fanOut(shard -> {
+      shard.insertAll(batches.get(shard.index()));
+      if (highestId > 0) {
+        shard.restartIdsAfter(highestId);
+      }
+      return null;
+    });
+    return count;
+  }
+
+  // {@inheritDoc}
+  @Override
+  public Optional<Task> findById(Long id) {
+    return shards.shardOf(id).findById(id);
+  }
+
+  // {@inheritDoc}
+  @Override
+  public List<Task> findAll() {
+    return findOnEveryShard(shard -> shard.find(null));
+  }
+
+  // {@inheritDoc}
+  @Override
+  public Stream<TaskIndexEntry> streamIndexEntries() {
+    return shards.all().stream().flatMap(TaskShard::streamIndexEntries);
+  }
+
+  // {@inheritDoc}
+  @Override
+  public long count() {
+    return shards.fanOut(TaskShard::count).stream().mapToLong(Long::longValue).sum();
+  }
+
+  // {@inheritDoc}
+  @Override
+  public TaskCounts count(String tenantId, LocalDate today) {
+    return shards.fanOut(shard -> shard.count(tenantId, today)).stream().reduce(TaskCounts.empty(), TaskCounts::plus);
+  }
+
+  // {@inheritDoc}
+  @Override
+  public TaskFacetCounts countFacets(GetTaskFacetsQuery query, LocalDate today) {
+    return shards.fanOut(shard -> shard.countFacets(query, today)).stream()
+        .reduce(new TaskFacetCounts(), TaskFacetCounts::plus);
+  }
+
+  // {@inheritDoc}
+  @Override
+  public void deleteById(Long id) {
+    shards.shardOf(id).deleteById(id);
+  }
+
+  // {@inheritDoc}
+  @Override
+  public List<Task> findByTenantId(String tenantId) {
+    return findOnEveryShard(shard -> shard.find("tenant_id = ?", tenantId));
+  }
+
+  // {@inheritDoc}
+  @Override
+  public List<Task> findByTenantIdAndStatus(String tenantId, TaskStatus status) {
+    return findOnEveryShard(shard -> shard.find("tenant_id = ? AND status = ?", tenantId, status.name()));
+  }
+
+  // {@inheritDoc}
+  @Override
+  public List<Task> findByTenantIdAndPriority(String tenantId, TaskPriority priority) {
+    return findOnEveryShard(shard -> shard.find("tenant_id = ? AND priority = ?", tenantId, priority.name()));
+  }
+
+  // {@inheritDoc}
+  @Override
+  public List<Task> findByTenantIdAndStatusAndPriority(String tenantId, TaskStatus status, TaskPriority priority) {
+    return findOnEveryShard(shard -> shard.find("tenant_id = ? AND status = ? AND priority = ?", tenantId,
+        status.name(), priority.name()));
+  }
+
+  // {@inheritDoc}
+  @Override
+  public List<Task> findByTenantIdAndDueDateBetween(String tenantId, LocalDate from, LocalDate to) {
+    return findOnEveryShard(shard -> shard.find("tenant_id = ? AND due_date BETWEEN ? AND ?", tenantId,
+        Date.valueOf(from), Date.valueOf(to)));
+  }
+
+  // {@inheritDoc}
+  @Override
+  public List<Task> findByStatusAndUpdatedAtBefore(TaskStatus status, LocalDateTime updatedAt, Limit limit) {
+    var max = limit.isLimited() ? limit.max() : 0;
+    var found = findOnEveryShard(shard -> shard.findFirst("status = ? AND updated_at < ?", max, status.name(),
+        Timestamp.valueOf(updatedAt)));
+    return max > 0 && found.size() > max ? found.subList(0, max) : found;
+  }
+
+  // {@inheritDoc}
+  @Override
+  public List<Task> findByTenantIdAndUpdatedAtGreaterThanEqual(String tenantId, LocalDateTime updatedAt) {
+    return findOnEveryShard(shard -> shard.find("tenant_id = ? AND updated_at >= ?", tenantId,
+        Timestamp.valueOf(updatedAt)));
+  }
+
+  // {@inheritDoc}
+  @Override
+  public List<Task> findByTenantIdAndSearchTerm(String tenantId, String searchTerm) {
+    return findOnEveryShard(shard -> shard.find("tenant_id = ? AND " + SEARCH_CONDITION, tenantId, searchTerm,
+        searchTerm));
+  }
+
+  // {@inheritDoc}
+  @Override
+  public List<Task> findByTenantIdAndStatusAndSearchTerm(String tenantId, TaskStatus status, String searchTerm) {
+    return findOnEveryShard(shard -> shard.find("tenant_id = ? AND status = ? AND " + SEARCH_CONDITION, tenantId,
+        status.name(), searchTerm, searchTerm));
+  }
+
+  // {@inheritDoc}
+  @Override
+  public List<Task> findByTenantIdAndPriorityAndSearchTerm(String tenantId, TaskPriority priority,
+      String searchTerm) {
+    return findOnEveryShard(shard -> shard.find("tenant_id = ? AND priority = ? AND " + SEARCH_CONDITION, tenantId,
+        priority.name(), searchTerm, searchTerm));
+  }
+
+  // {@inheritDoc}
+  @Override
+  public List<Task> findByTenantIdAndStatusAndPriorityAndSearchTerm(String tenantId, TaskStatus status,
+      TaskPriority priority, String searchTerm) {
+    return findOnEveryShard(shard -> shard.find("tenant_id = ? AND status = ? AND priority = ? AND "
+        + SEARCH_CONDITION, tenantId, status.name(), priority.name(), searchTerm, searchTerm));
+  }
+
+  /**
+   * Run a finder on every shard in parallel and merge the partial results
+   * @param finder The finder, returning the tasks of one shard ordered by ID
+   * @return The tasks of every shard, ordered by ID
+   */
+  private List<Task> findOnEveryShard(Function<TaskShard, List<Task>> finder) {
+    return mergeById(shards.fanOut(finder));
+  }
+
+  /**
+   * K-way merge of lists ordered by ID
+   * <p>
+   * A heap holds the head of each list, so merging {@code n} tasks from {@code k} shards takes
+   * {@code O(n log k)} comparisons instead of the {@code O(n log n)} of sorting the concatenation.
+   * </p>
+   * @param partials The lists to merge, each ordered by ID
+   * @return The merged list, ordered by ID
+   */
+  static List<Task> mergeById(List<List<Task>> partials) {
+    if (partials.size() == 1) {
+      return partials.get(0);
+    }
+
+    var heads = new PriorityQueue<Cursor>(partials.size());
+    var size = 0;
+    for (var partial : partials) {
+      size += partial.size();
+      if (!partial.isEmpty()) {
+        heads.add(new Cursor(partial, 0));
+      }
+    }
+
+    var merged = new ArrayList<Task>(size);
+    while (!heads.isEmpty()) {
+      var head = heads.poll();
+      merged.add(head.task());
+      if (head.position() + 1 < head.tasks().size()) {
+        heads.add(new Cursor(head.tasks(), head.position() + 1));
+      }
+    }
+    return merged;
+  }
+
+  /**
+   * Copy a task so that the caller's instance and the returned one never share state, as with the other engines
+   * @param task The task to copy
+   * @return The copy
+   */
+  private static Task copyOf(Task task) {
+    return Task.rehydrate(task.getId(), task.getTenantId(), task.getTitle(), task.getDescription(), task.getStatus(),
+        task.getPriority(), task.getDueDate(), task.getCreatedAt(), task.getUpdatedAt(), task.getTags());
+  }
+
+  /**
+   * Position in one of the lists being merged
+   * @param tasks The list
+   * @param position The index of the next task to merge
+   */
+  private record Cursor(List<Task> tasks, int position) implements Comparable<Cursor> {
+
+    Task task() {
+      return tasks.get(position);
+    }
+
+    // {@inheritDoc}
+    @Override
+    public int compareTo(Cursor other) {
+      return Long.compare(task().getId(), other.task().getId());
+    }
+  }
+}
@@ -0,0 +1,269 @@
+package com.challenge.tasks.infrastructure.persistence.sharded;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+
+import com.challenge.tasks.domain.model.aggregates.Task;
+import com.challenge.tasks.domain.model.valueobjects.TaskStatus;
+import com.challenge.tasks.domain.model.valueobjects.TaskPriority;
+import com.challenge.tasks.domain.model.queries.GetTaskFacetsQuery;
+import com.challenge.tasks.infrastructure.persistence.support.TaskCounts;
+import com.challenge.tasks.infrastructure.persistence.support.TaskIndexEntry;
+import com.challenge.tasks.infrastructure.persistence.support.TaskFacetSql;
+import com.challenge.tasks.infrastructure.persistence.support.TaskFacetCounts;
+import com.challenge.tasks.infrastructure.persistence.jpa.converters.TaskTagsConverter;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.EnumMap;
+import java.util.Optional;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+/**
+ * One shard of the sharded storage engine
+ * @summary
+ * An H2 database with its own connection pool holding the tasks whose ID maps to this shard. IDs are allocated from
+ * the shard's {@code task_ids} sequence and encoded as {@code sequence * shardCount + index}, so the shard of any ID
+ * is {@code id % shardCount} without a lookup. Every finder returns its tasks ordered by ID.
+ * @author Gonzalo Qu3dena
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class TaskShard implements AutoCloseable {
+
+  private static final String COLUMNS = "id, tenant_id, title, description, status, priority, due_date, tags, "
+      + "created_at, updated_at";
+
+  private static final String INSERT_SQL = "SELECT id FROM FINAL TABLE (INSERT INTO tasks (" + COLUMNS + ") "
+      + "VALUES (NEXT VALUE FOR task_ids * ? + ?, ?, ?, ?, ?, ?, ?, ?, ?, ?))";
+
+  private static final String INSERT_WITH_ID_SQL = "INSERT INTO tasks (" + COLUMNS + ") "
+      + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+  private static final String UPDATE_SQL = "SELECT created_at FROM FINAL TABLE (UPDATE tasks "
+      + "SET title = ?, description = ?, status = ?, priority = ?, due_date = ?, tags = ?, updated_at = ? "
+      + "WHERE id = ?)";
+
+  private static final String COUNT_SQL = "SELECT status, priority, COUNT(*), "
+      + "COUNT(CASE WHEN due_date < ? AND status <> 'DONE' THEN 1 END) FROM tasks WHERE tenant_id = ? "
+      + "GROUP BY status, priority";
+
+  private static final RowMapper<Task> TASK_MAPPER = (resultSet, row) -> Task.rehydrate(
+      resultSet.getLong("id"),
+      resultSet.getString("tenant_id"),
+      resultSet.getString("title"),
+      resultSet.getString("description"),
+      TaskStatus.valueOf(resultSet.getString("status")),
+      TaskPriority.valueOf(resultSet.getString("priority")),
+      resultSet.getObject("due_date", LocalDate.class),
+      resultSet.getObject("created_at", LocalDateTime.class),
+      resultSet.getObject("updated_at", LocalDateTime.class),
+      TaskTagsConverter.fromColumn(resultSet.getString("tags")));
+
+  private static final RowMapper<TaskIndexEntry> INDEX_ENTRY_MAPPER = (resultSet, row) -> new TaskIndexEntry(
+      resultSet.getLong("id"),
+      resultSet.getString("tenant_id"),
+      resultSet.getString("title"),
+      TaskStatus.valueOf(resultSet.getString("status")),
+      TaskPriority.valueOf(resultSet.getString("priority")),
+      TaskTagsConverter.fromColumn(resultSet.getString("tags")),
+      resultSet.getObject("updated_at", LocalDateTime.class));
+
+  private final int index;
+  private final int shardCount;
+  private final HikariDataSource dataSource;
+  private final JdbcTemplate jdbcTemplate;
+
+  /**
+   * Open the shard database and create its schema if needed
+   * @param index The index of this shard
+   * @param shardCount The total number of shards
+   * @param url The JDBC URL of the shard database
+   * @param poolSize The number of pooled connections
+   */
+  public TaskShard(int index, int shardCount, String url, int poolSize) {
+    this.index = index;
+    this.shardCount = shardCount;
+
+    var config = new HikariConfig();
+    config.setPoolName("task-shard-" + index);
+    config.setJdbcUrl(url);
+    config.setUsername("sa");
+    config.setMaximumPoolSize(poolSize);
+    config.setMinimumIdle(poolSize);
+    this.dataSource = new HikariDataSource(config);
+    this.jdbcTemplate = new JdbcTemplate(dataSource);
+
+    new ResourceDatabasePopulator(new ClassPathResource("db/task-shard-schema.sql")).execute(dataSource);
+  }
+
+  /**
+   * Index of this shard
+   * @return The index, between 0 and the shard count
+   */
+  public int index() {
+    return index;
+  }
+
+  /**
+   * Insert a new task, allocating its ID from this shard's sequence
+   * @param task The task to insert
+   * @param now The creation and modification timestamp
+   * @return The allocated ID
+   */
+  public long insert(Task task, LocalDateTime now) {
+    var timestamp = Timestamp.valueOf(now);
+    return jdbcTemplate.queryForObject(INSERT_SQL, Long.class, shardCount, index, task.getTenantId(),
+        task.getTitle(),
+        task.getDescription(), task.getStatus().name(), task.getPriority().name(), dateOf(task.getDueDate()),
+        TaskTagsConverter.toColumn(task.getTags()), timestamp, timestamp);
+  }
+
+  /**
+   * Insert tasks keeping their IDs and audit fields
+   * @param tasks The tasks to insert; every ID must map to this shard
+   */
+  public void insertAll(List<Task> tasks) {
+    if (tasks.isEmpty()) {
+      return;
+    }
+
+    jdbcTemplate.batchUpdate(INSERT_WITH_ID_SQL, tasks, tasks.size(), (statement, task) -> {
+      statement.setLong(1, task.getId());
+      statement.setString(2, task.getTenantId());
+      statement.setString(3, task.getTitle());
+      statement.setString(4, task.getDescription());
+      statement.setString(5, task.getStatus().name());
+      statement.setString(6, task.getPriority().name());
+      statement.setDate(7, dateOf(task.getDueDate()));
+      statement.setString(8, TaskTagsConverter.toColumn(task.getTags()));
+      statement.setTimestamp(9, Timestamp.valueOf(task.getCreatedAt()));
+      statement.setTimestamp(10, Timestamp.valueOf(task.getUpdatedAt()));
+    });
+  }
+
+  /**
+   * Update the mutable columns of a stored task
+   * @param task The task to update
+   * @param now The modification timestamp
+   * @return The creation timestamp of the stored task, empty if there is no task with this ID
+   */
+  public Optional<LocalDateTime> update(Task task, LocalDateTime now) {
+    return jdbcTemplate.query(UPDATE_SQL, (resultSet, row) -> resultSet.getObject(1, LocalDateTime.class),
+        task.getTitle(), task.getDescription(), task.getStatus().name(), task.getPriority().name(),
+        dateOf(task.getDueDate()), TaskTagsConverter.toColumn(task.getTags()), Timestamp.valueOf(now), task.getId())
+        .stream().findFirst();
+  }
+
+  /**
+   * Move the ID sequence past the given ID
+   * @param maxId The highest ID in use across all shards
+   */
+  public void restartIdsAfter(long maxId) {
+    jdbcTemplate.execute("ALTER SEQUENCE task_ids RESTART WITH " + (maxId / shardCount + 1));
+  }
+
+  /**
+   * Find a task by ID
+   * @param id The ID
+   * @return The task, empty if it is not stored in this shard
+   */
+  public Optional<Task> findById(long id) {
+    return find("id = ?", id).stream().findFirst();
+  }
+
+  /**
+   * Find the tasks matching a condition, ordered by ID
+   * @param condition The SQL condition, {@code null} for every task
+   * @param arguments The arguments of the condition
+   * @return The matching tasks
+   */
+  public List<Task> find(String condition, Object... arguments) {
+    return findFirst(condition, 0, arguments);
+  }
+
+  /**
+   * Find the first tasks matching a condition, ordered by ID
+   * @param condition The SQL condition, {@code null} for every task
+   * @param limit The maximum number of tasks, 0 for no limit
+   * @param arguments The arguments of the condition
+   * @return The matching tasks
+   */
+  public List<Task> findFirst(String condition, int limit, Object... arguments) {
+    var sql = "SELECT " + COLUMNS + " FROM tasks" + (condition != null ? " WHERE " + condition : "") + " ORDER BY id"
+        + (limit > 0 ? " FETCH FIRST " + limit + " ROWS ONLY" : "");
+    return jdbcTemplate.query(sql, TASK_MAPPER, arguments);
+  }
+
+  /**
+   * Stream the indexed columns of every task of this shard
+   * @return The entries, read as the stream is consumed; the stream holds a connection until it is closed
+   */
+  public Stream<TaskIndexEntry> streamIndexEntries() {
+    return jdbcTemplate.queryForStream("SELECT id, tenant_id, title, status, priority, tags, updated_at FROM tasks",
+        INDEX_ENTRY_MAPPER);
+  }
+
+  /**
+   * Delete a task
+   * @param id The ID of the task
+   */
+  public void deleteById(long id) {
+    jdbcTemplate.update("DELETE FROM tasks WHERE id = ?", id);
+  }
+
+  /**
+   * Count the tasks of this shard
+   * @return The number of tasks
+   */
+  public long count() {
+    return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tasks", Long.class);
+  }
+
+  /**
+   * Count a tenant's tasks of this shard by status and priority with a single grouped query
+   * @param tenantId The tenant
+   * @param today The date tasks due before are overdue
+   * @return The counters
+   */
+  public TaskCounts count(String tenantId, LocalDate today) {
+    var byStatus = new EnumMap<TaskStatus, Long>(TaskStatus.class);
+    var byPriority = new EnumMap<TaskPriority, Long>(TaskPriority.class);
+    var overdue = new long[1];
+    jdbcTemplate.query(COUNT_SQL, resultSet -> {
+      var count = resultSet.getLong(3);
+      byStatus.merge(TaskStatus.valueOf(resultSet.getString(1)), count, Long::sum);
+      byPriority.merge(TaskPriority.valueOf(resultSet.getString(2)), count, Long::sum);
+      overdue[0] += resultSet.getLong(4);
+    }, Date.valueOf(today), tenantId);
+    return new TaskCounts(byStatus, byPriority, overdue[0]);
+  }
+
+  /**
+   * Count a tenant's tasks of this shard matching the filters of a query with a single grouped query
+   * @param query The query with the filters
+   * @param today The date due date buckets are relative to
+   * @return The counters
+   */
+  public TaskFacetCounts countFacets(GetTaskFacetsQuery query, LocalDate today) {
+    return TaskFacetSql.count(jdbcTemplate, query, today);
+  }
+
+  // {@inheritDoc}
+  @Override
+  public void close() {
+    dataSource.close();
+  }
+
+  private static Date dateOf(LocalDate date) {
+    return date != null ? Date.valueOf(date) : null;
+  }
+}
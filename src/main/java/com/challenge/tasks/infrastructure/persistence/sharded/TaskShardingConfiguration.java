@@ -0,0 +1,26 @@
+package com.challenge.tasks.infrastructure.persistence.sharded;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+
+/**
+ * Spring configuration of the sharded storage engine
+ * @summary
+ * Opens the shard databases for the {@link ShardedTaskRepository}. Everything here is only active with the
+ * {@code sharded} Spring profile.
+ * @author Gonzalo Qu3dena
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Configuration
+@Profile("sharded")
+@EnableConfigurationProperties(TaskShardingProperties.class)
+public class TaskShardingConfiguration {
+
+  @Bean(destroyMethod = "close")
+  public TaskShards taskShards(TaskShardingProperties properties) {
+    return new TaskShards(properties.shards(), properties.urlTemplate(), properties.poolSize());
+  }
+}
@@ -0,0 +1,22 @@
+package com.challenge.tasks.infrastructure.persistence.sharded;
+
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties of the sharded storage engine
+ * @param shards The number of H2 databases tasks are spread over; it is encoded in every ID, so it cannot change once
+ * tasks have been stored
+ * @param urlTemplate The JDBC URL of a shard, with {@code %d} standing for the shard index
+ * @param poolSize The number of pooled connections per shard
+ * @author Gonzalo Qu3dena
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@ConfigurationProperties(prefix = "tasks.sharding")
+public record TaskShardingProperties(
+  @DefaultValue("4") int shards,
+  @DefaultValue("jdbc:h2:mem:tasks-shard-%d;DB_CLOSE_DELAY=-1") String urlTemplate,
+  @DefaultValue("4") int poolSize
+) {
+}
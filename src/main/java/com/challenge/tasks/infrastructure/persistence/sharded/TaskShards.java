@@ -0,0 +1,119 @@
+package com.challenge.tasks.infrastructure.persistence.sharded;
+
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.List;
+import java.util.ArrayList;
+import java.util.function.Function;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The set of shards of the sharded storage engine
+ * @summary
+ * Routes point operations to the shard encoded in the task ID, spreads new tasks over the shards round-robin and runs
+ * scatter operations on every shard in parallel on a dedicated pool with one thread per shard.
+ * @author Gonzalo Qu3dena
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class TaskShards implements AutoCloseable {
+
+  private final List<TaskShard> shards;
+  private final ExecutorService executor;
+  private final AtomicInteger nextInsert = new AtomicInteger();
+
+  /**
+   * Open the shard databases
+   * @param count The number of shards
+   * @param urlTemplate The JDBC URL of a shard, with {@code %d} standing for the shard index
+   * @param poolSize The number of pooled connections per shard
+   */
+  public TaskShards(int count, String urlTemplate, int poolSize) {
+    if (count < 1) {
+      throw new IllegalArgumentException("At least one shard is required, got " + count);
+    }
+
+    var opened = new ArrayList<TaskShard>(count);
+    for (int i = 0; i < count; i++) {
+      opened.add(new TaskShard(i, count, String.format(urlTemplate, i), poolSize));
+    }
+    this.shards = List.copyOf(opened);
+
+    var threadFactory = new CustomizableThreadFactory("task-shard-");
+    threadFactory.setDaemon(true);
+    this.executor = Executors.newFixedThreadPool(count, threadFactory);
+  }
+
+  /**
+   * Number of shards
+   * @return The shard count
+   */
+  public int size() {
+    return shards.size();
+  }
+
+  /**
+   * Every shard, ordered by index
+   * @return The shards
+   */
+  public List<TaskShard> all() {
+    return shards;
+  }
+
+  /**
+   * Shard holding the task with the given ID
+   * @param id The task ID
+   * @return The shard
+   */
+  public TaskShard shardOf(long id) {
+    return shards.get((int) Math.floorMod(id, (long) shards.size()));
+  }
+
+  /**
+   * Shard receiving the next new task
+   * @return The shard
+   */
+  public TaskShard nextForInsert() {
+    return shards.get(Math.floorMod(nextInsert.getAndIncrement(), shards.size()));
+  }
+
+  /**
+   * Run an operation on every shard in parallel
+   * <p>
+   * Failures are rethrown unwrapped once every shard has finished, so callers see the same exceptions as with a
+   * single database.
+   * </p>
+   * @param operation The operation to run
+   * @param <T> The type of the per-shard result
+   * @return The results, ordered by shard index
+   */
+  public <T> List<T> fanOut(Function<TaskShard, T> operation) {
+    if (shards.size() == 1) {
+      return List.of(operation.apply(shards.get(0)));
+    }
+
+    var futures = shards.stream()
+        .map(shard -> CompletableFuture.supplyAsync(() -> operation.apply(shard), executor))
+        .toList();
+    try {
+      CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw e;
+    }
+    return futures.stream().map(CompletableFuture::join).toList();
+  }
+
+  // {@inheritDoc}
+  @Override
+  public void close() {
+    executor.shutdownNow();
+    shards.forEach(TaskShard::close);
+  }
+}
@@ -0,0 +1,63 @@
+package com.challenge.tasks.infrastructure.persistence.snapshot;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+
+import com.challenge.tasks.infrastructure.persistence.support.TaskBulkLoader;
+import com.challenge.tasks.infrastructure.persistence.jpa.repositories.TaskRepository;
+
+import javax.sql.DataSource;
+
+/**
+ * Spring configuration of the tasks table snapshots
+ * @summary
+ * Wires the snapshot store, the background writer and the startup restore. Snapshots read the tasks table through
+ * JDBC, so they are only available with the JPA storage engine, and everything is disabled unless
+ * {@code tasks.snapshot.enabled} is {@code true}.
+ * <p>
+ * Only the tasks table is snapshotted. The archiver moves DONE tasks to the archive, counter and tombstone tables,
+ * which a restore would not bring back, so startup is refused while {@code tasks.archive.enabled} is also
+ * {@code true} rather than silently losing archived tasks, their statistics and their sync tombstones.
+ * </p>
+ * @author Gonzalo Qu3dena
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Configuration
+@Profile("!inmemory & !sharded")
+@EnableConfigurationProperties(TaskTableSnapshotProperties.class)
+@ConditionalOnProperty(prefix = "tasks.snapshot", name = "enabled", havingValue = "true")
+public class TaskTableSnapshotConfiguration {
+
+  /**
+   * Constructor of the configuration
+   * @param archiveEnabled Whether the archiver is enabled
+   * @throws IllegalStateException if the archiver is enabled
+   */
+  public TaskTableSnapshotConfiguration(@Value("${tasks.archive.enabled:false}") boolean archiveEnabled) {
+    if (archiveEnabled) {
+      throw new IllegalStateException("Table snapshots do not cover archived tasks: set tasks.archive.enabled=false "
+          + "when tasks.snapshot.enabled=true");
+    }
+  }
+
+  @Bean
+  public TaskTableSnapshotStore taskTableSnapshotStore(TaskTableSnapshotProperties properties) {
+    return new TaskTableSnapshotStore(properties.directory());
+  }
+
+  @Bean
+  public TaskTableSnapshotWriter taskTableSnapshotWriter(DataSource dataSource, TaskTableSnapshotStore snapshots) {
+    return new TaskTableSnapshotWriter(dataSource, snapshots);
+  }
+
+  @Bean
+  public TaskTableSnapshotRestore taskTableSnapshotRestore(TaskTableSnapshotStore snapshots,
+      TaskRepository taskRepository, TaskBulkLoader bulkLoader, TaskTableSnapshotProperties properties) {
+    return new TaskTableSnapshotRestore(snapshots, taskRepository, bulkLoader, properties.restoreBatchSize());
+  }
+}
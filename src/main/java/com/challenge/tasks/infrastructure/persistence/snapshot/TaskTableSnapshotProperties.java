@@ -0,0 +1,26 @@
+package com.challenge.tasks.infrastructure.persistence.snapshot;
+
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Configuration properties of the tasks table snapshots
+ * @param enabled Whether the tasks table is periodically dumped to disk and restored at startup
+ * @param directory The directory holding the snapshot files
+ * @param interval How often a new snapshot is written
+ * @param restoreBatchSize The number of tasks handed to the bulk loader at a time while restoring
+ * @author Gonzalo Qu3dena
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@ConfigurationProperties(prefix = "tasks.snapshot")
+public record TaskTableSnapshotProperties(
+  @DefaultValue("false") boolean enabled,
+  @DefaultValue("data/snapshot") Path directory,
+  @DefaultValue("5m") Duration interval,
+  @DefaultValue("50000") int restoreBatchSize
+) {
+}
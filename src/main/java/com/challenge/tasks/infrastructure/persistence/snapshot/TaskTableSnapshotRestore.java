@@ -0,0 +1,74 @@
+package com.challenge.tasks.infrastructure.persistence.snapshot;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+
+import com.challenge.tasks.domain.model.aggregates.Task;
+import com.challenge.tasks.infrastructure.persistence.support.TaskBulkLoader;
+import com.challenge.tasks.infrastructure.persistence.jpa.repositories.TaskRepository;
+
+import java.util.ArrayList;
+
+/**
+ * Bulk-loads the latest tasks table snapshot at startup
+ * @summary
+ * Runs once every singleton is initialized, which is after the schema exists and before the application reports
+ * itself ready. Rows are decoded as the snapshot is streamed and handed to the bulk loader in batches. Restore is
+ * skipped when the table already holds tasks, so a durable database is never loaded twice.
+ * @author Gonzalo Qu3dena
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class TaskTableSnapshotRestore implements SmartInitializingSingleton {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(TaskTableSnapshotRestore.class);
+
+  private final TaskTableSnapshotStore snapshots;
+  private final TaskRepository taskRepository;
+  private final TaskBulkLoader bulkLoader;
+  private final int batchSize;
+
+  /**
+   * Constructor of the restore
+   * @param snapshots The snapshot store
+   * @param taskRepository The repository used to check whether the table is empty
+   * @param bulkLoader The loader of the restored tasks
+   * @param batchSize The number of tasks handed to the bulk loader at a time
+   */
+  public TaskTableSnapshotRestore(TaskTableSnapshotStore snapshots, TaskRepository taskRepository,
+      TaskBulkLoader bulkLoader, int batchSize) {
+    this.snapshots = snapshots;
+    this.taskRepository = taskRepository;
+    this.bulkLoader = bulkLoader;
+    this.batchSize = batchSize;
+  }
+
+  // {@inheritDoc}
+  @Override
+  public void afterSingletonsInstantiated() {
+    var latest = snapshots.latest();
+    if (latest.isEmpty()) {
+      return;
+    }
+    if (taskRepository.count() > 0) {
+      LOGGER.info("Tasks table is not empty, skipping snapshot restore");
+      return;
+    }
+
+    var started = System.nanoTime();
+    var batch = new ArrayList<Task>(batchSize);
+    var loaded = new long[1];
+    snapshots.read(latest.get(), record -> {
+      batch.add(record.toTask());
+      if (batch.size() == batchSize) {
+        loaded[0] += bulkLoader.load(batch);
+        batch.clear();
+      }
+    });
+    loaded[0] += bulkLoader.load(batch);
+
+    LOGGER.info("Restored {} tasks from {} in {} ms", loaded[0], latest.get().getFileName(),
+        (System.nanoTime() - started) / 1_000_000);
+  }
+}
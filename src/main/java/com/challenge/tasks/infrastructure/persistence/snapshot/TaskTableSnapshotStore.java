@@ -0,0 +1,175 @@
+package com.challenge.tasks.infrastructure.persistence.snapshot;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.challenge.tasks.infrastructure.persistence.support.DurableFiles;
+import com.challenge.tasks.infrastructure.persistence.eventlog.TaskEventRecord;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+import java.util.zip.DeflaterOutputStream;
+import java.io.IOException;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.UncheckedIOException;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.nio.file.Files;
+
+/**
+ * Compressed on-disk snapshots of the tasks table
+ * @summary
+ * Snapshots are streamed: rows are encoded and deflated as they are produced, so neither writing nor reading ever
+ * holds the whole table in memory. Each snapshot is written to a temporary file, forced to disk and atomically
+ * renamed, and older snapshots are only removed once the new one and its name are durable: the in-memory database
+ * has no other copy, so a power loss must never leave a torn newest snapshot with the older ones already gone.
+ * <p>
+ * File layout (deflated): magic (int), format version (int), then one {@code [length:int][payload]} entry per task
+ * using the {@link TaskEventRecord} encoding, terminated by a zero length.
+ * </p>
+ * @author Gonzalo Qu3dena
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class TaskTableSnapshotStore {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(TaskTableSnapshotStore.class);
+
+  private static final int MAGIC = 0x54534B54;
+  private static final int VERSION = 1;
+  private static final int BUFFER_SIZE = 1 << 16;
+  private static final String SNAPSHOT_PREFIX = "tasks-";
+  private static final String SNAPSHOT_SUFFIX = ".snapshot";
+
+  private final Path directory;
+
+  /**
+   * Constructor of the store, creating the directory if needed
+   * @param directory The directory holding the snapshot files
+   */
+  public TaskTableSnapshotStore(Path directory) {
+    this.directory = directory;
+    try {
+      Files.createDirectories(directory);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Cannot create task snapshot directory " + directory, e);
+    }
+  }
+
+  /**
+   * Durably write a snapshot and remove the older ones
+   * @param source Callback that feeds every task row to the given consumer
+   * @return The number of tasks written
+   */
+  public long write(Consumer<Consumer<TaskEventRecord>> source) {
+    var target = directory.resolve(String.format("%s%020d%s", SNAPSHOT_PREFIX, System.currentTimeMillis(),
+        SNAPSHOT_SUFFIX));
+    var temporary = directory.resolve(target.getFileName() + ".tmp");
+    var deflater = new Deflater(Deflater.BEST_SPEED);
+    long written;
+
+    try {
+      try (var output = new DataOutputStream(new BufferedOutputStream(
+          new DeflaterOutputStream(Files.newOutputStream(temporary), deflater, BUFFER_SIZE), BUFFER_SIZE))) {
+        output.writeInt(MAGIC);
+        output.writeInt(VERSION);
+
+        var buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        var count = new long[1];
+        source.accept(task -> {
+          buffer.clear();
+          task.encode(buffer);
+          try {
+            output.writeInt(buffer.position());
+            output.write(buffer.array(), 0, buffer.position());
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+          count[0]++;
+        });
+        output.writeInt(0);
+        written = count[0];
+      }
+      DurableFiles.replace(temporary, target);
+    } catch (IOException e) {
+      deleteQuietly(temporary);
+      throw new UncheckedIOException("Cannot write task snapshot " + target, e);
+    } catch (UncheckedIOException e) {
+      deleteQuietly(temporary);
+      throw new UncheckedIOException("Cannot write task snapshot " + target, e.getCause());
+    } finally {
+      deflater.end();
+    }
+
+    snapshotFiles().stream()
+        .filter(file -> !file.equals(target))
+        .forEach(this::deleteQuietly);
+    return written;
+  }
+
+  /**
+   * Latest complete snapshot
+   * @return The snapshot file, empty when there is none
+   */
+  public Optional<Path> latest() {
+    var files = snapshotFiles();
+    return files.isEmpty() ? Optional.empty() : Optional.of(files.get(files.size() - 1));
+  }
+
+  /**
+   * Read every task of a snapshot
+   * @param snapshot The snapshot file
+   * @param consumer The consumer of the task rows
+   * @return The number of tasks read
+   */
+  public long read(Path snapshot, Consumer<TaskEventRecord> consumer) {
+    try (var input = new DataInputStream(new BufferedInputStream(
+        new InflaterInputStream(Files.newInputStream(snapshot), new Inflater(), BUFFER_SIZE),
+        BUFFER_SIZE))) {
+      if (input.readInt() != MAGIC || input.readInt() != VERSION) {
+        throw new IllegalStateException("Unsupported task snapshot format: " + snapshot);
+      }
+
+      long count = 0;
+      var bytes = new byte[BUFFER_SIZE];
+      int length;
+      while ((length = input.readInt()) > 0) {
+        input.readFully(bytes, 0, length);
+        consumer.accept(TaskEventRecord.decode(ByteBuffer.wrap(bytes, 0, length)));
+        count++;
+      }
+      return count;
+    } catch (IOException e) {
+      throw new UncheckedIOException("Cannot read task snapshot " + snapshot, e);
+    }
+  }
+
+  private List<Path> snapshotFiles() {
+    try (var files = Files.list(directory)) {
+      return files
+          .filter(file -> {
+            var name = file.getFileName().toString();
+            return name.startsWith(SNAPSHOT_PREFIX) && name.endsWith(SNAPSHOT_SUFFIX);
+          })
+          .sorted()
+          .toList();
+    } catch (IOException e) {
+      throw new UncheckedIOException("Cannot list task snapshots in " + directory, e);
+    }
+  }
+
+  private void deleteQuietly(Path file) {
+    try {
+      Files.deleteIfExists(file);
+    } catch (IOException e) {
+      LOGGER.warn("Cannot delete obsolete task snapshot {}", file, e);
+    }
+  }
+}
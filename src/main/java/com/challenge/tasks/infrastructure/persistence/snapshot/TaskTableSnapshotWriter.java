@@ -0,0 +1,85 @@
+package com.challenge.tasks.infrastructure.persistence.snapshot;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import com.challenge.tasks.domain.model.valueobjects.TaskStatus;
+import com.challenge.tasks.domain.model.valueobjects.TaskPriority;
+import com.challenge.tasks.infrastructure.persistence.eventlog.TaskEventRecord;
+import com.challenge.tasks.infrastructure.persistence.eventlog.TaskEventRecord.TaskEventType;
+import com.challenge.tasks.infrastructure.persistence.jpa.converters.TaskTagsConverter;
+
+import javax.sql.DataSource;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Periodically dumps the tasks table to a snapshot
+ * @summary
+ * Runs on the scheduler thread and streams the table with a single forward-only query, encoding rows as they arrive.
+ * The database serves the query from a consistent MVCC view, so writers are never blocked while a snapshot is taken.
+ * A last snapshot is written on shutdown so that a clean restart loses nothing.
+ * @author Gonzalo Qu3dena
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class TaskTableSnapshotWriter implements DisposableBean {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(TaskTableSnapshotWriter.class);
+
+  private static final int FETCH_SIZE = 10_000;
+
+  private static final String SELECT_SQL = "SELECT id, tenant_id, title, description, status, priority, due_date, "
+      + "tags, created_at, updated_at FROM tasks ORDER BY id";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final TaskTableSnapshotStore snapshots;
+
+  /**
+   * Constructor of the writer
+   * @param dataSource The application datasource
+   * @param snapshots The snapshot store
+   */
+  public TaskTableSnapshotWriter(DataSource dataSource, TaskTableSnapshotStore snapshots) {
+    this.jdbcTemplate = new JdbcTemplate(dataSource);
+    this.jdbcTemplate.setFetchSize(FETCH_SIZE);
+    this.snapshots = snapshots;
+  }
+
+  /**
+   * Write a new snapshot of the tasks table
+   * @return The number of tasks written
+   */
+  @Scheduled(fixedDelayString = "${tasks.snapshot.interval:5m}", initialDelayString = "${tasks.snapshot.interval:5m}")
+  public synchronized long snapshot() {
+    var started = System.nanoTime();
+    var written = snapshots.write(consumer -> jdbcTemplate.query(SELECT_SQL, resultSet -> {
+      consumer.accept(new TaskEventRecord(
+          0,
+          TaskEventType.CREATED,
+          resultSet.getLong("id"),
+          resultSet.getString("title"),
+          resultSet.getString("description"),
+          TaskStatus.valueOf(resultSet.getString("status")),
+          TaskPriority.valueOf(resultSet.getString("priority")),
+          resultSet.getObject("due_date", LocalDate.class),
+          resultSet.getObject("created_at", LocalDateTime.class),
+          resultSet.getObject("updated_at", LocalDateTime.class),
+          resultSet.getString("tenant_id"),
+          TaskTagsConverter.fromColumn(resultSet.getString("tags"))));
+    }));
+
+    LOGGER.info("Wrote snapshot of {} tasks in {} ms", written, (System.nanoTime() - started) / 1_000_000);
+    return written;
+  }
+
+  // {@inheritDoc}
+  @Override
+  public void destroy() {
+    snapshot();
+  }
+}
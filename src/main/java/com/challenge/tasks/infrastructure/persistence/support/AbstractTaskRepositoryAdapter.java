@@ -0,0 +1,194 @@
+package com.challenge.tasks.infrastructure.persistence.support;
+
+import org.springframework.beans.BeanWrapperImpl;
+import org.springframework.beans.DirectFieldAccessor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.util.ReflectionUtils;
+
+import com.challenge.tasks.domain.model.aggregates.Task;
+import com.challenge.tasks.infrastructure.persistence.jpa.repositories.TaskRepository;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.time.LocalDateTime;
+import java.lang.reflect.Method;
+
+/**
+ * Base class for non-JPA implementations of the task repository
+ * @summary
+ * This class implements the generic part of the {@link TaskRepository} contract (batch variants, sorting and paging)
+ * on top of a handful of primitives, so that alternative storage engines only have to provide the operations the
+ * services actually use. Sorting and paging order and slice {@link #findAll()} in memory.
+ * <p>
+ * It also reproduces the two side effects callers rely on from Spring Data JPA: identity and audit fields are
+ * written back into the saved instance, and the aggregate's domain events are published after save and delete.
+ * </p>
+ * @author Gonzalo Qu3dena
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public abstract class AbstractTaskRepositoryAdapter implements TaskRepository {
+
+  private static final Method DOMAIN_EVENTS = accessibleMethod("domainEvents");
+  private static final Method CLEAR_DOMAIN_EVENTS = accessibleMethod("clearDomainEvents");
+
+  private final ApplicationEventPublisher eventPublisher;
+
+  /**
+   * Constructor of the adapter
+   * @param eventPublisher The publisher used for the aggregate's domain events
+   */
+  protected AbstractTaskRepositoryAdapter(ApplicationEventPublisher eventPublisher) {
+    this.eventPublisher = eventPublisher;
+  }
+
+  // {@inheritDoc}
+  @Override
+  public <S extends Task> List<S> saveAll(Iterable<S> entities) {
+    var saved = new ArrayList<S>();
+    entities.forEach(entity -> saved.add(save(entity)));
+    return saved;
+  }
+
+  // {@inheritDoc}
+  @Override
+  public List<Task> findAllById(Iterable<Long> ids) {
+    var found = new ArrayList<Task>();
+    ids.forEach(id -> findById(id).ifPresent(found::add));
+    return found;
+  }
+
+  // {@inheritDoc}
+  @Override
+  public boolean existsById(Long id) {
+    return findById(id).isPresent();
+  }
+
+  // {@inheritDoc}
+  @Override
+  public void delete(Task entity) {
+    deleteById(entity.getId());
+    publishDomainEvents(entity);
+  }
+
+  // {@inheritDoc}
+  @Override
+  public void deleteAllById(Iterable<? extends Long> ids) {
+    ids.forEach(this::deleteById);
+  }
+
+  // {@inheritDoc}
+  @Override
+  public void deleteAll(Iterable<? extends Task> entities) {
+    entities.forEach(this::delete);
+  }
+
+  // {@inheritDoc}
+  @Override
+  public void deleteAll() {
+    findAll().forEach(this::delete);
+  }
+
+  // {@inheritDoc}
+  @Override
+  public void deleteAllByIdInBatch(Iterable<Long> ids) {
+    deleteAllById(ids);
+  }
+
+  // {@inheritDoc}
+  @Override
+  public List<Task> findAll(Sort sort) {
+    var tasks = new ArrayList<>(findAll());
+    if (sort.isSorted()) {
+      tasks.sort(comparator(sort));
+    }
+    return tasks;
+  }
+
+  // {@inheritDoc}
+  @Override
+  public Page<Task> findAll(Pageable pageable) {
+    var tasks = findAll(pageable.getSort());
+    if (pageable.isUnpaged()) {
+      return new PageImpl<>(tasks);
+    }
+
+    var from = (int) Math.min(pageable.getOffset(), tasks.size());
+    var to = Math.min(from + pageable.getPageSize(), tasks.size());
+    return new PageImpl<>(new ArrayList<>(tasks.subList(from, to)), pageable, tasks.size());
+  }
+
+  /**
+   * Write the identity and audit fields assigned by the storage engine back into the caller's instance, as a JPA
+   * persist would
+   * @param task The saved task
+   * @param id The assigned ID
+   * @param createdAt The creation timestamp
+   * @param updatedAt The modification timestamp
+   */
+  protected static void assignIdentity(Task task, Long id, LocalDateTime createdAt, LocalDateTime updatedAt) {
+    var accessor = new DirectFieldAccessor(task);
+    accessor.setPropertyValue("id", id);
+    accessor.setPropertyValue("createdAt", createdAt);
+    accessor.setPropertyValue("updatedAt", updatedAt);
+  }
+
+  /**
+   * Publish and clear the domain events registered on the aggregate
+   * @param task The aggregate whose events are published
+   */
+  protected void publishDomainEvents(Task task) {
+    var events = (Collection<?>) ReflectionUtils.invokeMethod(DOMAIN_EVENTS, task);
+    if (events == null || events.isEmpty()) {
+      return;
+    }
+
+    List.copyOf(events).forEach(eventPublisher::publishEvent);
+    ReflectionUtils.invokeMethod(CLEAR_DOMAIN_EVENTS, task);
+  }
+
+  /**
+   * Resolve one of the protected domain event methods of the aggregate root
+   * @param name The method name
+   * @return The accessible method
+   */
+  private static Method accessibleMethod(String name) {
+    var method = ReflectionUtils.findMethod(Task.class, name);
+    if (method == null) {
+      throw new IllegalStateException("Task does not declare " + name + "()");
+    }
+
+    ReflectionUtils.makeAccessible(method);
+    return method;
+  }
+
+  /**
+   * Build an in-memory comparator equivalent to the ORDER BY clause of a sort
+   * @param sort The sort, by task property
+   * @return The comparator
+   */
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private static Comparator<Task> comparator(Sort sort) {
+    Comparator<Task> comparator = (left, right) -> 0;
+    for (var order : sort) {
+      Comparator<Object> values = order.isIgnoreCase()
+          ? Comparator.comparing(value -> value.toString().toLowerCase(Locale.ROOT))
+          : (left, right) -> ((Comparable) left).compareTo(right);
+      if (order.isDescending()) {
+        values = values.reversed();
+      }
+      values = order.getNullHandling() == Sort.NullHandling.NULLS_FIRST ? Comparator.nullsFirst(values)
+          : Comparator.nullsLast(values);
+      comparator = comparator.thenComparing(task -> new BeanWrapperImpl(task).getPropertyValue(order.getProperty()),
+          values);
+    }
+    return comparator;
+  }
+}
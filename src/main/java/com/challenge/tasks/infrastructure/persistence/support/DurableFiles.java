@@ -0,0 +1,61 @@
+package com.challenge.tasks.infrastructure.persistence.support;
+
+import java.util.Locale;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Files;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * Crash-safe replacement of files
+ * @summary
+ * An atomic rename only orders the directory entry: after a power loss the new name may survive while the data
+ * written before it does not, leaving an empty or torn file. {@link #replace} therefore forces the content of the
+ * temporary file to the storage device before renaming it, then forces the directory so that the rename itself is
+ * durable. Files superseded by the target may only be deleted once it returns.
+ * @author Gonzalo Qu3dena
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class DurableFiles {
+
+  private static final boolean WINDOWS = System.getProperty("os.name", "").toLowerCase(Locale.ROOT)
+      .startsWith("windows");
+
+  private DurableFiles() {
+  }
+
+  /**
+   * Durably move a completely written temporary file over its target
+   * @param temporary The temporary file, closed
+   * @param target The file to create or replace
+   * @throws IOException if the file or the directory cannot be forced, or the file cannot be moved
+   */
+  public static void replace(Path temporary, Path target) throws IOException {
+    try (var channel = FileChannel.open(temporary, StandardOpenOption.WRITE)) {
+      channel.force(true);
+    }
+    Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    forceDirectory(target.toAbsolutePath().getParent());
+  }
+
+  /**
+   * Force the entries of a directory, such as created, renamed or deleted files, to the storage device
+   * <p>
+   * Windows cannot open a directory as a channel, so the call does nothing there.
+   * </p>
+   * @param directory The directory
+   * @throws IOException if the directory cannot be forced
+   */
+  public static void forceDirectory(Path directory) throws IOException {
+    if (WINDOWS) {
+      return;
+    }
+
+    try (var channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+      channel.force(true);
+    }
+  }
+}
@@ -0,0 +1,26 @@
+package com.challenge.tasks.infrastructure.persistence.support;
+
+import com.challenge.tasks.domain.model.aggregates.Task;
+
+/**
+ * Bulk loader for tasks
+ * @summary
+ * Loads fully materialized tasks (ID and audit fields included) into the active storage engine without going through
+ * the aggregate's command path: no domain events are published and the given identities are kept. Used to rebuild
+ * the store at startup.
+ * @author Gonzalo Qu3dena
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public interface TaskBulkLoader {
+
+  /**
+   * Load the given tasks, keeping their IDs and audit fields
+   * <p>
+   * After loading, newly created tasks receive IDs greater than any loaded one.
+   * </p>
+   * @param tasks The tasks to load
+   * @return The number of tasks loaded
+   */
+  long load(Iterable<Task> tasks);
+}
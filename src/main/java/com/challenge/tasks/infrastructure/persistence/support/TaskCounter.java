@@ -0,0 +1,24 @@
+package com.challenge.tasks.infrastructure.persistence.support;
+
+import java.time.LocalDate;
+
+/**
+ * Aggregate counting capability of a storage engine
+ * @summary
+ * Implemented by storage engines that can count the stored tasks of a tenant without loading them, so that the
+ * statistics query does not have to materialize every task. Engines without it fall back to counting the result of
+ * {@code findByTenantId}.
+ * @author Gonzalo Qu3dena
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public interface TaskCounter {
+
+  /**
+   * Count the stored tasks of a tenant
+   * @param tenantId The tenant owning the tasks
+   * @param today The date tasks due before are overdue
+   * @return The counters by status and priority and the overdue count
+   */
+  TaskCounts count(String tenantId, LocalDate today);
+}
@@ -0,0 +1,59 @@
+package com.challenge.tasks.infrastructure.persistence.support;
+
+import com.challenge.tasks.domain.model.valueobjects.TaskStatus;
+import com.challenge.tasks.domain.model.valueobjects.TaskPriority;
+
+import java.util.Map;
+import java.util.EnumMap;
+
+/**
+ * Task counters computed by the storage engine
+ * @summary
+ * Counts of the stored tasks by status and by priority, plus the number of overdue tasks. Counters of disjoint sets of
+ * tasks, such as the shards of a sharded store, are combined with {@link #plus}.
+ * @param byStatus The number of tasks per status
+ * @param byPriority The number of tasks per priority
+ * @param overdue The number of tasks past their due date that are not done
+ * @author Gonzalo Qu3dena
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public record TaskCounts(
+  Map<TaskStatus, Long> byStatus,
+  Map<TaskPriority, Long> byPriority,
+  long overdue
+) {
+
+  /**
+   * Counters of an empty store
+   * @return The empty counters
+   */
+  public static TaskCounts empty() {
+    return new TaskCounts(new EnumMap<>(TaskStatus.class), new EnumMap<>(TaskPriority.class), 0);
+  }
+
+  /**
+   * Total number of tasks
+   * @return The sum of the counters by status
+   */
+  public long total() {
+    return byStatus.values().stream().mapToLong(Long::longValue).sum();
+  }
+
+  /**
+   * Combine these counters with the counters of a disjoint set of tasks
+   * @param other The other counters
+   * @return The summed counters
+   */
+  public TaskCounts plus(TaskCounts other) {
+    var status = new EnumMap<TaskStatus, Long>(TaskStatus.class);
+    status.putAll(byStatus);
+    other.byStatus().forEach((key, count) -> status.merge(key, count, Long::sum));
+
+    var priority = new EnumMap<TaskPriority, Long>(TaskPriority.class);
+    priority.putAll(byPriority);
+    other.byPriority().forEach((key, count) -> priority.merge(key, count, Long::sum));
+
+    return new TaskCounts(status, priority, overdue + other.overdue());
+  }
+}
@@ -0,0 +1,26 @@
+package com.challenge.tasks.infrastructure.persistence.support;
+
+import com.challenge.tasks.domain.model.queries.GetTaskFacetsQuery;
+
+import java.time.LocalDate;
+
+/**
+ * Facet counting capability of a storage engine
+ * @summary
+ * Counts the active tasks matching the filters of a task list by status, priority and due date bucket without loading
+ * them: the relational engines push it down as one grouped query, see {@link TaskFacetSql}, and the in-memory engine
+ * answers it in one pass over its indexes. Every storage engine provides it.
+ * @author Gonzalo Qu3dena
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public interface TaskFacetCounter {
+
+  /**
+   * Count the active tasks matching the filters of a query
+   * @param query The query with the filters
+   * @param today The date due date buckets are relative to
+   * @return The counters by status, priority and due date bucket
+   */
+  TaskFacetCounts countFacets(GetTaskFacetsQuery query, LocalDate today);
+}
@@ -0,0 +1,116 @@
+package com.challenge.tasks.infrastructure.persistence.support;
+
+import com.challenge.tasks.domain.model.valueobjects.TaskStatus;
+import com.challenge.tasks.domain.model.valueobjects.TaskFacets;
+import com.challenge.tasks.domain.model.valueobjects.TaskPriority;
+import com.challenge.tasks.domain.model.valueobjects.TaskDueDateBucket;
+
+import java.util.Map;
+import java.util.EnumMap;
+
+/**
+ * Task facet counters computed by the storage engine
+ * @summary
+ * Number of tasks per status, priority and due date bucket: the finest grouping every facet can be derived from, so
+ * engines fill it from a single grouped query or a single pass. Counters of disjoint sets of tasks, such as the
+ * shards of a sharded store, are combined with {@link #plus}.
+ * @author Gonzalo Qu3dena
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class TaskFacetCounts {
+
+  private static final TaskStatus[] STATUSES = TaskStatus.values();
+  private static final TaskPriority[] PRIORITIES = TaskPriority.values();
+  private static final TaskDueDateBucket[] BUCKETS = TaskDueDateBucket.values();
+
+  private final long[] cells = new long[STATUSES.length * PRIORITIES.length * BUCKETS.length];
+
+  /**
+   * Add tasks to a cell
+   * @param status The status of the tasks
+   * @param priority The priority of the tasks
+   * @param bucket The due date bucket of the tasks
+   * @param count The number of tasks
+   */
+  public void add(TaskStatus status, TaskPriority priority, TaskDueDateBucket bucket, long count) {
+    cells[cell(status, priority, bucket)] += count;
+  }
+
+  /**
+   * Combine these counters with the counters of a disjoint set of tasks
+   * @param other The other counters
+   * @return The summed counters
+   */
+  public TaskFacetCounts plus(TaskFacetCounts other) {
+    var sum = new TaskFacetCounts();
+    for (int i = 0; i < cells.length; i++) {
+      sum.cells[i] = cells[i] + other.cells[i];
+    }
+    return sum;
+  }
+
+  /**
+   * Derive the statistics counters; overdue tasks are the ones due in the past that are not done
+   * @return The counters, with only the statuses and priorities that have tasks
+   */
+  public TaskCounts toCounts() {
+    var byStatus = new EnumMap<TaskStatus, Long>(TaskStatus.class);
+    var byPriority = new EnumMap<TaskPriority, Long>(TaskPriority.class);
+    long overdue = 0;
+
+    for (var status : STATUSES) {
+      for (var priority : PRIORITIES) {
+        for (var bucket : BUCKETS) {
+          var cell = cells[cell(status, priority, bucket)];
+          if (cell == 0) {
+            continue;
+          }
+          byStatus.merge(status, cell, Long::sum);
+          byPriority.merge(priority, cell, Long::sum);
+          if (bucket == TaskDueDateBucket.PAST && status != TaskStatus.DONE) {
+            overdue += cell;
+          }
+        }
+      }
+    }
+    return new TaskCounts(byStatus, byPriority, overdue);
+  }
+
+  /**
+   * Derive the facets; overdue tasks are the ones due in the past that are not done
+   * @return The facets, with every status, priority and bucket present
+   */
+  public TaskFacets toFacets() {
+    var byStatusAndPriority = new EnumMap<TaskStatus, Map<TaskPriority, Long>>(TaskStatus.class);
+    var byDueDate = new EnumMap<TaskDueDateBucket, Long>(TaskDueDateBucket.class);
+    for (var bucket : BUCKETS) {
+      byDueDate.put(bucket, 0L);
+    }
+    long total = 0;
+    long overdue = 0;
+
+    for (var status : STATUSES) {
+      var byPriority = new EnumMap<TaskPriority, Long>(TaskPriority.class);
+      for (var priority : PRIORITIES) {
+        long count = 0;
+        for (var bucket : BUCKETS) {
+          var cell = cells[cell(status, priority, bucket)];
+          count += cell;
+          byDueDate.merge(bucket, cell, Long::sum);
+          if (bucket == TaskDueDateBucket.PAST && status != TaskStatus.DONE) {
+            overdue += cell;
+          }
+        }
+        byPriority.put(priority, count);
+        total += count;
+      }
+      byStatusAndPriority.put(status, byPriority);
+    }
+    return new TaskFacets(total, byStatusAndPriority, overdue, byDueDate);
+  }
+
+  private static int cell(TaskStatus status, TaskPriority priority, TaskDueDateBucket bucket) {
+    return (status.ordinal() * PRIORITIES.length + priority.ordinal()) * BUCKETS.length + bucket.ordinal();
+  }
+}
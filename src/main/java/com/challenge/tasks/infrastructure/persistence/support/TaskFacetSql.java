@@ -0,0 +1,117 @@
+package com.challenge.tasks.infrastructure.persistence.support;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.challenge.tasks.domain.model.valueobjects.TaskStatus;
+import com.challenge.tasks.domain.model.valueobjects.TaskPriority;
+import com.challenge.tasks.domain.model.valueobjects.TagExpression;
+import com.challenge.tasks.domain.model.valueobjects.TaskDueDateBucket;
+import com.challenge.tasks.domain.model.queries.GetTaskFacetsQuery;
+
+import java.sql.Date;
+import java.util.List;
+import java.util.ArrayList;
+import java.time.LocalDate;
+
+/**
+ * Grouped facet query over a {@code tasks} table
+ * @summary
+ * Builds the single statement the relational engines count facets with: the filters become a {@code WHERE} clause,
+ * the due date is mapped to its {@link TaskDueDateBucket} with a {@code CASE} and the rows are grouped by status,
+ * priority and bucket, so the database returns at most one row per cell and no task leaves it. The tag expression is
+ * translated to {@code LIKE} predicates on the comma-separated {@code tags} column, delimited on both sides so that a
+ * tag never matches a longer one. Both the JPA schema and the shard schema use the same table and column names.
+ * @author Gonzalo Qu3dena
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class TaskFacetSql {
+
+  private static final TaskDueDateBucket[] BUCKETS = TaskDueDateBucket.values();
+
+  private static final String BUCKET_CASE = "CASE WHEN due_date IS NULL THEN " + TaskDueDateBucket.NONE.ordinal()
+      + " WHEN due_date < ? THEN " + TaskDueDateBucket.PAST.ordinal()
+      + " WHEN due_date = ? THEN " + TaskDueDateBucket.TODAY.ordinal()
+      + " WHEN due_date <= ? THEN " + TaskDueDateBucket.NEXT_7_DAYS.ordinal()
+      + " ELSE " + TaskDueDateBucket.LATER.ordinal() + " END";
+
+  private static final String SEARCH_CONDITION = "(LOWER(title) LIKE LOWER(CONCAT('%', ?, '%')) "
+      + "OR LOWER(description) LIKE LOWER(CONCAT('%', ?, '%')))";
+
+  private static final String TAG_CONDITION = "CONCAT(',', COALESCE(tags, ''), ',') LIKE ? ESCAPE '\\'";
+
+  private TaskFacetSql() {
+  }
+
+  /**
+   * Count the tasks of the table matching the filters of a query
+   * @param jdbcTemplate The template bound to the database holding the table
+   * @param query The query with the filters
+   * @param today The date due date buckets are relative to
+   * @return The counters
+   */
+  public static TaskFacetCounts count(JdbcTemplate jdbcTemplate, GetTaskFacetsQuery query, LocalDate today) {
+    var arguments = new ArrayList<Object>();
+    arguments.add(Date.valueOf(today));
+    arguments.add(Date.valueOf(today));
+    arguments.add(Date.valueOf(today.plusDays(TaskDueDateBucket.UPCOMING_DAYS)));
+
+    var where = new StringBuilder("tenant_id = ?");
+    arguments.add(query.tenantId());
+    if (query.status() != null) {
+      where.append(" AND status = ?");
+      arguments.add(query.status().name());
+    }
+    if (query.priority() != null) {
+      where.append(" AND priority = ?");
+      arguments.add(query.priority().name());
+    }
+    if (query.search() != null) {
+      where.append(" AND ").append(SEARCH_CONDITION);
+      arguments.add(query.search());
+      arguments.add(query.search());
+    }
+    if (query.dueFrom() != null) {
+      where.append(" AND due_date >= ?");
+      arguments.add(Date.valueOf(query.dueFrom()));
+    }
+    if (query.dueTo() != null) {
+      where.append(" AND due_date <= ?");
+      arguments.add(Date.valueOf(query.dueTo()));
+    }
+    if (query.tags() != null) {
+      where.append(" AND ").append(condition(query.tags(), arguments));
+    }
+
+    var sql = "SELECT status, priority, bucket, COUNT(*) FROM (SELECT status, priority, " + BUCKET_CASE
+        + " AS bucket FROM tasks WHERE " + where + ") AS filtered GROUP BY status, priority, bucket";
+
+    var counts = new TaskFacetCounts();
+    jdbcTemplate.query(sql, resultSet -> {
+      counts.add(TaskStatus.valueOf(resultSet.getString(1)), TaskPriority.valueOf(resultSet.getString(2)),
+          BUCKETS[resultSet.getInt(3)], resultSet.getLong(4));
+    }, arguments.toArray());
+    return counts;
+  }
+
+  /**
+   * Translate a tag expression to an SQL condition
+   * @param expression The expression
+   * @param arguments The statement arguments, to which the tag patterns are appended
+   * @return The condition
+   */
+  private static String condition(TagExpression expression, List<Object> arguments) {
+    if (expression instanceof TagExpression.Tag tag) {
+      // '_' is the only LIKE wildcard a tag can contain
+      arguments.add("%," + tag.name().replace("_", "\\_") + ",%");
+      return TAG_CONDITION;
+    }
+    if (expression instanceof TagExpression.And and) {
+      return "(" + condition(and.left(), arguments) + " AND " + condition(and.right(), arguments) + ")";
+    }
+    if (expression instanceof TagExpression.Or or) {
+      return "(" + condition(or.left(), arguments) + " OR " + condition(or.right(), arguments) + ")";
+    }
+    return "NOT (" + condition(((TagExpression.Not) expression).operand(), arguments) + ")";
+  }
+}
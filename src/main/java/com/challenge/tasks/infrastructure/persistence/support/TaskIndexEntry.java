@@ -0,0 +1,46 @@
+package com.challenge.tasks.infrastructure.persistence.support;
+
+import com.challenge.tasks.domain.model.aggregates.Task;
+import com.challenge.tasks.domain.model.valueobjects.TaskStatus;
+import com.challenge.tasks.domain.model.valueobjects.TaskPriority;
+
+import java.util.SortedSet;
+import java.time.LocalDateTime;
+
+/**
+ * The columns of a task the in-memory indexes are built from
+ * @summary
+ * Projection read by {@code TaskRepository#streamIndexEntries()} when an index is built at startup, so that the
+ * storage engines neither load the description nor materialize, copy or cache whole tasks. Indexes apply the task
+ * domain events through {@link #of(Task)}, so that both paths share one representation.
+ * @param id The ID of the task
+ * @param tenantId The tenant owning the task
+ * @param title The title of the task
+ * @param status The status of the task
+ * @param priority The priority of the task
+ * @param tags The tags of the task
+ * @param updatedAt The modification timestamp of the task
+ * @author Gonzalo Qu3dena
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public record TaskIndexEntry(
+  Long id,
+  String tenantId,
+  String title,
+  TaskStatus status,
+  TaskPriority priority,
+  SortedSet<String> tags,
+  LocalDateTime updatedAt
+) {
+
+  /**
+   * Project a task
+   * @param task The task
+   * @return The entry of the task
+   */
+  public static TaskIndexEntry of(Task task) {
+    return new TaskIndexEntry(task.getId(), task.getTenantId(), task.getTitle(), task.getStatus(), task.getPriority(),
+        task.getTags(), task.getUpdatedAt());
+  }
+}
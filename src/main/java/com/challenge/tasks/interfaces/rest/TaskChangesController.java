@@ -0,0 +1,49 @@
+package com.challenge.tasks.interfaces.rest;
+
+import com.challenge.tasks.domain.model.aggregates.Task;
+import com.challenge.tasks.interfaces.rest.changefeed.TaskChangeFeed;
+import com.challenge.tasks.interfaces.rest.resources.TaskChangeResource;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * REST Controller for the task change feed
+ */
+@RestController
+@RequestMapping("/api/tasks")
+@Tag(name = "Tasks", description = "Available Task Endpoints")
+public class TaskChangesController {
+
+  private final TaskChangeFeed changeFeed;
+
+  public TaskChangesController(TaskChangeFeed changeFeed) {
+    this.changeFeed = changeFeed;
+  }
+
+  /**
+   * Stream task changes as Server-Sent Events
+   * @param tenantId The tenant whose changes are streamed
+   * @param lastEventId The ID of the last change received, sent by clients when they reconnect
+   * @param since The event ID to resume after, for clients that cannot set headers
+   * @return The event stream
+   */
+  @Operation(summary = "Stream task changes", description = "Server-Sent Events stream of the tenant's created, updated, status changed and deleted tasks. Each event ID is <epoch>-<sequence>, the epoch changing on every restart; reconnect with Last-Event-ID to resume. A reset event means the changes since that ID are no longer available, or belong to a previous run, and the task list must be reloaded")
+  @ApiResponse(responseCode = "200", description = "Stream of task changes",
+      content = @Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE,
+          schema = @Schema(implementation = TaskChangeResource.class)))
+  @GetMapping(value = "/changes", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+  public SseEmitter streamChanges(
+      @Parameter(description = "Tenant owning the tasks") @RequestHeader(value = TasksController.TENANT_HEADER, defaultValue = Task.DEFAULT_TENANT) String tenantId,
+      @Parameter(hidden = true) @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId,
+      @Parameter(description = "Event ID to resume after") @RequestParam(required = false) String since) {
+    return changeFeed.subscribe(tenantId, lastEventId != null ? lastEventId : since);
+  }
+}
@@ -1,17 +1,26 @@
 package com.challenge.tasks.interfaces.rest;
 
+import com.challenge.shared.interfaces.rest.BinaryMediaTypes;
 import com.challenge.tasks.application.internal.commandservices.TaskCommandServiceImpl;
 import com.challenge.tasks.application.internal.queryservices.TaskQueryServiceImpl;
+import com.challenge.tasks.domain.model.aggregates.Task;
 import com.challenge.tasks.domain.model.commands.DeleteTaskCommand;
 import com.challenge.tasks.domain.exceptions.TaskNotFoundException;
 import com.challenge.tasks.domain.model.queries.GetAllTasksQuery;
+import com.challenge.tasks.domain.model.queries.GetTaskDeltaQuery;
 import com.challenge.tasks.domain.model.queries.GetTaskByIdQuery;
 import com.challenge.tasks.domain.model.queries.GetTaskStatsQuery;
+import com.challenge.tasks.domain.model.queries.GetTaskFacetsQuery;
+import com.challenge.tasks.domain.model.queries.GetTaskSuggestionsQuery;
 import com.challenge.tasks.domain.model.valueobjects.TaskStatus;
 import com.challenge.tasks.domain.model.valueobjects.TaskPriority;
+import com.challenge.tasks.domain.model.valueobjects.TagExpression;
 import com.challenge.tasks.interfaces.rest.resources.CreateTaskResource;
 import com.challenge.tasks.interfaces.rest.resources.TaskResource;
+import com.challenge.tasks.interfaces.rest.resources.TaskDeltaResource;
 import com.challenge.tasks.interfaces.rest.resources.TaskStatsResource;
+import com.challenge.tasks.interfaces.rest.resources.TaskFacetsResource;
+import com.challenge.tasks.interfaces.rest.resources.TaskSuggestionResource;
 import com.challenge.tasks.interfaces.rest.resources.UpdateTaskResource;
 import com.challenge.tasks.interfaces.rest.resources.UpdateTaskStatusResource;
 import com.challenge.tasks.interfaces.rest.transform.CreateTaskCommandFromResourceAssembler;
@@ -19,6 +28,9 @@ import com.challenge.tasks.interfaces.rest.transform.UpdateTaskCommandFromResour
 import com.challenge.tasks.interfaces.rest.transform.UpdateTaskStatusCommandFromResourceAssembler;
 import com.challenge.tasks.interfaces.rest.transform.TaskResourceFromEntityAssembler;
 import com.challenge.tasks.interfaces.rest.transform.TaskStatsResourceFromStatsAssembler;
+import com.challenge.tasks.interfaces.rest.transform.TaskFacetsResourceFromFacetsAssembler;
+import com.challenge.tasks.interfaces.rest.transform.TaskSuggestionResourceFromSuggestionAssembler;
+import com.challenge.tasks.interfaces.rest.transform.TaskDeltaResourceFromDeltaAssembler;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -31,19 +43,31 @@ import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
-import java.util.stream.Collectors;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 
 /**
  * REST Controller for Task management
  */
 @RestController
-@RequestMapping(value = "/api/tasks", produces = MediaType.APPLICATION_JSON_VALUE)
+@RequestMapping(value = "/api/tasks", produces = {
+    MediaType.APPLICATION_JSON_VALUE,
+    BinaryMediaTypes.APPLICATION_CBOR_VALUE,
+    BinaryMediaTypes.APPLICATION_SMILE_VALUE,
+    BinaryMediaTypes.APPLICATION_PROTOBUF_VALUE
+})
 @Tag(name = "Tasks", description = "Available Task Endpoints")
 public class TasksController {
 
+  /**
+   * Header carrying the tenant of a request; requests without it act on the default tenant
+   */
+  public static final String TENANT_HEADER = "X-Tenant-ID";
+
   private final TaskCommandServiceImpl commandService;
   private final TaskQueryServiceImpl queryService;
 
@@ -55,6 +79,7 @@ public class TasksController {
   /**
    * Create a new task
    * 
+   * @param tenantId The tenant owning the tasks
    * @param resource The resource to create the task
    * @return The created task
    */
@@ -65,8 +90,10 @@ public class TasksController {
       @ApiResponse(responseCode = "400", description = "Invalid input data")
   })
   @PostMapping
-  public ResponseEntity<TaskResource> createTask(@Valid @RequestBody CreateTaskResource resource) {
-    var command = CreateTaskCommandFromResourceAssembler.toCommandFromResource(resource);
+  public ResponseEntity<TaskResource> createTask(
+      @Parameter(description = "Tenant owning the tasks") @RequestHeader(value = TENANT_HEADER, defaultValue = Task.DEFAULT_TENANT) String tenantId,
+      @Valid @RequestBody CreateTaskResource resource) {
+    var command = CreateTaskCommandFromResourceAssembler.toCommandFromResource(resource, tenantId);
     var createdTask = commandService.handle(command);
     
     return ResponseEntity.status(HttpStatus.CREATED)
@@ -75,30 +102,55 @@ public class TasksController {
 
   /**
    * List tasks with optional filters
+   * @param tenantId The tenant owning the tasks
    * @param status The status to filter by
    * @param priority The priority to filter by
    * @param q The search term
+   * @param includeArchived Whether archived tasks are included
+   * @param tags The tag expression to filter by
    * @return The list of tasks
    */
-  @Operation(summary = "List tasks", description = "List tasks with optional filters: status, priority, and search query")
+  @Operation(summary = "List tasks", description = "List tasks with optional filters: status, priority, search query and a tag expression combining tags with AND, OR, NOT and parentheses. Archived DONE tasks are only included on request")
   @ApiResponse(responseCode = "200", description = "List of tasks",
       content = @Content(schema = @Schema(implementation = TaskResource.class)))
   @GetMapping
   public ResponseEntity<List<TaskResource>> getAllTasks(
+      @Parameter(description = "Tenant owning the tasks") @RequestHeader(value = TENANT_HEADER, defaultValue = Task.DEFAULT_TENANT) String tenantId,
       @Parameter(description = "Filter by status") @RequestParam(required = false) TaskStatus status,
       @Parameter(description = "Filter by priority") @RequestParam(required = false) TaskPriority priority,
-      @Parameter(description = "Search term for title and description") @RequestParam(required = false) String q) {
+      @Parameter(description = "Search term for title and description") @RequestParam(required = false) String q,
+      @Parameter(description = "Include archived tasks") @RequestParam(defaultValue = "false") boolean includeArchived,
+      @Parameter(description = "Filter by tags, e.g. backend AND (urgent OR blocked) AND NOT wontfix") @RequestParam(required = false) String tags) {
     
-    var query = new GetAllTasksQuery(status, priority, q);
-    var tasks = queryService.handle(query).stream()
-        .map(TaskResourceFromEntityAssembler::toResourceFromEntity)
-        .collect(Collectors.toList());
-    
-    return ResponseEntity.ok(tasks);
+    var query = new GetAllTasksQuery(tenantId, status, priority, q, includeArchived, TagExpression.parse(tags));
+    var tasks = queryService.handle(query);
+
+    return ResponseEntity.ok(TaskResourceFromEntityAssembler.toResourcesFromEntities(tasks));
+  }
+
+  /**
+   * Get the changes to the task list since a previous sync
+   * @param tenantId The tenant owning the tasks
+   * @param updatedSince The high-water mark returned by the previous sync
+   * @return The changed and removed tasks with the next high-water mark
+   */
+  @Operation(summary = "Sync tasks", description = "Returns the tasks created or modified and the IDs of the tasks deleted or archived since updatedSince, with the high-water mark to send on the next sync. When updatedSince is older than the tombstone retention, reset is true and updated holds every task")
+  @ApiResponse(responseCode = "200", description = "Changes since the previous sync",
+      content = @Content(schema = @Schema(implementation = TaskDeltaResource.class)))
+  @GetMapping(params = "updatedSince")
+  public ResponseEntity<TaskDeltaResource> getTaskDelta(
+      @Parameter(description = "Tenant owning the tasks") @RequestHeader(value = TENANT_HEADER, defaultValue = Task.DEFAULT_TENANT) String tenantId,
+      @Parameter(description = "High-water mark of the previous sync (ISO date-time)")
+      @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime updatedSince) {
+    var query = new GetTaskDeltaQuery(tenantId, updatedSince);
+    var delta = queryService.handle(query);
+
+    return ResponseEntity.ok(TaskDeltaResourceFromDeltaAssembler.toResourceFromDelta(delta));
   }
 
   /**
    * Get a task by ID
+   * @param tenantId The tenant owning the tasks
    * @param id The ID of the task
    * @return The task
    */
@@ -110,8 +162,9 @@ public class TasksController {
   })
   @GetMapping("/{id}")
   public ResponseEntity<TaskResource> getTaskById(
+      @Parameter(description = "Tenant owning the tasks") @RequestHeader(value = TENANT_HEADER, defaultValue = Task.DEFAULT_TENANT) String tenantId,
       @Parameter(description = "Task ID") @PathVariable Long id) {
-    var query = new GetTaskByIdQuery(id);
+    var query = new GetTaskByIdQuery(tenantId, id);
     return queryService.handle(query)
         .map(TaskResourceFromEntityAssembler::toResourceFromEntity)
         .map(ResponseEntity::ok)
@@ -120,6 +173,7 @@ public class TasksController {
 
   /**
    * Update a task completely (except id/createdAt)
+   * @param tenantId The tenant owning the tasks
    * @param id The ID of the task
    * @param resource The resource to update the task
    * @return The updated task
@@ -133,13 +187,14 @@ public class TasksController {
   })
   @PutMapping("/{id}")
   public ResponseEntity<TaskResource> updateTask(
+      @Parameter(description = "Tenant owning the tasks") @RequestHeader(value = TENANT_HEADER, defaultValue = Task.DEFAULT_TENANT) String tenantId,
       @Parameter(description = "Task ID") @PathVariable Long id,
       @Valid @RequestBody UpdateTaskResource resource) {
     
-    var command = UpdateTaskCommandFromResourceAssembler.toCommandFromResource(resource, id);
+    var command = UpdateTaskCommandFromResourceAssembler.toCommandFromResource(resource, id, tenantId);
     commandService.handle(command);
     
-    var query = new GetTaskByIdQuery(id);
+    var query = new GetTaskByIdQuery(tenantId, id);
     return queryService.handle(query)
         .map(TaskResourceFromEntityAssembler::toResourceFromEntity)
         .map(ResponseEntity::ok)
@@ -148,6 +203,7 @@ public class TasksController {
 
   /**
    * Update only the status of a task
+   * @param tenantId The tenant owning the tasks
    * @param id The ID of the task
    * @param resource The resource to update the task status
    * @return The updated task
@@ -162,13 +218,14 @@ public class TasksController {
   })
   @PatchMapping("/{id}/status")
   public ResponseEntity<TaskResource> updateTaskStatus(
+      @Parameter(description = "Tenant owning the tasks") @RequestHeader(value = TENANT_HEADER, defaultValue = Task.DEFAULT_TENANT) String tenantId,
       @Parameter(description = "Task ID") @PathVariable Long id,
       @Valid @RequestBody UpdateTaskStatusResource resource) {
     
-    var command = UpdateTaskStatusCommandFromResourceAssembler.toCommandFromResource(resource, id);
+    var command = UpdateTaskStatusCommandFromResourceAssembler.toCommandFromResource(resource, id, tenantId);
     commandService.handle(command);
     
-    var query = new GetTaskByIdQuery(id);
+    var query = new GetTaskByIdQuery(tenantId, id);
     return queryService.handle(query)
         .map(TaskResourceFromEntityAssembler::toResourceFromEntity)
         .map(ResponseEntity::ok)
@@ -177,6 +234,7 @@ public class TasksController {
 
   /**
    * Delete a task
+   * @param tenantId The tenant owning the tasks
    * @param id The ID of the task
    * @return The deleted task
    */
@@ -187,14 +245,16 @@ public class TasksController {
   })
   @DeleteMapping("/{id}")
   public ResponseEntity<Void> deleteTask(
+      @Parameter(description = "Tenant owning the tasks") @RequestHeader(value = TENANT_HEADER, defaultValue = Task.DEFAULT_TENANT) String tenantId,
       @Parameter(description = "Task ID") @PathVariable Long id) {
-    var command = new DeleteTaskCommand(id);
+    var command = new DeleteTaskCommand(tenantId, id);
     commandService.handle(command);
     return ResponseEntity.noContent().build();
   }
 
   /**
    * Get task statistics
+   * @param tenantId The tenant owning the tasks
    * @return The task statistics
    */
   @Operation(summary = "Get task statistics", description = "Retrieves aggregated task statistics using Java Streams")
@@ -204,11 +264,59 @@ public class TasksController {
       @ApiResponse(responseCode = "204", description = "No statistics available")
   })
   @GetMapping("/stats")
-  public ResponseEntity<TaskStatsResource> getTaskStats() {
-    var query = new GetTaskStatsQuery();
+  public ResponseEntity<TaskStatsResource> getTaskStats(
+      @Parameter(description = "Tenant owning the tasks") @RequestHeader(value = TENANT_HEADER, defaultValue = Task.DEFAULT_TENANT) String tenantId) {
+    var query = new GetTaskStatsQuery(tenantId);
     return queryService.handle(query)
         .map(TaskStatsResourceFromStatsAssembler::toResourceFromStats)
         .map(ResponseEntity::ok)
         .orElse(ResponseEntity.noContent().build());
   }
+
+  /**
+   * Count the tasks matching the filters of a task list
+   * @param tenantId The tenant owning the tasks
+   * @param status The status to filter by
+   * @param priority The priority to filter by
+   * @param q The search term
+   * @param dueFrom The first due date to include
+   * @param dueTo The last due date to include
+   * @param tags The tag expression to filter by
+   * @return The task facets
+   */
+  @Operation(summary = "Get task facets", description = "Counts the active tasks matching the list filters per status and priority, overdue and per due date bucket (PAST, TODAY, NEXT_7_DAYS, LATER, NONE) with a single grouped query, without loading the tasks")
+  @ApiResponse(responseCode = "200", description = "Task facets",
+      content = @Content(schema = @Schema(implementation = TaskFacetsResource.class)))
+  @GetMapping("/facets")
+  public ResponseEntity<TaskFacetsResource> getTaskFacets(
+      @Parameter(description = "Tenant owning the tasks") @RequestHeader(value = TENANT_HEADER, defaultValue = Task.DEFAULT_TENANT) String tenantId,
+      @Parameter(description = "Filter by status") @RequestParam(required = false) TaskStatus status,
+      @Parameter(description = "Filter by priority") @RequestParam(required = false) TaskPriority priority,
+      @Parameter(description = "Search term for title and description") @RequestParam(required = false) String q,
+      @Parameter(description = "First due date to include (ISO-8601)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dueFrom,
+      @Parameter(description = "Last due date to include (ISO-8601)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dueTo,
+      @Parameter(description = "Filter by tags, e.g. backend AND (urgent OR blocked) AND NOT wontfix") @RequestParam(required = false) String tags) {
+    var query = new GetTaskFacetsQuery(tenantId, status, priority, q, dueFrom, dueTo, TagExpression.parse(tags));
+    var facets = queryService.handle(query);
+    return ResponseEntity.ok(TaskFacetsResourceFromFacetsAssembler.toResourceFromFacets(facets));
+  }
+
+  /**
+   * Suggest tasks whose title starts with a prefix, for type-ahead
+   * @param tenantId The tenant owning the tasks
+   * @param prefix The beginning of the title
+   * @param limit The maximum number of suggestions
+   * @return The suggested task IDs and titles, best first
+   */
+  @Operation(summary = "Suggest tasks by title", description = "Returns the IDs and titles of up to limit (1-10) active tasks whose title starts with the prefix, ignoring case: open tasks first, then the most recently updated. Served from an in-memory prefix index, without querying the database")
+  @ApiResponse(responseCode = "200", description = "Suggested tasks",
+      content = @Content(schema = @Schema(implementation = TaskSuggestionResource.class)))
+  @GetMapping("/suggest")
+  public ResponseEntity<List<TaskSuggestionResource>> suggestTasks(
+      @Parameter(description = "Tenant owning the tasks") @RequestHeader(value = TENANT_HEADER, defaultValue = Task.DEFAULT_TENANT) String tenantId,
+      @Parameter(description = "Beginning of the title") @RequestParam(defaultValue = "") String prefix,
+      @Parameter(description = "Maximum number of suggestions (1-10)") @RequestParam(defaultValue = "10") int limit) {
+    var suggestions = queryService.handle(new GetTaskSuggestionsQuery(tenantId, prefix, limit));
+    return ResponseEntity.ok(TaskSuggestionResourceFromSuggestionAssembler.toResourcesFromSuggestions(suggestions));
+  }
 }
@@ -0,0 +1,130 @@
+package com.challenge.tasks.interfaces.rest.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.challenge.tasks.domain.model.aggregates.Task;
+import com.challenge.tasks.domain.model.events.TaskDeletedEvent;
+import com.challenge.tasks.domain.model.events.TaskUpdatedEvent;
+import com.challenge.tasks.domain.model.events.TaskStatusChangedEvent;
+import com.challenge.tasks.interfaces.rest.resources.TaskResource;
+import com.challenge.tasks.interfaces.rest.converters.TaskJsonWriter;
+
+import java.time.LocalDateTime;
+import java.util.function.Supplier;
+
+/**
+ * Cache of the JSON encoding of task resources
+ * @summary
+ * Holds the serialized bytes of each task, tagged with the {@code updatedAt} of the version they encode. A fragment is
+ * only served for a resource with the same ID and version, so a stale entry can never be returned; write events
+ * additionally evict the entry once their transaction commits, so memory is not spent on superseded versions. The
+ * cache is bounded by the total size of the fragments rather than by their number.
+ * @author Gonzalo Qu3dena
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class TaskJsonFragmentCache {
+
+  private final TaskJsonWriter writer;
+  private final Cache<Long, Fragment> fragments;
+
+  /**
+   * Constructor of the cache
+   * @param writer The writer producing the fragments
+   * @param maxBytes The total size of the cached fragments
+   */
+  public TaskJsonFragmentCache(TaskJsonWriter writer, long maxBytes) {
+    this.writer = writer;
+    this.fragments = Caffeine.newBuilder()
+        .maximumWeight(maxBytes)
+        .<Long, Fragment>weigher((id, fragment) -> fragment.json().length)
+        .build();
+  }
+
+  /**
+   * JSON encoding of a task, from the cache when its version is cached
+   * @param task The task
+   * @return The encoded task; callers must not modify it
+   */
+  public byte[] toJson(Task task) {
+    return fragment(task.getId(), task.getUpdatedAt(), () -> writer.toJson(task));
+  }
+
+  /**
+   * JSON encoding of a task resource, from the cache when its version is cached
+   * @param resource The resource
+   * @return The encoded resource; callers must not modify it
+   */
+  public byte[] toJson(TaskResource resource) {
+    return fragment(resource.id(), resource.updatedAt(), () -> writer.toJson(resource));
+  }
+
+  /**
+   * Evict the fragment of a task
+   * @param id The ID of the task
+   */
+  public void evict(Long id) {
+    fragments.invalidate(id);
+  }
+
+  /**
+   * Total size of the cached fragments
+   * @return The size in bytes
+   */
+  public long weightedSize() {
+    fragments.cleanUp();
+    return fragments.policy().eviction().orElseThrow().weightedSize().orElse(0);
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void on(TaskUpdatedEvent event) {
+    evict(event.task().getId());
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void on(TaskStatusChangedEvent event) {
+    evict(event.task().getId());
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void on(TaskDeletedEvent event) {
+    evict(event.task().getId());
+  }
+
+  private byte[] fragment(Long id, LocalDateTime version, Supplier<byte[]> encoder) {
+    var event = new TaskJsonFragmentCacheEvent();
+    event.begin();
+
+    var cached = fragments.getIfPresent(id);
+    if (cached != null && cached.version().equals(version)) {
+      record(event, id, true, cached.json());
+      return cached.json();
+    }
+
+    var json = encoder.get();
+    fragments.put(id, new Fragment(version, json));
+    record(event, id, false, json);
+    return json;
+  }
+
+  private static void record(TaskJsonFragmentCacheEvent event, Long id, boolean hit, byte[] json) {
+    event.end();
+    if (event.shouldCommit()) {
+      event.taskId = id;
+      event.hit = hit;
+      event.bytes = json.length;
+      event.commit();
+    }
+  }
+
+  /**
+   * Encoded version of a task
+   * @param version The {@code updatedAt} of the encoded version
+   * @param json The JSON bytes
+   */
+  private record Fragment(LocalDateTime version, byte[] json) {
+  }
+}
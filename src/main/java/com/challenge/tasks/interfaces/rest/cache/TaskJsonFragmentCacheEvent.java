@@ -0,0 +1,36 @@
+package com.challenge.tasks.interfaces.rest.cache;
+
+import jdk.jfr.Name;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Enabled;
+import jdk.jfr.Category;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Description;
+
+/**
+ * Flight recorder event of a JSON task fragment lookup
+ * @summary
+ * Its duration covers the lookup and, on a miss, the encoding of the task. Disabled unless the recording settings
+ * enable it, as the bundled {@code jfr/tasks.jfc} profile does.
+ * @author Gonzalo Qu3dena
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Name("com.challenge.tasks.JsonFragmentCacheAccess")
+@Label("JSON Fragment Cache Access")
+@Category({"Tasks Crud", "Web"})
+@Description("Lookup of the JSON encoding of a task version")
+@Enabled(false)
+@StackTrace(false)
+public class TaskJsonFragmentCacheEvent extends Event {
+
+  @Label("Task ID")
+  long taskId;
+
+  @Label("Hit")
+  boolean hit;
+
+  @Label("Bytes")
+  int bytes;
+}
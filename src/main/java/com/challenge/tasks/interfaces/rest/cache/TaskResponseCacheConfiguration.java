@@ -0,0 +1,28 @@
+package com.challenge.tasks.interfaces.rest.cache;
+
+import com.challenge.tasks.interfaces.rest.converters.TaskJsonWriter;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+
+/**
+ * Spring configuration of the encoded task response cache
+ * @summary
+ * Registers the fragment cache used by the JSON task converter. Enabled unless {@code tasks.response-cache.enabled} is
+ * {@code false}, in which case tasks are streamed without caching.
+ * @author Gonzalo Qu3dena
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Configuration
+@EnableConfigurationProperties(TaskResponseCacheProperties.class)
+@ConditionalOnProperty(prefix = "tasks.response-cache", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class TaskResponseCacheConfiguration {
+
+  @Bean
+  public TaskJsonFragmentCache taskJsonFragmentCache(TaskJsonWriter writer, TaskResponseCacheProperties properties) {
+    return new TaskJsonFragmentCache(writer, properties.maxSize().toBytes());
+  }
+}
@@ -0,0 +1,20 @@
+package com.challenge.tasks.interfaces.rest.cache;
+
+import org.springframework.util.unit.DataSize;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties of the encoded task response cache
+ * @param enabled Whether JSON task fragments are cached
+ * @param maxSize The total size of the cached fragments, in bytes
+ * @author Gonzalo Qu3dena
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@ConfigurationProperties(prefix = "tasks.response-cache")
+public record TaskResponseCacheProperties(
+  @DefaultValue("true") boolean enabled,
+  @DefaultValue("64MB") DataSize maxSize
+) {
+}
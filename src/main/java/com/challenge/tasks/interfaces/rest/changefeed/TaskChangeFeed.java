@@ -0,0 +1,365 @@
+package com.challenge.tasks.interfaces.rest.changefeed;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.challenge.tasks.domain.model.events.TaskCreatedEvent;
+import com.challenge.tasks.domain.model.events.TaskDeletedEvent;
+import com.challenge.tasks.domain.model.events.TaskUpdatedEvent;
+import com.challenge.tasks.domain.model.events.TaskStatusChangedEvent;
+import com.challenge.tasks.interfaces.rest.resources.TaskChangeResource;
+import com.challenge.tasks.interfaces.rest.transform.TaskChangeResourceFromEventAssembler;
+
+import java.util.Set;
+import java.util.Queue;
+import java.util.ArrayList;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Change feed of committed task changes
+ * @summary
+ * Every task domain event is numbered with a monotonically increasing sequence once its transaction commits and kept
+ * in a fixed-size ring buffer. Subscribers are Server-Sent Event streams whose event IDs are {@code <epoch>-<sequence>},
+ * the epoch being the start time of this feed: a client reconnecting with {@code Last-Event-ID} first receives the
+ * retained changes after that sequence, then live ones. When the requested sequence belongs to a previous run of the
+ * application (another epoch), is no longer retained, or more changes are missing than a subscriber may have waiting,
+ * a single {@code reset} event tells the client to reload the task list before continuing.
+ * <p>
+ * Changes carry the tenant of their task and every subscriber only receives the changes of its own tenant, both live
+ * and replayed from the ring buffer.
+ * </p>
+ * <p>
+ * Publishing never blocks on the network: each change is encoded once and offered to a bounded per-subscriber queue,
+ * which is drained to the client by a fixed pool of dispatcher threads. A subscriber whose queue is full is
+ * disconnected instead of slowing the writers down; it can resume from the ring buffer when it reconnects.
+ * </p>
+ * @author Gonzalo Qu3dena
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class TaskChangeFeed implements DisposableBean {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(TaskChangeFeed.class);
+
+  private static final String RESET_EVENT = "reset";
+  private static final Change HEARTBEAT = new Change(0, null, null, null);
+
+  private final ObjectMapper objectMapper;
+  private final long epoch = System.currentTimeMillis();
+  private final Change[] ring;
+  private final int subscriberBufferSize;
+  private final long timeoutMillis;
+  private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+  private final ExecutorService dispatcher;
+
+  // Guarded by this
+  private long sequence;
+
+  /**
+   * Constructor of the feed
+   * @param objectMapper The mapper used to encode the changes
+   * @param properties The feed configuration
+   */
+  public TaskChangeFeed(ObjectMapper objectMapper, TaskChangeFeedProperties properties) {
+    this.objectMapper = objectMapper;
+    this.ring = new Change[properties.bufferSize()];
+    this.subscriberBufferSize = properties.subscriberBufferSize();
+    this.timeoutMillis = properties.timeout().toMillis();
+
+    var threadFactory = new CustomizableThreadFactory("task-change-feed-");
+    threadFactory.setDaemon(true);
+    this.dispatcher = Executors.newFixedThreadPool(properties.dispatcherThreads(), threadFactory);
+  }
+
+  /**
+   * Open a stream of changes
+   * @param tenantId The tenant whose changes are streamed
+   * @param lastEventId The ID of the last change the client has seen, null for live changes only
+   * @return The emitter streaming the changes
+   */
+  public SseEmitter subscribe(String tenantId, String lastEventId) {
+    var subscriber = new Subscriber(tenantId, new SseEmitter(timeoutMillis));
+    subscriber.emitter.onCompletion(() -> subscribers.remove(subscriber));
+    subscriber.emitter.onTimeout(subscriber::close);
+    subscriber.emitter.onError(error -> subscriber.close());
+
+    synchronized (this) {
+      if (lastEventId != null && !replay(subscriber, sequenceOf(lastEventId))) {
+        subscriber.clear();
+        subscriber.enqueue(new Change(sequence, null, RESET_EVENT, "{}"));
+      }
+      subscribers.add(subscriber);
+    }
+    subscriber.schedule();
+    return subscriber.emitter;
+  }
+
+  /**
+   * Sequence of the last published change, 0 when nothing has been published
+   * @return The last sequence
+   */
+  public synchronized long lastSequence() {
+    return sequence;
+  }
+
+  /**
+   * ID of the last published change, as sent to the subscribers
+   * @return The last event ID
+   */
+  public synchronized String lastEventId() {
+    return eventId(sequence);
+  }
+
+  /**
+   * Number of connected subscribers
+   * @return The subscriber count
+   */
+  public int subscriberCount() {
+    return subscribers.size();
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void on(TaskCreatedEvent event) {
+    publish(event.task().getTenantId(), TaskChangeResourceFromEventAssembler.toResourceFromEvent(event));
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void on(TaskUpdatedEvent event) {
+    publish(event.task().getTenantId(), TaskChangeResourceFromEventAssembler.toResourceFromEvent(event));
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void on(TaskStatusChangedEvent event) {
+    publish(event.task().getTenantId(), TaskChangeResourceFromEventAssembler.toResourceFromEvent(event));
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void on(TaskDeletedEvent event) {
+    publish(event.task().getTenantId(), TaskChangeResourceFromEventAssembler.toResourceFromEvent(event));
+  }
+
+  /**
+   * Send a keep-alive comment to every subscriber, so that idle connections are not closed by proxies and
+   * disconnected clients are detected
+   */
+  @Scheduled(fixedDelayString = "${tasks.change-feed.heartbeat:15s}")
+  public void heartbeat() {
+    subscribers.forEach(subscriber -> {
+      subscriber.enqueue(HEARTBEAT);
+      subscriber.schedule();
+    });
+  }
+
+  // {@inheritDoc}
+  @Override
+  public void destroy() {
+    new ArrayList<>(subscribers).forEach(Subscriber::close);
+    dispatcher.shutdownNow();
+  }
+
+  /**
+   * Number, retain and fan out a change to the subscribers of its tenant
+   * @param tenantId The tenant of the changed task
+   * @param resource The change
+   */
+  private void publish(String tenantId, TaskChangeResource resource) {
+    var data = encode(resource);
+    var overflowed = new ArrayList<Subscriber>();
+
+    synchronized (this) {
+      var change = new Change(++sequence, tenantId, resource.type().name(), data);
+      ring[slot(change.sequence())] = change;
+      for (var subscriber : subscribers) {
+        if (subscriber.accepts(change) && !subscriber.offer(change)) {
+          overflowed.add(subscriber);
+        }
+      }
+    }
+
+    subscribers.forEach(Subscriber::schedule);
+    for (var subscriber : overflowed) {
+      LOGGER.debug("Disconnecting task change feed subscriber that fell {} changes behind", subscriberBufferSize);
+      subscriber.close();
+    }
+  }
+
+  /**
+   * Queue the retained changes after a sequence for a new subscriber
+   * @param subscriber The subscriber, not yet receiving live changes
+   * @param lastSequence The sequence of the last change the subscriber has seen, -1 when unknown
+   * @return Whether every missed change was queued; {@code false} when some are no longer retained or would overflow
+   *     the subscriber's queue
+   */
+  private boolean replay(Subscriber subscriber, long lastSequence) {
+    var oldest = Math.max(1, sequence - ring.length + 1);
+    if (lastSequence < oldest - 1 || lastSequence > sequence) {
+      return false;
+    }
+
+    for (var retained = lastSequence + 1; retained <= sequence; retained++) {
+      var change = ring[slot(retained)];
+      if (subscriber.accepts(change) && !subscriber.offer(change)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Sequence of an event ID sent by this feed
+   * @param eventId The event ID
+   * @return The sequence, -1 for malformed IDs and IDs of a previous run
+   */
+  private long sequenceOf(String eventId) {
+    var separator = eventId.indexOf('-');
+    try {
+      if (separator > 0 && Long.parseLong(eventId.substring(0, separator)) == epoch) {
+        return Long.parseLong(eventId.substring(separator + 1));
+      }
+    } catch (NumberFormatException e) {
+      // Not an ID of this feed
+    }
+    return -1;
+  }
+
+  private String eventId(long sequence) {
+    return epoch + "-" + sequence;
+  }
+
+  private String encode(TaskChangeResource resource) {
+    try {
+      return objectMapper.writeValueAsString(resource);
+    } catch (JsonProcessingException e) {
+      throw new UncheckedIOException("Cannot encode task change", e);
+    }
+  }
+
+  private int slot(long sequence) {
+    return (int) (sequence % ring.length);
+  }
+
+  /**
+   * A numbered change, encoded once for every subscriber
+   * @param sequence The sequence of the change, sent with the epoch as the event ID
+   * @param tenantId The tenant of the changed task, null for changes sent to every subscriber
+   * @param name The event name, null for a heartbeat comment
+   * @param data The JSON payload
+   */
+  private record Change(long sequence, String tenantId, String name, String data) {
+  }
+
+  /**
+   * A connected stream with its queue of changes waiting to be sent
+   */
+  private final class Subscriber implements Runnable {
+
+    private final String tenantId;
+    private final SseEmitter emitter;
+    private final Queue<Change> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pending = new AtomicInteger();
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private volatile boolean closed;
+
+    private Subscriber(String tenantId, SseEmitter emitter) {
+      this.tenantId = tenantId;
+      this.emitter = emitter;
+    }
+
+    /**
+     * Whether a change is visible to this subscriber
+     * @param change The change
+     * @return Whether the change is global or belongs to the subscriber's tenant
+     */
+    private boolean accepts(Change change) {
+      return change.tenantId() == null || change.tenantId().equals(tenantId);
+    }
+
+    /**
+     * Offer a live change, refusing it when the subscriber is too far behind
+     * @param change The change
+     * @return Whether the change was queued
+     */
+    private boolean offer(Change change) {
+      if (pending.get() >= subscriberBufferSize) {
+        return false;
+      }
+      enqueue(change);
+      return true;
+    }
+
+    private void enqueue(Change change) {
+      pending.incrementAndGet();
+      queue.add(change);
+    }
+
+    /**
+     * Drop the queued changes; only called before the subscriber is registered
+     */
+    private void clear() {
+      queue.clear();
+      pending.set(0);
+    }
+
+    /**
+     * Make sure a dispatcher thread drains the queue, without ever running two drains concurrently
+     */
+    private void schedule() {
+      if (!closed && !queue.isEmpty() && scheduled.compareAndSet(false, true)) {
+        dispatcher.execute(this);
+      }
+    }
+
+    // {@inheritDoc}
+    @Override
+    public void run() {
+      try {
+        Change change;
+        while (!closed && (change = queue.poll()) != null) {
+          pending.decrementAndGet();
+          send(change);
+        }
+      } catch (IOException | IllegalStateException e) {
+        close();
+      } finally {
+        scheduled.set(false);
+      }
+      schedule();
+    }
+
+    private void send(Change change) throws IOException {
+      if (change.name() == null) {
+        emitter.send(SseEmitter.event().comment("heartbeat"));
+        return;
+      }
+      emitter.send(SseEmitter.event()
+          .id(eventId(change.sequence()))
+          .name(change.name())
+          .data(change.data()));
+    }
+
+    private void close() {
+      if (closed) {
+        return;
+      }
+      closed = true;
+      subscribers.remove(this);
+      queue.clear();
+      emitter.complete();
+    }
+  }
+}
@@ -0,0 +1,25 @@
+package com.challenge.tasks.interfaces.rest.changefeed;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+
+/**
+ * Spring configuration of the task change feed
+ * @summary
+ * Registers the feed that turns committed task domain events into Server-Sent Events.
+ * @author Gonzalo Qu3dena
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Configuration
+@EnableConfigurationProperties(TaskChangeFeedProperties.class)
+public class TaskChangeFeedConfiguration {
+
+  @Bean
+  public TaskChangeFeed taskChangeFeed(ObjectMapper objectMapper, TaskChangeFeedProperties properties) {
+    return new TaskChangeFeed(objectMapper, properties);
+  }
+}
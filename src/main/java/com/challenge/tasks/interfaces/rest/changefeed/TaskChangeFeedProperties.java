@@ -0,0 +1,27 @@
+package com.challenge.tasks.interfaces.rest.changefeed;
+
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties of the task change feed
+ * @param bufferSize How many recent changes are retained for clients resuming with {@code Last-Event-ID}
+ * @param subscriberBufferSize How many changes may wait for a single subscriber before it is disconnected
+ * @param timeout How long a stream stays open before the client has to reconnect
+ * @param heartbeat The delay between two keep-alive comments
+ * @param dispatcherThreads How many threads send queued changes to the subscribers
+ * @author Gonzalo Qu3dena
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@ConfigurationProperties(prefix = "tasks.change-feed")
+public record TaskChangeFeedProperties(
+  @DefaultValue("10000") int bufferSize,
+  @DefaultValue("1000") int subscriberBufferSize,
+  @DefaultValue("30m") Duration timeout,
+  @DefaultValue("15s") Duration heartbeat,
+  @DefaultValue("4") int dispatcherThreads
+) {
+}
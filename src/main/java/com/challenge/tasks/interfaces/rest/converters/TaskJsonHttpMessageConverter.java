@@ -0,0 +1,172 @@
+package com.challenge.tasks.interfaces.rest.converters;
+
+import com.challenge.tasks.domain.model.aggregates.Task;
+import com.challenge.tasks.interfaces.rest.resources.TaskResource;
+import com.challenge.tasks.interfaces.rest.transform.TaskResourceList;
+import com.challenge.tasks.interfaces.rest.cache.TaskJsonFragmentCache;
+
+import org.springframework.http.MediaType;
+import org.springframework.util.StreamUtils;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.stereotype.Component;
+import org.springframework.core.ResolvableType;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+
+import java.util.List;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+
+/**
+ * Streaming JSON message converter for task resources
+ * @summary
+ * Writes {@link TaskResource} and {@code List<TaskResource>} with the {@link TaskJsonWriter} instead of Jackson's
+ * reflective serializers. Lists assembled by {@link TaskResourceList} are written from their task entities, so no
+ * resource is ever built. When the {@link TaskJsonFragmentCache} is enabled each task is written as its cached
+ * fragment and lists are the concatenation of those fragments; otherwise tasks are streamed straight to the response.
+ * <p>
+ * It sits in front of the Jackson converter for {@code application/json} only; every other type and media type falls
+ * through to the regular converters, as do request bodies.
+ * </p>
+ * @author Gonzalo Qu3dena
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Component
+public class TaskJsonHttpMessageConverter extends AbstractGenericHttpMessageConverter<Object> {
+
+  private static final byte[] ARRAY_START = {'['};
+  private static final byte[] ARRAY_END = {']'};
+  private static final byte[] SEPARATOR = {','};
+
+  private final TaskJsonWriter writer;
+  private final ObjectProvider<TaskJsonFragmentCache> cache;
+
+  /**
+   * Constructor of the converter
+   * @param writer The streaming writer
+   * @param cache The fragment cache, when enabled
+   */
+  public TaskJsonHttpMessageConverter(TaskJsonWriter writer, ObjectProvider<TaskJsonFragmentCache> cache) {
+    super(MediaType.APPLICATION_JSON);
+    this.writer = writer;
+    this.cache = cache;
+  }
+
+  // {@inheritDoc}
+  @Override
+  protected boolean supports(Class<?> clazz) {
+    return clazz == TaskResource.class;
+  }
+
+  // {@inheritDoc}
+  @Override
+  public boolean canWrite(Type type, Class<?> clazz, MediaType mediaType) {
+    if (!canWrite(mediaType)) {
+      return false;
+    }
+
+    var resolved = ResolvableType.forType(type != null ? type : clazz);
+    if (List.class.isAssignableFrom(resolved.toClass())) {
+      return resolved.getGeneric(0).toClass() == TaskResource.class;
+    }
+    return supports(resolved.toClass());
+  }
+
+  // {@inheritDoc}
+  @Override
+  public boolean canRead(Class<?> clazz, MediaType mediaType) {
+    return false;
+  }
+
+  // {@inheritDoc}
+  @Override
+  public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+    return false;
+  }
+
+  // {@inheritDoc}
+  @Override
+  public Object read(Type type, Class<?> contextClass, HttpInputMessage inputMessage) {
+    throw new UnsupportedOperationException("Task resources are read by the Jackson converter");
+  }
+
+  // {@inheritDoc}
+  @Override
+  protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) {
+    throw new UnsupportedOperationException("Task resources are read by the Jackson converter");
+  }
+
+  // {@inheritDoc}
+  @Override
+  protected void writeInternal(Object value, Type type, HttpOutputMessage outputMessage) throws IOException {
+    var fragments = cache.getIfAvailable();
+    if (fragments != null) {
+      writeFragments(value, fragments, outputMessage.getBody());
+    } else {
+      stream(value, outputMessage.getBody());
+    }
+  }
+
+  /**
+   * Write the value as the concatenation of cached fragments
+   * @param value A task resource or a list of them
+   * @param fragments The fragment cache
+   * @param body The response body
+   * @throws IOException if the body cannot be written
+   */
+  private static void writeFragments(Object value, TaskJsonFragmentCache fragments, OutputStream body)
+      throws IOException {
+    if (value instanceof TaskResource resource) {
+      body.write(fragments.toJson(resource));
+      return;
+    }
+
+    body.write(ARRAY_START);
+    var first = true;
+    for (var element : elements(value)) {
+      if (!first) {
+        body.write(SEPARATOR);
+      }
+      body.write(element instanceof Task task ? fragments.toJson(task) : fragments.toJson((TaskResource) element));
+      first = false;
+    }
+    body.write(ARRAY_END);
+  }
+
+  /**
+   * Stream the value through a generator on the response body
+   * @param value A task resource or a list of them
+   * @param body The response body
+   * @throws IOException if the body cannot be written
+   */
+  private void stream(Object value, OutputStream body) throws IOException {
+    try (var generator = writer.jsonFactory().createGenerator(StreamUtils.nonClosing(body))) {
+      if (value instanceof TaskResource resource) {
+        writer.write(generator, resource);
+        return;
+      }
+
+      generator.writeStartArray();
+      for (var element : elements(value)) {
+        if (element instanceof Task task) {
+          writer.write(generator, task);
+        } else {
+          writer.write(generator, (TaskResource) element);
+        }
+      }
+      generator.writeEndArray();
+    }
+  }
+
+  /**
+   * Elements to write for a list: the task entities when available, the resources otherwise
+   * @param value The list
+   * @return The elements
+   */
+  private static List<?> elements(Object value) {
+    return value instanceof TaskResourceList resources ? resources.tasks() : (List<?>) value;
+  }
+}
@@ -0,0 +1,257 @@
+package com.challenge.tasks.interfaces.rest.converters;
+
+import com.challenge.tasks.domain.model.aggregates.Task;
+import com.challenge.tasks.domain.model.valueobjects.TaskStatus;
+import com.challenge.tasks.domain.model.valueobjects.TaskPriority;
+import com.challenge.tasks.interfaces.rest.resources.TaskResource;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.core.io.SerializedString;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Collection;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.ByteArrayOutputStream;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Streaming JSON writer of tasks
+ * @summary
+ * Writes the {@link TaskResource} representation of a task field by field to a {@link JsonGenerator}, without
+ * building the resource or going through Jackson's reflective serializers. Field names and enum constants are
+ * pre-encoded, due dates are formatted once and cached, and timestamps are formatted into a reused character buffer.
+ * The output is byte for byte what the application's {@code ObjectMapper} writes for the same resource: ISO-8601
+ * dates and timestamps, nulls included, fields in declaration order.
+ * @author Gonzalo Qu3dena
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Component
+public class TaskJsonWriter {
+
+  private static final SerializedString ID = new SerializedString("id");
+  private static final SerializedString TITLE = new SerializedString("title");
+  private static final SerializedString DESCRIPTION = new SerializedString("description");
+  private static final SerializedString STATUS = new SerializedString("status");
+  private static final SerializedString PRIORITY = new SerializedString("priority");
+  private static final SerializedString DUE_DATE = new SerializedString("dueDate");
+  private static final SerializedString TAGS = new SerializedString("tags");
+  private static final SerializedString CREATED_AT = new SerializedString("createdAt");
+  private static final SerializedString UPDATED_AT = new SerializedString("updatedAt");
+
+  private static final SerializedString[] STATUS_NAMES = names(TaskStatus.values());
+  private static final SerializedString[] PRIORITY_NAMES = names(TaskPriority.values());
+
+  private static final int DATE_CACHE_SIZE = 4_096;
+  private static final int TIMESTAMP_LENGTH = 29;
+
+  private static final ThreadLocal<ByteArrayOutputStream> BUFFERS =
+      ThreadLocal.withInitial(() -> new ByteArrayOutputStream(512));
+  private static final ThreadLocal<char[]> TIMESTAMP_BUFFERS = ThreadLocal.withInitial(() -> new char[TIMESTAMP_LENGTH]);
+
+  private final JsonFactory jsonFactory;
+  private final Map<LocalDate, SerializedString> dates = new ConcurrentHashMap<>();
+
+  /**
+   * Constructor of the writer
+   * @param objectMapper The application mapper, whose factory creates the generators used by {@link #toJson(Task)}
+   */
+  public TaskJsonWriter(ObjectMapper objectMapper) {
+    this.jsonFactory = objectMapper.getFactory();
+  }
+
+  /**
+   * Factory of the generators of this writer
+   * @return The JSON factory
+   */
+  public JsonFactory jsonFactory() {
+    return jsonFactory;
+  }
+
+  /**
+   * Write a task as a JSON object
+   * @param generator The target generator
+   * @param task The task
+   * @throws IOException if the generator cannot write
+   */
+  public void write(JsonGenerator generator, Task task) throws IOException {
+    write(generator, task.getId(), task.getTitle(), task.getDescription(), task.getStatus(), task.getPriority(),
+        task.getDueDate(), task.getTags(), task.getCreatedAt(), task.getUpdatedAt());
+  }
+
+  /**
+   * Write a task resource as a JSON object
+   * @param generator The target generator
+   * @param resource The resource
+   * @throws IOException if the generator cannot write
+   */
+  public void write(JsonGenerator generator, TaskResource resource) throws IOException {
+    write(generator, resource.id(), resource.title(), resource.description(), resource.status(), resource.priority(),
+        resource.dueDate(), resource.tags(), resource.createdAt(), resource.updatedAt());
+  }
+
+  /**
+   * Encode a task as a standalone JSON object
+   * @param task The task
+   * @return The UTF-8 bytes
+   */
+  public byte[] toJson(Task task) {
+    var buffer = BUFFERS.get();
+    buffer.reset();
+    try (var generator = jsonFactory.createGenerator(buffer)) {
+      write(generator, task);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return buffer.toByteArray();
+  }
+
+  /**
+   * Encode a task resource as a standalone JSON object
+   * @param resource The resource
+   * @return The UTF-8 bytes
+   */
+  public byte[] toJson(TaskResource resource) {
+    var buffer = BUFFERS.get();
+    buffer.reset();
+    try (var generator = jsonFactory.createGenerator(buffer)) {
+      write(generator, resource);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return buffer.toByteArray();
+  }
+
+  private void write(JsonGenerator generator, Long id, String title, String description, TaskStatus status,
+      TaskPriority priority, LocalDate dueDate, Collection<String> tags, LocalDateTime createdAt,
+      LocalDateTime updatedAt) throws IOException {
+    generator.writeStartObject();
+
+    generator.writeFieldName(ID);
+    if (id != null) {
+      generator.writeNumber(id);
+    } else {
+      generator.writeNull();
+    }
+    generator.writeFieldName(TITLE);
+    generator.writeString(title);
+    generator.writeFieldName(DESCRIPTION);
+    generator.writeString(description);
+    generator.writeFieldName(STATUS);
+    writeName(generator, status != null ? STATUS_NAMES[status.ordinal()] : null);
+    generator.writeFieldName(PRIORITY);
+    writeName(generator, priority != null ? PRIORITY_NAMES[priority.ordinal()] : null);
+    generator.writeFieldName(DUE_DATE);
+    writeName(generator, dueDate != null ? date(dueDate) : null);
+    generator.writeFieldName(TAGS);
+    if (tags != null) {
+      generator.writeStartArray();
+      for (var tag : tags) {
+        generator.writeString(tag);
+      }
+      generator.writeEndArray();
+    } else {
+      generator.writeNull();
+    }
+    generator.writeFieldName(CREATED_AT);
+    writeTimestamp(generator, createdAt);
+    generator.writeFieldName(UPDATED_AT);
+    writeTimestamp(generator, updatedAt);
+
+    generator.writeEndObject();
+  }
+
+  private static void writeName(JsonGenerator generator, SerializedString value) throws IOException {
+    if (value != null) {
+      generator.writeString(value);
+    } else {
+      generator.writeNull();
+    }
+  }
+
+  /**
+   * Formatted due date, from the cache when already formatted; the cache is cleared when full since due dates
+   * cluster around the present
+   * @param date The date
+   * @return The encoded ISO-8601 date
+   */
+  private SerializedString date(LocalDate date) {
+    var cached = dates.get(date);
+    if (cached != null) {
+      return cached;
+    }
+
+    if (dates.size() >= DATE_CACHE_SIZE) {
+      dates.clear();
+    }
+    var formatted = new SerializedString(DateTimeFormatter.ISO_LOCAL_DATE.format(date));
+    dates.put(date, formatted);
+    return formatted;
+  }
+
+  /**
+   * Write a timestamp in the format of {@link DateTimeFormatter#ISO_LOCAL_DATE_TIME}: seconds are always present and
+   * the fraction is written without trailing zeros, or omitted when zero
+   * @param generator The target generator
+   * @param value The timestamp
+   * @throws IOException if the generator cannot write
+   */
+  private static void writeTimestamp(JsonGenerator generator, LocalDateTime value) throws IOException {
+    if (value == null) {
+      generator.writeNull();
+      return;
+    }
+    if (value.getYear() < 0 || value.getYear() > 9_999) {
+      generator.writeString(DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(value));
+      return;
+    }
+
+    var chars = TIMESTAMP_BUFFERS.get();
+    digits(chars, 0, value.getYear(), 4);
+    chars[4] = '-';
+    digits(chars, 5, value.getMonthValue(), 2);
+    chars[7] = '-';
+    digits(chars, 8, value.getDayOfMonth(), 2);
+    chars[10] = 'T';
+    digits(chars, 11, value.getHour(), 2);
+    chars[13] = ':';
+    digits(chars, 14, value.getMinute(), 2);
+    chars[16] = ':';
+    digits(chars, 17, value.getSecond(), 2);
+
+    var length = 19;
+    var nano = value.getNano();
+    if (nano > 0) {
+      chars[19] = '.';
+      digits(chars, 20, nano, 9);
+      length = TIMESTAMP_LENGTH;
+      while (chars[length - 1] == '0') {
+        length--;
+      }
+    }
+    generator.writeString(chars, 0, length);
+  }
+
+  private static void digits(char[] chars, int offset, int value, int width) {
+    for (int i = offset + width - 1; i >= offset; i--) {
+      chars[i] = (char) ('0' + value % 10);
+      value /= 10;
+    }
+  }
+
+  private static SerializedString[] names(Enum<?>[] constants) {
+    var names = new SerializedString[constants.length];
+    for (var constant : constants) {
+      names[constant.ordinal()] = new SerializedString(constant.name());
+    }
+    return names;
+  }
+}
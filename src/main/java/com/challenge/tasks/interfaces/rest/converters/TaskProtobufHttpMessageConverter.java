@@ -0,0 +1,126 @@
+package com.challenge.tasks.interfaces.rest.converters;
+
+import com.challenge.shared.interfaces.rest.BinaryMediaTypes;
+import com.challenge.tasks.interfaces.rest.resources.TaskResource;
+import com.challenge.tasks.interfaces.rest.resources.TaskDeltaResource;
+import com.challenge.tasks.interfaces.rest.resources.TaskStatsResource;
+import com.challenge.tasks.interfaces.rest.resources.TaskFacetsResource;
+import com.challenge.tasks.interfaces.rest.resources.TaskSummaryResource;
+import com.challenge.tasks.interfaces.rest.resources.TaskSuggestionResource;
+import com.challenge.tasks.interfaces.rest.transform.TaskProtoFromResourceAssembler;
+
+import com.google.protobuf.Message;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.stereotype.Component;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+
+import java.util.List;
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+/**
+ * Protocol Buffers message converter for task resources
+ * @summary
+ * Writes {@link TaskResource}, {@code List<TaskResource>}, {@link TaskDeltaResource}, {@link TaskSummaryResource},
+ * {@link TaskStatsResource}, {@link TaskFacetsResource} and {@code List<TaskSuggestionResource>} as the messages
+ * published in {@code src/main/proto/tasks.proto} when the client accepts
+ * {@value BinaryMediaTypes#APPLICATION_PROTOBUF_VALUE}. Request bodies stay JSON, so this converter is write-only.
+ * @author Gonzalo Qu3dena
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Component
+public class TaskProtobufHttpMessageConverter extends AbstractGenericHttpMessageConverter<Object> {
+
+  /**
+   * Constructor of the converter
+   */
+  public TaskProtobufHttpMessageConverter() {
+    super(BinaryMediaTypes.APPLICATION_PROTOBUF);
+  }
+
+  // {@inheritDoc}
+  @Override
+  protected boolean supports(Class<?> clazz) {
+    return clazz == TaskResource.class || clazz == TaskDeltaResource.class || clazz == TaskSummaryResource.class
+        || clazz == TaskStatsResource.class || clazz == TaskFacetsResource.class;
+  }
+
+  // {@inheritDoc}
+  @Override
+  public boolean canWrite(Type type, Class<?> clazz, MediaType mediaType) {
+    if (!canWrite(mediaType)) {
+      return false;
+    }
+
+    var resolved = ResolvableType.forType(type != null ? type : clazz);
+    if (List.class.isAssignableFrom(resolved.toClass())) {
+      var element = resolved.getGeneric(0).toClass();
+      return element == TaskResource.class || element == TaskSuggestionResource.class;
+    }
+    return supports(resolved.toClass());
+  }
+
+  // {@inheritDoc}
+  @Override
+  public boolean canRead(Class<?> clazz, MediaType mediaType) {
+    return false;
+  }
+
+  // {@inheritDoc}
+  @Override
+  public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+    return false;
+  }
+
+  // {@inheritDoc}
+  @Override
+  public Object read(Type type, Class<?> contextClass, HttpInputMessage inputMessage) {
+    throw new UnsupportedOperationException("Task resources are not read from Protocol Buffers");
+  }
+
+  // {@inheritDoc}
+  @Override
+  protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) {
+    throw new UnsupportedOperationException("Task resources are not read from Protocol Buffers");
+  }
+
+  // {@inheritDoc}
+  @Override
+  protected void writeInternal(Object resource, Type type, HttpOutputMessage outputMessage) throws IOException {
+    toMessage(resource, type).writeTo(outputMessage.getBody());
+  }
+
+  /**
+   * Convert a task resource to its message
+   * @param resource The resource
+   * @param type The declared type of the resource, telling the element type of an empty list
+   * @return The message
+   */
+  @SuppressWarnings("unchecked")
+  private static Message toMessage(Object resource, Type type) {
+    if (resource instanceof TaskResource task) {
+      return TaskProtoFromResourceAssembler.toProtoFromResource(task);
+    }
+    if (resource instanceof TaskDeltaResource delta) {
+      return TaskProtoFromResourceAssembler.toProtoFromResource(delta);
+    }
+    if (resource instanceof TaskSummaryResource summary) {
+      return TaskProtoFromResourceAssembler.toProtoFromResource(summary);
+    }
+    if (resource instanceof TaskStatsResource stats) {
+      return TaskProtoFromResourceAssembler.toProtoFromResource(stats);
+    }
+    if (resource instanceof TaskFacetsResource facets) {
+      return TaskProtoFromResourceAssembler.toProtoFromResource(facets);
+    }
+    if (type != null && ResolvableType.forType(type).getGeneric(0).toClass() == TaskSuggestionResource.class) {
+      return TaskProtoFromResourceAssembler.toProtoFromSuggestions((List<TaskSuggestionResource>) resource);
+    }
+    return TaskProtoFromResourceAssembler.toProtoFromResources((List<TaskResource>) resource);
+  }
+}
@@ -0,0 +1,28 @@
+package com.challenge.tasks.interfaces.rest.resources;
+
+import com.challenge.tasks.domain.model.valueobjects.TaskStatus;
+
+/**
+ * Resource representing a change published on the task change feed
+ * @param type The type of the change
+ * @param taskId The ID of the changed task
+ * @param previousStatus The status before the change, only for status changes
+ * @param task The task after the change, null for deletions
+ */
+public record TaskChangeResource(
+  TaskChangeType type,
+  Long taskId,
+  TaskStatus previousStatus,
+  TaskResource task
+) {
+
+  /**
+   * Type of a task change, also used as the SSE event name
+   */
+  public enum TaskChangeType {
+    CREATED,
+    UPDATED,
+    STATUS_CHANGED,
+    DELETED
+  }
+}
@@ -0,0 +1,19 @@
+package com.challenge.tasks.interfaces.rest.resources;
+
+import java.util.List;
+import java.time.LocalDateTime;
+
+/**
+ * Resource representing the changes to the task list since a previous sync
+ * @param updated The tasks created or modified since the previous sync
+ * @param deleted The IDs of the tasks removed since the previous sync
+ * @param highWaterMark The value to send as {@code updatedSince} on the next sync
+ * @param reset Whether updated holds the full task list, which replaces the client's copy
+ */
+public record TaskDeltaResource(
+  List<TaskResource> updated,
+  List<Long> deleted,
+  LocalDateTime highWaterMark,
+  boolean reset
+) {
+}
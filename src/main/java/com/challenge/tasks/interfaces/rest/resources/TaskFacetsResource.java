@@ -0,0 +1,18 @@
+package com.challenge.tasks.interfaces.rest.resources;
+
+import java.util.Map;
+
+/**
+ * Resource representing the facets of a filtered task list
+ * @param total Number of tasks matching the filters
+ * @param byStatusAndPriority Count by status (TODO/IN_PROGRESS/DONE), then by priority (LOW/MEDIUM/HIGH)
+ * @param overdue Number of matching overdue tasks (dueDate < today and status != DONE)
+ * @param byDueDate Count by due date bucket (PAST/TODAY/NEXT_7_DAYS/LATER/NONE)
+ */
+public record TaskFacetsResource(
+  Long total,
+  Map<String, Map<String, Long>> byStatusAndPriority,
+  Long overdue,
+  Map<String, Long> byDueDate
+) {
+}
@@ -3,6 +3,7 @@ package com.challenge.tasks.interfaces.rest.resources;
 import com.challenge.tasks.domain.model.valueobjects.TaskPriority;
 import com.challenge.tasks.domain.model.valueobjects.TaskStatus;
 
+import java.util.Set;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
@@ -14,6 +15,7 @@ import java.time.LocalDateTime;
  * @param status The status of the task
  * @param priority The priority of the task
  * @param dueDate The due date of the task
+ * @param tags The tags of the task, sorted
  * @param createdAt The creation date of the task
  * @param updatedAt The last update date of the task
  */
@@ -24,7 +26,24 @@ public record TaskResource(
   TaskStatus status,
   TaskPriority priority,
   LocalDate dueDate,
+  Set<String> tags,
   LocalDateTime createdAt,
   LocalDateTime updatedAt
 ) {
+
+  /**
+   * Constructor of a resource of an untagged task
+   * @param id The ID of the task
+   * @param title The title of the task
+   * @param description The description of the task
+   * @param status The status of the task
+   * @param priority The priority of the task
+   * @param dueDate The due date of the task
+   * @param createdAt The creation date of the task
+   * @param updatedAt The last update date of the task
+   */
+  public TaskResource(Long id, String title, String description, TaskStatus status, TaskPriority priority,
+      LocalDate dueDate, LocalDateTime createdAt, LocalDateTime updatedAt) {
+    this(id, title, description, status, priority, dueDate, Set.of(), createdAt, updatedAt);
+  }
 }
@@ -0,0 +1,12 @@
+package com.challenge.tasks.interfaces.rest.resources;
+
+/**
+ * Task suggestion resource for type-ahead
+ * @param id Task ID
+ * @param title Task title
+ */
+public record TaskSuggestionResource(
+  Long id,
+  String title
+) {
+}
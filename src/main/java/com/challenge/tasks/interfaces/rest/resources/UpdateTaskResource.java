@@ -2,7 +2,9 @@ package com.challenge.tasks.interfaces.rest.resources;
 
 import com.challenge.tasks.domain.model.valueobjects.TaskPriority;
 import com.challenge.tasks.domain.model.valueobjects.TaskStatus;
+import com.challenge.tasks.domain.model.valueobjects.TaskTags;
 
+import java.util.Set;
 import java.time.LocalDate;
 import jakarta.validation.constraints.Size;
 import jakarta.validation.constraints.NotNull;
@@ -15,6 +17,7 @@ import jakarta.validation.constraints.NotBlank;
  * @param priority The priority of the task
  * @param dueDate The due date of the task
  * @param status The status of the task
+ * @param tags The tags of the task (optional, keeps the current tags when omitted)
  */
 public record UpdateTaskResource(
   @NotBlank(message = "Title is required")
@@ -30,6 +33,22 @@ public record UpdateTaskResource(
   LocalDate dueDate,
 
   @NotNull(message = "Status is required")
-  TaskStatus status
+  TaskStatus status,
+
+  @Size(max = TaskTags.MAX_TAGS, message = "A task can have at most " + TaskTags.MAX_TAGS + " tags")
+  Set<String> tags
 ) {
+
+  /**
+   * Constructor of a resource without tags
+   * @param title The title of the task
+   * @param description The description of the task
+   * @param priority The priority of the task
+   * @param dueDate The due date of the task
+   * @param status The status of the task
+   */
+  public UpdateTaskResource(String title, String description, TaskPriority priority, LocalDate dueDate,
+      TaskStatus status) {
+    this(title, description, priority, dueDate, status, null);
+  }
 }
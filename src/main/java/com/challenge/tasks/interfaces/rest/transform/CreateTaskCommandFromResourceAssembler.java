@@ -11,15 +11,18 @@ public class CreateTaskCommandFromResourceAssembler {
   /**
    * Convert CreateTaskResource to CreateTaskCommand
    * @param resource The resource to convert
+   * @param tenantId The tenant creating the task
    * @return The command
    */
-  public static CreateTaskCommand toCommandFromResource(CreateTaskResource resource) {
+  public static CreateTaskCommand toCommandFromResource(CreateTaskResource resource, String tenantId) {
     return new CreateTaskCommand(
+        tenantId,
         resource.title(),
         resource.description(),
         resource.priority(),
         resource.dueDate(),
-        resource.status()
+        resource.status(),
+        resource.tags()
     );
   }
 }
@@ -0,0 +1,53 @@
+package com.challenge.tasks.interfaces.rest.transform;
+
+import com.challenge.tasks.domain.model.events.TaskCreatedEvent;
+import com.challenge.tasks.domain.model.events.TaskDeletedEvent;
+import com.challenge.tasks.domain.model.events.TaskUpdatedEvent;
+import com.challenge.tasks.domain.model.events.TaskStatusChangedEvent;
+import com.challenge.tasks.interfaces.rest.resources.TaskChangeResource;
+import com.challenge.tasks.interfaces.rest.resources.TaskChangeResource.TaskChangeType;
+
+/**
+ * Assembler to convert task domain events to TaskChangeResource
+ */
+public class TaskChangeResourceFromEventAssembler {
+
+  /**
+   * Convert TaskCreatedEvent to TaskChangeResource
+   * @param event The domain event
+   * @return The resource
+   */
+  public static TaskChangeResource toResourceFromEvent(TaskCreatedEvent event) {
+    return new TaskChangeResource(TaskChangeType.CREATED, event.task().getId(), null,
+        TaskResourceFromEntityAssembler.toResourceFromEntity(event.task()));
+  }
+
+  /**
+   * Convert TaskUpdatedEvent to TaskChangeResource
+   * @param event The domain event
+   * @return The resource
+   */
+  public static TaskChangeResource toResourceFromEvent(TaskUpdatedEvent event) {
+    return new TaskChangeResource(TaskChangeType.UPDATED, event.task().getId(), null,
+        TaskResourceFromEntityAssembler.toResourceFromEntity(event.task()));
+  }
+
+  /**
+   * Convert TaskStatusChangedEvent to TaskChangeResource
+   * @param event The domain event
+   * @return The resource
+   */
+  public static TaskChangeResource toResourceFromEvent(TaskStatusChangedEvent event) {
+    return new TaskChangeResource(TaskChangeType.STATUS_CHANGED, event.task().getId(), event.previousStatus(),
+        TaskResourceFromEntityAssembler.toResourceFromEntity(event.task()));
+  }
+
+  /**
+   * Convert TaskDeletedEvent to TaskChangeResource
+   * @param event The domain event
+   * @return The resource
+   */
+  public static TaskChangeResource toResourceFromEvent(TaskDeletedEvent event) {
+    return new TaskChangeResource(TaskChangeType.DELETED, event.task().getId(), null, null);
+  }
+}
@@ -0,0 +1,24 @@
+package com.challenge.tasks.interfaces.rest.transform;
+
+import com.challenge.tasks.domain.model.valueobjects.TaskDelta;
+import com.challenge.tasks.interfaces.rest.resources.TaskDeltaResource;
+
+/**
+ * Assembler to convert TaskDelta value object to TaskDeltaResource
+ */
+public class TaskDeltaResourceFromDeltaAssembler {
+
+  /**
+   * Convert TaskDelta value object to TaskDeltaResource
+   * @param delta The task delta
+   * @return The resource
+   */
+  public static TaskDeltaResource toResourceFromDelta(TaskDelta delta) {
+    return new TaskDeltaResource(
+        TaskResourceFromEntityAssembler.toResourcesFromEntities(delta.updated()),
+        delta.deleted(),
+        delta.highWaterMark(),
+        delta.reset()
+    );
+  }
+}
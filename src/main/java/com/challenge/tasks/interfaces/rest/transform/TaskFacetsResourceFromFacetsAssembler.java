@@ -0,0 +1,37 @@
+package com.challenge.tasks.interfaces.rest.transform;
+
+import com.challenge.tasks.domain.model.valueobjects.TaskFacets;
+import com.challenge.tasks.interfaces.rest.resources.TaskFacetsResource;
+
+import java.util.Map;
+import java.util.LinkedHashMap;
+
+/**
+ * Assembler to convert TaskFacets value object to TaskFacetsResource
+ */
+public class TaskFacetsResourceFromFacetsAssembler {
+
+  /**
+   * Convert TaskFacets value object to TaskFacetsResource, keeping the declaration order of the enums
+   * @param facets The TaskFacets value object
+   * @return The resource
+   */
+  public static TaskFacetsResource toResourceFromFacets(TaskFacets facets) {
+    var byStatusAndPriority = new LinkedHashMap<String, Map<String, Long>>();
+    facets.byStatusAndPriority().forEach((status, byPriority) -> {
+      var counts = new LinkedHashMap<String, Long>();
+      byPriority.forEach((priority, count) -> counts.put(priority.name(), count));
+      byStatusAndPriority.put(status.name(), counts);
+    });
+
+    var byDueDate = new LinkedHashMap<String, Long>();
+    facets.byDueDate().forEach((bucket, count) -> byDueDate.put(bucket.name(), count));
+
+    return new TaskFacetsResource(
+        facets.total(),
+        byStatusAndPriority,
+        facets.overdue(),
+        byDueDate
+    );
+  }
+}
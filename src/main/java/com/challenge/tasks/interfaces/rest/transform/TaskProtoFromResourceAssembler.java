@@ -0,0 +1,143 @@
+package com.challenge.tasks.interfaces.rest.transform;
+
+import com.challenge.tasks.interfaces.rest.resources.TaskResource;
+import com.challenge.tasks.interfaces.rest.resources.TaskDeltaResource;
+import com.challenge.tasks.interfaces.rest.resources.TaskStatsResource;
+import com.challenge.tasks.interfaces.rest.resources.TaskFacetsResource;
+import com.challenge.tasks.interfaces.rest.resources.TaskSummaryResource;
+import com.challenge.tasks.interfaces.rest.resources.TaskSuggestionResource;
+import com.challenge.tasks.interfaces.rest.resources.protobuf.TaskProtos;
+
+import com.google.protobuf.Timestamp;
+
+import java.util.List;
+import java.time.ZoneOffset;
+import java.time.LocalDateTime;
+
+/**
+ * Assembler to convert task resources to their Protocol Buffers messages, as documented in {@code tasks.proto}
+ */
+public class TaskProtoFromResourceAssembler {
+
+  /**
+   * Convert TaskResource to its message
+   * @param resource The resource
+   * @return The message
+   */
+  public static TaskProtos.TaskResource toProtoFromResource(TaskResource resource) {
+    var builder = TaskProtos.TaskResource.newBuilder()
+        .setId(resource.id())
+        .setTitle(resource.title())
+        .setStatus(TaskProtos.TaskStatus.valueOf(resource.status().name()))
+        .setPriority(TaskProtos.TaskPriority.valueOf(resource.priority().name()))
+        .setCreatedAt(toTimestamp(resource.createdAt()))
+        .setUpdatedAt(toTimestamp(resource.updatedAt()));
+
+    if (resource.description() != null) {
+      builder.setDescription(resource.description());
+    }
+    if (resource.dueDate() != null) {
+      builder.setDueDate(resource.dueDate().toEpochDay());
+    }
+    if (resource.tags() != null) {
+      builder.addAllTags(resource.tags());
+    }
+    return builder.build();
+  }
+
+  /**
+   * Convert a list of TaskResource to its message
+   * @param resources The resources
+   * @return The message
+   */
+  public static TaskProtos.TaskResourceList toProtoFromResources(List<TaskResource> resources) {
+    var builder = TaskProtos.TaskResourceList.newBuilder();
+    resources.forEach(resource -> builder.addTasks(toProtoFromResource(resource)));
+    return builder.build();
+  }
+
+  /**
+   * Convert TaskDeltaResource to its message
+   * @param resource The resource
+   * @return The message
+   */
+  public static TaskProtos.TaskDeltaResource toProtoFromResource(TaskDeltaResource resource) {
+    var builder = TaskProtos.TaskDeltaResource.newBuilder()
+        .addAllDeleted(resource.deleted())
+        .setHighWaterMark(toTimestamp(resource.highWaterMark()))
+        .setReset(resource.reset());
+
+    resource.updated().forEach(task -> builder.addUpdated(toProtoFromResource(task)));
+    return builder.build();
+  }
+
+  /**
+   * Convert a list of TaskSuggestionResource to its message
+   * @param resources The resources
+   * @return The message
+   */
+  public static TaskProtos.TaskSuggestionResourceList toProtoFromSuggestions(List<TaskSuggestionResource> resources) {
+    var builder = TaskProtos.TaskSuggestionResourceList.newBuilder();
+    resources.forEach(resource -> builder.addSuggestions(TaskProtos.TaskSuggestionResource.newBuilder()
+        .setId(resource.id())
+        .setTitle(resource.title())));
+    return builder.build();
+  }
+
+  /**
+   * Convert TaskSummaryResource to its message
+   * @param resource The resource
+   * @return The message
+   */
+  public static TaskProtos.TaskSummaryResource toProtoFromResource(TaskSummaryResource resource) {
+    var builder = TaskProtos.TaskSummaryResource.newBuilder()
+        .setId(resource.id())
+        .setTitle(resource.title())
+        .setPriority(TaskProtos.TaskPriority.valueOf(resource.priority()))
+        .setStatus(TaskProtos.TaskStatus.valueOf(resource.status()));
+
+    if (resource.dueDate() != null) {
+      builder.setDueDate(resource.dueDate().toEpochDay());
+    }
+    return builder.build();
+  }
+
+  /**
+   * Convert TaskStatsResource to its message
+   * @param resource The resource
+   * @return The message
+   */
+  public static TaskProtos.TaskStatsResource toProtoFromResource(TaskStatsResource resource) {
+    var builder = TaskProtos.TaskStatsResource.newBuilder()
+        .setTotal(resource.total())
+        .putAllByStatus(resource.byStatus())
+        .putAllByPriority(resource.byPriority())
+        .setOverdue(resource.overdue());
+
+    resource.next7Days().forEach(summary -> builder.addNext7Days(toProtoFromResource(summary)));
+    return builder.build();
+  }
+
+  /**
+   * Convert TaskFacetsResource to its message
+   * @param resource The resource
+   * @return The message
+   */
+  public static TaskProtos.TaskFacetsResource toProtoFromResource(TaskFacetsResource resource) {
+    var builder = TaskProtos.TaskFacetsResource.newBuilder()
+        .setTotal(resource.total())
+        .setOverdue(resource.overdue())
+        .putAllByDueDate(resource.byDueDate());
+
+    resource.byStatusAndPriority().forEach((status, byPriority) -> builder.putByStatusAndPriority(status,
+        TaskProtos.TaskPriorityCounts.newBuilder().putAllByPriority(byPriority).build()));
+    return builder.build();
+  }
+
+  private static Timestamp toTimestamp(LocalDateTime dateTime) {
+    return Timestamp.newBuilder()
+        .setSeconds(dateTime.toEpochSecond(ZoneOffset.UTC))
+        .setNanos(dateTime.getNano())
+        .build();
+  }
+}
@@ -3,6 +3,8 @@ package com.challenge.tasks.interfaces.rest.transform;
 import com.challenge.tasks.domain.model.aggregates.Task;
 import com.challenge.tasks.interfaces.rest.resources.TaskResource;
 
+import java.util.List;
+
 /**
  * Assembler to convert Task entity to TaskResource
  */
@@ -21,8 +23,18 @@ public class TaskResourceFromEntityAssembler {
         task.getStatus(),
         task.getPriority(),
         task.getDueDate(),
+        task.getTags(),
         task.getCreatedAt(),
         task.getUpdatedAt()
     );
   }
+
+  /**
+   * Convert Task entities to a list of TaskResource assembled on access
+   * @param tasks The task entities
+   * @return The resources
+   */
+  public static List<TaskResource> toResourcesFromEntities(List<Task> tasks) {
+    return new TaskResourceList(tasks);
+  }
 }
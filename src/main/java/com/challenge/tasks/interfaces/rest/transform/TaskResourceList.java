@@ -0,0 +1,48 @@
+package com.challenge.tasks.interfaces.rest.transform;
+
+import com.challenge.tasks.domain.model.aggregates.Task;
+import com.challenge.tasks.interfaces.rest.resources.TaskResource;
+
+import java.util.List;
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+/**
+ * List of task resources backed by task entities
+ * @summary
+ * Each {@link TaskResource} is assembled when its element is accessed instead of materializing the whole list up
+ * front. Writers that can work from the entities directly, like the streaming JSON writer, use {@link #tasks()} and
+ * never assemble a resource at all.
+ */
+public class TaskResourceList extends AbstractList<TaskResource> implements RandomAccess {
+
+  private final List<Task> tasks;
+
+  /**
+   * Constructor of the list
+   * @param tasks The task entities
+   */
+  public TaskResourceList(List<Task> tasks) {
+    this.tasks = tasks;
+  }
+
+  /**
+   * Task entities backing this list
+   * @return The tasks
+   */
+  public List<Task> tasks() {
+    return tasks;
+  }
+
+  // {@inheritDoc}
+  @Override
+  public TaskResource get(int index) {
+    return TaskResourceFromEntityAssembler.toResourceFromEntity(tasks.get(index));
+  }
+
+  // {@inheritDoc}
+  @Override
+  public int size() {
+    return tasks.size();
+  }
+}
@@ -0,0 +1,23 @@
+package com.challenge.tasks.interfaces.rest.transform;
+
+import com.challenge.tasks.domain.model.valueobjects.TaskSuggestion;
+import com.challenge.tasks.interfaces.rest.resources.TaskSuggestionResource;
+
+import java.util.List;
+
+/**
+ * Assembler to convert TaskSuggestion value objects to TaskSuggestionResource
+ */
+public class TaskSuggestionResourceFromSuggestionAssembler {
+
+  /**
+   * Convert TaskSuggestion value objects to resources, keeping their order
+   * @param suggestions The TaskSuggestion value objects
+   * @return The resources
+   */
+  public static List<TaskSuggestionResource> toResourcesFromSuggestions(List<TaskSuggestion> suggestions) {
+    return suggestions.stream()
+        .map(suggestion -> new TaskSuggestionResource(suggestion.id(), suggestion.title()))
+        .toList();
+  }
+}
@@ -12,16 +12,19 @@ public class UpdateTaskCommandFromResourceAssembler {
    * Convert UpdateTaskResource and taskId to UpdateTaskCommand
    * @param resource The resource to convert
    * @param taskId The task ID
+   * @param tenantId The tenant updating the task
    * @return The command
    */
-  public static UpdateTaskCommand toCommandFromResource(UpdateTaskResource resource, Long taskId) {
+  public static UpdateTaskCommand toCommandFromResource(UpdateTaskResource resource, Long taskId, String tenantId) {
     return new UpdateTaskCommand(
+        tenantId,
         taskId,
         resource.title(),
         resource.description(),
         resource.priority(),
         resource.dueDate(),
-        resource.status()
+        resource.status(),
+        resource.tags()
     );
   }
 }
@@ -12,10 +12,13 @@ public class UpdateTaskStatusCommandFromResourceAssembler {
    * Convert UpdateTaskStatusResource and taskId to UpdateTaskStatusCommand
    * @param resource The resource to convert
    * @param taskId The task ID
+   * @param tenantId The tenant updating the task
    * @return The command
    */
-  public static UpdateTaskStatusCommand toCommandFromResource(UpdateTaskStatusResource resource, Long taskId) {
+  public static UpdateTaskStatusCommand toCommandFromResource(UpdateTaskStatusResource resource, Long taskId,
+      String tenantId) {
     return new UpdateTaskStatusCommand(
+        tenantId,
         taskId,
         resource.status()
     );
@@ -0,0 +1,51 @@
+package com.challenge.tasks.interfaces.webhooks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.client.RestClient;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+
+import com.challenge.tasks.infrastructure.persistence.jpa.repositories.TaskOutboxMessageRepository;
+
+import java.net.http.HttpClient;
+
+/**
+ * Spring configuration of the task outbox
+ * @summary
+ * Wires the recorder writing task changes to the outbox and the dispatcher delivering them to the webhook. Everything
+ * is disabled unless {@code tasks.outbox.enabled} is {@code true}.
+ * @author Gonzalo Qu3dena
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Configuration
+@EnableConfigurationProperties(TaskOutboxProperties.class)
+@ConditionalOnProperty(prefix = "tasks.outbox", name = "enabled", havingValue = "true")
+public class TaskOutboxConfiguration {
+
+  @Bean
+  public TaskOutboxRecorder taskOutboxRecorder(TaskOutboxMessageRepository outboxRepository,
+      ObjectMapper objectMapper) {
+    return new TaskOutboxRecorder(outboxRepository, objectMapper);
+  }
+
+  @Bean
+  public TaskWebhookDispatcher taskWebhookDispatcher(TaskOutboxMessageRepository outboxRepository,
+      TransactionTemplate transactionTemplate, RestClient.Builder restClientBuilder, ObjectMapper objectMapper,
+      MeterRegistry meterRegistry, TaskOutboxProperties properties) {
+    var httpClient = HttpClient.newBuilder().connectTimeout(properties.timeout()).build();
+    var requestFactory = new JdkClientHttpRequestFactory(httpClient);
+    requestFactory.setReadTimeout(properties.timeout());
+
+    var restClient = restClientBuilder.requestFactory(requestFactory).build();
+    return new TaskWebhookDispatcher(outboxRepository, transactionTemplate, restClient, objectMapper, meterRegistry,
+        properties);
+  }
+}
@@ -0,0 +1,38 @@
+package com.challenge.tasks.interfaces.webhooks;
+
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.net.URI;
+import java.time.Duration;
+
+/**
+ * Configuration properties of the task outbox and its webhook dispatcher
+ * @param enabled Whether task changes are written to the outbox and delivered
+ * @param webhookUrl The URL task changes are posted to
+ * @param pollInterval The delay between two drains of the outbox
+ * @param batchSize How many messages are read per drain
+ * @param maxEventsPerRequest How many changes are posted in a single request
+ * @param parallelism How many requests may be in flight at the same time
+ * @param timeout The connect and read timeout of a request
+ * @param initialBackoff The delay before retrying a failed delivery, doubled on every further failure
+ * @param maxBackoff The longest delay between two attempts
+ * @param maxAttempts The number of attempts after which a message is marked as failed
+ * @author Gonzalo Qu3dena
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@ConfigurationProperties(prefix = "tasks.outbox")
+public record TaskOutboxProperties(
+  @DefaultValue("false") boolean enabled,
+  URI webhookUrl,
+  @DefaultValue("1s") Duration pollInterval,
+  @DefaultValue("500") int batchSize,
+  @DefaultValue("50") int maxEventsPerRequest,
+  @DefaultValue("4") int parallelism,
+  @DefaultValue("5s") Duration timeout,
+  @DefaultValue("1s") Duration initialBackoff,
+  @DefaultValue("5m") Duration maxBackoff,
+  @DefaultValue("10") int maxAttempts
+) {
+}
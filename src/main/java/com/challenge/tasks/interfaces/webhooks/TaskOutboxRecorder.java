@@ -0,0 +1,73 @@
+package com.challenge.tasks.interfaces.webhooks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.springframework.context.event.EventListener;
+
+import com.challenge.tasks.domain.model.events.TaskCreatedEvent;
+import com.challenge.tasks.domain.model.events.TaskDeletedEvent;
+import com.challenge.tasks.domain.model.events.TaskUpdatedEvent;
+import com.challenge.tasks.domain.model.entities.TaskOutboxMessage;
+import com.challenge.tasks.domain.model.events.TaskStatusChangedEvent;
+import com.challenge.tasks.interfaces.rest.resources.TaskChangeResource;
+import com.challenge.tasks.interfaces.rest.transform.TaskChangeResourceFromEventAssembler;
+import com.challenge.tasks.infrastructure.persistence.jpa.repositories.TaskOutboxMessageRepository;
+
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+
+/**
+ * Records task domain events in the outbox
+ * @summary
+ * Unlike the other consumers of task events, this listener runs synchronously while the aggregate is saved, so the
+ * outbox row is part of the command's transaction: it is committed or rolled back together with the change it
+ * describes. Delivery is left to the {@link TaskWebhookDispatcher}, which keeps webhook latency off the write path.
+ * @author Gonzalo Qu3dena
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class TaskOutboxRecorder {
+
+  private final TaskOutboxMessageRepository outboxRepository;
+  private final ObjectMapper objectMapper;
+
+  /**
+   * Constructor of the recorder
+   * @param outboxRepository The repository of outbox messages
+   * @param objectMapper The mapper used to encode the changes
+   */
+  public TaskOutboxRecorder(TaskOutboxMessageRepository outboxRepository, ObjectMapper objectMapper) {
+    this.outboxRepository = outboxRepository;
+    this.objectMapper = objectMapper;
+  }
+
+  @EventListener
+  public void on(TaskCreatedEvent event) {
+    record(TaskChangeResourceFromEventAssembler.toResourceFromEvent(event));
+  }
+
+  @EventListener
+  public void on(TaskUpdatedEvent event) {
+    record(TaskChangeResourceFromEventAssembler.toResourceFromEvent(event));
+  }
+
+  @EventListener
+  public void on(TaskStatusChangedEvent event) {
+    record(TaskChangeResourceFromEventAssembler.toResourceFromEvent(event));
+  }
+
+  @EventListener
+  public void on(TaskDeletedEvent event) {
+    record(TaskChangeResourceFromEventAssembler.toResourceFromEvent(event));
+  }
+
+  private void record(TaskChangeResource change) {
+    try {
+      outboxRepository.save(new TaskOutboxMessage(change.taskId(), change.type().name(),
+          objectMapper.writeValueAsString(change), LocalDateTime.now()));
+    } catch (JsonProcessingException e) {
+      throw new UncheckedIOException("Cannot encode task change", e);
+    }
+  }
+}
@@ -0,0 +1,251 @@
+package com.challenge.tasks.interfaces.webhooks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.MediaType;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientException;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import com.challenge.tasks.domain.model.entities.TaskOutboxMessage;
+import com.challenge.tasks.infrastructure.persistence.jpa.repositories.TaskOutboxMessageRepository;
+
+import java.util.Map;
+import java.util.List;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.stream.Collectors;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Background dispatcher of the task outbox to the webhook
+ * @summary
+ * Every {@code tasks.outbox.poll-interval} the dispatcher drains the due outbox messages in batches:
+ * <ul>
+ *   <li>Messages of the same task are coalesced: each carries the full state after its change, so only the latest one
+ *   is sent and, once delivered, it removes the older ones too.</li>
+ *   <li>The remaining changes are posted as JSON arrays of up to {@code max-events-per-request} entries, with at most
+ *   {@code parallelism} requests in flight. Each entry carries its outbox ID, which grows with every change, so
+ *   receivers can discard a change older than one they already applied.</li>
+ *   <li>The messages of a failed request are retried with exponential backoff, and marked as failed after
+ *   {@code max-attempts}.</li>
+ * </ul>
+ * Delivery lag (from the change to its delivery), pending messages, coalesced messages and failures are published as
+ * {@code tasks.outbox.*} metrics. A single dispatcher drains the outbox; running several instances would require
+ * row locking on the batch query.
+ * @author Gonzalo Qu3dena
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class TaskWebhookDispatcher implements DisposableBean {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(TaskWebhookDispatcher.class);
+
+  private final TaskOutboxMessageRepository outboxRepository;
+  private final TransactionTemplate transactionTemplate;
+  private final RestClient restClient;
+  private final ObjectMapper objectMapper;
+  private final TaskOutboxProperties properties;
+  private final ExecutorService senders;
+
+  private final AtomicLong pending = new AtomicLong();
+  private final Timer deliveryLag;
+  private final Counter delivered;
+  private final Counter coalesced;
+  private final Counter failures;
+
+  /**
+   * Constructor of the dispatcher
+   * @param outboxRepository The repository of outbox messages
+   * @param transactionTemplate The template used to record the outcome of a batch
+   * @param restClient The client posting to the webhook
+   * @param objectMapper The mapper used to write request bodies
+   * @param meterRegistry The registry of the delivery metrics
+   * @param properties The outbox configuration
+   */
+  public TaskWebhookDispatcher(TaskOutboxMessageRepository outboxRepository, TransactionTemplate transactionTemplate,
+      RestClient restClient, ObjectMapper objectMapper, MeterRegistry meterRegistry, TaskOutboxProperties properties) {
+    if (properties.webhookUrl() == null) {
+      throw new IllegalStateException("tasks.outbox.webhook-url must be set when the task outbox is enabled");
+    }
+
+    this.outboxRepository = outboxRepository;
+    this.transactionTemplate = transactionTemplate;
+    this.restClient = restClient;
+    this.objectMapper = objectMapper;
+    this.properties = properties;
+
+    var threadFactory = new CustomizableThreadFactory("task-webhook-");
+    threadFactory.setDaemon(true);
+    this.senders = Executors.newFixedThreadPool(properties.parallelism(), threadFactory);
+
+    this.deliveryLag = Timer.builder("tasks.outbox.delivery.lag")
+        .description("Time between a task change and its delivery to the webhook")
+        .publishPercentiles(0.5, 0.99)
+        .register(meterRegistry);
+    this.delivered = meterRegistry.counter("tasks.outbox.delivered");
+    this.coalesced = meterRegistry.counter("tasks.outbox.coalesced");
+    this.failures = meterRegistry.counter("tasks.outbox.failures");
+    meterRegistry.gauge("tasks.outbox.pending", pending);
+  }
+
+  /**
+   * Deliver every due message, batch by batch, stopping at the first batch with a failed request
+   * @return The number of delivered changes
+   */
+  @Scheduled(fixedDelayString = "${tasks.outbox.poll-interval:1s}")
+  public long dispatch() {
+    long sent = 0;
+    BatchResult result;
+    do {
+      result = dispatchBatch();
+      sent += result.delivered();
+    } while (result.read() == properties.batchSize() && !result.failed());
+
+    pending.set(outboxRepository.countByFailedAtIsNull());
+    return sent;
+  }
+
+  // {@inheritDoc}
+  @Override
+  public void destroy() {
+    senders.shutdownNow();
+  }
+
+  /**
+   * Read, coalesce and deliver one batch of due messages, then record the outcome
+   * @return The outcome of the batch
+   */
+  private BatchResult dispatchBatch() {
+    var due = outboxRepository.findByFailedAtIsNullAndNextAttemptAtLessThanEqualOrderById(LocalDateTime.now(),
+        Limit.of(properties.batchSize()));
+    if (due.isEmpty()) {
+      return new BatchResult(0, 0, false);
+    }
+
+    // Ordered by ID, so the last message of each task wins
+    var byTask = due.stream().collect(Collectors.groupingBy(TaskOutboxMessage::getTaskId, LinkedHashMap::new,
+        Collectors.toList()));
+    var latest = byTask.values().stream().map(messages -> messages.get(messages.size() - 1)).toList();
+    coalesced.increment(due.size() - latest.size());
+
+    var requests = new ArrayList<CompletableFuture<Boolean>>();
+    var chunks = new ArrayList<List<TaskOutboxMessage>>();
+    for (int from = 0; from < latest.size(); from += properties.maxEventsPerRequest()) {
+      var chunk = latest.subList(from, Math.min(from + properties.maxEventsPerRequest(), latest.size()));
+      chunks.add(chunk);
+      requests.add(CompletableFuture.supplyAsync(() -> post(chunk), senders));
+    }
+
+    // Wait for every request before opening the transaction, so no connection is held during network calls
+    var accepted = requests.stream().map(CompletableFuture::join).toList();
+    var now = LocalDateTime.now();
+    var outcome = new int[2];
+    transactionTemplate.executeWithoutResult(status -> {
+      for (int i = 0; i < chunks.size(); i++) {
+        if (accepted.get(i)) {
+          outcome[0] += recordDelivered(chunks.get(i), now);
+        } else {
+          outcome[1]++;
+          recordFailed(chunks.get(i), byTask, now);
+        }
+      }
+    });
+    return new BatchResult(due.size(), outcome[0], outcome[1] > 0);
+  }
+
+  /**
+   * Post a chunk of changes to the webhook
+   * @param chunk The latest message of each task in the chunk
+   * @return Whether the webhook accepted the changes
+   */
+  private boolean post(List<TaskOutboxMessage> chunk) {
+    try {
+      restClient.post()
+          .uri(properties.webhookUrl())
+          .contentType(MediaType.APPLICATION_JSON)
+          .body(body(chunk))
+          .retrieve()
+          .toBodilessEntity();
+      return true;
+    } catch (RestClientException e) {
+      LOGGER.warn("Cannot deliver {} task changes to {}: {}", chunk.size(), properties.webhookUrl(), e.getMessage());
+      return false;
+    }
+  }
+
+  /**
+   * Write the request body, embedding the stored change payloads as they are
+   * @param chunk The messages to send
+   * @return The JSON array of changes
+   */
+  private String body(List<TaskOutboxMessage> chunk) {
+    var writer = new StringWriter();
+    try (var generator = objectMapper.getFactory().createGenerator(writer)) {
+      generator.writeStartArray();
+      for (var message : chunk) {
+        generator.writeStartObject();
+        generator.writeNumberField("eventId", message.getId());
+        generator.writeStringField("occurredAt", message.getCreatedAt().toString());
+        generator.writeFieldName("change");
+        generator.writeRawValue(message.getPayload());
+        generator.writeEndObject();
+      }
+      generator.writeEndArray();
+    } catch (IOException e) {
+      throw new UncheckedIOException("Cannot write webhook request", e);
+    }
+    return writer.toString();
+  }
+
+  private int recordDelivered(List<TaskOutboxMessage> chunk, LocalDateTime now) {
+    for (var message : chunk) {
+      outboxRepository.deleteDelivered(message.getTaskId(), message.getId());
+      deliveryLag.record(Duration.between(message.getCreatedAt(), now));
+    }
+    delivered.increment(chunk.size());
+    return chunk.size();
+  }
+
+  /**
+   * Back off every due message of the tasks in a failed chunk, including the coalesced ones, so that an older state
+   * is never retried ahead of a newer one
+   */
+  private void recordFailed(List<TaskOutboxMessage> chunk, Map<Long, List<TaskOutboxMessage>> byTask,
+      LocalDateTime now) {
+    failures.increment();
+    for (var message : chunk) {
+      for (var superseded : byTask.get(message.getTaskId())) {
+        superseded.attemptFailed(now, properties.initialBackoff(), properties.maxBackoff(), properties.maxAttempts());
+        outboxRepository.save(superseded);
+      }
+    }
+  }
+
+  /**
+   * Outcome of a batch
+   * @param read The number of due messages read
+   * @param delivered The number of changes delivered
+   * @param failed Whether a request failed
+   */
+  private record BatchResult(int read, int delivered, boolean failed) {
+  }
+}
@@ -0,0 +1,20 @@
+-- Schema of one task shard, see ShardedTaskRepository. IDs are allocated from task_ids and encoded with the shard
+-- index, so the column has no identity of its own. The indexes serving request queries lead with the tenant.
+CREATE TABLE IF NOT EXISTS tasks (
+  id BIGINT PRIMARY KEY,
+  tenant_id VARCHAR(64) NOT NULL,
+  title VARCHAR(80) NOT NULL,
+  description VARCHAR(250),
+  status VARCHAR(20) NOT NULL,
+  priority VARCHAR(20) NOT NULL,
+  due_date DATE,
+  tags VARCHAR(330),
+  created_at TIMESTAMP(6) NOT NULL,
+  updated_at TIMESTAMP(6) NOT NULL
+);
+CREATE INDEX IF NOT EXISTS tasks_status_updated_at ON tasks (status, updated_at);
+CREATE INDEX IF NOT EXISTS tasks_tenant_updated_at ON tasks (tenant_id, updated_at);
+CREATE INDEX IF NOT EXISTS tasks_tenant_status_priority ON tasks (tenant_id, status, priority);
+CREATE INDEX IF NOT EXISTS tasks_tenant_priority ON tasks (tenant_id, priority);
+CREATE INDEX IF NOT EXISTS tasks_tenant_due_date ON tasks (tenant_id, due_date);
+CREATE SEQUENCE IF NOT EXISTS task_ids START WITH 1;
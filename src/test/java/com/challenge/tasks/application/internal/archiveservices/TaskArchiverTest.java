@@ -0,0 +1,81 @@
+package com.challenge.tasks.application.internal.archiveservices;
+
+import com.challenge.tasks.domain.model.valueobjects.TaskStatus;
+import com.challenge.tasks.domain.model.valueobjects.TaskPriority;
+import com.challenge.tasks.domain.model.commands.CreateTaskCommand;
+import com.challenge.tasks.application.internal.commandservices.TaskCommandServiceImpl;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import org.springframework.beans.factory.annotation.Autowired;
+
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+
+import static org.hamcrest.Matchers.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Test Integration for TaskArchiver
+ * @summary
+ * This class verifies that DONE tasks are moved to the archive, hidden from regular listings and suggestions, returned
+ * on request and still counted by the statistics.
+ * @author Gonzalo Qu3dena
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@SpringBootTest(properties = {"tasks.archive.enabled=true", "tasks.archive.min-age=0s", "tasks.archive.interval=1h"})
+@AutoConfigureMockMvc
+class TaskArchiverTest {
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Autowired
+  private TaskArchiver taskArchiver;
+
+  @Autowired
+  private TaskCommandServiceImpl commandService;
+
+  @Test
+  @DisplayName("Should archive DONE tasks and keep them in statistics")
+  void shouldArchiveDoneTasksAndKeepThemInStatistics() throws Exception {
+    // Arrange - One finished and one pending task
+    var done = commandService.handle(new CreateTaskCommand("Archived task", null, TaskPriority.LOW, null, TaskStatus.DONE));
+    commandService.handle(new CreateTaskCommand("Active task", null, TaskPriority.LOW, null, TaskStatus.TODO));
+    Thread.sleep(5);
+    mockMvc.perform(get("/api/tasks/suggest").param("prefix", "archived task"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$[*].id", hasItem(done.getId().intValue())));
+
+    // Act
+    var archived = taskArchiver.archive();
+
+    // Assert
+    assertThat(archived).isGreaterThanOrEqualTo(1);
+
+    mockMvc.perform(get("/api/tasks/{id}", done.getId()))
+        .andExpect(status().isNotFound());
+
+    mockMvc.perform(get("/api/tasks").param("status", "DONE"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$[*].id", not(hasItem(done.getId().intValue()))));
+
+    mockMvc.perform(get("/api/tasks/suggest").param("prefix", "archived task"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$[*].id", not(hasItem(done.getId().intValue()))));
+
+    mockMvc.perform(get("/api/tasks").param("status", "DONE").param("includeArchived", "true"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$[*].id", hasItem(done.getId().intValue())));
+
+    mockMvc.perform(get("/api/tasks/stats"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.byStatus.DONE", greaterThanOrEqualTo(1)))
+        .andExpect(jsonPath("$.byPriority.LOW", greaterThanOrEqualTo(2)));
+  }
+}
@@ -0,0 +1,122 @@
+package com.challenge.tasks.application.internal.indexservices;
+
+import com.challenge.tasks.domain.model.aggregates.Task;
+import com.challenge.tasks.domain.model.events.TaskCreatedEvent;
+import com.challenge.tasks.domain.model.events.TaskDeletedEvent;
+import com.challenge.tasks.domain.model.events.TaskUpdatedEvent;
+import com.challenge.tasks.domain.model.valueobjects.TaskStatus;
+import com.challenge.tasks.domain.model.valueobjects.TaskPriority;
+import com.challenge.tasks.domain.model.valueobjects.TagExpression;
+import com.challenge.tasks.domain.exceptions.InvalidTagException;
+import com.challenge.tasks.domain.exceptions.InvalidTagExpressionException;
+import com.challenge.tasks.infrastructure.persistence.support.TaskIndexEntry;
+import com.challenge.tasks.infrastructure.persistence.inmemory.repositories.InMemoryTaskRepository;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for TaskTagIndex
+ * @summary
+ * This class verifies the evaluation of tag expressions over the bitmaps, combined with the status and priority
+ * filters and scoped by tenant, and that the index follows the task events once built and while it is being built.
+ * Tasks saved before the index is started are read by its build, those saved afterwards through their events.
+ * @author Gonzalo Qu3dena
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+class TaskTagIndexTest {
+
+  private static final String TENANT = Task.DEFAULT_TENANT;
+
+  private final InMemoryTaskRepository repository = new InMemoryTaskRepository(event -> { });
+  private final TaskTagIndex index = new TaskTagIndex(repository);
+
+  @Test
+  @DisplayName("Should evaluate AND, OR and NOT with their precedence within the tenant and filters")
+  void shouldEvaluateExpressionsWithinTenantAndFilters() {
+    var api = save(TENANT, TaskPriority.LOW, "backend", "urgent");
+    var blocked = save(TENANT, TaskPriority.LOW, "backend", "urgent", "blocked");
+    var docs = save(TENANT, TaskPriority.MEDIUM, "docs");
+    save(TENANT, TaskPriority.LOW, "frontend");
+    save("acme", TaskPriority.LOW, "backend", "urgent");
+    index.start();
+
+    assertThat(find(null, "backend AND urgent AND NOT blocked")).containsExactly(api);
+    assertThat(find(null, "backend and not blocked or docs")).containsExactly(api, docs);
+    assertThat(find(null, "Backend AND (docs OR blocked)")).containsExactly(blocked);
+    assertThat(find(TaskPriority.MEDIUM, "NOT backend")).containsExactly(docs);
+    assertThat(find(null, "unknown OR urgent")).containsExactly(api, blocked);
+  }
+
+  @Test
+  @DisplayName("Should move a task between bitmaps on update and drop it on delete")
+  void shouldFollowTaskEventsOnceBuilt() {
+    var id = save(TENANT, TaskPriority.LOW, "backend");
+    index.start();
+    assertThat(find(null, "backend")).containsExactly(id);
+
+    var task = repository.findById(id).orElseThrow();
+    task.update(task.getTitle(), null, TaskPriority.LOW, null, TaskStatus.IN_PROGRESS, List.of("frontend"));
+    index.on(new TaskUpdatedEvent(repository.save(task)));
+
+    assertThat(find(null, "backend")).isEmpty();
+    assertThat(index.find(TENANT, TaskStatus.IN_PROGRESS, null, TagExpression.parse("frontend")))
+        .containsExactly(id);
+
+    index.on(new TaskDeletedEvent(task));
+
+    assertThat(find(null, "frontend")).isEmpty();
+    assertThat(index.size()).isZero();
+  }
+
+  @Test
+  @DisplayName("Should apply the changes committed while the index is being built")
+  void shouldApplyChangesCommittedWhileBuilding() {
+    var racing = new InMemoryTaskRepository(event -> { }) {
+      private Runnable concurrentCommit = () -> { };
+
+      @Override
+      public Stream<TaskIndexEntry> streamIndexEntries() {
+        var entries = super.streamIndexEntries().toList();
+        concurrentCommit.run();
+        return entries.stream();
+      }
+    };
+    var building = new TaskTagIndex(racing);
+    var removed = racing.save(new Task(TENANT, "Tagged task", null, TaskPriority.LOW, null, List.of("backend")));
+    var created = new Task(TENANT, "Tagged task", null, TaskPriority.LOW, null, List.of("backend"));
+    racing.concurrentCommit = () -> {
+      racing.delete(removed);
+      building.on(new TaskDeletedEvent(removed));
+      building.on(new TaskCreatedEvent(racing.save(created)));
+    };
+    building.start();
+
+    assertThat(building.find(TENANT, null, null, TagExpression.parse("backend"))).containsExactly(created.getId());
+    assertThat(building.size()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("Should reject malformed expressions and invalid tags")
+  void shouldRejectMalformedExpressionsAndInvalidTags() {
+    assertThat(TagExpression.parse("  ")).isNull();
+    assertThatThrownBy(() -> TagExpression.parse("backend AND")).isInstanceOf(InvalidTagExpressionException.class);
+    assertThatThrownBy(() -> TagExpression.parse("(backend OR docs")).isInstanceOf(InvalidTagExpressionException.class);
+    assertThatThrownBy(() -> TagExpression.parse("back,end")).isInstanceOf(InvalidTagException.class);
+  }
+
+  private long save(String tenantId, TaskPriority priority, String... tags) {
+    return repository.save(new Task(tenantId, "Tagged task", null, priority, null, List.of(tags))).getId();
+  }
+
+  private long[] find(TaskPriority priority, String expression) {
+    return index.find(TENANT, null, priority, TagExpression.parse(expression));
+  }
+}
@@ -0,0 +1,161 @@
+package com.challenge.tasks.application.internal.indexservices;
+
+import com.challenge.tasks.domain.model.aggregates.Task;
+import com.challenge.tasks.domain.model.events.TaskCreatedEvent;
+import com.challenge.tasks.domain.model.events.TaskDeletedEvent;
+import com.challenge.tasks.domain.model.events.TaskUpdatedEvent;
+import com.challenge.tasks.domain.model.events.TaskStatusChangedEvent;
+import com.challenge.tasks.domain.model.valueobjects.TaskStatus;
+import com.challenge.tasks.domain.model.valueobjects.TaskPriority;
+import com.challenge.tasks.domain.model.valueobjects.TaskSuggestion;
+import com.challenge.tasks.domain.model.queries.GetTaskSuggestionsQuery;
+import com.challenge.tasks.infrastructure.persistence.support.TaskIndexEntry;
+import com.challenge.tasks.infrastructure.persistence.inmemory.repositories.InMemoryTaskRepository;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for TaskTitleSuggester
+ * @summary
+ * This class verifies prefix lookups over the radix tree, scoped by tenant and ranked with open tasks first, and that
+ * the top candidates of every node stay exact while tasks are created, renamed, finished and deleted, including while
+ * the index is being built. Tasks saved before the index is started are read by its build, those saved afterwards
+ * through their events.
+ * @author Gonzalo Qu3dena
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+class TaskTitleSuggesterTest {
+
+  private static final String TENANT = Task.DEFAULT_TENANT;
+
+  private final InMemoryTaskRepository repository = new InMemoryTaskRepository(event -> { });
+  private final TaskTitleSuggester suggester = new TaskTitleSuggester(repository);
+
+  @Test
+  @DisplayName("Should suggest titles starting with the prefix within the tenant, open and recent first")
+  void shouldSuggestTitlesStartingWithPrefix() {
+    var login = save(TENANT, "Fix login bug");
+    var done = save(TENANT, "Fix logout");
+    var layout = save(TENANT, "Fix   Layout");
+    save(TENANT, "Refactor login");
+    save("acme", "Fix login page");
+    var finished = repository.findById(done).orElseThrow();
+    finished.updateStatus(TaskStatus.DONE);
+    repository.save(finished);
+    suggester.start();
+
+    assertThat(ids("fix lo", 10)).containsExactly(login, done);
+    assertThat(ids("  FIX ", 10)).containsExactly(layout, login, done);
+    assertThat(ids("fix l", 1)).containsExactly(layout);
+    assertThat(ids("fix logo", 10)).containsExactly(done);
+    assertThat(ids("fix logx", 10)).isEmpty();
+    assertThat(suggester.suggest(new GetTaskSuggestionsQuery("fix la")))
+        .containsExactly(new TaskSuggestion(layout, "Fix   Layout"));
+    assertThat(suggester.suggest(new GetTaskSuggestionsQuery("unknown", "fix", 10))).isEmpty();
+  }
+
+  @Test
+  @DisplayName("Should keep the top candidates of every node exact while tasks change")
+  void shouldKeepTopCandidatesExactWhileTasksChange() {
+    var words = List.of("a", "ab", "abc", "abd", "b", "ba", "bab");
+    var random = new Random(7);
+    for (int i = 0; i < 60; i++) {
+      save(TENANT, title(words, random));
+    }
+    suggester.start();
+    assertThat(ids("", 10)).hasSize(10);
+
+    for (int step = 0; step < 300; step++) {
+      var tasks = repository.findByTenantId(TENANT);
+      var task = tasks.get(random.nextInt(tasks.size()));
+      switch (random.nextInt(4)) {
+        case 0 -> suggester.on(new TaskCreatedEvent(create(TENANT, title(words, random))));
+        case 1 -> {
+          task.update(title(words, random), null, TaskPriority.LOW, null, task.getStatus(), List.of());
+          suggester.on(new TaskUpdatedEvent(repository.save(task)));
+        }
+        case 2 -> {
+          var previous = task.getStatus();
+          task.updateStatus(previous == TaskStatus.DONE ? TaskStatus.TODO : TaskStatus.DONE);
+          suggester.on(new TaskStatusChangedEvent(repository.save(task), previous));
+        }
+        default -> {
+          repository.delete(task);
+          suggester.on(new TaskDeletedEvent(task));
+        }
+      }
+
+      for (var prefix : List.of("", "a", "ab", "abc ", "b", "ba", "bab a", "c")) {
+        assertThat(ids(prefix, 10)).as("prefix '%s' at step %d", prefix, step).isEqualTo(scan(prefix));
+      }
+    }
+    assertThat(suggester.size()).isEqualTo(repository.findByTenantId(TENANT).size());
+  }
+
+  @Test
+  @DisplayName("Should apply the changes committed while the index is being built")
+  void shouldApplyChangesCommittedWhileBuilding() {
+    var racing = new InMemoryTaskRepository(event -> { }) {
+      private Runnable concurrentCommit = () -> { };
+
+      @Override
+      public Stream<TaskIndexEntry> streamIndexEntries() {
+        var entries = super.streamIndexEntries().toList();
+        concurrentCommit.run();
+        return entries.stream();
+      }
+    };
+    var building = new TaskTitleSuggester(racing);
+    var removed = racing.save(new Task(TENANT, "Fix login", null, TaskPriority.LOW, null));
+    racing.concurrentCommit = () -> {
+      racing.delete(removed);
+      building.on(new TaskDeletedEvent(removed));
+      building.on(new TaskCreatedEvent(racing.save(new Task(TENANT, "Fix logout", null, TaskPriority.LOW, null))));
+    };
+    building.start();
+
+    assertThat(building.suggest(new GetTaskSuggestionsQuery("fix")))
+        .extracting(TaskSuggestion::title)
+        .containsExactly("Fix logout");
+    assertThat(building.size()).isEqualTo(1);
+  }
+
+  private long save(String tenantId, String title) {
+    return create(tenantId, title).getId();
+  }
+
+  private Task create(String tenantId, String title) {
+    return repository.save(new Task(tenantId, title, null, TaskPriority.LOW, null));
+  }
+
+  private List<Long> ids(String prefix, int limit) {
+    return suggester.suggest(new GetTaskSuggestionsQuery(TENANT, prefix, limit)).stream()
+        .map(TaskSuggestion::id)
+        .toList();
+  }
+
+  private List<Long> scan(String prefix) {
+    return repository.findByTenantId(TENANT).stream()
+        .filter(task -> task.getTitle().toLowerCase(Locale.ROOT).startsWith(prefix))
+        .sorted(Comparator.comparing((Task task) -> task.getStatus() == TaskStatus.DONE)
+            .thenComparing(Task::getUpdatedAt, Comparator.reverseOrder())
+            .thenComparing(Task::getId, Comparator.reverseOrder()))
+        .limit(10)
+        .map(Task::getId)
+        .toList();
+  }
+
+  private static String title(List<String> words, Random random) {
+    return words.get(random.nextInt(words.size())) + " " + words.get(random.nextInt(words.size()));
+  }
+}
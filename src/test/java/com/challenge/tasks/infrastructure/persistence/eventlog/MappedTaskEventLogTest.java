@@ -0,0 +1,116 @@
+package com.challenge.tasks.infrastructure.persistence.eventlog;
+
+import com.challenge.tasks.domain.model.aggregates.Task;
+import com.challenge.tasks.domain.model.valueobjects.TaskStatus;
+import com.challenge.tasks.domain.model.valueobjects.TaskPriority;
+import com.challenge.tasks.infrastructure.persistence.eventlog.TaskEventRecord.TaskEventType;
+
+import java.util.ArrayList;
+import java.nio.file.Path;
+import java.nio.file.Files;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for MappedTaskEventLog
+ * @summary
+ * This class verifies that appended records survive a reopen, that segments roll over, that compaction into a
+ * snapshot keeps the replayed state intact and that sequences keep increasing past the snapshot when the active
+ * segment was lost.
+ * @author Gonzalo Qu3dena
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+class MappedTaskEventLogTest {
+
+  private static final int SEGMENT_SIZE = 4 * 1024;
+
+  @TempDir
+  Path directory;
+
+  @Test
+  @DisplayName("Should replay appended records after reopening the log")
+  void shouldReplayAppendedRecordsAfterReopeningTheLog() {
+    try (var log = new MappedTaskEventLog(directory, SEGMENT_SIZE)) {
+      assertThat(log.append(created(1, "First task")).join()).isEqualTo(1L);
+      assertThat(log.append(created(2, "Second task")).join()).isEqualTo(2L);
+      log.append(TaskEventRecord.deleted(1)).join();
+    }
+
+    try (var log = new MappedTaskEventLog(directory, SEGMENT_SIZE)) {
+      var replayed = new ArrayList<TaskEventRecord>();
+      log.replay(0, replayed::add);
+
+      assertThat(log.lastSequence()).isEqualTo(3L);
+      assertThat(replayed).extracting(TaskEventRecord::type)
+          .containsExactly(TaskEventType.CREATED, TaskEventType.CREATED, TaskEventType.DELETED);
+      assertThat(replayed.get(1).toTask().getTitle()).isEqualTo("Second task");
+      assertThat(log.append(created(3, "Third task")).join()).isEqualTo(4L);
+    }
+  }
+
+  @Test
+  @DisplayName("Should keep replayed state when sealed segments are compacted into a snapshot")
+  void shouldKeepReplayedStateWhenSealedSegmentsAreCompacted() {
+    var snapshots = new TaskSnapshotStore(directory);
+    try (var log = new MappedTaskEventLog(directory, SEGMENT_SIZE)) {
+      for (long id = 1; id <= 100; id++) {
+        log.append(created(id, "Task " + id)).join();
+      }
+      for (long id = 1; id <= 100; id += 2) {
+        log.append(TaskEventRecord.deleted(id)).join();
+      }
+
+      assertThat(log.sealedSegments()).isNotEmpty();
+      new TaskEventLogCompactor(log, snapshots).compact();
+      assertThat(log.sealedSegments()).isEmpty();
+
+      var replay = TaskStateReplay.fromLatestSnapshot(snapshots);
+      log.replay(replay.sequence(), replay::apply);
+
+      assertThat(replay.sequence()).isEqualTo(150L);
+      assertThat(replay.tasks()).hasSize(50);
+      assertThat(replay.tasks().keySet()).allMatch(id -> id % 2 == 0);
+    }
+  }
+
+  @Test
+  @DisplayName("Should continue after the snapshot sequence when the active segment is torn after compaction")
+  void shouldContinueAfterSnapshotWhenActiveSegmentIsTorn() throws Exception {
+    var snapshots = new TaskSnapshotStore(directory);
+    Path active;
+    try (var log = new MappedTaskEventLog(directory, SEGMENT_SIZE)) {
+      for (long id = 1; id <= 100; id++) {
+        log.append(created(id, "Task " + id)).join();
+      }
+      new TaskEventLogCompactor(log, snapshots).compact();
+      try (var files = Files.list(directory)) {
+        active = files.filter(file -> file.getFileName().toString().startsWith("segment-")).findFirst().orElseThrow();
+      }
+    }
+    Files.write(active, new byte[SEGMENT_SIZE]);
+
+    try (var log = new MappedTaskEventLog(directory, SEGMENT_SIZE, snapshots.latestSequence())) {
+      var sequence = log.append(created(101, "Task 101")).join();
+      assertThat(sequence).isGreaterThan(snapshots.latestSequence());
+
+      var replay = TaskStateReplay.fromLatestSnapshot(snapshots);
+      log.replay(replay.sequence(), replay::apply);
+      assertThat(replay.sequence()).isEqualTo(sequence);
+      assertThat(replay.tasks()).containsKey(101L);
+    }
+  }
+
+  private static TaskEventRecord created(long id, String title) {
+    var now = LocalDateTime.now();
+    var task = Task.rehydrate(id, title, "Description of " + title, TaskStatus.TODO, TaskPriority.MEDIUM,
+        LocalDate.now().plusDays(id), now, now);
+    return TaskEventRecord.of(TaskEventType.CREATED, task);
+  }
+}
@@ -0,0 +1,153 @@
+package com.challenge.tasks.infrastructure.persistence.inmemory.repositories;
+
+import com.challenge.tasks.domain.model.aggregates.Task;
+import com.challenge.tasks.domain.model.valueobjects.TaskStatus;
+import com.challenge.tasks.domain.model.valueobjects.TaskPriority;
+import com.challenge.tasks.domain.model.valueobjects.TaskDueDateBucket;
+import com.challenge.tasks.domain.model.queries.GetTaskFacetsQuery;
+
+import java.time.LocalDate;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.PageRequest;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for InMemoryTaskRepository
+ * @summary
+ * This class verifies ID allocation, copy semantics, secondary index maintenance and tenant partitioning of the in-memory storage
+ * engine.
+ * @author Gonzalo Qu3dena
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+class InMemoryTaskRepositoryTest {
+
+  private static final String TENANT = Task.DEFAULT_TENANT;
+
+  private final InMemoryTaskRepository repository = new InMemoryTaskRepository(event -> { });
+
+  @Test
+  @DisplayName("Should allocate IDs and audit fields when saving a new task")
+  void shouldAllocateIdsAndAuditFieldsWhenSavingNewTask() {
+    var first = repository.save(new Task("First task", null, TaskPriority.LOW, null));
+    var second = repository.save(new Task("Second task", null, TaskPriority.LOW, null));
+
+    assertThat(first.getId()).isEqualTo(1L);
+    assertThat(second.getId()).isEqualTo(2L);
+    assertThat(first.getCreatedAt()).isNotNull();
+    assertThat(first.getUpdatedAt()).isNotNull();
+  }
+
+  @Test
+  @DisplayName("Should not change stored task until it is saved")
+  void shouldNotChangeStoredTaskUntilItIsSaved() {
+    var id = repository.save(new Task("Stored task", null, TaskPriority.MEDIUM, null)).getId();
+
+    var task = repository.findById(id).orElseThrow();
+    task.updateStatus(TaskStatus.IN_PROGRESS);
+
+    assertThat(repository.findById(id).orElseThrow().getStatus()).isEqualTo(TaskStatus.TODO);
+
+    repository.save(task);
+
+    assertThat(repository.findById(id).orElseThrow().getStatus()).isEqualTo(TaskStatus.IN_PROGRESS);
+  }
+
+  @Test
+  @DisplayName("Should move task between status, due date and modification time indexes when it changes")
+  void shouldMoveTaskBetweenIndexesWhenItChanges() {
+    var today = LocalDate.now();
+    var task = repository.save(new Task("Indexed task", "Some description", TaskPriority.HIGH, today));
+
+    task.update("Indexed task", "Some description", TaskPriority.LOW, today.plusDays(10), TaskStatus.IN_PROGRESS);
+    repository.save(task);
+
+    assertThat(repository.findByTenantIdAndStatus(TENANT, TaskStatus.TODO)).isEmpty();
+    assertThat(repository.findByTenantIdAndStatus(TENANT, TaskStatus.IN_PROGRESS)).extracting(Task::getId).containsExactly(task.getId());
+    assertThat(repository.findByTenantIdAndPriority(TENANT, TaskPriority.HIGH)).isEmpty();
+    assertThat(repository.findByTenantIdAndDueDateBetween(TENANT, today, today.plusDays(7))).isEmpty();
+    assertThat(repository.findByTenantIdAndDueDateBetween(TENANT, today, today.plusDays(10))).hasSize(1);
+    assertThat(repository.findByTenantIdAndUpdatedAtGreaterThanEqual(TENANT, task.getUpdatedAt()))
+        .extracting(Task::getId).containsExactly(task.getId());
+  }
+
+  @Test
+  @DisplayName("Should search title and description ignoring case and remove deleted tasks from indexes")
+  void shouldSearchIgnoringCaseAndRemoveDeletedTasks() {
+    var kept = repository.save(new Task("Write REPORT", null, TaskPriority.LOW, null));
+    var deleted = repository.save(new Task("Other task", "report draft", TaskPriority.LOW, null));
+
+    assertThat(repository.findByTenantIdAndSearchTerm(TENANT, "report")).hasSize(2);
+
+    repository.deleteById(deleted.getId());
+
+    assertThat(repository.findByTenantIdAndSearchTerm(TENANT, "report")).extracting(Task::getId).containsExactly(kept.getId());
+    assertThat(repository.findByTenantIdAndStatusAndPriority(TENANT, TaskStatus.TODO, TaskPriority.LOW)).hasSize(1);
+    assertThat(repository.count()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("Should only return the tasks of the requested tenant")
+  void shouldOnlyReturnTasksOfRequestedTenant() {
+    var own = repository.save(new Task(TENANT, "Shared title", null, TaskPriority.LOW, null));
+    repository.save(new Task("other", "Shared title", null, TaskPriority.LOW, null));
+
+    assertThat(repository.findByTenantId(TENANT)).extracting(Task::getId).containsExactly(own.getId());
+    assertThat(repository.findByTenantIdAndSearchTerm(TENANT, "shared")).extracting(Task::getId)
+        .containsExactly(own.getId());
+    assertThat(repository.findByTenantIdAndPriority("unknown", TaskPriority.LOW)).isEmpty();
+    assertThat(repository.findAll()).hasSize(2);
+  }
+
+  @Test
+  @DisplayName("Should sort and page every task in memory")
+  void shouldSortAndPageEveryTask() {
+    var first = repository.save(new Task(TENANT, "Bravo", null, TaskPriority.LOW, null));
+    var second = repository.save(new Task(TENANT, "alpha", null, TaskPriority.HIGH, LocalDate.now().plusDays(1)));
+    var third = repository.save(new Task(TENANT, "Charlie", null, TaskPriority.LOW, LocalDate.now()));
+
+    assertThat(repository.findAll(Sort.by(Sort.Order.by("title").ignoreCase()))).extracting(Task::getId)
+        .containsExactly(second.getId(), first.getId(), third.getId());
+    assertThat(repository.findAll(Sort.by("priority", "dueDate").descending())).extracting(Task::getId)
+        .containsExactly(second.getId(), third.getId(), first.getId());
+
+    var page = repository.findAll(PageRequest.of(1, 2, Sort.by("id")));
+    assertThat(page.getContent()).extracting(Task::getId).containsExactly(third.getId());
+    assertThat(page.getTotalElements()).isEqualTo(3);
+    assertThat(page.getTotalPages()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("Should count statistics and the facets of the tasks matching the filters from the indexes")
+  void shouldCountFacetsOfMatchingTasks() {
+    var today = LocalDate.now();
+    repository.save(new Task(TENANT, "Overdue task", null, TaskPriority.HIGH, today.minusDays(1)));
+    var done = repository.save(new Task(TENANT, "Done task", null, TaskPriority.HIGH, today.minusDays(1)));
+    done.updateStatus(TaskStatus.DONE);
+    repository.save(done);
+    repository.save(new Task(TENANT, "Today task", null, TaskPriority.LOW, today));
+    repository.save(new Task("other", "Other tenant task", null, TaskPriority.HIGH, today.minusDays(1)));
+
+    var allCounts = repository.countFacets(new GetTaskFacetsQuery(TENANT, null, null, null, null, null, null), today);
+    var all = allCounts.toFacets();
+    var high = repository.countFacets(new GetTaskFacetsQuery(TENANT, null, TaskPriority.HIGH, "task", null,
+        today.minusDays(1), null), today).toFacets();
+
+    assertThat(all.total()).isEqualTo(3);
+    assertThat(all.overdue()).isEqualTo(1);
+    assertThat(all.byDueDate()).containsEntry(TaskDueDateBucket.PAST, 2L).containsEntry(TaskDueDateBucket.TODAY, 1L);
+    assertThat(high.total()).isEqualTo(2);
+    assertThat(high.byStatusAndPriority().get(TaskStatus.DONE)).containsEntry(TaskPriority.HIGH, 1L);
+
+    var counts = repository.count(TENANT, today);
+    assertThat(counts.byStatus()).containsEntry(TaskStatus.TODO, 2L).containsEntry(TaskStatus.DONE, 1L);
+    assertThat(counts.byPriority()).containsEntry(TaskPriority.HIGH, 2L).containsEntry(TaskPriority.LOW, 1L);
+    assertThat(counts.overdue()).isEqualTo(1);
+    assertThat(counts).isEqualTo(allCounts.toCounts());
+  }
+}
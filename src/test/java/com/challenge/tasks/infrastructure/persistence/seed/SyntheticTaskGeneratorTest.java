@@ -0,0 +1,63 @@
+package com.challenge.tasks.infrastructure.persistence.seed;
+
+import com.challenge.tasks.domain.model.aggregates.Task;
+import com.challenge.tasks.domain.model.valueobjects.TaskPriority;
+
+import java.util.List;
+import java.util.ArrayList;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for SyntheticTaskGenerator
+ * @summary
+ * This class verifies that generated tasks are reproducible and respect the business rules and column limits.
+ * @author Gonzalo Qu3dena
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+class SyntheticTaskGeneratorTest {
+
+  private static final LocalDateTime NOW = LocalDateTime.of(2026, 1, 15, 12, 0);
+
+  @Test
+  @DisplayName("Should generate the same tasks with consecutive IDs for the same seed")
+  void shouldGenerateSameTasksForSameSeed() {
+    var first = generate(new SyntheticTaskGenerator(7, NOW), 1_000);
+    var second = generate(new SyntheticTaskGenerator(7, NOW), 1_000);
+
+    assertThat(first).extracting(Task::getId).startsWith(1L, 2L, 3L).endsWith(1_000L);
+    assertThat(first).extracting(Task::getTitle).isEqualTo(second.stream().map(Task::getTitle).toList());
+    assertThat(first).extracting(Task::getDueDate).isEqualTo(second.stream().map(Task::getDueDate).toList());
+  }
+
+  @Test
+  @DisplayName("Should respect business rules and column limits and include overdue tasks")
+  void shouldRespectBusinessRulesAndIncludeOverdueTasks() {
+    var tasks = generate(new SyntheticTaskGenerator(42, NOW), 10_000);
+
+    assertThat(tasks).allSatisfy(task -> {
+      assertThat(task.getTitle()).hasSizeLessThanOrEqualTo(80);
+      if (task.getDescription() != null) {
+        assertThat(task.getDescription()).hasSizeLessThanOrEqualTo(250);
+      }
+      if (task.getPriority() == TaskPriority.HIGH) {
+        assertThat(task.getDueDate()).isNotNull();
+      }
+      assertThat(task.getCreatedAt()).isBefore(NOW);
+      assertThat(task.getUpdatedAt()).isAfterOrEqualTo(task.getCreatedAt()).isBeforeOrEqualTo(NOW);
+    });
+    assertThat(tasks).anyMatch(Task::isOverdue);
+    assertThat(tasks).extracting(Task::getDescription).containsNull();
+  }
+
+  private static List<Task> generate(SyntheticTaskGenerator generator, long count) {
+    var tasks = new ArrayList<Task>();
+    generator.tasks(1, count).forEach(tasks::add);
+    return tasks;
+  }
+}
@@ -0,0 +1,152 @@
+package com.challenge.tasks.infrastructure.persistence.sharded;
+
+import com.challenge.tasks.domain.model.aggregates.Task;
+import com.challenge.tasks.domain.model.valueobjects.TaskStatus;
+import com.challenge.tasks.domain.model.valueobjects.TaskPriority;
+import com.challenge.tasks.domain.model.valueobjects.TagExpression;
+import com.challenge.tasks.domain.model.valueobjects.TaskDueDateBucket;
+import com.challenge.tasks.domain.model.queries.GetTaskFacetsQuery;
+
+import java.util.Set;
+import java.util.List;
+import java.util.UUID;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for ShardedTaskRepository
+ * @summary
+ * This class verifies routing by ID, the merged order of fanned out finders, the summed counters and facets and bulk
+ * loading over three embedded H2 shards.
+ * @author Gonzalo Qu3dena
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+class ShardedTaskRepositoryTest {
+
+  private static final int SHARDS = 3;
+
+  private final TaskShards shards = new TaskShards(SHARDS,
+      "jdbc:h2:mem:sharded-test-" + UUID.randomUUID() + "-%d;DB_CLOSE_DELAY=-1", 2);
+  private final ShardedTaskRepository repository = new ShardedTaskRepository(event -> { }, shards);
+
+  @AfterEach
+  void closeShards() {
+    shards.close();
+  }
+
+  @Test
+  @DisplayName("Should spread new tasks over the shards and route reads by the shard encoded in the ID")
+  void shouldSpreadNewTasksAndRouteReadsById() {
+    var saved = List.of(
+        repository.save(new Task("First task", null, TaskPriority.LOW, null)),
+        repository.save(new Task("Second task", null, TaskPriority.LOW, null)),
+        repository.save(new Task("Third task", null, TaskPriority.LOW, null)));
+
+    assertThat(saved).extracting(task -> Math.floorMod(task.getId(), SHARDS)).containsExactlyInAnyOrder(0, 1, 2);
+    for (var task : saved) {
+      assertThat(shards.shardOf(task.getId()).findById(task.getId())).isPresent();
+      assertThat(repository.findById(task.getId()).orElseThrow().getTitle()).isEqualTo(task.getTitle());
+    }
+    assertThat(shards.all()).allSatisfy(shard -> assertThat(shard.count()).isEqualTo(1));
+  }
+
+  @Test
+  @DisplayName("Should merge the tasks of every shard in ID order")
+  void shouldMergeTasksOfEveryShardInIdOrder() {
+    for (int i = 0; i < 10; i++) {
+      repository.save(new Task("Report " + i, null, i % 2 == 0 ? TaskPriority.LOW : TaskPriority.MEDIUM, null));
+    }
+
+    assertThat(repository.findAll()).hasSize(10).extracting(Task::getId).isSorted();
+    assertThat(repository.findByTenantIdAndPriority(Task.DEFAULT_TENANT, TaskPriority.LOW))
+        .hasSize(5).extracting(Task::getId).isSorted();
+    assertThat(repository.findByTenantIdAndSearchTerm(Task.DEFAULT_TENANT, "REPORT 1"))
+        .extracting(Task::getTitle).containsExactly("Report 1");
+  }
+
+  @Test
+  @DisplayName("Should keep the creation date on update and remove deleted tasks from their shard")
+  void shouldKeepCreationDateOnUpdateAndRemoveDeletedTasks() {
+    var task = repository.save(new Task("Stored task", null, TaskPriority.MEDIUM, null));
+    var createdAt = task.getCreatedAt();
+
+    task.updateStatus(TaskStatus.IN_PROGRESS);
+    repository.save(task);
+
+    var stored = repository.findById(task.getId()).orElseThrow();
+    assertThat(stored.getStatus()).isEqualTo(TaskStatus.IN_PROGRESS);
+    assertThat(stored.getCreatedAt()).isEqualTo(createdAt);
+
+    repository.deleteById(task.getId());
+
+    assertThat(repository.findById(task.getId())).isEmpty();
+    assertThat(repository.count()).isZero();
+  }
+
+  @Test
+  @DisplayName("Should sum the counters of the tenant on every shard")
+  void shouldSumCountersOfTenantOnEveryShard() {
+    var today = LocalDate.now();
+    repository.save(new Task("Overdue task", null, TaskPriority.HIGH, today.minusDays(1)));
+    repository.save(new Task("Due task", null, TaskPriority.HIGH, today.plusDays(1)));
+    var done = repository.save(new Task("Done task", null, TaskPriority.LOW, today.minusDays(1)));
+    done.updateStatus(TaskStatus.DONE);
+    repository.save(done);
+
+    repository.save(new Task("other", "Other tenant task", null, TaskPriority.HIGH, today.minusDays(1)));
+
+    var counts = repository.count(Task.DEFAULT_TENANT, today);
+
+    assertThat(counts.total()).isEqualTo(3);
+    assertThat(counts.byStatus()).containsEntry(TaskStatus.TODO, 2L).containsEntry(TaskStatus.DONE, 1L);
+    assertThat(counts.byPriority()).containsEntry(TaskPriority.HIGH, 2L).containsEntry(TaskPriority.LOW, 1L);
+    assertThat(counts.overdue()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("Should sum the facets of the tasks matching the filters on every shard")
+  void shouldSumFacetsOfMatchingTasksOnEveryShard() {
+    var today = LocalDate.now();
+    repository.save(new Task(Task.DEFAULT_TENANT, "Overdue task", null, TaskPriority.HIGH, today.minusDays(1),
+        Set.of("backend", "on_call")));
+    repository.save(new Task(Task.DEFAULT_TENANT, "Due task", null, TaskPriority.HIGH, today.plusDays(2),
+        Set.of("backend")));
+    repository.save(new Task(Task.DEFAULT_TENANT, "Tagless task", null, TaskPriority.LOW, null, null));
+    repository.save(new Task(Task.DEFAULT_TENANT, "Near miss task", null, TaskPriority.LOW, null, Set.of("onxcall")));
+    repository.save(new Task("other", "Other tenant task", null, TaskPriority.HIGH, today.minusDays(1), null));
+
+    var all = repository.countFacets(new GetTaskFacetsQuery(), today).toFacets();
+    var tagged = repository.countFacets(new GetTaskFacetsQuery(Task.DEFAULT_TENANT, null, null, null, null, null,
+        TagExpression.parse("backend AND NOT on_call")), today).toFacets();
+
+    assertThat(all.total()).isEqualTo(4);
+    assertThat(all.overdue()).isEqualTo(1);
+    assertThat(all.byStatusAndPriority().get(TaskStatus.TODO)).containsEntry(TaskPriority.HIGH, 2L)
+        .containsEntry(TaskPriority.LOW, 2L).containsEntry(TaskPriority.MEDIUM, 0L);
+    assertThat(all.byDueDate()).containsEntry(TaskDueDateBucket.PAST, 1L)
+        .containsEntry(TaskDueDateBucket.NEXT_7_DAYS, 1L).containsEntry(TaskDueDateBucket.NONE, 2L);
+    assertThat(tagged.total()).isEqualTo(1);
+    assertThat(tagged.byDueDate()).containsEntry(TaskDueDateBucket.NEXT_7_DAYS, 1L);
+  }
+
+  @Test
+  @DisplayName("Should load tasks into the shard of their ID and allocate greater IDs afterwards")
+  void shouldLoadTasksIntoTheirShardAndAllocateGreaterIds() {
+    var now = LocalDateTime.now();
+    var loaded = repository.load(List.of(
+        Task.rehydrate(7L, "Loaded task", null, TaskStatus.TODO, TaskPriority.LOW, null, now, now),
+        Task.rehydrate(11L, "Other loaded task", null, TaskStatus.TODO, TaskPriority.LOW, null, now, now)));
+
+    assertThat(loaded).isEqualTo(2);
+    assertThat(shards.shardOf(7L).findById(7L)).isPresent();
+    assertThat(shards.shardOf(11L).findById(11L)).isPresent();
+    assertThat(repository.save(new Task("New task", null, TaskPriority.LOW, null)).getId()).isGreaterThan(11L);
+  }
+}
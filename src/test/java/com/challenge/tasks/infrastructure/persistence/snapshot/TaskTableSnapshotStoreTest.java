@@ -0,0 +1,63 @@
+package com.challenge.tasks.infrastructure.persistence.snapshot;
+
+import com.challenge.tasks.domain.model.valueobjects.TaskStatus;
+import com.challenge.tasks.domain.model.valueobjects.TaskPriority;
+import com.challenge.tasks.infrastructure.persistence.eventlog.TaskEventRecord;
+import com.challenge.tasks.infrastructure.persistence.eventlog.TaskEventRecord.TaskEventType;
+
+import java.util.ArrayList;
+import java.nio.file.Path;
+import java.nio.file.Files;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for TaskTableSnapshotStore
+ * @summary
+ * This class verifies that streamed rows survive a write and read round trip and that only the latest snapshot is
+ * kept.
+ * @author Gonzalo Qu3dena
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+class TaskTableSnapshotStoreTest {
+
+  @TempDir
+  Path directory;
+
+  @Test
+  @DisplayName("Should read back every row of the latest snapshot and remove older ones")
+  void shouldReadBackEveryRowOfTheLatestSnapshot() throws Exception {
+    var store = new TaskTableSnapshotStore(directory);
+    var now = LocalDateTime.now();
+
+    store.write(consumer -> consumer.accept(row(1, "Old task", null, now)));
+    var written = store.write(consumer -> {
+      for (long id = 1; id <= 1_000; id++) {
+        consumer.accept(row(id, "Task " + id, id % 2 == 0 ? LocalDate.now().plusDays(id % 30) : null, now));
+      }
+    });
+
+    var read = new ArrayList<TaskEventRecord>();
+    var count = store.read(store.latest().orElseThrow(), read::add);
+
+    assertThat(written).isEqualTo(1_000);
+    assertThat(count).isEqualTo(1_000);
+    assertThat(read.get(999)).isEqualTo(row(1_000, "Task 1000", LocalDate.now().plusDays(10), now));
+    assertThat(read.get(0).dueDate()).isNull();
+    try (var files = Files.list(directory)) {
+      assertThat(files).hasSize(1);
+    }
+  }
+
+  private static TaskEventRecord row(long id, String title, LocalDate dueDate, LocalDateTime timestamp) {
+    return new TaskEventRecord(0, TaskEventType.CREATED, id, title, "Description of " + title, TaskStatus.TODO,
+        TaskPriority.MEDIUM, dueDate, timestamp, timestamp);
+  }
+}
@@ -1,16 +1,33 @@
 package com.challenge.tasks.interfaces.rest;
 
+import com.challenge.shared.interfaces.rest.BinaryMediaTypes;
 import com.challenge.tasks.domain.model.valueobjects.TaskStatus;
 import com.challenge.tasks.domain.model.valueobjects.TaskPriority;
 import com.challenge.tasks.interfaces.rest.resources.CreateTaskResource;
+import com.challenge.tasks.interfaces.rest.resources.UpdateTaskResource;
 import com.challenge.tasks.interfaces.rest.resources.UpdateTaskStatusResource;
+import com.challenge.tasks.interfaces.rest.cache.TaskJsonFragmentCache;
+import com.challenge.tasks.interfaces.rest.changefeed.TaskChangeFeed;
+import com.challenge.tasks.interfaces.rest.resources.protobuf.TaskProtos;
 
+import java.util.Set;
+import java.util.List;
+import java.nio.file.Files;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.function.Predicate;
+
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordingFile;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
 
 import org.springframework.beans.factory.annotation.Autowired;
 
@@ -20,6 +37,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 
 import static org.hamcrest.Matchers.*;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -41,6 +59,15 @@ class TasksControllerTest {
   @Autowired
   private ObjectMapper objectMapper;
 
+  @Autowired
+  private TaskJsonFragmentCache fragmentCache;
+
+  @Autowired
+  private TaskChangeFeed changeFeed;
+
+  @Autowired
+  private MeterRegistry meterRegistry;
+
   @Test
   @DisplayName("Should create task and return 201 when request is valid")
   void shouldCreateTaskAndReturn201WhenRequestIsValid() throws Exception {
@@ -146,6 +173,503 @@ class TasksControllerTest {
         .andExpect(jsonPath("$.next7Days[0].dueDate").exists());
   }
 
+  @Test
+  @DisplayName("Should reflect status change in repeated filtered list when task is updated")
+  void shouldReflectStatusChangeInRepeatedFilteredListWhenTaskIsUpdated() throws Exception {
+    // Arrange - Create a task and read the filtered list twice so it is served from the query cache
+    var createTaskResource = new CreateTaskResource(
+        "Cached Task",
+        "Task listed through the query cache",
+        TaskPriority.LOW,
+        null,
+        TaskStatus.TODO
+    );
+
+    String response = mockMvc.perform(post("/api/tasks")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(createTaskResource)))
+        .andExpect(status().isCreated())
+        .andReturn()
+        .getResponse()
+        .getContentAsString();
+
+    Integer taskId = objectMapper.readTree(response).get("id").asInt();
+
+    for (int i = 0; i < 2; i++) {
+      mockMvc.perform(get("/api/tasks").param("status", "TODO").param("priority", "LOW"))
+          .andExpect(status().isOk())
+          .andExpect(jsonPath("$[*].id", hasItem(taskId)));
+    }
+
+    // Act
+    mockMvc.perform(patch("/api/tasks/{id}/status", taskId)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(new UpdateTaskStatusResource(TaskStatus.IN_PROGRESS))))
+        .andExpect(status().isOk());
+
+    // Assert
+    mockMvc.perform(get("/api/tasks").param("status", "TODO").param("priority", "LOW"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$[*].id", not(hasItem(taskId))));
+
+    mockMvc.perform(get("/api/tasks/{id}", taskId))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.status").value("IN_PROGRESS"));
+  }
+
+  @Test
+  @DisplayName("Should encode tasks as CBOR and Protocol Buffers when requested through Accept")
+  void shouldEncodeTasksAsCborAndProtobufWhenRequestedThroughAccept() throws Exception {
+    // Arrange
+    createTestTask("Binary Task", TaskPriority.MEDIUM, LocalDate.now().plusDays(3), TaskStatus.IN_PROGRESS);
+
+    // Act
+    var cbor = mockMvc.perform(get("/api/tasks").param("q", "Binary Task").accept(MediaType.APPLICATION_CBOR))
+        .andExpect(status().isOk())
+        .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+        .andReturn().getResponse().getContentAsByteArray();
+    var protobuf = mockMvc.perform(get("/api/tasks").param("q", "Binary Task")
+            .accept(BinaryMediaTypes.APPLICATION_PROTOBUF))
+        .andExpect(status().isOk())
+        .andExpect(content().contentType(BinaryMediaTypes.APPLICATION_PROTOBUF))
+        .andReturn().getResponse().getContentAsByteArray();
+
+    // Assert
+    var fromCbor = new ObjectMapper(new CBORFactory()).readTree(cbor).get(0);
+    assertThat(fromCbor.get("title").asText()).isEqualTo("Binary Task");
+    assertThat(fromCbor.get("dueDate").asText()).isEqualTo(LocalDate.now().plusDays(3).toString());
+
+    var fromProtobuf = TaskProtos.TaskResourceList.parseFrom(protobuf).getTasks(0);
+    assertThat(fromProtobuf.getTitle()).isEqualTo("Binary Task");
+    assertThat(fromProtobuf.getStatus()).isEqualTo(TaskProtos.TaskStatus.IN_PROGRESS);
+    assertThat(fromProtobuf.getDueDate()).isEqualTo(LocalDate.now().plusDays(3).toEpochDay());
+    assertThat(fromProtobuf.hasDescription()).isTrue();
+  }
+
+  @Test
+  @DisplayName("Should return errors as JSON with their status when Protocol Buffers are requested")
+  void shouldReturnJsonErrorsWhenProtobufIsRequested() throws Exception {
+    mockMvc.perform(get("/api/tasks/{id}", 999_999).accept(BinaryMediaTypes.APPLICATION_PROTOBUF))
+        .andExpect(status().isNotFound())
+        .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+        .andExpect(jsonPath("$.status").value(404));
+  }
+
+  @Test
+  @DisplayName("Should serve JSON task from fragment cache and reflect later updates")
+  void shouldServeJsonTaskFromFragmentCacheAndReflectLaterUpdates() throws Exception {
+    // Arrange
+    var response = mockMvc.perform(post("/api/tasks")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(
+                new CreateTaskResource("Cached JSON Task", null, TaskPriority.LOW, null, null))))
+        .andExpect(status().isCreated())
+        .andReturn().getResponse().getContentAsString();
+    var taskId = objectMapper.readTree(response).get("id").asLong();
+
+    mockMvc.perform(get("/api/tasks/{id}", taskId))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.title").value("Cached JSON Task"));
+    assertThat(fragmentCache.weightedSize()).isPositive();
+
+    // Act
+    mockMvc.perform(put("/api/tasks/{id}", taskId)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(
+                new UpdateTaskResource("Renamed JSON Task", null, TaskPriority.LOW, null, TaskStatus.TODO))))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.title").value("Renamed JSON Task"));
+
+    // Assert
+    mockMvc.perform(get("/api/tasks/{id}", taskId))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.title").value("Renamed JSON Task"));
+    mockMvc.perform(get("/api/tasks").param("q", "JSON Task"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$[*].title", hasItem("Renamed JSON Task")))
+        .andExpect(jsonPath("$[*].title", not(hasItem("Cached JSON Task"))));
+  }
+
+  @Test
+  @DisplayName("Should replay missed changes after Last-Event-ID and then stream live ones")
+  void shouldReplayMissedChangesAfterLastEventIdAndThenStreamLiveOnes() throws Exception {
+    // Arrange - A change the client missed while disconnected
+    var lastSeen = changeFeed.lastEventId();
+    var nextId = lastSeen.substring(0, lastSeen.indexOf('-') + 1) + (changeFeed.lastSequence() + 1);
+    var response = mockMvc.perform(post("/api/tasks")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(
+                new CreateTaskResource("Streamed Task", null, TaskPriority.LOW, null, null))))
+        .andExpect(status().isCreated())
+        .andReturn().getResponse().getContentAsString();
+    var taskId = objectMapper.readTree(response).get("id").asLong();
+
+    // Act
+    var stream = mockMvc.perform(get("/api/tasks/changes")
+            .accept(MediaType.TEXT_EVENT_STREAM)
+            .header("Last-Event-ID", lastSeen))
+        .andExpect(request().asyncStarted())
+        .andReturn().getResponse();
+
+    awaitContent(stream, content -> content.contains("event:CREATED"));
+
+    mockMvc.perform(patch("/api/tasks/{id}/status", taskId)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(new UpdateTaskStatusResource(TaskStatus.IN_PROGRESS))))
+        .andExpect(status().isOk());
+
+    // Assert
+    var content = awaitContent(stream, events -> events.contains("event:STATUS_CHANGED"));
+    assertThat(content)
+        .contains("id:" + nextId)
+        .contains("\"title\":\"Streamed Task\"")
+        .contains("\"previousStatus\":\"TODO\"");
+  }
+
+  @Test
+  @DisplayName("Should return only changes and tombstones since the high-water mark when syncing")
+  void shouldReturnOnlyChangesAndTombstonesSinceHighWaterMarkWhenSyncing() throws Exception {
+    // Arrange - Two tasks synced by a client
+    var since = LocalDateTime.now();
+    var kept = createTask("Synced Task");
+    var removed = createTask("Removed Synced Task");
+
+    var first = mockMvc.perform(get("/api/tasks").param("updatedSince", since.toString()))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.updated[*].id", hasItems(kept.intValue(), removed.intValue())))
+        .andExpect(jsonPath("$.reset").value(false))
+        .andReturn().getResponse().getContentAsString();
+    var highWaterMark = objectMapper.readTree(first).get("highWaterMark").asText();
+
+    // Act - One task is renamed and the other deleted
+    mockMvc.perform(put("/api/tasks/{id}", kept)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(
+                new UpdateTaskResource("Renamed Synced Task", null, TaskPriority.LOW, null, TaskStatus.TODO))))
+        .andExpect(status().isOk());
+    mockMvc.perform(delete("/api/tasks/{id}", removed))
+        .andExpect(status().isNoContent());
+
+    // Assert
+    mockMvc.perform(get("/api/tasks").param("updatedSince", highWaterMark))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.updated[?(@.id == %d)].title", kept).value("Renamed Synced Task"))
+        .andExpect(jsonPath("$.updated[*].id", not(hasItem(removed.intValue()))))
+        .andExpect(jsonPath("$.deleted", hasItem(removed.intValue())));
+
+    var protobuf = mockMvc.perform(get("/api/tasks").param("updatedSince", highWaterMark)
+            .accept(BinaryMediaTypes.APPLICATION_PROTOBUF))
+        .andExpect(status().isOk())
+        .andExpect(content().contentType(BinaryMediaTypes.APPLICATION_PROTOBUF))
+        .andReturn().getResponse().getContentAsByteArray();
+    var delta = TaskProtos.TaskDeltaResource.parseFrom(protobuf);
+    assertThat(delta.getDeletedList()).contains(removed);
+    assertThat(delta.getUpdatedList()).extracting(TaskProtos.TaskResource::getTitle).contains("Renamed Synced Task");
+
+    mockMvc.perform(get("/api/tasks").param("updatedSince", "2000-01-01T00:00:00"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.reset").value(true))
+        .andExpect(jsonPath("$.updated[*].id", hasItem(kept.intValue())));
+  }
+
+  @Test
+  @DisplayName("Should keep the tasks of each tenant invisible to the others")
+  void shouldKeepTasksOfEachTenantInvisibleToTheOthers() throws Exception {
+    // Arrange - A task of another tenant
+    var response = mockMvc.perform(post("/api/tasks")
+            .header(TasksController.TENANT_HEADER, "acme")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(
+                new CreateTaskResource("Acme Task", null, TaskPriority.MEDIUM, null, null))))
+        .andExpect(status().isCreated())
+        .andReturn().getResponse().getContentAsString();
+    var taskId = objectMapper.readTree(response).get("id").asLong();
+
+    // Act & Assert - The owner sees it, the default tenant does not
+    mockMvc.perform(get("/api/tasks/{id}", taskId).header(TasksController.TENANT_HEADER, "acme"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.title").value("Acme Task"));
+    mockMvc.perform(get("/api/tasks/{id}", taskId))
+        .andExpect(status().isNotFound());
+    mockMvc.perform(delete("/api/tasks/{id}", taskId))
+        .andExpect(status().isNotFound());
+    mockMvc.perform(get("/api/tasks").param("q", "Acme Task"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$", hasSize(0)));
+    mockMvc.perform(get("/api/tasks/stats").header(TasksController.TENANT_HEADER, "acme"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.total").value(1));
+    mockMvc.perform(get("/api/tasks").header(TasksController.TENANT_HEADER, "not a tenant"))
+        .andExpect(status().isOk());
+    mockMvc.perform(post("/api/tasks")
+            .header(TasksController.TENANT_HEADER, "not a tenant")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(
+                new CreateTaskResource("Invalid Tenant Task", null, TaskPriority.LOW, null, null))))
+        .andExpect(status().isBadRequest());
+  }
+
+  @Test
+  @DisplayName("Should filter tasks by tag expression and follow tag updates")
+  void shouldFilterTasksByTagExpressionAndFollowTagUpdates() throws Exception {
+    // Arrange - Tagged tasks of a dedicated tenant
+    var ids = new long[3];
+    var tags = List.of(Set.of("backend", "urgent"), Set.of("Backend", "blocked"), Set.of("docs"));
+    for (int i = 0; i < ids.length; i++) {
+      var response = mockMvc.perform(post("/api/tasks")
+              .header(TasksController.TENANT_HEADER, "tagged")
+              .contentType(MediaType.APPLICATION_JSON)
+              .content(objectMapper.writeValueAsString(new CreateTaskResource("Tagged Task " + i, null,
+                  TaskPriority.LOW, null, null, tags.get(i)))))
+          .andExpect(status().isCreated())
+          .andExpect(jsonPath("$.tags", hasSize(tags.get(i).size())))
+          .andReturn().getResponse().getContentAsString();
+      ids[i] = objectMapper.readTree(response).get("id").asLong();
+    }
+
+    // Act & Assert - Expressions are answered from the index, tag updates are followed
+    mockMvc.perform(get("/api/tasks").header(TasksController.TENANT_HEADER, "tagged")
+            .param("tags", "backend AND NOT blocked"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$[*].id", contains((int) ids[0])))
+        .andExpect(jsonPath("$[0].tags", contains("backend", "urgent")));
+    mockMvc.perform(get("/api/tasks").header(TasksController.TENANT_HEADER, "tagged")
+            .param("tags", "blocked OR docs"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$[*].id", contains((int) ids[1], (int) ids[2])));
+
+    mockMvc.perform(put("/api/tasks/{id}", ids[1])
+            .header(TasksController.TENANT_HEADER, "tagged")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(new UpdateTaskResource("Tagged Task 1", null, TaskPriority.LOW,
+                null, TaskStatus.TODO, Set.of("backend")))))
+        .andExpect(status().isOk());
+    mockMvc.perform(get("/api/tasks").header(TasksController.TENANT_HEADER, "tagged")
+            .param("tags", "backend AND NOT blocked"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$[*].id", contains((int) ids[0], (int) ids[1])));
+
+    mockMvc.perform(get("/api/tasks").param("tags", "backend AND (urgent"))
+        .andExpect(status().isBadRequest());
+  }
+
+  @Test
+  @DisplayName("Should count task facets with the list filters")
+  void shouldCountTaskFacetsWithListFilters() throws Exception {
+    // Arrange - Tasks of a dedicated tenant: overdue, done in the past, due today, later and without due date
+    var today = LocalDate.now();
+    var tasks = List.of(
+        new CreateTaskResource("Faceted Overdue", null, TaskPriority.HIGH, today.minusDays(3), null, Set.of("backend")),
+        new CreateTaskResource("Faceted Done", null, TaskPriority.HIGH, today.minusDays(1), TaskStatus.DONE, null),
+        new CreateTaskResource("Faceted Today", null, TaskPriority.LOW, today, TaskStatus.IN_PROGRESS, null),
+        new CreateTaskResource("Faceted Later", null, TaskPriority.MEDIUM, today.plusDays(30), null, Set.of("backend")),
+        new CreateTaskResource("Faceted Someday", null, TaskPriority.LOW, null, null, null));
+    for (var task : tasks) {
+      mockMvc.perform(post("/api/tasks")
+              .header(TasksController.TENANT_HEADER, "faceted")
+              .contentType(MediaType.APPLICATION_JSON)
+              .content(objectMapper.writeValueAsString(task)))
+          .andExpect(status().isCreated());
+    }
+
+    // Act & Assert - Every cell and bucket is present, overdue excludes done tasks
+    mockMvc.perform(get("/api/tasks/facets").header(TasksController.TENANT_HEADER, "faceted"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.total").value(5))
+        .andExpect(jsonPath("$.byStatusAndPriority.TODO.HIGH").value(1))
+        .andExpect(jsonPath("$.byStatusAndPriority.TODO.LOW").value(1))
+        .andExpect(jsonPath("$.byStatusAndPriority.TODO.MEDIUM").value(1))
+        .andExpect(jsonPath("$.byStatusAndPriority.IN_PROGRESS.LOW").value(1))
+        .andExpect(jsonPath("$.byStatusAndPriority.DONE.HIGH").value(1))
+        .andExpect(jsonPath("$.byStatusAndPriority.DONE.LOW").value(0))
+        .andExpect(jsonPath("$.overdue").value(1))
+        .andExpect(jsonPath("$.byDueDate.PAST").value(2))
+        .andExpect(jsonPath("$.byDueDate.TODAY").value(1))
+        .andExpect(jsonPath("$.byDueDate.NEXT_7_DAYS").value(0))
+        .andExpect(jsonPath("$.byDueDate.LATER").value(1))
+        .andExpect(jsonPath("$.byDueDate.NONE").value(1));
+
+    mockMvc.perform(get("/api/tasks/facets").header(TasksController.TENANT_HEADER, "faceted")
+            .param("status", "TODO").param("tags", "backend"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.total").value(2))
+        .andExpect(jsonPath("$.overdue").value(1));
+    mockMvc.perform(get("/api/tasks/facets").header(TasksController.TENANT_HEADER, "faceted")
+            .param("dueFrom", today.minusDays(1).toString()).param("dueTo", today.toString()).param("q", "faceted"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.total").value(2))
+        .andExpect(jsonPath("$.byDueDate.PAST").value(1))
+        .andExpect(jsonPath("$.byDueDate.TODAY").value(1));
+
+    mockMvc.perform(get("/api/tasks/facets")
+            .param("dueFrom", today.toString()).param("dueTo", today.minusDays(1).toString()))
+        .andExpect(status().isBadRequest());
+  }
+
+  @Test
+  @DisplayName("Should suggest tasks by title prefix and follow renames and deletes")
+  void shouldSuggestTasksByTitlePrefix() throws Exception {
+    // Arrange - Tasks of a dedicated tenant
+    var ids = new long[3];
+    var titles = List.of("Deploy gateway", "Deploy database", "Review deployment");
+    for (int i = 0; i < ids.length; i++) {
+      var response = mockMvc.perform(post("/api/tasks")
+              .header(TasksController.TENANT_HEADER, "suggested")
+              .contentType(MediaType.APPLICATION_JSON)
+              .content(objectMapper.writeValueAsString(
+                  new CreateTaskResource(titles.get(i), null, TaskPriority.LOW, null, null))))
+          .andExpect(status().isCreated())
+          .andReturn().getResponse().getContentAsString();
+      ids[i] = objectMapper.readTree(response).get("id").asLong();
+    }
+
+    // Act & Assert - Most recent first, limited, and following committed changes
+    mockMvc.perform(get("/api/tasks/suggest").header(TasksController.TENANT_HEADER, "suggested")
+            .param("prefix", "deploy "))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$[*].id", contains((int) ids[1], (int) ids[0])))
+        .andExpect(jsonPath("$[0].title").value("Deploy database"));
+    mockMvc.perform(get("/api/tasks/suggest").header(TasksController.TENANT_HEADER, "suggested")
+            .param("prefix", "DEP").param("limit", "1"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$[*].id", contains((int) ids[1])));
+    var protobuf = mockMvc.perform(get("/api/tasks/suggest").header(TasksController.TENANT_HEADER, "suggested")
+            .param("prefix", "deploy ").accept(BinaryMediaTypes.APPLICATION_PROTOBUF))
+        .andExpect(status().isOk())
+        .andExpect(content().contentType(BinaryMediaTypes.APPLICATION_PROTOBUF))
+        .andReturn().getResponse().getContentAsByteArray();
+    assertThat(TaskProtos.TaskSuggestionResourceList.parseFrom(protobuf).getSuggestionsList())
+        .extracting(TaskProtos.TaskSuggestionResource::getId)
+        .containsExactly(ids[1], ids[0]);
+
+    mockMvc.perform(put("/api/tasks/{id}", ids[2])
+            .header(TasksController.TENANT_HEADER, "suggested")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(new UpdateTaskResource("Deploy review app", null,
+                TaskPriority.LOW, null, TaskStatus.TODO))))
+        .andExpect(status().isOk());
+    mockMvc.perform(delete("/api/tasks/{id}", ids[1]).header(TasksController.TENANT_HEADER, "suggested"))
+        .andExpect(status().isNoContent());
+    mockMvc.perform(get("/api/tasks/suggest").header(TasksController.TENANT_HEADER, "suggested")
+            .param("prefix", "deploy"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$[*].id", contains((int) ids[2], (int) ids[0])));
+    mockMvc.perform(get("/api/tasks/suggest").param("prefix", "deploy review"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$", hasSize(0)));
+  }
+
+  @Test
+  @DisplayName("Should write the new modification date when only the status of an enhanced task changes")
+  void shouldWriteModificationDateWhenOnlyStatusChanges() throws Exception {
+    // Arrange
+    var taskId = createTask("Status Only Task");
+    var synced = mockMvc.perform(get("/api/tasks").param("updatedSince", LocalDateTime.now().toString()))
+        .andExpect(status().isOk())
+        .andReturn().getResponse().getContentAsString();
+    var highWaterMark = objectMapper.readTree(synced).get("highWaterMark").asText();
+
+    // Act
+    mockMvc.perform(patch("/api/tasks/{id}/status", taskId)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(new UpdateTaskStatusResource(TaskStatus.IN_PROGRESS))))
+        .andExpect(status().isOk());
+
+    // Assert - The dynamic update must include updated_at, or the change would be invisible to sync clients
+    mockMvc.perform(get("/api/tasks").param("updatedSince", highWaterMark))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.updated[?(@.id == %d)].status", taskId).value("IN_PROGRESS"));
+  }
+
+  @Test
+  @DisplayName("Should time handlers by type, filter shape and outcome")
+  void shouldTimeHandlersByTypeFilterShapeAndOutcome() throws Exception {
+    // Arrange
+    createTestTask("Timed Task", TaskPriority.LOW, null, TaskStatus.TODO);
+
+    // Act
+    mockMvc.perform(get("/api/tasks").param("status", "TODO").param("q", "Timed"))
+        .andExpect(status().isOk());
+    mockMvc.perform(get("/api/tasks/{id}", Long.MAX_VALUE))
+        .andExpect(status().isNotFound());
+
+    // Assert
+    var filtered = meterRegistry.find("tasks.handler")
+        .tags("kind", "query", "type", "GetAllTasksQuery", "shape", "status+q", "outcome", "ok")
+        .timer();
+    assertThat(filtered).isNotNull();
+    assertThat(filtered.count()).isPositive();
+    assertThat(meterRegistry.find("tasks.handler.results").tags("shape", "status+q").summary().max())
+        .isGreaterThanOrEqualTo(1);
+    assertThat(meterRegistry.find("tasks.handler")
+        .tags("type", "GetTaskByIdQuery", "outcome", "not-found").timer()).isNotNull();
+    assertThat(meterRegistry.find("tasks.handler")
+        .tags("kind", "command", "type", "CreateTaskCommand", "outcome", "ok").timer()).isNotNull();
+  }
+
+  @Test
+  @DisplayName("Should report SQL statements, rows and database time of each request")
+  void shouldReportSqlStatementsRowsAndDatabaseTimeOfEachRequest() throws Exception {
+    // Arrange
+    createTestTask("Counted Task", TaskPriority.LOW, null, TaskStatus.TODO);
+
+    // Act & Assert
+    mockMvc.perform(get("/api/tasks").param("q", "Counted Task"))
+        .andExpect(status().isOk())
+        .andExpect(header().string("Server-Timing",
+            matchesPattern("db;dur=\\d+\\.\\d{3};desc=\"[1-9]\\d* statements, [1-9]\\d* rows\"")));
+
+    var statements = meterRegistry.find("sql.request.statements")
+        .tags("method", "POST", "uri", "/api/tasks")
+        .summary();
+    assertThat(statements).isNotNull();
+    assertThat(statements.max()).isGreaterThanOrEqualTo(1);
+    assertThat(meterRegistry.find("sql.request.rows").tags("method", "GET", "uri", "/api/tasks").summary().max())
+        .isGreaterThanOrEqualTo(1);
+    assertThat(meterRegistry.find("sql.request.time").tags("method", "GET", "uri", "/api/tasks").timer())
+        .isNotNull();
+  }
+
+  @Test
+  @DisplayName("Should record handler flight recorder events with type, task and rows when enabled")
+  void shouldRecordHandlerFlightRecorderEventsWhenEnabled() throws Exception {
+    // Arrange
+    var file = Files.createTempFile("tasks", ".jfr");
+    try (var recording = new Recording()) {
+      recording.enable("com.challenge.tasks.Handler");
+      recording.enable("com.challenge.TransactionCompletion");
+      recording.start();
+
+      // Act
+      createTestTask("Recorded Task", TaskPriority.LOW, null, TaskStatus.TODO);
+      mockMvc.perform(get("/api/tasks").param("priority", "LOW").param("q", "Recorded"))
+          .andExpect(status().isOk());
+
+      recording.stop();
+      recording.dump(file);
+    }
+
+    // Assert
+    var events = RecordingFile.readAllEvents(file);
+    Files.delete(file);
+    assertThat(events)
+        .filteredOn(event -> event.getEventType().getName().equals("com.challenge.tasks.Handler"))
+        .anySatisfy(event -> {
+          assertThat(event.getString("type")).isEqualTo("CreateTaskCommand");
+          assertThat(event.getLong("taskId")).isPositive();
+          assertThat(event.getString("outcome")).isEqualTo("ok");
+        })
+        .anySatisfy(event -> {
+          assertThat(event.getString("type")).isEqualTo("GetAllTasksQuery");
+          assertThat(event.getString("priority")).isEqualTo("LOW");
+          assertThat(event.getString("search")).isEqualTo("Recorded");
+          assertThat(event.getInt("rows")).isPositive();
+        });
+    assertThat(events)
+        .filteredOn(event -> event.getEventType().getName().equals("com.challenge.TransactionCompletion"))
+        .anySatisfy(event -> assertThat(event.getString("outcome")).isEqualTo("committed"));
+  }
+
   /**
    * Helper method to create test tasks
    */
@@ -163,4 +687,29 @@ class TasksControllerTest {
             .content(objectMapper.writeValueAsString(createTaskResource)))
         .andExpect(status().isCreated());
   }
+
+  /**
+   * Helper method to create a LOW priority task and return its ID
+   */
+  private Long createTask(String title) throws Exception {
+    var response = mockMvc.perform(post("/api/tasks")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(new CreateTaskResource(title, null, TaskPriority.LOW, null, null))))
+        .andExpect(status().isCreated())
+        .andReturn().getResponse().getContentAsString();
+    return objectMapper.readTree(response).get("id").asLong();
+  }
+
+  /**
+   * Helper method to wait for streamed events
+   */
+  private String awaitContent(MockHttpServletResponse response, Predicate<String> condition) throws Exception {
+    var deadline = System.currentTimeMillis() + 5_000;
+    var content = response.getContentAsString();
+    while (!condition.test(content) && System.currentTimeMillis() < deadline) {
+      Thread.sleep(20);
+      content = response.getContentAsString();
+    }
+    return content;
+  }
 }
@@ -0,0 +1,69 @@
+package com.challenge.tasks.interfaces.rest.cache;
+
+import com.challenge.tasks.domain.model.valueobjects.TaskStatus;
+import com.challenge.tasks.domain.model.valueobjects.TaskPriority;
+import com.challenge.tasks.interfaces.rest.resources.TaskResource;
+import com.challenge.tasks.interfaces.rest.converters.TaskJsonWriter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for TaskJsonFragmentCache
+ * @summary
+ * This class verifies that fragments are reused only for the version they encode and that the cache stays within
+ * its byte budget.
+ * @author Gonzalo Qu3dena
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+class TaskJsonFragmentCacheTest {
+
+  private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+      .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+      .build();
+
+  @Test
+  @DisplayName("Should reuse a fragment only while the task version is unchanged")
+  void shouldReuseFragmentOnlyWhileTaskVersionIsUnchanged() throws Exception {
+    var cache = new TaskJsonFragmentCache(new TaskJsonWriter(objectMapper), 1024 * 1024);
+    var createdAt = LocalDateTime.now();
+    var original = resource(1L, "Original title", createdAt);
+    var updated = resource(1L, "Updated title", createdAt.plusSeconds(1));
+
+    var first = cache.toJson(original);
+
+    assertThat(cache.toJson(original)).isSameAs(first);
+    assertThat(first).isEqualTo(objectMapper.writeValueAsBytes(original));
+    assertThat(new String(cache.toJson(updated))).contains("Updated title");
+
+    cache.evict(1L);
+
+    assertThat(cache.weightedSize()).isZero();
+  }
+
+  @Test
+  @DisplayName("Should bound the cache by the total size of its fragments")
+  void shouldBoundCacheByTotalSizeOfItsFragments() throws Exception {
+    var fragmentSize = objectMapper.writeValueAsBytes(resource(1L, "Task", LocalDateTime.now())).length;
+    var cache = new TaskJsonFragmentCache(new TaskJsonWriter(objectMapper), 10L * fragmentSize);
+
+    for (long id = 1; id <= 1_000; id++) {
+      cache.toJson(resource(id, "Task", LocalDateTime.now()));
+    }
+
+    assertThat(cache.weightedSize()).isLessThanOrEqualTo(10L * fragmentSize);
+  }
+
+  private static TaskResource resource(Long id, String title, LocalDateTime updatedAt) {
+    return new TaskResource(id, title, null, TaskStatus.TODO, TaskPriority.LOW, null, updatedAt, updatedAt);
+  }
+}
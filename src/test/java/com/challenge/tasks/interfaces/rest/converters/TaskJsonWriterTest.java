@@ -0,0 +1,54 @@
+package com.challenge.tasks.interfaces.rest.converters;
+
+import com.challenge.tasks.domain.model.aggregates.Task;
+import com.challenge.tasks.domain.model.valueobjects.TaskStatus;
+import com.challenge.tasks.domain.model.valueobjects.TaskPriority;
+import com.challenge.tasks.interfaces.rest.transform.TaskResourceFromEntityAssembler;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.util.List;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for TaskJsonWriter
+ * @summary
+ * This class verifies that the streaming writer produces exactly the bytes Jackson produces for the assembled resource.
+ * @author Gonzalo Qu3dena
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+class TaskJsonWriterTest {
+
+  private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+      .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+      .build();
+
+  private final TaskJsonWriter writer = new TaskJsonWriter(objectMapper);
+
+  @Test
+  @DisplayName("Should write the same bytes as the object mapper for every timestamp precision")
+  void shouldWriteSameBytesAsObjectMapperForEveryTimestampPrecision() throws Exception {
+    var base = LocalDateTime.of(2026, 1, 2, 3, 4, 0);
+    var timestamps = new LocalDateTime[] {
+        base, base.withSecond(5), base.withNano(100_000_000), base.withNano(120_000_000),
+        base.withNano(123_456_000), base.withNano(123_456_789), base.withNano(1)
+    };
+
+    for (var timestamp : timestamps) {
+      var task = Task.rehydrate(7L, Task.DEFAULT_TENANT, "Quote \" and é", null, TaskStatus.IN_PROGRESS,
+          TaskPriority.HIGH, LocalDate.of(2026, 12, 31), timestamp, timestamp, List.of("docs", "backend"));
+      var expected = objectMapper.writeValueAsBytes(TaskResourceFromEntityAssembler.toResourceFromEntity(task));
+
+      assertThat(new String(writer.toJson(task))).isEqualTo(new String(expected));
+    }
+  }
+}
@@ -0,0 +1,109 @@
+package com.challenge.tasks.interfaces.webhooks;
+
+import com.challenge.tasks.domain.model.valueobjects.TaskStatus;
+import com.challenge.tasks.domain.model.valueobjects.TaskPriority;
+import com.challenge.tasks.domain.model.commands.CreateTaskCommand;
+import com.challenge.tasks.domain.model.commands.UpdateTaskStatusCommand;
+import com.challenge.tasks.application.internal.commandservices.TaskCommandServiceImpl;
+import com.challenge.tasks.infrastructure.persistence.jpa.repositories.TaskOutboxMessageRepository;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+
+import java.util.List;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.DynamicPropertyRegistry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test Integration for TaskWebhookDispatcher
+ * @summary
+ * This class verifies, against a local HTTP stub receiver, that task changes written to the outbox are coalesced per
+ * task, retried after a failed delivery and removed once delivered.
+ * @author Gonzalo Qu3dena
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@SpringBootTest(properties = {
+    "tasks.outbox.enabled=true",
+    "tasks.outbox.poll-interval=1h",
+    "tasks.outbox.initial-backoff=0s"
+})
+class TaskWebhookDispatcherTest {
+
+  private static final List<String> RECEIVED = new CopyOnWriteArrayList<>();
+  private static final AtomicInteger FAILURES_LEFT = new AtomicInteger();
+  private static HttpServer receiver;
+
+  @Autowired
+  private TaskWebhookDispatcher dispatcher;
+
+  @Autowired
+  private TaskCommandServiceImpl commandService;
+
+  @Autowired
+  private TaskOutboxMessageRepository outboxRepository;
+
+  @Autowired
+  private ObjectMapper objectMapper;
+
+  @DynamicPropertySource
+  static void webhookProperties(DynamicPropertyRegistry registry) throws Exception {
+    receiver = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+    receiver.createContext("/hooks/tasks", exchange -> {
+      var body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+      var status = FAILURES_LEFT.getAndDecrement() > 0 ? 503 : 204;
+      if (status == 204) {
+        RECEIVED.add(body);
+      }
+      exchange.sendResponseHeaders(status, -1);
+      exchange.close();
+    });
+    receiver.start();
+    registry.add("tasks.outbox.webhook-url",
+        () -> "http://localhost:" + receiver.getAddress().getPort() + "/hooks/tasks");
+  }
+
+  @AfterAll
+  static void stopReceiver() {
+    receiver.stop(0);
+  }
+
+  @Test
+  @DisplayName("Should coalesce changes of a task and deliver the latest one after a failed attempt")
+  void shouldCoalesceChangesAndDeliverLatestAfterFailedAttempt() throws Exception {
+    // Arrange - Three changes to the same task and a receiver that fails once
+    var task = commandService.handle(new CreateTaskCommand("Webhook task", null, TaskPriority.LOW, null, null));
+    commandService.handle(new UpdateTaskStatusCommand(task.getId(), TaskStatus.IN_PROGRESS));
+    commandService.handle(new UpdateTaskStatusCommand(task.getId(), TaskStatus.DONE));
+    FAILURES_LEFT.set(1);
+
+    // Act
+    var firstAttempt = dispatcher.dispatch();
+    var secondAttempt = dispatcher.dispatch();
+
+    // Assert
+    assertThat(firstAttempt).isZero();
+    assertThat(secondAttempt).isEqualTo(1);
+    assertThat(RECEIVED).hasSize(1);
+
+    var events = objectMapper.readTree(RECEIVED.get(0));
+    assertThat(events).hasSize(1);
+    assertThat(events.get(0).get("change").get("taskId").asLong()).isEqualTo(task.getId());
+    assertThat(events.get(0).get("change").get("type").asText()).isEqualTo("STATUS_CHANGED");
+    assertThat(events.get(0).get("change").get("task").get("status").asText()).isEqualTo("DONE");
+    assertThat(outboxRepository.countByFailedAtIsNull()).isZero();
+  }
+}